@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import java.util.List;
+
+/**
+ * The outcome of one command of a bulk create: the id of the aggregate or why it was rejected.
+ * {@code cause} is the unexpected failure behind a rejection, for the caller to log; it is kept out
+ * of the errors since its message may tell about the database.
+ */
+public record BulkCreateOutput(String id, List<Error> errors, Throwable cause) {
+
+  public static BulkCreateOutput created(final String anId) {
+    return new BulkCreateOutput(anId, List.of(), null);
+  }
+
+  public static BulkCreateOutput rejected(final ValidationHandler aHandler) {
+    return failed(aHandler, null);
+  }
+
+  public static BulkCreateOutput failed(final ValidationHandler aHandler, final Throwable aCause) {
+    return new BulkCreateOutput(null, List.copyOf(aHandler.getErrors()), aCause);
+  }
+
+  public boolean isCreated() {
+    return this.id != null;
+  }
+}
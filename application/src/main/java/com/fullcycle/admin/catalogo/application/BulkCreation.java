@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Collects the outcome of each command of a bulk create, in the order of the commands, and inserts
+ * the accepted aggregates together. A failed insert rejects every aggregate of the batch, with the
+ * errors of a {@link DomainException} or else a generic one: other failures are left as the cause
+ * of the outputs for the caller to log, their message may tell about the database.
+ */
+public final class BulkCreation<T> {
+
+  private static final Error CREATE_FAILED = new Error("The batch could not be created");
+
+  private final BulkCreateOutput[] outputs;
+
+  private final List<Integer> positions = new ArrayList<>();
+
+  private final List<T> aggregates = new ArrayList<>();
+
+  public BulkCreation(final int size) {
+    this.outputs = new BulkCreateOutput[size];
+  }
+
+  public void reject(final int position, final ValidationHandler aHandler) {
+    this.outputs[position] = BulkCreateOutput.rejected(aHandler);
+  }
+
+  public void accept(final int position, final T anAggregate) {
+    this.positions.add(position);
+    this.aggregates.add(anAggregate);
+  }
+
+  public List<BulkCreateOutput> createAll(
+      final Function<List<T>, List<T>> createAll, final Function<T, Identifier> idOf) {
+    if (!this.aggregates.isEmpty()) {
+      try {
+        createAll.apply(this.aggregates);
+        for (int i = 0; i < this.positions.size(); i++) {
+          this.outputs[this.positions.get(i)] =
+              BulkCreateOutput.created(idOf.apply(this.aggregates.get(i)).getValue());
+        }
+      } catch (final DomainException e) {
+        final var notification = Notification.create();
+        e.getErrors().forEach(notification::append);
+        rejectAll(BulkCreateOutput.rejected(notification));
+      } catch (final RuntimeException e) {
+        rejectAll(BulkCreateOutput.failed(Notification.create(CREATE_FAILED), e));
+      }
+    }
+
+    return Arrays.asList(this.outputs);
+  }
+
+  private void rejectAll(final BulkCreateOutput rejected) {
+    this.positions.forEach(position -> this.outputs[position] = rejected);
+  }
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The ids referenced by a batch of commands that exist, checked with a single {@code existsByIds}
+ * call however many commands reference them.
+ */
+public final class BulkReferences<T extends Identifier> {
+
+  private final String aggregate;
+
+  private final Set<T> existing;
+
+  private BulkReferences(final String aggregate, final Set<T> existing) {
+    this.aggregate = aggregate;
+    this.existing = existing;
+  }
+
+  public static <T extends Identifier> BulkReferences<T> check(
+      final String aggregate,
+      final Collection<? extends Collection<T>> references,
+      final Function<Iterable<T>, List<T>> existsByIds) {
+    final var ids = new LinkedHashSet<T>();
+    references.forEach(ids::addAll);
+
+    final var existing = ids.isEmpty() ? Set.<T>of() : new HashSet<>(existsByIds.apply(ids));
+    return new BulkReferences<>(aggregate, existing);
+  }
+
+  /** Reports the ids of one command that do not exist, with the message of the single create. */
+  public ValidationHandler validate(final Collection<T> ids) {
+    final var notification = Notification.create();
+
+    final var missingIds =
+        ids.stream()
+            .filter(anId -> !this.existing.contains(anId))
+            .map(Identifier::getValue)
+            .distinct()
+            .collect(Collectors.joining(", "));
+
+    if (!missingIds.isEmpty()) {
+      notification.append(
+          new Error("Some %s could not be found: %s".formatted(this.aggregate, missingIds)));
+    }
+
+    return notification;
+  }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import java.util.List;
+
+public abstract class BulkCreateCastMemberUseCase
+    extends UseCase<List<CreateCastMemberCommand>, List<BulkCreateOutput>> {}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.BulkCreation;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCastMemberUseCase extends BulkCreateCastMemberUseCase {
+
+  private final CastMemberGateway castMemberGateway;
+
+  public DefaultBulkCreateCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+    this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+  }
+
+  @Override
+  public List<BulkCreateOutput> execute(final List<CreateCastMemberCommand> aCommands) {
+    final var creation = new BulkCreation<CastMember>(aCommands.size());
+
+    for (int i = 0; i < aCommands.size(); i++) {
+      final var aCommand = aCommands.get(i);
+      final var notification = Notification.create();
+      final var aMember =
+          notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type()));
+
+      if (notification.hasError()) {
+        creation.reject(i, notification);
+      } else {
+        creation.accept(i, aMember);
+      }
+    }
+
+    return creation.createAll(this.castMemberGateway::createAll, CastMember::getId);
+  }
+}
@@ -5,7 +5,12 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 import java.time.Instant;
 
 public record CastMemberOutput(
-    String id, String name, CastMemberType type, Instant createdAt, Instant updatedAt) {
+    String id,
+    String name,
+    CastMemberType type,
+    Instant createdAt,
+    Instant updatedAt,
+    long version) {
 
   public static CastMemberOutput from(final CastMember aMember) {
     return new CastMemberOutput(
@@ -13,6 +18,7 @@ public record CastMemberOutput(
         aMember.getName(),
         aMember.getType(),
         aMember.getCreatedAt(),
-        aMember.getUpdatedAt());
+        aMember.getUpdatedAt(),
+        aMember.getVersion());
   }
 }
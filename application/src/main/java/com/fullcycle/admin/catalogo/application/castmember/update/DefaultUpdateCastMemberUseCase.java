@@ -24,7 +24,8 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
     final var aName = aCommand.name();
     final var aType = aCommand.type();
 
-    final var aMember = this.castMemberGateway.findById(anId).orElseThrow(notFound(anId));
+    final var aMember = this.castMemberGateway.findLatestById(anId).orElseThrow(notFound(anId));
+    aMember.checkVersion(aCommand.version());
 
     final var notification = Notification.create();
     notification.validate(() -> aMember.update(aName, aType));
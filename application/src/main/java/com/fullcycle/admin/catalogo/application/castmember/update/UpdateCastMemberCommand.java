@@ -2,10 +2,16 @@ package com.fullcycle.admin.catalogo.application.castmember.update;
 
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 
-public record UpdateCastMemberCommand(String id, String name, CastMemberType type) {
+public record UpdateCastMemberCommand(
+    String id, String name, CastMemberType type, Long version) {
 
   public static UpdateCastMemberCommand with(
       final String anId, final String aName, final CastMemberType aType) {
-    return new UpdateCastMemberCommand(anId, aName, aType);
+    return new UpdateCastMemberCommand(anId, aName, aType, null);
+  }
+
+  /** The same command, applied only while the cast member is still at the given version. */
+  public UpdateCastMemberCommand withVersion(final Long aVersion) {
+    return new UpdateCastMemberCommand(id, name, type, aVersion);
   }
 }
@@ -3,13 +3,13 @@ package com.fullcycle.admin.catalogo.application.castmember.update;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 
-public record UpdateCastMemberOutput(String id) {
+public record UpdateCastMemberOutput(String id, long version) {
 
   public static UpdateCastMemberOutput from(final CastMemberID anId) {
-    return new UpdateCastMemberOutput(anId.getValue());
+    return new UpdateCastMemberOutput(anId.getValue(), 0);
   }
 
   public static UpdateCastMemberOutput from(final CastMember aMember) {
-    return from(aMember.getId());
+    return new UpdateCastMemberOutput(aMember.getId().getValue(), aMember.getVersion());
   }
 }
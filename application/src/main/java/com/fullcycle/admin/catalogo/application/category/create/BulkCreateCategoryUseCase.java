@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import java.util.List;
+
+public abstract class BulkCreateCategoryUseCase
+    extends UseCase<List<CreateCategoryCommand>, List<BulkCreateOutput>> {}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.BulkCreation;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCategoryUseCase extends BulkCreateCategoryUseCase {
+
+  private final CategoryGateway categoryGateway;
+
+  public DefaultBulkCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+  }
+
+  @Override
+  public List<BulkCreateOutput> execute(final List<CreateCategoryCommand> aCommands) {
+    final var creation = new BulkCreation<Category>(aCommands.size());
+
+    for (int i = 0; i < aCommands.size(); i++) {
+      final var aCommand = aCommands.get(i);
+      final var notification = Notification.create();
+      final var aCategory =
+          Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+      aCategory.validate(notification);
+
+      if (notification.hasError()) {
+        creation.reject(i, notification);
+      } else {
+        creation.accept(i, aCategory);
+      }
+    }
+
+    return creation.createAll(this.categoryGateway::createAll, Category::getId);
+  }
+}
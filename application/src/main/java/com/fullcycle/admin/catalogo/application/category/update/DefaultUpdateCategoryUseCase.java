@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -29,8 +30,9 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
-        final var aCategory = this.categoryGateway.findById(anId)
+        final var aCategory = this.categoryGateway.findLatestById(anId)
                 .orElseThrow(notFound(anId));
+        aCategory.checkVersion(aCommand.version());
 
         final var notification = Notification.create();
         aCategory
@@ -41,7 +43,11 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
+        // A conflict is not a validation error, so it propagates as a missing category does
         return Try(() -> this.categoryGateway.update(aCategory))
+                .onFailure(ConflictException.class, ex -> {
+                    throw ex;
+                })
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
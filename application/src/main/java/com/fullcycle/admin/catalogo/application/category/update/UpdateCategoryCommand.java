@@ -4,7 +4,8 @@ public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Long version
 ) {
 
     public static UpdateCategoryCommand with(
@@ -13,6 +14,11 @@ public record UpdateCategoryCommand(
             final String aDescription,
             final boolean isActive
     ) {
-        return new UpdateCategoryCommand(anId, aName, aDescription, isActive);
+        return new UpdateCategoryCommand(anId, aName, aDescription, isActive, null);
+    }
+
+    /** The same command, applied only while the category is still at the given version. */
+    public UpdateCategoryCommand withVersion(final Long aVersion) {
+        return new UpdateCategoryCommand(id, name, description, isActive, aVersion);
     }
 }
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import java.util.List;
+
+public abstract class BulkCreateGenreUseCase
+    extends UseCase<List<CreateGenreCommand>, List<BulkCreateOutput>> {}
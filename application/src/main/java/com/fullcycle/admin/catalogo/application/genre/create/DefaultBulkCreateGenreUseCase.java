@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.BulkCreation;
+import com.fullcycle.admin.catalogo.application.BulkReferences;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.List;
+import java.util.Objects;
+
+/** Checks the categories of the whole batch with a single query before validating each genre. */
+public class DefaultBulkCreateGenreUseCase extends BulkCreateGenreUseCase {
+
+  private final CategoryGateway categoryGateway;
+  private final GenreGateway genreGateway;
+
+  public DefaultBulkCreateGenreUseCase(
+      final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    this.genreGateway = Objects.requireNonNull(genreGateway);
+  }
+
+  @Override
+  public List<BulkCreateOutput> execute(final List<CreateGenreCommand> aCommands) {
+    final var categoriesByCommand =
+        aCommands.stream().map(aCommand -> toCategoryID(aCommand.categories())).toList();
+    final var categories =
+        BulkReferences.check(
+            "categories", categoriesByCommand, this.categoryGateway::existsByIds);
+
+    final var creation = new BulkCreation<Genre>(aCommands.size());
+
+    for (int i = 0; i < aCommands.size(); i++) {
+      final var aCommand = aCommands.get(i);
+      final var notification = Notification.create();
+      notification.append(categories.validate(categoriesByCommand.get(i)));
+
+      final var aGenre =
+          notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+
+      if (notification.hasError()) {
+        creation.reject(i, notification);
+      } else {
+        aGenre.addCategories(categoriesByCommand.get(i));
+        creation.accept(i, aGenre);
+      }
+    }
+
+    return creation.createAll(this.genreGateway::createAll, Genre::getId);
+  }
+
+  private List<CategoryID> toCategoryID(final List<String> categories) {
+    return categories == null ? List.of() : categories.stream().map(CategoryID::from).toList();
+  }
+}
@@ -13,7 +13,8 @@ public record GenreOutput(
     List<String> categories,
     Instant createdAt,
     Instant updatedAt,
-    Instant deletedAt) {
+    Instant deletedAt,
+    long version) {
 
   public static GenreOutput from(final Genre aGenre) {
     return new GenreOutput(
@@ -23,6 +24,7 @@ public record GenreOutput(
         aGenre.getCategories().stream().map(CategoryID::getValue).toList(),
         aGenre.getCreatedAt(),
         aGenre.getUpdatedAt(),
-        aGenre.getDeletedAt());
+        aGenre.getDeletedAt(),
+        aGenre.getVersion());
   }
 }
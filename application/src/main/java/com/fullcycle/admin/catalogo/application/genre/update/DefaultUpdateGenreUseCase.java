@@ -37,7 +37,8 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
     final var isActive = aCommand.isActive();
     final var categories = toCategoryId(aCommand.categories());
 
-    final var aGenre = this.genreGateway.findById(anId).orElseThrow(notFound(anId));
+    final var aGenre = this.genreGateway.findLatestById(anId).orElseThrow(notFound(anId));
+    aGenre.checkVersion(aCommand.version());
 
     final var notification = Notification.create();
     notification.append(validateCategories(categories));
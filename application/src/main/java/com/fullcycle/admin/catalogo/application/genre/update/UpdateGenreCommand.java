@@ -3,10 +3,16 @@ package com.fullcycle.admin.catalogo.application.genre.update;
 import java.util.List;
 
 public record UpdateGenreCommand(
-    String id, String name, boolean isActive, List<String> categories) {
+    String id, String name, boolean isActive, List<String> categories, Long version) {
 
   public static UpdateGenreCommand with(
       final String id, final String name, final Boolean isActive, final List<String> categories) {
-    return new UpdateGenreCommand(id, name, isActive != null ? isActive : true, categories);
+    return new UpdateGenreCommand(
+        id, name, isActive != null ? isActive : true, categories, null);
+  }
+
+  /** The same command, applied only while the genre is still at the given version. */
+  public UpdateGenreCommand withVersion(final Long aVersion) {
+    return new UpdateGenreCommand(id, name, isActive, categories, aVersion);
   }
 }
@@ -2,9 +2,9 @@ package com.fullcycle.admin.catalogo.application.genre.update;
 
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 
-public record UpdateGenreOutput(String id) {
+public record UpdateGenreOutput(String id, long version) {
 
   public static UpdateGenreOutput from(final Genre aGenre) {
-    return new UpdateGenreOutput(aGenre.getId().getValue());
+    return new UpdateGenreOutput(aGenre.getId().getValue(), aGenre.getVersion());
   }
 }
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import java.util.List;
+
+public abstract class BulkCreateVideoUseCase
+    extends UseCase<List<CreateVideoCommand>, List<BulkCreateOutput>> {}
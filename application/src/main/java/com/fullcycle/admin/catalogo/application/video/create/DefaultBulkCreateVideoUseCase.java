@@ -0,0 +1,109 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.BulkCreation;
+import com.fullcycle.admin.catalogo.application.BulkReferences;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import java.time.Year;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates videos without media, the media being uploaded afterwards for each video. The categories,
+ * genres and cast members of the whole batch are checked with one query each, and a command that
+ * can not even build its video, as one missing the duration, is rejected on its own.
+ */
+public class DefaultBulkCreateVideoUseCase extends BulkCreateVideoUseCase {
+
+  private final CategoryGateway categoryGateway;
+  private final CastMemberGateway castMemberGateway;
+  private final GenreGateway genreGateway;
+  private final VideoGateway videoGateway;
+
+  public DefaultBulkCreateVideoUseCase(
+      final CategoryGateway categoryGateway,
+      final CastMemberGateway castMemberGateway,
+      final GenreGateway genreGateway,
+      final VideoGateway videoGateway) {
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    this.genreGateway = Objects.requireNonNull(genreGateway);
+    this.videoGateway = Objects.requireNonNull(videoGateway);
+  }
+
+  @Override
+  public List<BulkCreateOutput> execute(final List<CreateVideoCommand> aCommands) {
+    final var categoriesByCommand =
+        aCommands.stream().map(it -> toIdentifier(it.categories(), CategoryID::from)).toList();
+    final var genresByCommand =
+        aCommands.stream().map(it -> toIdentifier(it.genres(), GenreID::from)).toList();
+    final var membersByCommand =
+        aCommands.stream().map(it -> toIdentifier(it.members(), CastMemberID::from)).toList();
+
+    final var categories =
+        BulkReferences.check(
+            "categories", categoriesByCommand, this.categoryGateway::existsByIds);
+    final var genres =
+        BulkReferences.check("genres", genresByCommand, this.genreGateway::existsByIds);
+    final var members =
+        BulkReferences.check(
+            "cast members", membersByCommand, this.castMemberGateway::existsByIds);
+
+    final var creation = new BulkCreation<Video>(aCommands.size());
+
+    for (int i = 0; i < aCommands.size(); i++) {
+      final var aCommand = aCommands.get(i);
+      final var categoryIds = categoriesByCommand.get(i);
+      final var genreIds = genresByCommand.get(i);
+      final var memberIds = membersByCommand.get(i);
+
+      final var notification = Notification.create();
+      notification.append(categories.validate(categoryIds));
+      notification.append(genres.validate(genreIds));
+      notification.append(members.validate(memberIds));
+
+      final var aVideo =
+          notification.validate(
+              () ->
+                  Video.newVideo(
+                      aCommand.title(),
+                      aCommand.description(),
+                      aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null,
+                      aCommand.duration(),
+                      aCommand.opened(),
+                      aCommand.published(),
+                      Rating.of(aCommand.rating()).orElse(null),
+                      categoryIds,
+                      genreIds,
+                      memberIds));
+
+      if (aVideo != null) {
+        aVideo.validate(notification);
+      }
+
+      if (notification.hasError()) {
+        creation.reject(i, notification);
+      } else {
+        creation.accept(i, aVideo);
+      }
+    }
+
+    return creation.createAll(this.videoGateway::createAll, Video::getId);
+  }
+
+  private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+    return ids == null ? Set.of() : ids.stream().map(mapper).collect(Collectors.toSet());
+  }
+}
@@ -9,6 +9,7 @@ import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -18,8 +19,19 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
@@ -31,18 +43,21 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
   private final GenreGateway genreGateway;
   private final MediaResourceGateway mediaResourceGateway;
   private final VideoGateway videoGateway;
+  private final ExecutorService mediaExecutor;
 
   public DefaultCreateVideoUseCase(
       final CategoryGateway categoryGateway,
       final CastMemberGateway castMemberGateway,
       final GenreGateway genreGateway,
       final MediaResourceGateway mediaResourceGateway,
-      final VideoGateway videoGateway) {
+      final VideoGateway videoGateway,
+      final ExecutorService mediaExecutor) {
     this.categoryGateway = Objects.requireNonNull(categoryGateway);
     this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
     this.genreGateway = Objects.requireNonNull(genreGateway);
     this.mediaResourceGateway = mediaResourceGateway;
     this.videoGateway = Objects.requireNonNull(videoGateway);
+    this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
   }
 
   @Override
@@ -83,62 +98,160 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
   private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
 
     final var anId = aVideo.getId();
+    final var failure = new AtomicReference<Throwable>();
+    final var uploads = new CopyOnWriteArrayList<MediaUpload<?>>();
 
     try {
 
       final var aVideoMedia =
-          aCommand
-              .getVideo()
-              .map(
-                  it ->
-                      this.mediaResourceGateway.storeAudioVideo(
-                          anId, VideoResource.with(VIDEO, it)))
-              .orElse(null);
+          storeAsync(
+              aCommand.getVideo(),
+              uploads,
+              failure,
+              it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it)));
 
       final var aTrailerMedia =
-          aCommand
-              .getTrailer()
-              .map(
-                  it ->
-                      this.mediaResourceGateway.storeAudioVideo(
-                          anId, VideoResource.with(TRAILER, it)))
-              .orElse(null);
+          storeAsync(
+              aCommand.getTrailer(),
+              uploads,
+              failure,
+              it ->
+                  this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it)));
 
       final var aBannerMedia =
-          aCommand
-              .getBanner()
-              .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)))
-              .orElse(null);
+          storeAsync(
+              aCommand.getBanner(),
+              uploads,
+              failure,
+              it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)));
 
       final var aThumbnailMedia =
-          aCommand
-              .getThumbnail()
-              .map(
-                  it ->
-                      this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)))
-              .orElse(null);
+          storeAsync(
+              aCommand.getThumbnail(),
+              uploads,
+              failure,
+              it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)));
 
       final var aThumbHalfMedia =
-          aCommand
-              .getThumbnailHalf()
-              .map(
-                  it ->
-                      this.mediaResourceGateway.storeImage(
-                          anId, VideoResource.with(THUMBNAIL_HALF, it)))
-              .orElse(null);
+          storeAsync(
+              aCommand.getThumbnailHalf(),
+              uploads,
+              failure,
+              it ->
+                  this.mediaResourceGateway.storeImage(
+                      anId, VideoResource.with(THUMBNAIL_HALF, it)));
+
+      settle(uploads);
 
       return this.videoGateway.create(
           aVideo
-              .updateVideoMedia(aVideoMedia)
-              .updateTrailerMedia(aTrailerMedia)
-              .updateBannerMedia(aBannerMedia)
-              .updateThumbnailMedia(aThumbnailMedia)
-              .updateThumbnailHalfMedia(aThumbHalfMedia));
+              .updateVideoMedia(aVideoMedia.join())
+              .updateTrailerMedia(aTrailerMedia.join())
+              .updateBannerMedia(aBannerMedia.join())
+              .updateThumbnailMedia(aThumbnailMedia.join())
+              .updateThumbnailHalfMedia(aThumbHalfMedia.join()));
 
     } catch (final Throwable t) {
+      uploads.forEach(MediaUpload::cancel);
+      settle(uploads);
       this.mediaResourceGateway.clearResources(anId);
       throw InternalErrorException.with(
-          "An error on create video was observed [videoId:%s]".formatted(anId.getValue()), t);
+          "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
+          failure.get() != null ? failure.get() : t);
+    }
+  }
+
+  /**
+   * Stores the resource on the media executor. The first upload to fail cancels the others, and
+   * the ones submitted after it are skipped.
+   */
+  private <T> CompletableFuture<T> storeAsync(
+      final Optional<Resource> aResource,
+      final List<MediaUpload<?>> uploads,
+      final AtomicReference<Throwable> failure,
+      final Function<Resource, T> store) {
+    if (aResource.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var upload = new MediaUpload<T>();
+    uploads.add(upload);
+    upload.start(
+        this.mediaExecutor,
+        () -> {
+          if (failure.get() != null) {
+            throw new CancellationException("Another media upload failed");
+          }
+          try {
+            return store.apply(aResource.get());
+          } catch (final RuntimeException e) {
+            if (failure.compareAndSet(null, e)) {
+              uploads.stream().filter(it -> it != upload).forEach(MediaUpload::cancel);
+            }
+            throw e;
+          }
+        });
+    return upload.result;
+  }
+
+  /** Waits for every upload to stop, so none is still writing when resources are cleared. */
+  private static void settle(final List<MediaUpload<?>> uploads) {
+    CompletableFuture.allOf(
+            uploads.stream().map(it -> it.settled).toArray(CompletableFuture[]::new))
+        .join();
+  }
+
+  /**
+   * A resource being stored on the media executor. Cancelling it skips it if it did not start yet
+   * and interrupts it otherwise, also when the executor ran it on the submitting thread; {@code
+   * settled} completes once it is not writing anymore.
+   */
+  private static final class MediaUpload<T> {
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final CompletableFuture<Void> settled = new CompletableFuture<>();
+    private volatile Future<?> task;
+
+    private void start(final ExecutorService executor, final Supplier<T> store) {
+      // known before it can run, as an executor may run it before execute returns
+      final var aTask =
+          new FutureTask<Void>(
+              () -> {
+                if (!this.started.compareAndSet(false, true)) {
+                  return;
+                }
+                try {
+                  this.result.complete(store.get());
+                } catch (final Throwable t) {
+                  this.result.completeExceptionally(t);
+                } finally {
+                  this.settled.complete(null);
+                }
+              },
+              null);
+      this.task = aTask;
+
+      try {
+        executor.execute(aTask);
+      } catch (final RejectedExecutionException e) {
+        if (this.started.compareAndSet(false, true)) {
+          this.result.completeExceptionally(e);
+          this.settled.complete(null);
+        }
+      }
+    }
+
+    private void cancel() {
+      if (this.result.isDone()) {
+        return;
+      }
+      if (this.started.compareAndSet(false, true)) {
+        this.result.cancel(false);
+        this.settled.complete(null);
+      } else if (this.task != null) {
+        this.task.cancel(true);
+      }
     }
   }
 
@@ -2,8 +2,14 @@ package com.fullcycle.admin.catalogo.application.video.media.get;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 
-public record MediaOutput(byte[] content, String contentType, String name) {
+public record MediaOutput(
+    Resource content, String checksum, String contentType, String name, long size) {
   public static MediaOutput with(final Resource aResource) {
-    return new MediaOutput(aResource.content(), aResource.contentType(), aResource.name());
+    return new MediaOutput(
+        aResource,
+        aResource.checksum(),
+        aResource.contentType(),
+        aResource.name(),
+        aResource.size());
   }
 }
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import java.util.List;
+
+public abstract class BatchUpdateMediaStatusUseCase
+    extends UnitUseCase<List<UpdateMediaStatusCommand>> {}
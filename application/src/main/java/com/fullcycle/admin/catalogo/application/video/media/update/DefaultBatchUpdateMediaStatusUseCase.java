@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Groups the commands by video and keeps only the most advanced status of each media, so a batch
+ * holding both the processing and the completed event of a media writes its row once. Statuses
+ * that change nothing, as an error, are dropped first and never hide a completed event.
+ */
+public class DefaultBatchUpdateMediaStatusUseCase extends BatchUpdateMediaStatusUseCase {
+
+  /** Rank of the statuses that change a media, the ones missing from it are dropped. */
+  private static final Map<MediaStatus, Integer> RANK =
+      Map.of(MediaStatus.PROCESSING, 0, MediaStatus.COMPLETED, 1);
+
+  private static final BinaryOperator<UpdateMediaStatusCommand> MOST_ADVANCED =
+      BinaryOperator.maxBy(Comparator.comparing(cmd -> RANK.get(cmd.status())));
+
+  private final VideoGateway videoGateway;
+
+  public DefaultBatchUpdateMediaStatusUseCase(final VideoGateway videoGateway) {
+    this.videoGateway = Objects.requireNonNull(videoGateway);
+  }
+
+  @Override
+  public void execute(final List<UpdateMediaStatusCommand> aCommands) {
+    final var byVideo =
+        aCommands.stream()
+            .filter(cmd -> RANK.containsKey(cmd.status()))
+            .collect(
+                Collectors.groupingBy(
+                    UpdateMediaStatusCommand::videoId,
+                    LinkedHashMap::new,
+                    Collectors.toMap(
+                        UpdateMediaStatusCommand::resourceId,
+                        cmd -> cmd,
+                        MOST_ADVANCED,
+                        LinkedHashMap::new)));
+
+    final var changes = new ArrayList<MediaStatusChange>();
+    for (final var byResource : byVideo.values()) {
+      byResource.values().forEach(cmd -> cmd.toChange().ifPresent(changes::add));
+    }
+
+    if (!changes.isEmpty()) {
+      this.videoGateway.updateMediaStatus(changes);
+    }
+  }
+}
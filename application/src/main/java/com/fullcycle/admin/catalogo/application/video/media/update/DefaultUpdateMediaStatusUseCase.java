@@ -1,12 +1,12 @@
 package com.fullcycle.admin.catalogo.application.video.media.update;
 
-import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.TRAILER;
-import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.VIDEO;
-
-import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
-import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import java.util.Objects;
 
+/**
+ * Updates the media row in place instead of loading and saving the whole video. Events for media
+ * that do not belong to the video, or that would move it backwards, are ignored.
+ */
 public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
   private final VideoGateway videoGateway;
@@ -17,45 +17,6 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
   @Override
   public void execute(final UpdateMediaStatusCommand aCmd) {
-    final var anId = VideoID.from(aCmd.videoId());
-    final var aResourceId = aCmd.resourceId();
-    final var folder = aCmd.folder();
-    final var filename = aCmd.filename();
-
-    final var aVideo = this.videoGateway.findById(anId).orElseThrow(() -> notFound(anId));
-
-    final var encodedPath = "%s/%s".formatted(folder, filename);
-
-    if (matches(aResourceId, aVideo.getVideo().orElse(null))) {
-      updateVideo(VIDEO, aCmd.status(), aVideo, encodedPath);
-    } else if (matches(aResourceId, aVideo.getTrailer().orElse(null))) {
-      updateVideo(TRAILER, aCmd.status(), aVideo, encodedPath);
-    }
-  }
-
-  private void updateVideo(
-      final VideoMediaType aType,
-      final MediaStatus aStatus,
-      final Video aVideo,
-      final String encodedPath) {
-    switch (aStatus) {
-      case PENDING -> {}
-      case PROCESSING -> aVideo.processing(aType);
-      case COMPLETED -> aVideo.completed(aType, encodedPath);
-    }
-
-    this.videoGateway.update(aVideo);
-  }
-
-  private boolean matches(final String anId, final AudioVideoMedia aMedia) {
-    if (aMedia == null) {
-      return false;
-    }
-
-    return aMedia.id().equals(anId);
-  }
-
-  private NotFoundException notFound(final VideoID anId) {
-    return NotFoundException.with(Video.class, anId);
+    aCmd.toChange().ifPresent(this.videoGateway::updateMediaStatus);
   }
 }
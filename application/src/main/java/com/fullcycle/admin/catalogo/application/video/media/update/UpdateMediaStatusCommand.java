@@ -1,6 +1,9 @@
 package com.fullcycle.admin.catalogo.application.video.media.update;
 
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import java.util.Optional;
 
 public record UpdateMediaStatusCommand(
     MediaStatus status, String videoId, String resourceId, String folder, String filename) {
@@ -13,4 +16,14 @@ public record UpdateMediaStatusCommand(
       final String filename) {
     return new UpdateMediaStatusCommand(status, videoId, resourceId, folder, filename);
   }
+
+  public Optional<MediaStatusChange> toChange() {
+    final var anId = VideoID.from(videoId);
+    return switch (status) {
+      case PROCESSING -> Optional.of(MediaStatusChange.processing(anId, resourceId));
+      case COMPLETED -> Optional.of(
+          MediaStatusChange.completed(anId, resourceId, "%s/%s".formatted(folder, filename)));
+      case PENDING, ERROR -> Optional.empty();
+    };
+  }
 }
@@ -27,7 +27,8 @@ public record VideoOutput(
     ImageMedia thumbnail,
     ImageMedia thumbnailHalf,
     AudioVideoMedia video,
-    AudioVideoMedia trailer) {
+    AudioVideoMedia trailer,
+    long version) {
 
   public static VideoOutput from(final Video aVideo) {
     return new VideoOutput(
@@ -48,6 +49,7 @@ public record VideoOutput(
         aVideo.getThumbnail().orElse(null),
         aVideo.getThumbnailHalf().orElse(null),
         aVideo.getVideo().orElse(null),
-        aVideo.getTrailer().orElse(null));
+        aVideo.getTrailer().orElse(null),
+        aVideo.getVersion());
   }
 }
@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
@@ -56,7 +57,13 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     final var genres = toIdentifier(aCommand.genres(), GenreID::from);
     final var members = toIdentifier(aCommand.members(), CastMemberID::from);
 
-    final var aVideo = this.videoGateway.findById(anId).orElseThrow(notFoundException(anId));
+    // Every media is replaced by the one in the command, so only the relations are read.
+    final var aVideo =
+        this.videoGateway
+            .findById(anId, VideoFetchPlan.RELATIONS)
+            .orElseThrow(notFoundException(anId));
+    // Checked before any media is stored, which a stale request would only have to undo
+    aVideo.checkVersion(aCommand.version());
 
     final var notification = Notification.create();
     notification.append(validateCategories(categories));
@@ -136,6 +143,8 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
               .updateBannerMedia(aBannerMedia)
               .updateThumbnailMedia(aThumbnailMedia)
               .updateThumbnailHalfMedia(aThumbHalfMedia));
+    } catch (final ConflictException e) {
+      throw e;
     } catch (final Throwable t) {
       throw InternalErrorException.with(
           "An error on create video was observed [videoId:%s]".formatted(anId.getValue()), t);
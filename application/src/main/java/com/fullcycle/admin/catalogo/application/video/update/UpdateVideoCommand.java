@@ -20,7 +20,8 @@ public record UpdateVideoCommand(
     Resource trailer,
     Resource banner,
     Resource thumbnail,
-    Resource thumbnailHalf) {
+    Resource thumbnailHalf,
+    Long version) {
 
   public static UpdateVideoCommand with(
       final String id,
@@ -86,7 +87,30 @@ public record UpdateVideoCommand(
         trailer,
         banner,
         thumbnail,
-        thumbnailHalf);
+        thumbnailHalf,
+        null);
+  }
+
+  /** The same command, applied only while the video is still at the given version. */
+  public UpdateVideoCommand withVersion(final Long aVersion) {
+    return new UpdateVideoCommand(
+        id,
+        title,
+        description,
+        launchedAt,
+        duration,
+        opened,
+        published,
+        rating,
+        categories,
+        genres,
+        members,
+        video,
+        trailer,
+        banner,
+        thumbnail,
+        thumbnailHalf,
+        aVersion);
   }
 
   public Optional<Resource> getVideo() {
@@ -2,9 +2,9 @@ package com.fullcycle.admin.catalogo.application.video.update;
 
 import com.fullcycle.admin.catalogo.domain.video.Video;
 
-public record UpdateVideoOutput(String id) {
+public record UpdateVideoOutput(String id, long version) {
 
   public static UpdateVideoOutput from(final Video aVideo) {
-    return new UpdateVideoOutput(aVideo.getId().getValue());
+    return new UpdateVideoOutput(aVideo.getId().getValue(), aVideo.getVersion());
   }
 }
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class BulkCreateCastMemberUseCaseTest extends UseCaseTest {
+
+  @InjectMocks private DefaultBulkCreateCastMemberUseCase useCase;
+
+  @Mock private CastMemberGateway castMemberGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(castMemberGateway);
+  }
+
+  @Test
+  public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldInsertTheValidOnesAtOnce() {
+    // given
+    final var expectedErrorMessage = "'type' should not be null";
+    final var commands =
+        List.of(
+            CreateCastMemberCommand.with(Fixture.name(), null),
+            CreateCastMemberCommand.with(Fixture.name(), Fixture.CastMembers.type()));
+
+    when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutputs = useCase.execute(commands);
+
+    // then
+    Assertions.assertEquals(2, actualOutputs.size());
+    Assertions.assertFalse(actualOutputs.get(0).isCreated());
+    Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(0).errors().get(0).message());
+    Assertions.assertTrue(actualOutputs.get(1).isCreated());
+
+    verify(castMemberGateway, times(1))
+        .createAll(
+            argThat(
+                members ->
+                    members.size() == 1
+                        && members.get(0).getId().getValue().equals(actualOutputs.get(1).id())));
+  }
+}
@@ -6,8 +6,10 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -44,7 +46,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     final var aCommand =
         UpdateCastMemberCommand.with(expectedId.getValue(), expectedName, expectedType);
 
-    when(castMemberGateway.findById(any())).thenReturn(Optional.of(CastMember.with(aMember)));
+    when(castMemberGateway.findLatestById(any())).thenReturn(Optional.of(CastMember.with(aMember)));
 
     when(castMemberGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -55,7 +57,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualOutput);
     Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-    verify(castMemberGateway).findById(eq(expectedId));
+    verify(castMemberGateway).findLatestById(eq(expectedId));
 
     verify(castMemberGateway)
         .update(
@@ -83,7 +85,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     final var aCommand =
         UpdateCastMemberCommand.with(expectedId.getValue(), expectedName, expectedType);
 
-    when(castMemberGateway.findById(any())).thenReturn(Optional.of(aMember));
+    when(castMemberGateway.findLatestById(any())).thenReturn(Optional.of(aMember));
 
     // when
     final var actualException =
@@ -99,7 +101,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(castMemberGateway).findById(eq(expectedId));
+    verify(castMemberGateway).findLatestById(eq(expectedId));
     verify(castMemberGateway, times(0)).update(any());
   }
 
@@ -118,7 +120,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     final var aCommand =
         UpdateCastMemberCommand.with(expectedId.getValue(), expectedName, expectedType);
 
-    when(castMemberGateway.findById(any())).thenReturn(Optional.of(aMember));
+    when(castMemberGateway.findLatestById(any())).thenReturn(Optional.of(aMember));
 
     // when
     final var actualException =
@@ -134,7 +136,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(castMemberGateway).findById(eq(expectedId));
+    verify(castMemberGateway).findLatestById(eq(expectedId));
     verify(castMemberGateway, times(0)).update(any());
   }
 
@@ -152,7 +154,7 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
     final var aCommand =
         UpdateCastMemberCommand.with(expectedId.getValue(), expectedName, expectedType);
 
-    when(castMemberGateway.findById(any())).thenReturn(Optional.empty());
+    when(castMemberGateway.findLatestById(any())).thenReturn(Optional.empty());
 
     // when
     final var actualException =
@@ -167,7 +169,57 @@ public class UpdateCastMemberUseCaseTest extends UseCaseTest {
 
     Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-    verify(castMemberGateway).findById(eq(expectedId));
+    verify(castMemberGateway).findLatestById(eq(expectedId));
     verify(castMemberGateway, times(0)).update(any());
   }
+
+  @Test
+  public void
+      givenAnOutdatedVersion_whenCallsUpdateCastMember_shouldThrowVersionMismatchException() {
+    // given
+    final var aMember = CastMember.newMember("vin diesel", CastMemberType.DIRECTOR);
+    aMember.restoreVersion(3);
+
+    final var expectedId = aMember.getId();
+    final var expectedErrorMessage =
+        "CastMember with ID %s is at version 3, not 2".formatted(expectedId.getValue());
+
+    final var aCommand =
+        UpdateCastMemberCommand.with(expectedId.getValue(), "Vin Diesel", CastMemberType.ACTOR)
+            .withVersion(2L);
+
+    when(castMemberGateway.findLatestById(any())).thenReturn(Optional.of(CastMember.with(aMember)));
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(VersionMismatchException.class, () -> useCase.execute(aCommand));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(castMemberGateway).findLatestById(eq(expectedId));
+    verify(castMemberGateway, never()).update(any());
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateCastMember_shouldThrowConflictException() {
+    // given
+    final var aMember = CastMember.newMember("vin diesel", CastMemberType.DIRECTOR);
+
+    final var expectedId = aMember.getId();
+
+    final var aCommand =
+        UpdateCastMemberCommand.with(expectedId.getValue(), "Vin Diesel", CastMemberType.ACTOR)
+            .withVersion(0L);
+
+    when(castMemberGateway.findLatestById(any())).thenReturn(Optional.of(CastMember.with(aMember)));
+
+    when(castMemberGateway.update(any())).thenThrow(ConflictException.with(aMember));
+
+    // when
+    Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+    // then
+    verify(castMemberGateway, times(1)).update(any());
+  }
 }
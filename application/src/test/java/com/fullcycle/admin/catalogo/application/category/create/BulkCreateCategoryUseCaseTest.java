@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class BulkCreateCategoryUseCaseTest extends UseCaseTest {
+
+  @InjectMocks private DefaultBulkCreateCategoryUseCase useCase;
+
+  @Mock private CategoryGateway categoryGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway);
+  }
+
+  @Test
+  public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldInsertTheValidOnesAtOnce() {
+    // given
+    final var expectedErrorMessage = "'name' should not be null";
+    final var commands =
+        List.of(
+            CreateCategoryCommand.with("Filmes", "A mais assistida", true),
+            CreateCategoryCommand.with(null, "Sem nome", true),
+            CreateCategoryCommand.with("Séries", null, false));
+
+    when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutputs = useCase.execute(commands);
+
+    // then
+    Assertions.assertEquals(3, actualOutputs.size());
+    Assertions.assertTrue(actualOutputs.get(0).isCreated());
+    Assertions.assertFalse(actualOutputs.get(1).isCreated());
+    Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(1).errors().get(0).message());
+    Assertions.assertTrue(actualOutputs.get(2).isCreated());
+
+    verify(categoryGateway, times(1))
+        .createAll(
+            argThat(
+                categories ->
+                    categories.size() == 2
+                        && categories.get(0).getId().getValue().equals(actualOutputs.get(0).id())
+                        && categories.get(1).getId().getValue().equals(actualOutputs.get(2).id())));
+  }
+
+  @Test
+  public void givenAGatewayError_whenCallsBulkCreate_shouldRejectEveryValidCommand() {
+    // given
+    final var expectedErrorMessage = "The batch could not be created";
+    final var commands =
+        List.of(
+            CreateCategoryCommand.with("Filmes", null, true),
+            CreateCategoryCommand.with("Séries", null, true));
+
+    final var expectedCause =
+        new IllegalStateException("Duplicate entry 'Filmes' for key 'categories.name'");
+
+    when(categoryGateway.createAll(any())).thenThrow(expectedCause);
+
+    // when
+    final var actualOutputs = useCase.execute(commands);
+
+    // then
+    Assertions.assertEquals(2, actualOutputs.size());
+    for (final var actualOutput : actualOutputs) {
+      Assertions.assertFalse(actualOutput.isCreated());
+      Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).message());
+      Assertions.assertSame(expectedCause, actualOutput.cause());
+    }
+  }
+
+  @Test
+  public void givenADomainError_whenCallsBulkCreate_shouldRejectWithItsErrors() {
+    // given
+    final var expectedErrorMessage = "Category with name Filmes already exists";
+    final var commands = List.of(CreateCategoryCommand.with("Filmes", null, true));
+
+    when(categoryGateway.createAll(any()))
+        .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+    // when
+    final var actualOutputs = useCase.execute(commands);
+
+    // then
+    Assertions.assertFalse(actualOutputs.get(0).isCreated());
+    Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(0).errors().get(0).message());
+    Assertions.assertNull(actualOutputs.get(0).cause());
+  }
+}
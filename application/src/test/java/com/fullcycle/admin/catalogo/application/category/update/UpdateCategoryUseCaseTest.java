@@ -10,7 +10,9 @@ import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -43,7 +45,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         UpdateCategoryCommand.with(
             expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(Category.with(aCategory)));
 
     when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
@@ -53,7 +55,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualOutput);
     Assertions.assertNotNull(actualOutput.id());
 
-    Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(categoryGateway, times(1))
         .update(
@@ -83,7 +85,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         UpdateCategoryCommand.with(
             expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(Category.with(aCategory)));
 
     final var notification = useCase.execute(aCommand).getLeft();
@@ -108,7 +110,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         UpdateCategoryCommand.with(
             expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(Category.with(aCategory)));
 
     when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
@@ -121,7 +123,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualOutput);
     Assertions.assertNotNull(actualOutput.id());
 
-    Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(categoryGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(categoryGateway, times(1))
         .update(
@@ -151,7 +153,7 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         UpdateCategoryCommand.with(
             expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-    when(categoryGateway.findById(eq(expectedId)))
+    when(categoryGateway.findLatestById(eq(expectedId)))
         .thenReturn(Optional.of(Category.with(aCategory)));
 
     when(categoryGateway.update(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
@@ -185,15 +187,57 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
     final var aCommand =
         UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription, expectedIsActive);
 
-    when(categoryGateway.findById(eq(CategoryID.from(expectedId)))).thenReturn(Optional.empty());
+    when(categoryGateway.findLatestById(eq(CategoryID.from(expectedId))))
+        .thenReturn(Optional.empty());
 
     final var actualException =
         Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
 
     Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-    Mockito.verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
+    Mockito.verify(categoryGateway, times(1)).findLatestById(eq(CategoryID.from(expectedId)));
 
     Mockito.verify(categoryGateway, times(0)).update(any());
   }
+
+  @Test
+  public void givenAnOutdatedVersion_whenCallsUpdateCategory_shouldThrowVersionMismatchException() {
+    final var aCategory = Category.newCategory("Film", null, true);
+    aCategory.restoreVersion(3);
+
+    final var expectedId = aCategory.getId();
+    final var expectedErrorMessage =
+        "Category with ID %s is at version 3, not 2".formatted(expectedId.getValue());
+
+    final var aCommand =
+        UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true).withVersion(2L);
+
+    when(categoryGateway.findLatestById(eq(expectedId)))
+        .thenReturn(Optional.of(Category.with(aCategory)));
+
+    final var actualException =
+        Assertions.assertThrows(VersionMismatchException.class, () -> useCase.execute(aCommand));
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    Mockito.verify(categoryGateway, times(0)).update(any());
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateCategory_shouldThrowConflictException() {
+    final var aCategory = Category.newCategory("Film", null, true);
+    final var expectedId = aCategory.getId();
+
+    final var aCommand =
+        UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true).withVersion(0L);
+
+    when(categoryGateway.findLatestById(eq(expectedId)))
+        .thenReturn(Optional.of(Category.with(aCategory)));
+
+    when(categoryGateway.update(any())).thenThrow(ConflictException.with(aCategory));
+
+    Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+    Mockito.verify(categoryGateway, times(1)).update(any());
+  }
 }
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class BulkCreateGenreUseCaseTest extends UseCaseTest {
+
+  @InjectMocks private DefaultBulkCreateGenreUseCase useCase;
+
+  @Mock private CategoryGateway categoryGateway;
+  @Mock private GenreGateway genreGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway, genreGateway);
+  }
+
+  @Test
+  public void givenCommandsSharingCategories_whenCallsBulkCreate_shouldCheckThemInOneQuery() {
+    // given
+    final var filmes = CategoryID.from("filmes");
+    final var series = CategoryID.from("series");
+    final var missing = CategoryID.from("missing");
+    final var expectedErrorMessage = "Some categories could not be found: missing";
+
+    final var commands =
+        List.of(
+            CreateGenreCommand.with("Ação", true, List.of("filmes", "series")),
+            CreateGenreCommand.with("Drama", true, List.of("series", "missing")),
+            CreateGenreCommand.with("Terror", true, List.of("filmes")),
+            CreateGenreCommand.with("Comédia", true, null));
+
+    when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes, series));
+    when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutputs = useCase.execute(commands);
+
+    // then
+    Assertions.assertEquals(4, actualOutputs.size());
+    Assertions.assertTrue(actualOutputs.get(0).isCreated());
+    Assertions.assertFalse(actualOutputs.get(1).isCreated());
+    Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(1).errors().get(0).message());
+    Assertions.assertTrue(actualOutputs.get(2).isCreated());
+    Assertions.assertTrue(actualOutputs.get(3).isCreated());
+
+    verify(categoryGateway, times(1))
+        .existsByIds(
+            argThat(ids -> toSet(ids).equals(Set.of(filmes, series, missing))));
+    verify(genreGateway, times(1))
+        .createAll(
+            argThat(
+                genres ->
+                    genres.size() == 3
+                        && genres.get(0).getCategories().equals(List.of(filmes, series))
+                        && genres.get(2).getCategories().isEmpty()));
+  }
+
+  private static Set<CategoryID> toSet(final Iterable<CategoryID> ids) {
+    final var result = new HashSet<CategoryID>();
+    ids.forEach(result::add);
+    return result;
+  }
+}
@@ -8,7 +8,9 @@ import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import java.util.List;
@@ -47,7 +49,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         UpdateGenreCommand.with(
             expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-    when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
     when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
 
     Thread.sleep(1);
@@ -59,7 +61,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualOutput);
     Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(genreGateway, times(1))
         .update(
@@ -89,7 +91,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         UpdateGenreCommand.with(
             expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-    when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
     when(categoryGateway.existsByIds(any())).thenReturn(expectedCategories);
     when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -102,7 +104,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualOutput);
     Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
 
@@ -134,7 +136,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         UpdateGenreCommand.with(
             expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-    when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
     when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
 
     Assertions.assertTrue(aGenre.isActive());
@@ -149,7 +151,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualOutput);
     Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(genreGateway, times(1))
         .update(
@@ -181,7 +183,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         UpdateGenreCommand.with(
             expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-    when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
 
     // when
     final var actualException =
@@ -195,7 +197,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
     Mockito.verify(categoryGateway, never()).existsByIds(any());
     Mockito.verify(genreGateway, never()).update(any());
   }
@@ -223,7 +225,7 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         UpdateGenreCommand.with(
             expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-    when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
 
@@ -240,8 +242,55 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorMessageOne, actualException.getErrors().get(0).message());
     Assertions.assertEquals(expectedErrorMessageTwo, actualException.getErrors().get(1).message());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
     Mockito.verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
     Mockito.verify(genreGateway, never()).update(any());
   }
+
+  @Test
+  public void givenAnOutdatedVersion_whenCallsUpdateGenre_shouldThrowVersionMismatchException() {
+    // given
+    final var aGenre = Genre.newGenre("acao", true);
+    aGenre.restoreVersion(3);
+
+    final var expectedId = aGenre.getId();
+    final var expectedErrorMessage =
+        "Genre with ID %s is at version 3, not 2".formatted(expectedId.getValue());
+
+    final var aCommand =
+        UpdateGenreCommand.with(expectedId.getValue(), "Ação", true, List.of()).withVersion(2L);
+
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(VersionMismatchException.class, () -> useCase.execute(aCommand));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
+    Mockito.verify(genreGateway, never()).update(any());
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateGenre_shouldThrowConflictException() {
+    // given
+    final var aGenre = Genre.newGenre("acao", true);
+
+    final var expectedId = aGenre.getId();
+
+    final var aCommand =
+        UpdateGenreCommand.with(expectedId.getValue(), "Ação", true, List.of()).withVersion(0L);
+
+    when(genreGateway.findLatestById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+
+    when(genreGateway.update(any())).thenThrow(ConflictException.with(aGenre));
+
+    // when
+    Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+    // then
+    Mockito.verify(genreGateway, times(1)).update(any());
+  }
 }
@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class BulkCreateVideoUseCaseTest extends UseCaseTest {
+
+  @InjectMocks private DefaultBulkCreateVideoUseCase useCase;
+
+  @Mock private CategoryGateway categoryGateway;
+  @Mock private CastMemberGateway castMemberGateway;
+  @Mock private GenreGateway genreGateway;
+  @Mock private VideoGateway videoGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway, castMemberGateway, genreGateway, videoGateway);
+  }
+
+  @Test
+  public void givenABatchOfVideos_whenCallsBulkCreate_shouldCheckEachAggregateInOneQuery() {
+    // given
+    final var aulas = Fixture.Categories.aulas().getId();
+    final var expectedErrorMessage = "Some categories could not be found: missing";
+
+    final var commands =
+        List.of(
+            command(Fixture.duration(), Set.of(aulas.getValue())),
+            command(Fixture.duration(), Set.of(aulas.getValue(), "missing")),
+            command(null, Set.of()),
+            command(Fixture.duration(), null));
+
+    when(categoryGateway.existsByIds(any())).thenReturn(List.of(aulas));
+    when(videoGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutputs = useCase.execute(commands);
+
+    // then
+    Assertions.assertEquals(4, actualOutputs.size());
+    Assertions.assertTrue(actualOutputs.get(0).isCreated());
+    Assertions.assertFalse(actualOutputs.get(1).isCreated());
+    Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(1).errors().get(0).message());
+    Assertions.assertFalse(actualOutputs.get(2).isCreated());
+    Assertions.assertTrue(actualOutputs.get(3).isCreated());
+
+    verify(categoryGateway, times(1)).existsByIds(any());
+    verify(genreGateway, never()).existsByIds(any());
+    verify(castMemberGateway, never()).existsByIds(any());
+    verify(videoGateway, times(1))
+        .createAll(
+            argThat(
+                videos ->
+                    videos.size() == 2
+                        && videos.get(0).getCategories().equals(Set.of(aulas))
+                        && videos.get(1).getCategories().isEmpty()));
+  }
+
+  private static CreateVideoCommand command(final Double duration, final Set<String> categories) {
+    return CreateVideoCommand.with(
+        Fixture.title(),
+        Fixture.Videos.description(),
+        Fixture.year(),
+        duration,
+        Fixture.bool(),
+        Fixture.bool(),
+        Fixture.Videos.rating().getName(),
+        categories,
+        Set.of(),
+        Set.of());
+  }
+}
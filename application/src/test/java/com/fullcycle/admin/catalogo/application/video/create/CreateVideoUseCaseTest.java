@@ -21,14 +21,23 @@ import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-  @InjectMocks private DefaultCreateVideoUseCase useCase;
+  private DefaultCreateVideoUseCase useCase;
 
   @Mock private VideoGateway videoGateway;
 
@@ -40,12 +49,32 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
 
   @Mock private MediaResourceGateway mediaResourceGateway;
 
+  private ExecutorService mediaExecutor;
+
   @Override
   protected List<Object> getMocks() {
     return List.of(
         videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
   }
 
+  @BeforeEach
+  void setUp() {
+    this.mediaExecutor = Executors.newFixedThreadPool(5);
+    this.useCase =
+        new DefaultCreateVideoUseCase(
+            categoryGateway,
+            castMemberGateway,
+            genreGateway,
+            mediaResourceGateway,
+            videoGateway,
+            mediaExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.mediaExecutor.shutdownNow();
+  }
+
   @Test
   public void givenAValidCommand_whenCallsCreateVideo_shouldReturnVideoId() {
     // given
@@ -1017,6 +1046,222 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     verify(mediaResourceGateway).clearResources(any());
   }
 
+  @Test
+  public void givenAValidCommand_whenCallsCreateVideo_shouldStoreResourcesConcurrently() {
+    // given
+    final var aCommand = commandWithAllResources();
+    final var expectedStores = new CountDownLatch(5);
+
+    when(categoryGateway.existsByIds(any())).thenReturn(mapTo(aCommand.categories(), CategoryID::from));
+    when(castMemberGateway.existsByIds(any())).thenReturn(mapTo(aCommand.members(), CastMemberID::from));
+    when(genreGateway.existsByIds(any())).thenReturn(mapTo(aCommand.genres(), GenreID::from));
+
+    when(mediaResourceGateway.storeImage(any(), any()))
+        .thenAnswer(
+            t -> {
+              awaitAllStores(expectedStores);
+              final var resource = t.getArgument(1, VideoResource.class).resource();
+              return ImageMedia.with(resource.checksum(), resource.name(), "/img");
+            });
+    when(mediaResourceGateway.storeAudioVideo(any(), any()))
+        .thenAnswer(
+            t -> {
+              awaitAllStores(expectedStores);
+              final var resource = t.getArgument(1, VideoResource.class).resource();
+              return AudioVideoMedia.with(resource.checksum(), resource.name(), "/img");
+            });
+    when(videoGateway.create(any())).thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualResult = useCase.execute(aCommand);
+
+    // then
+    Assertions.assertNotNull(actualResult.id());
+    verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+    verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+    verify(mediaResourceGateway, never()).clearResources(any());
+  }
+
+  @Test
+  public void givenAFailingResource_whenCallsCreateVideo_shouldClearResourcesAndNotCreate() {
+    // given
+    final var expectedErrorMessage = "An error on create video was observed [videoId:";
+    final var expectedCause = new IllegalStateException("Storage unavailable");
+    final var aCommand = commandWithAllResources();
+
+    when(categoryGateway.existsByIds(any())).thenReturn(mapTo(aCommand.categories(), CategoryID::from));
+    when(castMemberGateway.existsByIds(any())).thenReturn(mapTo(aCommand.members(), CastMemberID::from));
+    when(genreGateway.existsByIds(any())).thenReturn(mapTo(aCommand.genres(), GenreID::from));
+
+    // uploads not started yet are skipped after the failure
+    lenient()
+        .when(mediaResourceGateway.storeImage(any(), any()))
+        .thenReturn(ImageMedia.with("checksum", "name", "/img"));
+    when(mediaResourceGateway.storeAudioVideo(any(), any())).thenThrow(expectedCause);
+
+    // when
+    final var actualResult =
+        Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+    // then
+    Assertions.assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+    Assertions.assertSame(expectedCause, actualResult.getCause());
+
+    verify(mediaResourceGateway).clearResources(any());
+    verify(videoGateway, never()).create(any());
+  }
+
+  @Test
+  public void givenAFailingResource_whenOthersAreBeingStored_shouldCancelThemBeforeClearing() {
+    // given
+    final var expectedCause = new IllegalStateException("Storage unavailable");
+    final var aCommand = commandWithAllResources();
+    final var imagesStarted = new CountDownLatch(3);
+    final var interrupted = new AtomicInteger();
+    final var storing = new AtomicInteger();
+    final var storingWhenCleared = new AtomicInteger(-1);
+
+    when(categoryGateway.existsByIds(any())).thenReturn(mapTo(aCommand.categories(), CategoryID::from));
+    when(castMemberGateway.existsByIds(any())).thenReturn(mapTo(aCommand.members(), CastMemberID::from));
+    when(genreGateway.existsByIds(any())).thenReturn(mapTo(aCommand.genres(), GenreID::from));
+
+    when(mediaResourceGateway.storeImage(any(), any()))
+        .thenAnswer(
+            t -> {
+              storing.incrementAndGet();
+              imagesStarted.countDown();
+              try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                return ImageMedia.with("checksum", "name", "/img");
+              } catch (final InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw new IllegalStateException(e);
+              } finally {
+                storing.decrementAndGet();
+              }
+            });
+    when(mediaResourceGateway.storeAudioVideo(any(), any()))
+        .thenAnswer(
+            t -> {
+              imagesStarted.await(5, TimeUnit.SECONDS);
+              throw expectedCause;
+            });
+    doAnswer(
+            t -> {
+              storingWhenCleared.set(storing.get());
+              return null;
+            })
+        .when(mediaResourceGateway)
+        .clearResources(any());
+
+    // when
+    final var actualResult =
+        Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+    // then
+    Assertions.assertSame(expectedCause, actualResult.getCause());
+    Assertions.assertEquals(3, interrupted.get());
+    Assertions.assertEquals(0, storingWhenCleared.get());
+    verify(videoGateway, never()).create(any());
+  }
+
+  @Test
+  public void givenAFullQueue_whenAResourceFails_shouldCancelTheOneStoredByTheCaller() {
+    // given
+    final var expectedCause = new IllegalStateException("Storage unavailable");
+    final var aCommand = commandWithAllResources();
+    final var bannerStarted = new CountDownLatch(1);
+    final var interrupted = new AtomicInteger();
+
+    // the video takes the only thread, the trailer the only slot and the banner the caller
+    final var fullExecutor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    final var useCase =
+        new DefaultCreateVideoUseCase(
+            categoryGateway,
+            castMemberGateway,
+            genreGateway,
+            mediaResourceGateway,
+            videoGateway,
+            fullExecutor);
+
+    when(categoryGateway.existsByIds(any())).thenReturn(mapTo(aCommand.categories(), CategoryID::from));
+    when(castMemberGateway.existsByIds(any())).thenReturn(mapTo(aCommand.members(), CastMemberID::from));
+    when(genreGateway.existsByIds(any())).thenReturn(mapTo(aCommand.genres(), GenreID::from));
+
+    when(mediaResourceGateway.storeAudioVideo(any(), argThat(it -> it.type() == VIDEO)))
+        .thenAnswer(
+            t -> {
+              bannerStarted.await(5, TimeUnit.SECONDS);
+              throw expectedCause;
+            });
+    when(mediaResourceGateway.storeImage(any(), argThat(it -> it.type() == BANNER)))
+        .thenAnswer(
+            t -> {
+              bannerStarted.countDown();
+              try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                return ImageMedia.with("checksum", "name", "/img");
+              } catch (final InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw new IllegalStateException(e);
+              }
+            });
+
+    // when
+    final InternalErrorException actualResult;
+    try {
+      actualResult =
+          Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+    } finally {
+      fullExecutor.shutdownNow();
+    }
+
+    // then
+    Assertions.assertSame(expectedCause, actualResult.getCause());
+    Assertions.assertEquals(1, interrupted.get());
+    verify(mediaResourceGateway, never())
+        .storeAudioVideo(any(), argThat(it -> it.type() == TRAILER));
+    verify(mediaResourceGateway).clearResources(any());
+    verify(videoGateway, never()).create(any());
+  }
+
+  private CreateVideoCommand commandWithAllResources() {
+    return CreateVideoCommand.with(
+        Fixture.title(),
+        Fixture.Videos.description(),
+        Fixture.year(),
+        Fixture.duration(),
+        Fixture.bool(),
+        Fixture.bool(),
+        Fixture.Videos.rating().getName(),
+        asString(Set.of(Fixture.Categories.aulas().getId())),
+        asString(Set.of(Fixture.Genres.tech().getId())),
+        asString(Set.of(Fixture.CastMembers.wesley().getId())),
+        resource(VIDEO),
+        resource(TRAILER),
+        resource(BANNER),
+        resource(THUMBNAIL),
+        resource(THUMBNAIL_HALF));
+  }
+
+  private static <T> List<T> mapTo(final Set<String> ids, final Function<String, T> mapper) {
+    return ids.stream().map(mapper).toList();
+  }
+
+  private static void awaitAllStores(final CountDownLatch stores) throws InterruptedException {
+    stores.countDown();
+    if (!stores.await(5, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("Resources were not stored concurrently");
+    }
+  }
+
   private void mockImageMedia() {
     when(mediaResourceGateway.storeImage(any(), any()))
         .thenAnswer(
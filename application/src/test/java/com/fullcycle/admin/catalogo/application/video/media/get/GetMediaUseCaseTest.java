@@ -42,8 +42,10 @@ public class GetMediaUseCaseTest extends UseCaseTest {
 
     // then
     Assertions.assertEquals(expectedResource.name(), actualResult.name());
-    Assertions.assertEquals(expectedResource.content(), actualResult.content());
+    Assertions.assertEquals(expectedResource, actualResult.content());
+    Assertions.assertEquals(expectedResource.checksum(), actualResult.checksum());
     Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
+    Assertions.assertEquals(expectedResource.size(), actualResult.size());
   }
 
   @Test
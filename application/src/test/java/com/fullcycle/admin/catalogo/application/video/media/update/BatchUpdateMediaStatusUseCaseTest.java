@@ -0,0 +1,113 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import static com.fullcycle.admin.catalogo.domain.utils.IdUtils.uuid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+public class BatchUpdateMediaStatusUseCaseTest extends UseCaseTest {
+
+  @InjectMocks private DefaultBatchUpdateMediaStatusUseCase useCase;
+
+  @Mock private VideoGateway videoGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(videoGateway);
+  }
+
+  @Test
+  public void givenCommandsOfManyVideos_whenCallsExecute_shouldApplyOneChangePerMedia() {
+    // given
+    final var aVideoId = VideoID.unique();
+    final var anotherVideoId = VideoID.unique();
+    final var aVideoResource = uuid();
+    final var aTrailerResource = uuid();
+    final var anotherResource = uuid();
+
+    final var commands =
+        List.of(
+            command(MediaStatus.PROCESSING, aVideoId, aVideoResource, ""),
+            command(MediaStatus.COMPLETED, anotherVideoId, anotherResource, "another.mp4"),
+            command(MediaStatus.COMPLETED, aVideoId, aVideoResource, "video.mp4"),
+            command(MediaStatus.PROCESSING, aVideoId, aVideoResource, ""),
+            command(MediaStatus.PROCESSING, aVideoId, aTrailerResource, ""));
+
+    when(videoGateway.updateMediaStatus(anyList())).thenReturn(3);
+
+    // when
+    this.useCase.execute(commands);
+
+    // then
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<MediaStatusChange>> captor = ArgumentCaptor.forClass(List.class);
+    verify(videoGateway, times(1)).updateMediaStatus(captor.capture());
+
+    final var expectedChanges =
+        List.of(
+            MediaStatusChange.completed(aVideoId, aVideoResource, "encoded/video.mp4"),
+            MediaStatusChange.processing(aVideoId, aTrailerResource),
+            MediaStatusChange.completed(anotherVideoId, anotherResource, "encoded/another.mp4"));
+
+    assertEquals(expectedChanges, captor.getValue());
+  }
+
+  @Test
+  public void givenACompletedAndAnErrorOfTheSameMedia_whenCallsExecute_shouldApplyTheCompleted() {
+    // given
+    final var aVideoId = VideoID.unique();
+    final var aVideoResource = uuid();
+
+    final var commands =
+        List.of(
+            command(MediaStatus.COMPLETED, aVideoId, aVideoResource, "video.mp4"),
+            command(MediaStatus.ERROR, aVideoId, aVideoResource, ""));
+
+    when(videoGateway.updateMediaStatus(anyList())).thenReturn(1);
+
+    // when
+    this.useCase.execute(commands);
+
+    // then
+    verify(videoGateway, times(1))
+        .updateMediaStatus(
+            List.of(MediaStatusChange.completed(aVideoId, aVideoResource, "encoded/video.mp4")));
+  }
+
+  @Test
+  public void givenOnlyPendingOrErrorCommands_whenCallsExecute_shouldNotCallGateway() {
+    // given
+    final var aVideoId = VideoID.unique();
+
+    final var commands =
+        List.of(
+            command(MediaStatus.PENDING, aVideoId, uuid(), ""),
+            command(MediaStatus.ERROR, aVideoId, uuid(), ""));
+
+    // when
+    this.useCase.execute(commands);
+
+    // then
+    verify(videoGateway, never()).updateMediaStatus(anyList());
+  }
+
+  private static UpdateMediaStatusCommand command(
+      final MediaStatus aStatus,
+      final VideoID aVideoId,
+      final String aResourceId,
+      final String aFilename) {
+    return UpdateMediaStatusCommand.with(
+        aStatus, aVideoId.getValue(), aResourceId, "encoded", aFilename);
+  }
+}
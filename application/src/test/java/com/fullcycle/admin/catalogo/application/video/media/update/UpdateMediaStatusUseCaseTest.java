@@ -1,19 +1,17 @@
 package com.fullcycle.admin.catalogo.application.video.media.update;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
-import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
@@ -36,16 +34,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
     final var expectedStatus = MediaStatus.COMPLETED;
     final var expectedFolder = "encoded_media";
     final var expectedFilename = "filename.mp4";
-    final var expectedType = VideoMediaType.VIDEO;
-    final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+    final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
     final var aVideo = Fixture.Videos.systemDesign().updateVideoMedia(expectedMedia);
 
     final var expectedId = aVideo.getId();
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
-
-    when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+    when(videoGateway.updateMediaStatus(any(MediaStatusChange.class))).thenReturn(true);
 
     final var aCmd =
         UpdateMediaStatusCommand.with(
@@ -59,195 +54,88 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
+    final var captor = ArgumentCaptor.forClass(MediaStatusChange.class);
 
-    final var actualVideo = captor.getValue();
+    verify(videoGateway, times(1)).updateMediaStatus(captor.capture());
+    verify(videoGateway, never()).findById(any());
+    verify(videoGateway, never()).update(any());
 
-    assertTrue(actualVideo.getTrailer().isEmpty());
+    final var actualChange = captor.getValue();
 
-    final var actualVideoMedia = actualVideo.getVideo().get();
-
-    assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    assertEquals(expectedStatus, actualVideoMedia.status());
-    assertEquals(
-        expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+    assertEquals(expectedId, actualChange.videoId());
+    assertEquals(expectedMedia.id(), actualChange.resourceId());
+    assertEquals(expectedStatus, actualChange.status());
+    assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualChange.encodedPath());
   }
 
   @Test
-  public void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+  public void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusOnly() {
     // given
     final var expectedStatus = MediaStatus.PROCESSING;
-    final String expectedFolder = null;
-    final String expectedFilename = null;
-    final var expectedType = VideoMediaType.VIDEO;
-    final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-    final var aVideo = Fixture.Videos.systemDesign().updateVideoMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
-
-    when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
-
-    when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
-
-    final var aCmd =
-        UpdateMediaStatusCommand.with(
-            expectedStatus,
-            expectedId.getValue(),
-            expectedMedia.id(),
-            expectedFolder,
-            expectedFilename);
-
-    // when
-    this.useCase.execute(aCmd);
-
-    // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
-
-    assertTrue(actualVideo.getTrailer().isEmpty());
-
-    final var actualVideoMedia = actualVideo.getVideo().get();
-
-    assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    assertEquals(expectedStatus, actualVideoMedia.status());
-    assertTrue(actualVideoMedia.encodedLocation().isBlank());
-  }
-
-  @Test
-  public void givenCommandForTrailer_whenIsValid_shouldUpdateStatusAndEncodedLocation() {
-    // given
-    final var expectedStatus = MediaStatus.COMPLETED;
-    final var expectedFolder = "encoded_media";
-    final var expectedFilename = "filename.mp4";
-    final var expectedType = VideoMediaType.TRAILER;
-    final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+    final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
     final var aVideo = Fixture.Videos.systemDesign().updateTrailerMedia(expectedMedia);
 
     final var expectedId = aVideo.getId();
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
-
-    when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+    when(videoGateway.updateMediaStatus(any(MediaStatusChange.class))).thenReturn(true);
 
     final var aCmd =
         UpdateMediaStatusCommand.with(
-            expectedStatus,
-            expectedId.getValue(),
-            expectedMedia.id(),
-            expectedFolder,
-            expectedFilename);
+            expectedStatus, expectedId.getValue(), expectedMedia.id(), null, null);
 
     // when
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
+    final var captor = ArgumentCaptor.forClass(MediaStatusChange.class);
 
-    assertTrue(actualVideo.getVideo().isEmpty());
+    verify(videoGateway, times(1)).updateMediaStatus(captor.capture());
 
-    final var actualVideoMedia = actualVideo.getTrailer().get();
+    final var actualChange = captor.getValue();
 
-    assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    assertEquals(expectedStatus, actualVideoMedia.status());
-    assertEquals(
-        expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+    assertEquals(expectedId, actualChange.videoId());
+    assertEquals(expectedMedia.id(), actualChange.resourceId());
+    assertEquals(expectedStatus, actualChange.status());
+    assertEquals(List.of(MediaStatus.PENDING), List.copyOf(actualChange.expectedCurrentStatuses()));
   }
 
   @Test
-  public void
-      givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+  public void givenCommandForUnknownOrOutdatedMedia_whenCallsExecute_shouldDoNothing() {
     // given
-    final var expectedStatus = MediaStatus.PROCESSING;
-    final String expectedFolder = null;
-    final String expectedFilename = null;
-    final var expectedType = VideoMediaType.TRAILER;
-    final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-    final var aVideo = Fixture.Videos.systemDesign().updateTrailerMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
+    final var aVideo = Fixture.Videos.systemDesign();
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
-
-    when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+    when(videoGateway.updateMediaStatus(any(MediaStatusChange.class))).thenReturn(false);
 
     final var aCmd =
         UpdateMediaStatusCommand.with(
-            expectedStatus,
-            expectedId.getValue(),
-            expectedMedia.id(),
-            expectedFolder,
-            expectedFilename);
+            MediaStatus.COMPLETED,
+            aVideo.getId().getValue(),
+            "randomId",
+            "encoded_media",
+            "filename.mp4");
 
     // when
-    this.useCase.execute(aCmd);
+    assertDoesNotThrow(() -> this.useCase.execute(aCmd));
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
-
-    assertTrue(actualVideo.getVideo().isEmpty());
-
-    final var actualVideoMedia = actualVideo.getTrailer().get();
-
-    assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    assertEquals(expectedStatus, actualVideoMedia.status());
-    assertTrue(actualVideoMedia.encodedLocation().isBlank());
+    verify(videoGateway, times(1)).updateMediaStatus(any(MediaStatusChange.class));
+    verify(videoGateway, never()).update(any());
   }
 
   @Test
-  public void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
+  public void givenPendingCommand_whenCallsExecute_shouldNotCallGateway() {
     // given
-    final var expectedStatus = MediaStatus.COMPLETED;
-    final var expectedFolder = "encoded_media";
-    final var expectedFilename = "filename.mp4";
-    final var expectedType = VideoMediaType.TRAILER;
-    final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-    final var aVideo = Fixture.Videos.systemDesign().updateTrailerMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
-
-    when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+    final var aVideo = Fixture.Videos.systemDesign();
 
     final var aCmd =
         UpdateMediaStatusCommand.with(
-            expectedStatus, expectedId.getValue(), "randomId", expectedFolder, expectedFilename);
+            MediaStatus.PENDING, aVideo.getId().getValue(), "randomId", null, null);
 
     // when
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(0)).update(any());
+    verifyNoInteractions(videoGateway);
   }
 }
@@ -12,9 +12,11 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
@@ -87,7 +89,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -107,7 +109,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualResult);
     Assertions.assertNotNull(actualResult.id());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(videoGateway)
         .update(
@@ -177,7 +179,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
 
@@ -195,7 +197,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualResult);
     Assertions.assertNotNull(actualResult.id());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(videoGateway)
         .update(
@@ -265,7 +267,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -283,7 +285,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualResult);
     Assertions.assertNotNull(actualResult.id());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(videoGateway)
         .update(
@@ -352,7 +354,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -370,7 +372,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualResult);
     Assertions.assertNotNull(actualResult.id());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(videoGateway)
         .update(
@@ -440,7 +442,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -457,7 +459,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertNotNull(actualResult);
     Assertions.assertNotNull(actualResult.id());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(videoGateway)
         .update(
@@ -525,7 +527,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     // when
     final var actualException =
@@ -540,7 +542,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(categoryGateway, times(0)).existsByIds(any());
     verify(castMemberGateway, times(0)).existsByIds(any());
@@ -592,7 +594,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     // when
     final var actualException =
@@ -607,7 +609,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(categoryGateway, times(0)).existsByIds(any());
     verify(castMemberGateway, times(0)).existsByIds(any());
@@ -659,7 +661,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     // when
     final var actualException =
@@ -674,7 +676,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(categoryGateway, times(0)).existsByIds(any());
     verify(castMemberGateway, times(0)).existsByIds(any());
@@ -726,7 +728,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     // when
     final var actualException =
@@ -741,7 +743,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(categoryGateway, times(0)).existsByIds(any());
     verify(castMemberGateway, times(0)).existsByIds(any());
@@ -793,7 +795,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     // when
     final var actualException =
@@ -808,7 +810,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(videoGateway).findById(eq(aVideo.getId()));
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
 
     verify(categoryGateway, times(0)).existsByIds(any());
     verify(castMemberGateway, times(0)).existsByIds(any());
@@ -863,7 +865,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>());
 
@@ -937,7 +939,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -1011,7 +1013,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -1081,7 +1083,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
             expectedThumb,
             expectedThumbHalf);
 
-    when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
 
     when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
 
@@ -1109,6 +1111,76 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     verify(mediaResourceGateway, times(0)).clearResources(any());
   }
 
+  @Test
+  public void givenAnOutdatedVersion_whenCallsUpdateVideo_shouldThrowVersionMismatchException() {
+    // given
+    final var aVideo = Fixture.Videos.systemDesign();
+    aVideo.restoreVersion(3);
+
+    final var expectedErrorMessage =
+        "Video with ID %s is at version 3, not 2".formatted(aVideo.getId().getValue());
+
+    final var aCommand =
+        UpdateVideoCommand.with(
+                aVideo.getId().getValue(),
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt().getValue(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of())
+            .withVersion(2L);
+
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(VersionMismatchException.class, () -> useCase.execute(aCommand));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(videoGateway).findById(eq(aVideo.getId()), eq(VideoFetchPlan.RELATIONS));
+    verify(mediaResourceGateway, never()).storeImage(any(), any());
+    verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
+    verify(videoGateway, never()).update(any());
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateVideo_shouldThrowConflictException() {
+    // given
+    final var aVideo = Fixture.Videos.systemDesign();
+
+    final var aCommand =
+        UpdateVideoCommand.with(
+                aVideo.getId().getValue(),
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt().getValue(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of())
+            .withVersion(0L);
+
+    when(videoGateway.findById(any(), any())).thenReturn(Optional.of(Video.with(aVideo)));
+
+    when(videoGateway.update(any())).thenThrow(ConflictException.with(aVideo));
+
+    // when
+    Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+    // then
+    verify(videoGateway, times(1)).update(any());
+  }
+
   private void mockImageMedia() {
     when(mediaResourceGateway.storeImage(any(), any()))
         .thenAnswer(
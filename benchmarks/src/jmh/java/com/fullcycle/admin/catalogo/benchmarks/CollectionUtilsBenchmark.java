@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Mapping relation ids between values and identifiers, as the gateways and outputs do. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollectionUtilsBenchmark {
+
+  @Param({"1", "10", "1000"})
+  private int size;
+
+  private Set<String> values;
+
+  private Set<CategoryID> ids;
+
+  @Setup
+  public void setUp() {
+    values = Videos.ids(size, IdUtils::uuid);
+    ids = mapTo(values, CategoryID::from);
+  }
+
+  @Benchmark
+  public Set<CategoryID> fromValues() {
+    return mapTo(values, CategoryID::from);
+  }
+
+  @Benchmark
+  public Set<String> toValues() {
+    return mapTo(ids, CategoryID::getValue);
+  }
+}
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Checksumming media contents from a thumbnail up to a whole video held in memory. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashingBenchmark {
+
+  /** 1KB, 1MB, 64MB and 1GB. */
+  @Param({"1024", "1048576", "67108864", "1073741824"})
+  private int size;
+
+  private byte[] content;
+
+  @Setup
+  public void setUp() {
+    content = new byte[size];
+    new SplittableRandom(42).nextBytes(content);
+  }
+
+  @Benchmark
+  public String checksum() {
+    return HashingUtils.checksum(content);
+  }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/** Generating identifiers, alone and with threads contending for the random source. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdUtilsBenchmark {
+
+  @Benchmark
+  public String uuid() {
+    return IdUtils.uuid();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String uuidContended() {
+    return IdUtils.uuid();
+  }
+}
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Serializing the video responses with the {@link Json} mapper, which registers Afterburner, and
+ * with the same configuration without it, to tell whether the module still pays off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+  @Param({"afterburner", "plain"})
+  private String mapper;
+
+  private ObjectMapper objectMapper;
+
+  private VideoResponse video;
+
+  private List<VideoListResponse> page;
+
+  @Setup
+  public void setUp() {
+    objectMapper = "afterburner".equals(mapper) ? Json.mapper() : plainMapper();
+    video = VideoApiPresenter.present(VideoOutput.from(Videos.withMedia()));
+    page =
+        Stream.generate(Videos::newVideo)
+            .limit(25)
+            .map(VideoListOutput::from)
+            .map(VideoApiPresenter::present)
+            .toList();
+  }
+
+  @Benchmark
+  public String videoResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(video);
+  }
+
+  @Benchmark
+  public String videoListPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(page);
+  }
+
+  /** Mirrors the serialization settings of {@link Json}, minus Afterburner. */
+  private static ObjectMapper plainMapper() {
+    return JsonMapper.builder()
+        .defaultDateFormat(new StdDateFormat())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .addModules(new JavaTimeModule(), new Jdk8Module())
+        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .build();
+  }
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** Accumulating errors, appended directly or caught from a failing validation. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+  private static final Error AN_ERROR = new Error("'name' should not be null");
+
+  @Param({"1", "10", "100"})
+  private int errors;
+
+  @Benchmark
+  public Notification append() {
+    final var notification = Notification.create();
+    for (int i = 0; i < errors; i++) {
+      notification.append(AN_ERROR);
+    }
+    return notification;
+  }
+
+  @Benchmark
+  public Notification validate() {
+    final var notification = Notification.create();
+    for (int i = 0; i < errors; i++) {
+      notification.validate(
+          () -> {
+            throw DomainException.with(AN_ERROR);
+          });
+    }
+    return notification;
+  }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Creating, copying and validating the video aggregate, as every video use case does. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoBenchmark {
+
+  private Video video;
+
+  @Setup
+  public void setUp() {
+    video = Videos.withMedia();
+  }
+
+  @Benchmark
+  public Video newVideo() {
+    return Videos.newVideo();
+  }
+
+  @Benchmark
+  public Video with() {
+    return Video.with(video);
+  }
+
+  @Benchmark
+  public Notification validate() {
+    final var notification = Notification.create();
+    video.validate(notification);
+    return notification;
+  }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import java.time.Year;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** A video shaped like the ones in the catalog: a few relations of each kind and every media. */
+final class Videos {
+
+  static final String TITLE = "System Design no Mercado Livre na prática";
+
+  static final String DESCRIPTION =
+      """
+      Disclaimer: o estudo de caso apresentado tem fins educacionais e representa nossas opiniões.
+      Vamos ver como o catálogo é desenhado para suportar milhões de vídeos.
+      """;
+
+  private Videos() {}
+
+  static Video newVideo() {
+    return Video.newVideo(
+        TITLE,
+        DESCRIPTION,
+        Year.of(2022),
+        120.10,
+        true,
+        true,
+        Rating.L,
+        ids(3, CategoryID::unique),
+        ids(3, GenreID::unique),
+        ids(5, CastMemberID::unique));
+  }
+
+  static Video withMedia() {
+    return newVideo()
+        .updateVideoMedia(AudioVideoMedia.with("abc", "video.mp4", "/videos/video.mp4"))
+        .updateTrailerMedia(AudioVideoMedia.with("def", "trailer.mp4", "/videos/trailer.mp4"))
+        .updateBannerMedia(ImageMedia.with("ghi", "banner.png", "/images/banner.png"))
+        .updateThumbnailMedia(ImageMedia.with("jkl", "thumb.png", "/images/thumb.png"))
+        .updateThumbnailHalfMedia(ImageMedia.with("mno", "half.png", "/images/half.png"));
+  }
+
+  static <T> Set<T> ids(final int count, final java.util.function.Supplier<T> anId) {
+    return Stream.generate(anId).limit(count).collect(Collectors.toSet());
+  }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.domain;
 
 import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import java.util.List;
 
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
@@ -11,4 +12,11 @@ public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
   protected AggregateRoot(final ID id, final List<DomainEvent> events) {
     super(id, events);
   }
+
+  /** Fails when the caller expected another version, e.g. the one of an {@code If-Match}. */
+  public void checkVersion(final Long anExpectedVersion) {
+    if (anExpectedVersion != null && anExpectedVersion != getVersion()) {
+      throw VersionMismatchException.with(this, anExpectedVersion);
+    }
+  }
 }
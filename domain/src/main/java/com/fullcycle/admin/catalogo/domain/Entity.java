@@ -12,6 +12,7 @@ public abstract class Entity<ID extends Identifier> {
 
   protected final ID id;
   private final List<DomainEvent> domainEvents;
+  private long version;
 
   protected Entity(final ID id) {
     this(id, null);
@@ -30,6 +31,19 @@ public abstract class Entity<ID extends Identifier> {
     return id;
   }
 
+  /**
+   * The version the entity was read at. Every write increments it, and an update only applies while
+   * the stored entity is still at the version it carries.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /** Sets the version the entity was read at, as kept by the store or by the copied entity. */
+  public void restoreVersion(final long aVersion) {
+    this.version = aVersion;
+  }
+
   public List<DomainEvent> getDomainEvents() {
     return Collections.unmodifiableList(domainEvents);
   }
@@ -44,8 +44,11 @@ public class CastMember extends AggregateRoot<CastMemberID> {
   }
 
   public static CastMember with(final CastMember aMember) {
-    return new CastMember(
-        aMember.id, aMember.name, aMember.type, aMember.createdAt, aMember.updatedAt);
+    final var aCopy =
+        new CastMember(
+            aMember.id, aMember.name, aMember.type, aMember.createdAt, aMember.updatedAt);
+    aCopy.restoreVersion(aMember.getVersion());
+    return aCopy;
   }
 
   public CastMember update(final String aName, final CastMemberType aType) {
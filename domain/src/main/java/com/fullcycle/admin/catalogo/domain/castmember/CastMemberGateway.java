@@ -9,10 +9,21 @@ public interface CastMemberGateway {
 
   CastMember create(CastMember aCastMember);
 
+  /** Inserts the new aggregates in a single transaction, batching the statements. */
+  List<CastMember> createAll(List<CastMember> aCastMembers);
+
   void deleteById(CastMemberID anId);
 
   Optional<CastMember> findById(CastMemberID anId);
 
+  /**
+   * Reads the aggregate as last written, never a copy that may be behind it, so the version an
+   * update checks is the current one.
+   */
+  default Optional<CastMember> findLatestById(final CastMemberID anId) {
+    return findById(anId);
+  }
+
   CastMember update(CastMember aCastMember);
 
   Pagination<CastMember> findAll(SearchQuery aQuery);
@@ -63,7 +63,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public static Category with(final Category aCategory) {
-        return with(
+        final var aCopy = with(
                 aCategory.getId(),
                 aCategory.name,
                 aCategory.description,
@@ -72,6 +72,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aCategory.updatedAt,
                 aCategory.deletedAt
         );
+        aCopy.restoreVersion(aCategory.getVersion());
+        return aCopy;
     }
 
     @Override
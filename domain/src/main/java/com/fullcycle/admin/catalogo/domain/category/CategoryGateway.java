@@ -10,10 +10,21 @@ public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    /** Inserts the new aggregates in a single transaction, batching the statements. */
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    /**
+     * Reads the aggregate as last written, never a copy that may be behind it, so the version an
+     * update checks is the current one.
+     */
+    default Optional<Category> findLatestById(final CategoryID anId) {
+        return findById(anId);
+    }
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
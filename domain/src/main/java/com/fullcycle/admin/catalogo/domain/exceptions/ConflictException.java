@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import java.util.Collections;
+
+public class ConflictException extends DomainException {
+
+  protected ConflictException(final String aMessage) {
+    super(aMessage, Collections.emptyList());
+  }
+
+  public static ConflictException with(final AggregateRoot<?> anAggregate) {
+    return new ConflictException(
+        "%s with ID %s was changed by another request"
+            .formatted(anAggregate.getClass().getSimpleName(), anAggregate.getId().getValue()));
+  }
+}
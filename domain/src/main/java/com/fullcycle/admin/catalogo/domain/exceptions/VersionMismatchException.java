@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import java.util.Collections;
+
+/**
+ * The caller expected another version than the current one, e.g. the one of an {@code If-Match}.
+ * Unlike a {@link ConflictException}, nothing was attempted: the request was made on a stale read.
+ */
+public class VersionMismatchException extends DomainException {
+
+  protected VersionMismatchException(final String aMessage) {
+    super(aMessage, Collections.emptyList());
+  }
+
+  public static VersionMismatchException with(
+      final AggregateRoot<?> anAggregate, final long anExpectedVersion) {
+    return new VersionMismatchException(
+        "%s with ID %s is at version %d, not %d"
+            .formatted(
+                anAggregate.getClass().getSimpleName(),
+                anAggregate.getId().getValue(),
+                anAggregate.getVersion(),
+                anExpectedVersion));
+  }
+}
@@ -58,14 +58,17 @@ public class Genre extends AggregateRoot<GenreID> {
   }
 
   public static Genre with(final Genre aGenre) {
-    return new Genre(
-        aGenre.id,
-        aGenre.name,
-        aGenre.active,
-        new ArrayList<>(aGenre.categories),
-        aGenre.createdAt,
-        aGenre.updatedAt,
-        aGenre.deletedAt);
+    final var aCopy =
+        new Genre(
+            aGenre.id,
+            aGenre.name,
+            aGenre.active,
+            new ArrayList<>(aGenre.categories),
+            aGenre.createdAt,
+            aGenre.updatedAt,
+            aGenre.deletedAt);
+    aCopy.restoreVersion(aGenre.getVersion());
+    return aCopy;
   }
 
   @Override
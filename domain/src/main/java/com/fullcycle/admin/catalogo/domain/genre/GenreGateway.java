@@ -9,10 +9,21 @@ public interface GenreGateway {
 
   Genre create(Genre aGenre);
 
+  /** Inserts the new aggregates in a single transaction, batching the statements. */
+  List<Genre> createAll(List<Genre> aGenres);
+
   void deleteById(GenreID anId);
 
   Optional<Genre> findById(GenreID anId);
 
+  /**
+   * Reads the aggregate as last written, never a copy that may be behind it, so the version an
+   * update checks is the current one.
+   */
+  default Optional<Genre> findLatestById(final GenreID anId) {
+    return findById(anId);
+  }
+
   Genre update(Genre aGenre);
 
   Pagination<Genre> findAll(SearchQuery aQuery);
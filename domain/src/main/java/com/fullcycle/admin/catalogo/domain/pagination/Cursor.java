@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The position of the last item returned: the value of the sort property and the id used to break
+ * ties between items sharing that value, along with the order, {@code asc} or {@code desc}, they
+ * were read in. The key is null when that item has no value for the sort property. Clients only
+ * ever see it as an opaque token.
+ */
+public record Cursor(String sort, String direction, String key, String id) {
+
+  private static final String SEPARATOR = "\u0000";
+
+  private static final Set<String> DIRECTIONS = Set.of("asc", "desc");
+
+  public Cursor {
+    Objects.requireNonNull(sort);
+    Objects.requireNonNull(direction);
+    Objects.requireNonNull(id);
+  }
+
+  public static Cursor decode(final String aToken) {
+    final String[] parts;
+    try {
+      final var decoded = Base64.getUrlDecoder().decode(aToken);
+      parts = new String(decoded, StandardCharsets.UTF_8).split(SEPARATOR, -1);
+    } catch (final IllegalArgumentException e) {
+      throw invalid();
+    }
+
+    if (parts.length < 3 || !DIRECTIONS.contains(parts[1])) {
+      throw invalid();
+    }
+
+    // A cursor without a key is written without its part
+    return switch (parts.length) {
+      case 3 -> new Cursor(parts[0], parts[1], null, parts[2]);
+      case 4 -> new Cursor(parts[0], parts[1], parts[2], parts[3]);
+      default -> throw invalid();
+    };
+  }
+
+  public String encode() {
+    final var value =
+        key == null
+            ? String.join(SEPARATOR, sort, direction, id)
+            : String.join(SEPARATOR, sort, direction, key, id);
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static DomainException invalid() {
+    return DomainException.with(new Error("'cursor' is invalid"));
+  }
+}
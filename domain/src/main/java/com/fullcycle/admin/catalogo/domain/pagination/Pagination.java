@@ -3,18 +3,43 @@ package com.fullcycle.admin.catalogo.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of results. Offset pages carry the page number and the total count, which is {@code -1}
+ * when the caller asked not to count. Cursor pages carry the opaque {@code next} token instead,
+ * which is {@code null} on the last page, and report a {@code total} of {@code -1} since they are
+ * never counted. {@code hasNext} tells whether another page follows in both cases.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String next,
+        boolean hasNext
 ) {
 
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
+
+    public static <T> Pagination<T> cursor(
+            final int perPage,
+            final List<T> items,
+            final String next
+    ) {
+        return new Pagination<>(0, perPage, -1, items, next, next != null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, next(), hasNext());
     }
 }
@@ -1,10 +1,42 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+/**
+ * When {@code cursor} is not {@code null} the results are read after that position instead of by
+ * {@code page}; an empty cursor starts from the first item. {@code total} only applies to pages
+ * read by {@code page} and defaults to {@link TotalMode#EXACT}.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalMode total
 ) {
+
+    public SearchQuery {
+        total = total == null ? TotalMode.EXACT : total;
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, TotalMode.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, TotalMode.EXACT);
+    }
 }
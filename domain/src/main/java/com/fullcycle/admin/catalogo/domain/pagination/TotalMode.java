@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.util.Arrays;
+
+/** How the {@code total} of an offset page is obtained. */
+public enum TotalMode {
+  /** Counts the matching items on every request. */
+  EXACT,
+  /** Reuses a recent count of the same search, which may miss the latest changes. */
+  ESTIMATED,
+  /** Skips the count, the page only tells whether there is a next one. */
+  NONE;
+
+  public static TotalMode from(final String label) {
+    if (label == null || label.isBlank()) {
+      return EXACT;
+    }
+    return Arrays.stream(TotalMode.values())
+        .filter(it -> it.name().equalsIgnoreCase(label.trim()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                DomainException.with(
+                    new Error("'total' must be one of exact, estimated or none")));
+  }
+}
@@ -1,21 +1,42 @@
 package com.fullcycle.admin.catalogo.domain.resource;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
 
   private final String checksum;
   private final byte[] content;
+  private final Source source;
   private final String contentType;
   private final String name;
+  private final long size;
 
   private Resource(
       final String checksum, final byte[] content, final String contentType, final String name) {
     this.checksum = Objects.requireNonNull(checksum);
     this.content = Objects.requireNonNull(content);
+    this.source = null;
     this.contentType = Objects.requireNonNull(contentType);
     this.name = Objects.requireNonNull(name);
+    this.size = content.length;
+  }
+
+  private Resource(
+      final String checksum,
+      final Source source,
+      final String contentType,
+      final String name,
+      final long size) {
+    this.checksum = checksum;
+    this.content = null;
+    this.source = Objects.requireNonNull(source);
+    this.contentType = Objects.requireNonNull(contentType);
+    this.name = Objects.requireNonNull(name);
+    this.size = size;
   }
 
   public static Resource with(
@@ -28,11 +49,58 @@ public class Resource extends ValueObject {
     return new Resource(checksum, content, contentType, name);
   }
 
+  /**
+   * Creates a resource whose content is only read when {@link #openStream()} is called, so it is
+   * never held in memory as a whole. The checksum is unknown until the content is consumed.
+   */
+  public static Resource stream(final Source source, final String contentType, final String name) {
+    return new Resource(null, source, contentType, name, -1);
+  }
+
+  /** Creates a stream backed resource for stored content whose checksum and size are known. */
+  public static Resource stream(
+      final Source source,
+      final String checksum,
+      final String contentType,
+      final String name,
+      final long size) {
+    return new Resource(Objects.requireNonNull(checksum), source, contentType, name, size);
+  }
+
+  public Resource withChecksum(final String checksum) {
+    if (isStreamed()) {
+      return new Resource(Objects.requireNonNull(checksum), source, contentType, name, size);
+    }
+    return new Resource(checksum, content, contentType, name);
+  }
+
+  public boolean isStreamed() {
+    return source != null;
+  }
+
+  public InputStream openStream() throws IOException {
+    if (isStreamed()) {
+      return source.open();
+    }
+    return new ByteArrayInputStream(content);
+  }
+
+  public InputStream openStream(final long offset) throws IOException {
+    if (isStreamed()) {
+      return source.open(offset);
+    }
+    final var from = (int) Math.min(offset, content.length);
+    return new ByteArrayInputStream(content, from, content.length - from);
+  }
+
   public String checksum() {
     return checksum;
   }
 
   public byte[] content() {
+    if (isStreamed()) {
+      throw new IllegalStateException("Resource %s is stream backed".formatted(name));
+    }
     return content;
   }
 
@@ -43,4 +111,20 @@ public class Resource extends ValueObject {
   public String name() {
     return name;
   }
+
+  /** The content length in bytes, or {@code -1} while it is not known. */
+  public long size() {
+    return size;
+  }
+
+  @FunctionalInterface
+  public interface Source {
+    InputStream open() throws IOException;
+
+    default InputStream open(final long offset) throws IOException {
+      final var in = open();
+      in.skipNBytes(offset);
+      return in;
+    }
+  }
 }
@@ -1,12 +1,34 @@
 package com.fullcycle.admin.catalogo.domain.utils;
 
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 public final class IdUtils {
 
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
   private IdUtils() {}
 
+  /**
+   * A version 7 UUID as 32 lowercase hex digits: the first 48 bits are the Unix time in
+   * milliseconds and the other 74 free bits are random, so ids created later sort after earlier
+   * ones and are inserted at the end of the indexes that hold them. The random bits come from the
+   * thread's own generator and the digits are written straight into the string's only array.
+   */
   public static String uuid() {
-    return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+    final var random = ThreadLocalRandom.current();
+    final var mostSigBits = System.currentTimeMillis() << 16 | 0x7000L | random.nextInt(0x1000);
+    final var leastSigBits = random.nextLong() >>> 2 | 0x8000000000000000L;
+
+    final var digits = new char[32];
+    writeHex(mostSigBits, digits, 0);
+    writeHex(leastSigBits, digits, 16);
+    return new String(digits);
+  }
+
+  private static void writeHex(long bits, final char[] digits, final int offset) {
+    for (int i = offset + 15; i >= offset; i--) {
+      digits[i] = HEX_DIGITS[(int) bits & 0xF];
+      bits >>>= 4;
+    }
   }
 }
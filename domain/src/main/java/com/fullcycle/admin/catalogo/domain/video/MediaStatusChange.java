@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A status transition for a single {@link AudioVideoMedia}, addressed by its video and resource ids
+ * so it can be applied without loading the whole {@link Video} aggregate.
+ */
+public record MediaStatusChange(
+    VideoID videoId, String resourceId, MediaStatus status, String encodedPath) {
+
+  public MediaStatusChange {
+    Objects.requireNonNull(videoId);
+    Objects.requireNonNull(resourceId);
+    Objects.requireNonNull(status);
+    Objects.requireNonNull(encodedPath);
+    if (status != MediaStatus.PROCESSING && status != MediaStatus.COMPLETED) {
+      throw new IllegalArgumentException("'status' must be PROCESSING or COMPLETED");
+    }
+  }
+
+  public static MediaStatusChange processing(final VideoID videoId, final String resourceId) {
+    return new MediaStatusChange(videoId, resourceId, MediaStatus.PROCESSING, "");
+  }
+
+  public static MediaStatusChange completed(
+      final VideoID videoId, final String resourceId, final String encodedPath) {
+    return new MediaStatusChange(videoId, resourceId, MediaStatus.COMPLETED, encodedPath);
+  }
+
+  /**
+   * The statuses the media may currently be in for this change to apply, so it only moves forward
+   * in the PENDING → PROCESSING → COMPLETED order and late or redelivered events are ignored.
+   */
+  public Set<MediaStatus> expectedCurrentStatuses() {
+    return status == MediaStatus.PROCESSING
+        ? Set.of(MediaStatus.PENDING)
+        : Set.of(MediaStatus.PENDING, MediaStatus.PROCESSING);
+  }
+}
@@ -255,26 +255,29 @@ public class Video extends AggregateRoot<VideoID> {
   }
 
   public static Video with(final Video aVideo) {
-    return new Video(
-        aVideo.getId(),
-        aVideo.getTitle(),
-        aVideo.getDescription(),
-        aVideo.getLaunchedAt(),
-        aVideo.getDuration(),
-        aVideo.getOpened(),
-        aVideo.getPublished(),
-        aVideo.getRating(),
-        aVideo.getCreatedAt(),
-        aVideo.getUpdatedAt(),
-        aVideo.getBanner().orElse(null),
-        aVideo.getThumbnail().orElse(null),
-        aVideo.getThumbnailHalf().orElse(null),
-        aVideo.getTrailer().orElse(null),
-        aVideo.getVideo().orElse(null),
-        new HashSet<>(aVideo.getCategories()),
-        new HashSet<>(aVideo.getGenres()),
-        new HashSet<>(aVideo.getCastMembers()),
-        aVideo.getDomainEvents());
+    final var aCopy =
+        new Video(
+            aVideo.getId(),
+            aVideo.getTitle(),
+            aVideo.getDescription(),
+            aVideo.getLaunchedAt(),
+            aVideo.getDuration(),
+            aVideo.getOpened(),
+            aVideo.getPublished(),
+            aVideo.getRating(),
+            aVideo.getCreatedAt(),
+            aVideo.getUpdatedAt(),
+            aVideo.getBanner().orElse(null),
+            aVideo.getThumbnail().orElse(null),
+            aVideo.getThumbnailHalf().orElse(null),
+            aVideo.getTrailer().orElse(null),
+            aVideo.getVideo().orElse(null),
+            new HashSet<>(aVideo.getCategories()),
+            new HashSet<>(aVideo.getGenres()),
+            new HashSet<>(aVideo.getCastMembers()),
+            aVideo.getDomainEvents());
+    aCopy.restoreVersion(aVideo.getVersion());
+    return aCopy;
   }
 
   public static Video with(
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+/** The parts of a {@link Video} read along with it; the ones left out come back empty. */
+public enum VideoFetchPlan {
+  /** Every media and relation. */
+  ALL,
+  /** The categories, genres and cast members, without any media. */
+  RELATIONS
+}
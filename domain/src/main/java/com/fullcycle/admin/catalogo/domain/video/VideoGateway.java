@@ -2,17 +2,33 @@ package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
 
   Video create(Video aVideo);
 
+  /** Inserts the new aggregates in a single transaction, batching the statements. */
+  List<Video> createAll(List<Video> aVideos);
+
   void deleteById(VideoID anId);
 
   Optional<Video> findById(VideoID anId);
 
+  /** Reads only the parts of the video named by {@code aPlan}. */
+  Optional<Video> findById(VideoID anId, VideoFetchPlan aPlan);
+
   Video update(Video aVideo);
 
   Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
+
+  /**
+   * Applies the change with a single conditional update of the media row, returning {@code false}
+   * when the media does not belong to the video or is not in one of the expected statuses.
+   */
+  boolean updateMediaStatus(MediaStatusChange change);
+
+  /** Applies the changes in a single transaction and returns how many media rows were updated. */
+  int updateMediaStatus(List<MediaStatusChange> changes);
 }
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CursorTest extends UnitTest {
+
+  @Test
+  public void givenACursor_whenEncodesAndDecodes_shouldKeepItsValues() {
+    // given
+    final var expectedCursor = new Cursor("name", "desc", "Filmes de ação", "123");
+
+    // when
+    final var actualToken = expectedCursor.encode();
+    final var actualCursor = Cursor.decode(actualToken);
+
+    // then
+    Assertions.assertTrue(actualToken.matches("[A-Za-z0-9_-]+"));
+    Assertions.assertEquals(expectedCursor, actualCursor);
+  }
+
+  @Test
+  public void givenACursorWithoutKey_whenEncodesAndDecodes_shouldKeepTheKeyNull() {
+    // given
+    final var expectedCursor = new Cursor("description", "asc", null, "123");
+
+    // when
+    final var actualCursor = Cursor.decode(expectedCursor.encode());
+
+    // then
+    Assertions.assertEquals(expectedCursor, actualCursor);
+    Assertions.assertNull(actualCursor.key());
+  }
+
+  @Test
+  public void givenATokenWithAnUnknownDirection_whenCallsDecode_shouldThrowDomainException() {
+    // given
+    final var expectedErrorMessage = "'cursor' is invalid";
+    final var aToken = new Cursor("name", "sideways", "Filmes", "123").encode();
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(DomainException.class, () -> Cursor.decode(aToken));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
+  @Test
+  public void givenAnInvalidToken_whenCallsDecode_shouldThrowDomainException() {
+    // given
+    final var expectedErrorMessage = "'cursor' is invalid";
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(DomainException.class, () -> Cursor.decode("not a cursor!"));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+}
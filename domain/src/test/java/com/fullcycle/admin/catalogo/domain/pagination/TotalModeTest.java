@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TotalModeTest extends UnitTest {
+
+  @Test
+  public void givenALabel_whenCallsFrom_shouldIgnoreCaseAndDefaultToExact() {
+    Assertions.assertEquals(TotalMode.ESTIMATED, TotalMode.from("Estimated"));
+    Assertions.assertEquals(TotalMode.NONE, TotalMode.from("none"));
+    Assertions.assertEquals(TotalMode.EXACT, TotalMode.from(""));
+    Assertions.assertEquals(TotalMode.EXACT, TotalMode.from(null));
+  }
+
+  @Test
+  public void givenAnUnknownLabel_whenCallsFrom_shouldThrowDomainException() {
+    // given
+    final var expectedErrorMessage = "'total' must be one of exact, estimated or none";
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(DomainException.class, () -> TotalMode.from("maybe"));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IdUtilsTest extends UnitTest {
+
+  @Test
+  public void givenAnId_whenCallsUuid_shouldReturnAVersion7UuidInHex() {
+    // given
+    final var before = System.currentTimeMillis();
+
+    // when
+    final var actualId = IdUtils.uuid();
+
+    // then
+    Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+
+    final var actualUuid =
+        UUID.fromString(
+            actualId.replaceFirst(
+                "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}+)",
+                "$1-$2-$3-$4-$5"));
+    Assertions.assertEquals(7, actualUuid.version());
+    Assertions.assertEquals(2, actualUuid.variant());
+
+    final var actualMillis = actualUuid.getMostSignificantBits() >>> 16;
+    Assertions.assertTrue(actualMillis >= before);
+    Assertions.assertTrue(actualMillis <= System.currentTimeMillis());
+  }
+
+  @Test
+  public void givenManyIds_whenCallsUuid_shouldBeUniqueAndOrderedByTime() throws Exception {
+    // given
+    final var expectedCount = 100_000;
+
+    // when
+    final var actualIds = new HashSet<String>();
+    IntStream.range(0, expectedCount).forEach(i -> actualIds.add(IdUtils.uuid()));
+
+    final var anEarlierId = IdUtils.uuid();
+    Thread.sleep(2);
+    final var aLaterId = IdUtils.uuid();
+
+    // then
+    Assertions.assertEquals(expectedCount, actualIds.size());
+    Assertions.assertTrue(anEarlierId.compareTo(aLaterId) < 0);
+  }
+}
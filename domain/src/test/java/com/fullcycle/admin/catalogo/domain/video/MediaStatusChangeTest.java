@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import static com.fullcycle.admin.catalogo.domain.utils.IdUtils.uuid;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MediaStatusChangeTest extends UnitTest {
+
+  @Test
+  public void givenProcessingChange_whenCallsExpectedCurrentStatuses_shouldOnlyAcceptPending() {
+    // given
+    final var aChange = MediaStatusChange.processing(VideoID.unique(), uuid());
+
+    // when
+    final var actualStatuses = aChange.expectedCurrentStatuses();
+
+    // then
+    Assertions.assertEquals(MediaStatus.PROCESSING, aChange.status());
+    Assertions.assertEquals(Set.of(MediaStatus.PENDING), actualStatuses);
+  }
+
+  @Test
+  public void
+      givenCompletedChange_whenCallsExpectedCurrentStatuses_shouldAcceptPendingAndProcessing() {
+    // given
+    final var expectedEncodedPath = "/encoded/video.mp4";
+    final var aChange = MediaStatusChange.completed(VideoID.unique(), uuid(), expectedEncodedPath);
+
+    // when
+    final var actualStatuses = aChange.expectedCurrentStatuses();
+
+    // then
+    Assertions.assertEquals(MediaStatus.COMPLETED, aChange.status());
+    Assertions.assertEquals(expectedEncodedPath, aChange.encodedPath());
+    Assertions.assertEquals(Set.of(MediaStatus.PENDING, MediaStatus.PROCESSING), actualStatuses);
+  }
+
+  @Test
+  public void givenPendingStatus_whenCallsNewChange_shouldThrowIllegalArgument() {
+    // given
+    final var anId = VideoID.unique();
+    final var aResourceId = uuid();
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MediaStatusChange(anId, aResourceId, MediaStatus.PENDING, ""));
+
+    // then
+    final var expectedErrorMessage = "'status' must be PROCESSING or COMPLETED";
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+  }
+}
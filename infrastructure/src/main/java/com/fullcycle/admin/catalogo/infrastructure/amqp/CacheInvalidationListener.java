@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+
+/**
+ * Applies the invalidations announced by every node, this one included, to the local gateway
+ * caches. A batch is coalesced first, so an aggregate written many times is evicted once.
+ */
+public class CacheInvalidationListener {
+
+  private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+  static final String LISTENER_ID = "cacheInvalidationListener";
+
+  private final Map<String, GatewayCache<?>> caches;
+
+  public CacheInvalidationListener(final List<GatewayCache<?>> caches) {
+    this.caches =
+        caches.stream().collect(Collectors.toMap(GatewayCache::getName, Function.identity()));
+  }
+
+  @RabbitListener(
+      id = LISTENER_ID,
+      queues = "#{cacheInvalidationQueue.name}",
+      containerFactory = "cacheInvalidationListenerFactory",
+      admin = "cacheInvalidationAdmin")
+  public void onInvalidationMessages(@Payload final List<String> messages) {
+    final var pending = new LinkedHashMap<String, CacheInvalidation>();
+
+    for (final var message : messages) {
+      final CacheInvalidation anInvalidation;
+      try {
+        anInvalidation = Json.readValue(message, CacheInvalidation.class);
+      } catch (final RuntimeException e) {
+        log.error("[message:cache.invalidation] [status:invalid] [payload:{}]", message, e);
+        continue;
+      }
+
+      pending.merge(
+          anInvalidation.aggregate() + ":" + anInvalidation.id(),
+          anInvalidation,
+          CacheInvalidation::merge);
+    }
+
+    for (final var anInvalidation : pending.values()) {
+      final var cache = this.caches.get(anInvalidation.aggregate());
+      if (cache == null) {
+        log.warn("[message:cache.invalidation] [status:unknown] [{}]", anInvalidation);
+        continue;
+      }
+      cache.evict(anInvalidation.id(), anInvalidation.version());
+    }
+  }
+}
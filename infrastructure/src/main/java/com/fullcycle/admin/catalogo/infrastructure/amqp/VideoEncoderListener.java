@@ -1,12 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.amqp;
 
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
-import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,32 +23,47 @@ public class VideoEncoderListener {
 
   static final String LISTENER_ID = "videoEncodedListener";
 
-  private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+  private final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
 
-  public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
-    this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+  public VideoEncoderListener(final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase) {
+    this.batchUpdateMediaStatusUseCase = Objects.requireNonNull(batchUpdateMediaStatusUseCase);
   }
 
-  @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-  public void onVideoEncodedMessage(@Payload final String message) {
-    final var aResult = Json.readValue(message, VideoEncoderResult.class);
-
-    if (aResult instanceof VideoEncoderCompleted dto) {
-      log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
-      final var aCmd =
-          new UpdateMediaStatusCommand(
-              MediaStatus.COMPLETED,
-              dto.id(),
-              dto.video().resourceId(),
-              dto.video().encodedVideoFolder(),
-              dto.video().filePath());
-
-      this.updateMediaStatusUseCase.execute(aCmd);
-
-    } else if (aResult instanceof VideoEncoderError) {
-      log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
-    } else {
-      log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+  @RabbitListener(
+      id = LISTENER_ID,
+      queues = "${amqp.queues.video-encoded.queue}",
+      containerFactory = "videoEncodedListenerFactory")
+  public void onVideoEncodedMessages(@Payload final List<String> messages) {
+    final var commands = new ArrayList<UpdateMediaStatusCommand>(messages.size());
+
+    for (final var message : messages) {
+      final VideoEncoderResult aResult;
+      try {
+        aResult = Json.readValue(message, VideoEncoderResult.class);
+      } catch (final RuntimeException e) {
+        log.error("[message:video.listener.income] [status:invalid] [payload:{}]", message, e);
+        continue;
+      }
+
+      if (aResult instanceof VideoEncoderCompleted dto) {
+        log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
+        commands.add(
+            new UpdateMediaStatusCommand(
+                MediaStatus.COMPLETED,
+                dto.id(),
+                dto.video().resourceId(),
+                dto.video().encodedVideoFolder(),
+                dto.video().filePath()));
+
+      } else if (aResult instanceof VideoEncoderError) {
+        log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
+      } else {
+        log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+      }
+    }
+
+    if (!commands.isEmpty()) {
+      this.batchUpdateMediaStatusUseCase.execute(commands);
     }
   }
 }
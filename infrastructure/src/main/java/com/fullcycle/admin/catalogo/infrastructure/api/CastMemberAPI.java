@@ -5,14 +5,18 @@ import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberL
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -30,6 +34,43 @@ public interface CastMemberAPI {
       })
   ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+  @PostMapping(
+      value = "bulk",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Create cast members from a stream of requests, one per line")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Each line answered with the created id or its validation errors"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ResponseEntity<StreamingResponseBody> createAll(InputStream input);
+
+  @GetMapping(value = "export")
+  @Operation(summary = "Export all cast members, one per line, as NDJSON or CSV")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ResponseEntity<StreamingResponseBody> exportAll(
+      @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format);
+
+  @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "List the cast members changed or deleted after a cursor, oldest first")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Listed successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ChangeFeedResponse listChanges(
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit);
+
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "List all cast members")
   @ApiResponses(
@@ -42,7 +83,9 @@ public interface CastMemberAPI {
       @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
       @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
       @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "total", required = false, defaultValue = "exact") final String total);
 
   @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a cast member by it's identifier")
@@ -52,7 +95,7 @@ public interface CastMemberAPI {
         @ApiResponse(responseCode = "404", description = "Cast member was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
-  CastMemberResponse getById(@PathVariable String id);
+  ResponseEntity<CastMemberResponse> getById(@PathVariable String id);
 
   @PutMapping(
       value = "{id}",
@@ -62,11 +105,21 @@ public interface CastMemberAPI {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Cast member updated"),
+        @ApiResponse(responseCode = "400", description = "If-Match is not a single strong tag"),
         @ApiResponse(responseCode = "404", description = "Cast member was not found"),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Cast member was changed by another request"),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Cast member is not at the If-Match version"),
         @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
-  ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateCastMemberRequest aBody);
+  ResponseEntity<?> updateById(
+      @PathVariable String id,
+      @RequestBody UpdateCastMemberRequest aBody,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
   @DeleteMapping(value = "{id}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
@@ -9,10 +10,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -30,6 +34,43 @@ public interface GenreAPI {
       })
   ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+  @PostMapping(
+      value = "bulk",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Create genres from a stream of requests, one per line")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Each line answered with the created id or its validation errors"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ResponseEntity<StreamingResponseBody> createAll(InputStream input);
+
+  @GetMapping(value = "export")
+  @Operation(summary = "Export all genres, one per line, as NDJSON or CSV")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ResponseEntity<StreamingResponseBody> exportAll(
+      @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format);
+
+  @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "List the genres changed or deleted after a cursor, oldest first")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Listed successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ChangeFeedResponse listChanges(
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit);
+
   @GetMapping
   @Operation(summary = "List all genres paginated")
   @ApiResponses(
@@ -43,17 +84,20 @@ public interface GenreAPI {
       @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
       @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
       @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+      @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "total", required = false, defaultValue = "exact") final String total);
 
   @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a genre by it's identifier")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "If-Match is not a single strong tag"),
         @ApiResponse(responseCode = "404", description = "Genre was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
-  GenreResponse getById(@PathVariable(name = "id") String id);
+  ResponseEntity<GenreResponse> getById(@PathVariable(name = "id") String id);
 
   @PutMapping(
       value = "{id}",
@@ -64,10 +108,14 @@ public interface GenreAPI {
       value = {
         @ApiResponse(responseCode = "200", description = "Genre updated successfully"),
         @ApiResponse(responseCode = "404", description = "Genre was not found"),
+        @ApiResponse(responseCode = "409", description = "Genre was changed by another request"),
+        @ApiResponse(responseCode = "412", description = "Genre is not at the If-Match version"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
   ResponseEntity<?> updateById(
-      @PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
+      @PathVariable(name = "id") String id,
+      @RequestBody UpdateGenreRequest input,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
   @DeleteMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   @ResponseStatus(HttpStatus.NO_CONTENT)
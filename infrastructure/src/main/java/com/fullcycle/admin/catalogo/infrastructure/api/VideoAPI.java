@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
@@ -9,12 +10,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
 import java.util.Set;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping(value = "videos")
 @Tag(name = "Video")
@@ -38,7 +42,9 @@ public interface VideoAPI {
           Set<String> castMembers,
       @RequestParam(name = "categories_ids", required = false, defaultValue = "")
           Set<String> categories,
-      @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres);
+      @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "total", required = false, defaultValue = "exact") String total);
 
   @PostMapping(
       consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
@@ -79,6 +85,43 @@ public interface VideoAPI {
       })
   ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest payload);
 
+  @PostMapping(
+      value = "bulk",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Create videos without medias from a stream of requests, one per line")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Each line answered with the created id or its validation errors"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ResponseEntity<StreamingResponseBody> createAll(InputStream input);
+
+  @GetMapping(value = "export")
+  @Operation(summary = "Export all videos, one per line, as NDJSON or CSV")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ResponseEntity<StreamingResponseBody> exportAll(
+      @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format);
+
+  @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "List the videos changed or deleted after a cursor, oldest first")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Listed successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+      })
+  ChangeFeedResponse listChanges(
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit);
+
   @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a video by it's identifier")
   @ApiResponses(
@@ -87,7 +130,7 @@ public interface VideoAPI {
         @ApiResponse(responseCode = "404", description = "Video was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
-  VideoResponse getById(@PathVariable(name = "id") String id);
+  ResponseEntity<VideoResponse> getById(@PathVariable(name = "id") String id);
 
   @PutMapping(
       value = "{id}",
@@ -97,12 +140,17 @@ public interface VideoAPI {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Video updated successfully"),
+        @ApiResponse(responseCode = "400", description = "If-Match is not a single strong tag"),
         @ApiResponse(responseCode = "404", description = "Video was not found"),
+        @ApiResponse(responseCode = "409", description = "Video was changed by another request"),
+        @ApiResponse(responseCode = "412", description = "Video is not at the If-Match version"),
         @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
   ResponseEntity<?> update(
-      @PathVariable(name = "id") String id, @RequestBody UpdateVideoRequest payload);
+      @PathVariable(name = "id") String id,
+      @RequestBody UpdateVideoRequest payload,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
   @DeleteMapping(value = "{id}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -119,11 +167,17 @@ public interface VideoAPI {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+        @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Media was not modified"),
         @ApiResponse(responseCode = "404", description = "Media was not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
       })
-  ResponseEntity<byte[]> getMediaByType(
-      @PathVariable(name = "id") String id, @PathVariable(name = "type") String type);
+  ResponseEntity<StreamingResponseBody> getMediaByType(
+      @PathVariable(name = "id") String id,
+      @PathVariable(name = "type") String type,
+      @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
   @PostMapping(value = "{id}/medias/{type}")
   @Operation(summary = "Upload a video media by it's type")
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
@@ -9,15 +10,27 @@ import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemb
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.api.CastMemberAPI;
+import com.fullcycle.admin.catalogo.infrastructure.bulk.NdjsonBulkImport;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Objects;
 
@@ -25,22 +38,35 @@ import java.util.Objects;
 public class CastMemberController implements CastMemberAPI {
 
   private final CreateCastMemberUseCase createCastMemberUseCase;
+  private final BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase;
   private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
   private final UpdateCastMemberUseCase updateCastMemberUseCase;
   private final DeleteCastMemberUseCase deleteCastMemberUseCase;
   private final ListCastMembersUseCase listCastMembersUseCase;
+  private final JdbcExporter jdbcExporter;
+  private final ChangeFeed changeFeed;
+
+  private final int bulkBatchSize;
 
   public CastMemberController(
       final CreateCastMemberUseCase createCastMemberUseCase,
+      final BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase,
       final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
       final UpdateCastMemberUseCase updateCastMemberUseCase,
       final DeleteCastMemberUseCase deleteCastMemberUseCase,
-      final ListCastMembersUseCase listCastMembersUseCase) {
+      final ListCastMembersUseCase listCastMembersUseCase,
+      final JdbcExporter jdbcExporter,
+      final ChangeFeed changeFeed,
+      @Value("${bulk.batch-size:500}") final int bulkBatchSize) {
     this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+    this.bulkCreateCastMemberUseCase = Objects.requireNonNull(bulkCreateCastMemberUseCase);
     this.getCastMemberByIdUseCase = getCastMemberByIdUseCase;
     this.updateCastMemberUseCase = updateCastMemberUseCase;
     this.deleteCastMemberUseCase = deleteCastMemberUseCase;
     this.listCastMembersUseCase = listCastMembersUseCase;
+    this.jdbcExporter = Objects.requireNonNull(jdbcExporter);
+    this.changeFeed = Objects.requireNonNull(changeFeed);
+    this.bulkBatchSize = bulkBatchSize;
   }
 
   @Override
@@ -52,30 +78,71 @@ public class CastMemberController implements CastMemberAPI {
     return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
   }
 
+  @Override
+  public ResponseEntity<StreamingResponseBody> createAll(final InputStream input) {
+    final var body =
+        NdjsonBulkImport.stream(
+            input,
+            CreateCastMemberRequest.class,
+            this.bulkBatchSize,
+            requests ->
+                this.bulkCreateCastMemberUseCase.execute(
+                    requests.stream()
+                        .map(
+                            aRequest ->
+                                CreateCastMemberCommand.with(aRequest.name(), aRequest.type()))
+                        .toList()));
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportAll(final String format) {
+    final var aFormat = ExportFormat.from(format);
+    return ResponseEntity.ok()
+        .contentType(aFormat.mediaType())
+        .body(this.jdbcExporter.export(ExportTable.CAST_MEMBERS, aFormat));
+  }
+
+  @Override
+  public ChangeFeedResponse listChanges(final String cursor, final int limit) {
+    return this.changeFeed.changes(ExportTable.CAST_MEMBERS, cursor, limit);
+  }
+
   @Override
   public Pagination<CastMemberListResponse> list(
       final String search,
       final int page,
       final int perPage,
       final String sort,
-      final String direction) {
+      final String direction,
+      final String cursor,
+      final String total) {
     return this.listCastMembersUseCase
-        .execute(new SearchQuery(page, perPage, search, sort, direction))
+        .execute(
+            new SearchQuery(
+                page, perPage, search, sort, direction, cursor, TotalMode.from(total)))
         .map(CastMemberPresenter::present);
   }
 
   @Override
-  public CastMemberResponse getById(final String id) {
-    return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+  public ResponseEntity<CastMemberResponse> getById(final String id) {
+    final var output = this.getCastMemberByIdUseCase.execute(id);
+    return ResponseEntity.ok()
+        .eTag(VersionUtils.eTag(output.version()))
+        .body(CastMemberPresenter.present(output));
   }
 
   @Override
-  public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest aBody) {
-    final var aCommand = UpdateCastMemberCommand.with(id, aBody.name(), aBody.type());
+  public ResponseEntity<?> updateById(
+      final String id, final UpdateCastMemberRequest aBody, final String ifMatch) {
+    final var aCommand =
+        UpdateCastMemberCommand.with(id, aBody.name(), aBody.type())
+            .withVersion(VersionUtils.version(ifMatch));
 
     final var output = this.updateCastMemberUseCase.execute(aCommand);
 
-    return ResponseEntity.ok(output);
+    return ResponseEntity.ok().eTag(VersionUtils.eTag(output.version())).body(output);
   }
 
   @Override
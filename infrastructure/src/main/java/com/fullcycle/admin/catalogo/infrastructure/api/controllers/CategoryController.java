@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
@@ -11,16 +12,28 @@ import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOu
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.fullcycle.admin.catalogo.infrastructure.bulk.NdjsonBulkImport;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Objects;
 import java.util.function.Function;
@@ -28,22 +41,35 @@ import java.util.function.Function;
 @RestController
 public class CategoryController implements CategoryAPI {
   private final CreateCategoryUseCase createCategoryUseCase;
+  private final BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
   private final GetCategoryByIdUseCase getCategoryByIdUseCase;
   private final UpdateCategoryUseCase updateCategoryUseCase;
   private final DeleteCategoryUseCase deleteCategoryUseCase;
   private final ListCategoriesUseCase listCategoriesUseCase;
+  private final JdbcExporter jdbcExporter;
+  private final ChangeFeed changeFeed;
+
+  private final int bulkBatchSize;
 
   public CategoryController(
       final CreateCategoryUseCase createCategoryUseCase,
+      final BulkCreateCategoryUseCase bulkCreateCategoryUseCase,
       final GetCategoryByIdUseCase getCategoryByIdUseCase,
       final UpdateCategoryUseCase updateCategoryUseCase,
       final DeleteCategoryUseCase deleteCategoryUseCase,
-      final ListCategoriesUseCase listCategoriesUseCase) {
+      final ListCategoriesUseCase listCategoriesUseCase,
+      final JdbcExporter jdbcExporter,
+      final ChangeFeed changeFeed,
+      @Value("${bulk.batch-size:500}") final int bulkBatchSize) {
     this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+    this.bulkCreateCategoryUseCase = Objects.requireNonNull(bulkCreateCategoryUseCase);
     this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
     this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
     this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
     this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+    this.jdbcExporter = Objects.requireNonNull(jdbcExporter);
+    this.changeFeed = Objects.requireNonNull(changeFeed);
+    this.bulkBatchSize = bulkBatchSize;
   }
 
   @Override
@@ -62,33 +88,80 @@ public class CategoryController implements CategoryAPI {
     return this.createCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
   }
 
+  @Override
+  public ResponseEntity<StreamingResponseBody> createCategories(final InputStream input) {
+    final var body =
+        NdjsonBulkImport.stream(
+            input,
+            CreateCategoryRequest.class,
+            this.bulkBatchSize,
+            requests ->
+                this.bulkCreateCategoryUseCase.execute(
+                    requests.stream()
+                        .map(
+                            aRequest ->
+                                CreateCategoryCommand.with(
+                                    aRequest.name(),
+                                    aRequest.description(),
+                                    aRequest.active() != null ? aRequest.active() : true))
+                        .toList()));
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportCategories(final String format) {
+    final var aFormat = ExportFormat.from(format);
+    return ResponseEntity.ok()
+        .contentType(aFormat.mediaType())
+        .body(this.jdbcExporter.export(ExportTable.CATEGORIES, aFormat));
+  }
+
+  @Override
+  public ChangeFeedResponse listChanges(final String cursor, final int limit) {
+    return this.changeFeed.changes(ExportTable.CATEGORIES, cursor, limit);
+  }
+
   @Override
   public Pagination<CategoryListResponse> listCategories(
       final String search,
       final int page,
       final int perPage,
       final String sort,
-      final String direction) {
+      final String direction,
+      final String cursor,
+      final String total) {
     return listCategoriesUseCase
-        .execute(new SearchQuery(page, perPage, search, sort, direction))
+        .execute(
+            new SearchQuery(
+                page, perPage, search, sort, direction, cursor, TotalMode.from(total)))
         .map(CategoryApiPresenter::present);
   }
 
   @Override
-  public CategoryResponse getById(String id) {
-    return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+  public ResponseEntity<CategoryResponse> getById(String id) {
+    final var output = this.getCategoryByIdUseCase.execute(id);
+    return ResponseEntity.ok()
+        .eTag(VersionUtils.eTag(output.version()))
+        .body(CategoryApiPresenter.present(output));
   }
 
   @Override
-  public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+  public ResponseEntity<?> updateById(
+      final String id, final UpdateCategoryRequest input, final String ifMatch) {
     final var aCommand =
         UpdateCategoryCommand.with(
-            id, input.name(), input.description(), input.active() != null ? input.active() : true);
+                id,
+                input.name(),
+                input.description(),
+                input.active() != null ? input.active() : true)
+            .withVersion(VersionUtils.version(ifMatch));
 
     final Function<Notification, ResponseEntity<?>> onError =
         notification -> ResponseEntity.unprocessableEntity().body(notification);
 
-    final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+    final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess =
+        output -> ResponseEntity.ok().eTag(VersionUtils.eTag(output.version())).body(output);
 
     return this.updateCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
   }
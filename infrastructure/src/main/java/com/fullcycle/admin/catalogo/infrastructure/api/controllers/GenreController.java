@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.genre.create.BulkCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -9,35 +10,61 @@ import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.api.GenreAPI;
+import com.fullcycle.admin.catalogo.infrastructure.bulk.NdjsonBulkImport;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 public class GenreController implements GenreAPI {
   private final CreateGenreUseCase createGenreUseCase;
+  private final BulkCreateGenreUseCase bulkCreateGenreUseCase;
   private final DeleteGenreUseCase deleteGenreUseCase;
   private final GetGenreByIdUseCase getGenreByIdUseCase;
   private final ListGenreUseCase listGenreUseCase;
   private final UpdateGenreUseCase updateGenreUseCase;
+  private final JdbcExporter jdbcExporter;
+  private final ChangeFeed changeFeed;
+
+  private final int bulkBatchSize;
 
   public GenreController(
       final CreateGenreUseCase createGenreUseCase,
+      final BulkCreateGenreUseCase bulkCreateGenreUseCase,
       final DeleteGenreUseCase deleteGenreUseCase,
       final GetGenreByIdUseCase getGenreByIdUseCase,
       final ListGenreUseCase listGenreUseCase,
-      final UpdateGenreUseCase updateGenreUseCase) {
+      final UpdateGenreUseCase updateGenreUseCase,
+      final JdbcExporter jdbcExporter,
+      final ChangeFeed changeFeed,
+      @Value("${bulk.batch-size:500}") final int bulkBatchSize) {
     this.createGenreUseCase = createGenreUseCase;
+    this.bulkCreateGenreUseCase = Objects.requireNonNull(bulkCreateGenreUseCase);
     this.deleteGenreUseCase = deleteGenreUseCase;
     this.getGenreByIdUseCase = getGenreByIdUseCase;
     this.updateGenreUseCase = updateGenreUseCase;
     this.listGenreUseCase = listGenreUseCase;
+    this.jdbcExporter = Objects.requireNonNull(jdbcExporter);
+    this.changeFeed = Objects.requireNonNull(changeFeed);
+    this.bulkBatchSize = bulkBatchSize;
   }
 
   @Override
@@ -50,31 +77,72 @@ public class GenreController implements GenreAPI {
     return ResponseEntity.created(URI.create("/genres/" + output.id())).body(output);
   }
 
+  @Override
+  public ResponseEntity<StreamingResponseBody> createAll(final InputStream input) {
+    final var body =
+        NdjsonBulkImport.stream(
+            input,
+            CreateGenreRequest.class,
+            this.bulkBatchSize,
+            requests ->
+                this.bulkCreateGenreUseCase.execute(
+                    requests.stream()
+                        .map(
+                            aRequest ->
+                                CreateGenreCommand.with(
+                                    aRequest.name(), aRequest.isActive(), aRequest.categories()))
+                        .toList()));
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportAll(final String format) {
+    final var aFormat = ExportFormat.from(format);
+    return ResponseEntity.ok()
+        .contentType(aFormat.mediaType())
+        .body(this.jdbcExporter.export(ExportTable.GENRES, aFormat));
+  }
+
+  @Override
+  public ChangeFeedResponse listChanges(final String cursor, final int limit) {
+    return this.changeFeed.changes(ExportTable.GENRES, cursor, limit);
+  }
+
   @Override
   public Pagination<GenreListResponse> list(
       final String search,
       final int page,
       final int perPage,
       final String sort,
-      final String direction) {
+      final String direction,
+      final String cursor,
+      final String total) {
     return this.listGenreUseCase
-        .execute(new SearchQuery(page, perPage, search, sort, direction))
+        .execute(
+            new SearchQuery(
+                page, perPage, search, sort, direction, cursor, TotalMode.from(total)))
         .map(GenreApiPresenter::present);
   }
 
   @Override
-  public GenreResponse getById(final String id) {
-    return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+  public ResponseEntity<GenreResponse> getById(final String id) {
+    final var output = this.getGenreByIdUseCase.execute(id);
+    return ResponseEntity.ok()
+        .eTag(VersionUtils.eTag(output.version()))
+        .body(GenreApiPresenter.present(output));
   }
 
   @Override
-  public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+  public ResponseEntity<?> updateById(
+      final String id, final UpdateGenreRequest input, final String ifMatch) {
     final var aCommand =
-        UpdateGenreCommand.with(id, input.name(), input.isActive(), input.categories());
+        UpdateGenreCommand.with(id, input.name(), input.isActive(), input.categories())
+            .withVersion(VersionUtils.version(ifMatch));
 
     final var output = this.updateGenreUseCase.execute(aCommand);
 
-    return ResponseEntity.ok(output);
+    return ResponseEntity.ok().eTag(VersionUtils.eTag(output.version())).body(output);
   }
 
   @Override
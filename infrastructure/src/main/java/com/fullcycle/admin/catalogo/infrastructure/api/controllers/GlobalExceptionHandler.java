@@ -1,10 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils.InvalidIfMatchException;
 import java.util.List;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,6 +22,30 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
   }
 
+  @ExceptionHandler(value = ConflictException.class)
+  public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+  }
+
+  /** An {@code If-Match} naming another version than the current one. */
+  @ExceptionHandler(value = VersionMismatchException.class)
+  public ResponseEntity<?> handleVersionMismatchException(final VersionMismatchException ex) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+  }
+
+  @ExceptionHandler(value = InvalidIfMatchException.class)
+  public ResponseEntity<?> handleInvalidIfMatchException(final InvalidIfMatchException ex) {
+    return ResponseEntity.badRequest().body(ApiError.from(ex));
+  }
+
+  /** A conditional update that no gateway reported as a {@link ConflictException}. */
+  @ExceptionHandler(value = OptimisticLockingFailureException.class)
+  public ResponseEntity<?> handleOptimisticLockingFailure(
+      final OptimisticLockingFailureException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(new ApiError("The resource was changed by another request", List.of()));
+  }
+
   @ExceptionHandler(value = DomainException.class)
   public ResponseEntity<?> handleDomainException(final DomainException ex) {
     return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
@@ -1,13 +1,17 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 
+import com.fullcycle.admin.catalogo.application.video.create.BulkCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
@@ -19,52 +23,82 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
-import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.bulk.NdjsonBulkImport;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 public class VideoController implements VideoAPI {
 
   private final CreateVideoUseCase createVideoUseCase;
+  private final BulkCreateVideoUseCase bulkCreateVideoUseCase;
   private final GetVideoByIdUseCase getVideoByIdUseCase;
   private final UpdateVideoUseCase updateVideoUseCase;
   private final DeleteVideoUseCase deleteVideoUseCase;
   private final ListVideosUseCase listVideosUseCase;
   private final GetMediaUseCase getMediaUseCase;
   private final UploadMediaUseCase uploadMediaUseCase;
+  private final JdbcExporter jdbcExporter;
+  private final ChangeFeed changeFeed;
+
+  private final int bulkBatchSize;
 
   public VideoController(
       final CreateVideoUseCase createVideoUseCase,
+      final BulkCreateVideoUseCase bulkCreateVideoUseCase,
       final GetVideoByIdUseCase getVideoByIdUseCase,
       final UpdateVideoUseCase updateVideoUseCase,
       final DeleteVideoUseCase deleteVideoUseCase,
       final ListVideosUseCase listVideosUseCase,
       final GetMediaUseCase getMediaUseCase,
-      final UploadMediaUseCase uploadMediaUseCase) {
+      final UploadMediaUseCase uploadMediaUseCase,
+      final JdbcExporter jdbcExporter,
+      final ChangeFeed changeFeed,
+      @Value("${bulk.batch-size:500}") final int bulkBatchSize) {
     this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+    this.bulkCreateVideoUseCase = Objects.requireNonNull(bulkCreateVideoUseCase);
     this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
     this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
     this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
     this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
     this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
     this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    this.jdbcExporter = Objects.requireNonNull(jdbcExporter);
+    this.changeFeed = Objects.requireNonNull(changeFeed);
+    this.bulkBatchSize = bulkBatchSize;
   }
 
   @Override
@@ -76,14 +110,25 @@ public class VideoController implements VideoAPI {
       final String direction,
       final Set<String> castMembers,
       final Set<String> categories,
-      final Set<String> genres) {
+      final Set<String> genres,
+      final String cursor,
+      final String total) {
     final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
     final var categoriesIDs = mapTo(categories, CategoryID::from);
     final var genresIDs = mapTo(genres, GenreID::from);
 
     final var aQuery =
         new VideoSearchQuery(
-            page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+            page,
+            perPage,
+            search,
+            sort,
+            direction,
+            castMemberIDs,
+            categoriesIDs,
+            genresIDs,
+            cursor,
+            TotalMode.from(total));
 
     return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
   }
@@ -149,30 +194,77 @@ public class VideoController implements VideoAPI {
   }
 
   @Override
-  public VideoResponse getById(final String anId) {
-    return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
+  public ResponseEntity<StreamingResponseBody> createAll(final InputStream input) {
+    final var body =
+        NdjsonBulkImport.stream(
+            input,
+            CreateVideoRequest.class,
+            this.bulkBatchSize,
+            requests ->
+                this.bulkCreateVideoUseCase.execute(
+                    requests.stream()
+                        .map(
+                            aRequest ->
+                                CreateVideoCommand.with(
+                                    aRequest.title(),
+                                    aRequest.description(),
+                                    aRequest.yearLaunched(),
+                                    aRequest.duration(),
+                                    aRequest.opened(),
+                                    aRequest.published(),
+                                    aRequest.rating(),
+                                    aRequest.categories(),
+                                    aRequest.genres(),
+                                    aRequest.castMembers()))
+                        .toList()));
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportAll(final String format) {
+    final var aFormat = ExportFormat.from(format);
+    return ResponseEntity.ok()
+        .contentType(aFormat.mediaType())
+        .body(this.jdbcExporter.export(ExportTable.VIDEOS, aFormat));
+  }
+
+  @Override
+  public ChangeFeedResponse listChanges(final String cursor, final int limit) {
+    return this.changeFeed.changes(ExportTable.VIDEOS, cursor, limit);
+  }
+
+  @Override
+  public ResponseEntity<VideoResponse> getById(final String anId) {
+    final var output = this.getVideoByIdUseCase.execute(anId);
+    return ResponseEntity.ok()
+        .eTag(VersionUtils.eTag(output.version()))
+        .body(VideoApiPresenter.present(output));
   }
 
   @Override
-  public ResponseEntity<?> update(final String id, final UpdateVideoRequest payload) {
+  public ResponseEntity<?> update(
+      final String id, final UpdateVideoRequest payload, final String ifMatch) {
     final var aCmd =
         UpdateVideoCommand.with(
-            id,
-            payload.title(),
-            payload.description(),
-            payload.yearLaunched(),
-            payload.duration(),
-            payload.opened(),
-            payload.published(),
-            payload.rating(),
-            payload.categories(),
-            payload.genres(),
-            payload.castMembers());
+                id,
+                payload.title(),
+                payload.description(),
+                payload.yearLaunched(),
+                payload.duration(),
+                payload.opened(),
+                payload.published(),
+                payload.rating(),
+                payload.categories(),
+                payload.genres(),
+                payload.castMembers())
+            .withVersion(VersionUtils.version(ifMatch));
 
     final var output = this.updateVideoUseCase.execute(aCmd);
 
     return ResponseEntity.ok()
         .location(URI.create("/videos/" + output.id()))
+        .eTag(VersionUtils.eTag(output.version()))
         .body(VideoApiPresenter.present(output));
   }
 
@@ -182,14 +274,57 @@ public class VideoController implements VideoAPI {
   }
 
   @Override
-  public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+  public ResponseEntity<StreamingResponseBody> getMediaByType(
+      final String id, final String type, final String range, final String ifNoneMatch) {
     final var aMedia = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+    final var anETag = "\"%s\"".formatted(aMedia.checksum());
 
-    return ResponseEntity.ok()
-        .contentType(MediaType.valueOf(aMedia.contentType()))
-        .contentLength(aMedia.content().length)
-        .header(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-        .body(aMedia.content());
+    if (matchesETag(ifNoneMatch, anETag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build();
+    }
+
+    final var aSize = aMedia.size();
+
+    // without a size no range can be resolved, so the whole media is sent without offering any
+    if (aSize < 0) {
+      return mediaResponse(HttpStatus.OK, aMedia, anETag)
+          .headers(headers -> headers.set(ACCEPT_RANGES, "none"))
+          .body(transfer(openMedia(aMedia, 0)));
+    }
+
+    final List<HttpRange> ranges;
+    try {
+      ranges = HttpRange.parseRanges(range);
+    } catch (final IllegalArgumentException e) {
+      return notSatisfiable(aSize);
+    }
+
+    if (ranges.isEmpty()) {
+      return mediaResponse(HttpStatus.OK, aMedia, anETag)
+          .contentLength(aSize)
+          .body(transfer(openMedia(aMedia, 0)));
+    }
+
+    // multiple ranges are coalesced into a single one instead of a multipart/byteranges body
+    final long start;
+    final long end;
+    try {
+      start = ranges.stream().mapToLong(it -> it.getRangeStart(aSize)).min().getAsLong();
+      end = ranges.stream().mapToLong(it -> it.getRangeEnd(aSize)).max().getAsLong();
+    } catch (final IllegalArgumentException e) {
+      return notSatisfiable(aSize);
+    }
+
+    if (start >= aSize || start > end) {
+      return notSatisfiable(aSize);
+    }
+
+    final var aLength = end - start + 1;
+
+    return mediaResponse(HttpStatus.PARTIAL_CONTENT, aMedia, anETag)
+        .contentLength(aLength)
+        .header(CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, aSize))
+        .body(transfer(ByteStreams.limit(openMedia(aMedia, start), aLength)));
   }
 
   @Override
@@ -210,19 +345,58 @@ public class VideoController implements VideoAPI {
         .body(VideoApiPresenter.present(output));
   }
 
+  private static boolean matchesETag(final String ifNoneMatch, final String anETag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+
+    return Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+        .anyMatch(it -> it.equals("*") || it.equals(anETag));
+  }
+
+  private static ResponseEntity.BodyBuilder mediaResponse(
+      final HttpStatus aStatus, final MediaOutput aMedia, final String anETag) {
+    return ResponseEntity.status(aStatus)
+        .contentType(MediaType.valueOf(aMedia.contentType()))
+        .eTag(anETag)
+        .header(ACCEPT_RANGES, "bytes")
+        .header(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+  }
+
+  private static ResponseEntity<StreamingResponseBody> notSatisfiable(final long aSize) {
+    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+        .header(CONTENT_RANGE, "bytes */%d".formatted(aSize))
+        .build();
+  }
+
+  private static InputStream openMedia(final MediaOutput aMedia, final long offset) {
+    try {
+      return aMedia.content().openStream(offset);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes the media itself rather than handing Spring a {@code Resource}, which would apply the
+   * {@code Range} header to it again.
+   */
+  private static StreamingResponseBody transfer(final InputStream content) {
+    return out -> {
+      try (content) {
+        content.transferTo(out);
+      }
+    };
+  }
+
   private Resource resourceOf(final MultipartFile part) {
     if (part == null) {
       return null;
     }
 
-    try {
-      return Resource.with(
-          part.getBytes(),
-          HashingUtils.checksum(part.getBytes()),
-          part.getContentType(),
-          part.getOriginalFilename());
-    } catch (Throwable t) {
-      throw new RuntimeException(t);
-    }
+    return Resource.stream(
+        part::getInputStream, part.getContentType(), part.getOriginalFilename());
   }
 }
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BulkItemResponse(
+    @JsonProperty("line") long line,
+    @JsonProperty("id") String id,
+    @JsonProperty("errors") List<Error> errors) {}
@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulk;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Reads a stream of requests, one JSON document per line, and answers one line per request as
+ * soon as its batch is created, so neither side ever holds the whole import. Blank lines are
+ * skipped and a line that is not a valid request is rejected on its own. At most {@code
+ * batchSize} requests and {@code batchSize} rejections are held before they are answered. The
+ * unexpected failure that rejected a batch is logged once.
+ */
+public final class NdjsonBulkImport<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(NdjsonBulkImport.class);
+
+  private final Class<T> type;
+
+  private final int batchSize;
+
+  private final Function<List<T>, List<BulkCreateOutput>> createAll;
+
+  private NdjsonBulkImport(
+      final Class<T> type,
+      final int batchSize,
+      final Function<List<T>, List<BulkCreateOutput>> createAll) {
+    this.type = type;
+    this.batchSize = batchSize;
+    this.createAll = createAll;
+  }
+
+  public static <T> StreamingResponseBody stream(
+      final InputStream input,
+      final Class<T> type,
+      final int batchSize,
+      final Function<List<T>, List<BulkCreateOutput>> createAll) {
+    final var anImport = new NdjsonBulkImport<>(type, batchSize, createAll);
+    return output -> anImport.run(input, output);
+  }
+
+  private void run(final InputStream input, final OutputStream output) throws IOException {
+    final var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    final var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+    final var lines = new ArrayList<Long>();
+    final var requests = new ArrayList<T>();
+    final var responses = new ArrayList<BulkItemResponse>();
+
+    long lineNumber = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+
+      try {
+        requests.add(Json.readValue(line, this.type));
+        lines.add(lineNumber);
+      } catch (final RuntimeException e) {
+        responses.add(invalid(lineNumber));
+      }
+
+      // Invalid lines are answered in line order too, so a run of them flushes the batch early
+      if (requests.size() == this.batchSize || responses.size() == this.batchSize) {
+        write(writer, flush(lines, requests, responses));
+      }
+    }
+    write(writer, flush(lines, requests, responses));
+  }
+
+  /** Creates the pending requests and returns every pending response, ordered by line. */
+  private List<BulkItemResponse> flush(
+      final List<Long> lines, final List<T> requests, final List<BulkItemResponse> responses) {
+    if (!requests.isEmpty()) {
+      final var outputs = this.createAll.apply(List.copyOf(requests));
+      for (int i = 0; i < outputs.size(); i++) {
+        final var anOutput = outputs.get(i);
+        responses.add(new BulkItemResponse(lines.get(i), anOutput.id(), anOutput.errors()));
+      }
+      outputs.stream()
+          .map(BulkCreateOutput::cause)
+          .filter(Objects::nonNull)
+          .distinct()
+          .forEach(cause -> log.error("Bulk create of {} requests failed", requests.size(), cause));
+    }
+
+    final var result = new ArrayList<>(responses);
+    result.sort(Comparator.comparingLong(BulkItemResponse::line));
+
+    lines.clear();
+    requests.clear();
+    responses.clear();
+    return result;
+  }
+
+  private static void write(final BufferedWriter writer, final List<BulkItemResponse> responses)
+      throws IOException {
+    for (final var aResponse : responses) {
+      writer.write(Json.writeValueAsString(aResponse));
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
+  private static BulkItemResponse invalid(final long lineNumber) {
+    final var anError = new Error("Line %d is not a valid request".formatted(lineNumber));
+    return new BulkItemResponse(lineNumber, null, List.of(anError));
+  }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Tells every node that the aggregate changed. {@code version} is the version of the written
+ * aggregate, so a node already holding that version keeps it; it is {@code null} when the change
+ * has no version, as for deletes, and then every copy is dropped.
+ */
+public record CacheInvalidation(
+    @JsonProperty("aggregate") String aggregate,
+    @JsonProperty("id") String id,
+    @JsonProperty("version") Long version) {
+
+  /** Keeps the invalidation that drops the most, which is the newest or the unversioned one. */
+  public CacheInvalidation merge(final CacheInvalidation other) {
+    if (this.version == null || other.version == null) {
+      return new CacheInvalidation(this.aggregate, this.id, null);
+    }
+    return this.version > other.version ? this : other;
+  }
+}
@@ -0,0 +1,248 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.export.naming.SelfNaming;
+
+/**
+ * Bounded cache of the aggregates read by id, each entry living at most {@code ttl}. Aggregates are
+ * mutable, so a copy is cached and every hit hands out another copy. Absent aggregates are not
+ * cached, so one created meanwhile is found on the next read. Hit, miss and eviction counts are
+ * published over JMX as {@code com.fullcycle.admin.catalogo:type=GatewayCache,name=<name>}.
+ *
+ * <p>It also remembers, for {@link #existing}, the ids known to exist, which is what validating
+ * the references of a command needs. Only deletes forget them, and ids it does not know are always
+ * looked up: an aggregate created on another node may not have been announced yet.
+ *
+ * <p>Writes are announced to the other nodes through {@code invalidations}, and the ones they
+ * announce are applied with {@link #evict}. Every invalidation moves the generation of the stripe
+ * of its id, and a read only keeps what it loaded if that generation did not move meanwhile: the
+ * load may have read the row before the write.
+ */
+@ManagedResource
+public class GatewayCache<T> implements SelfNaming {
+
+  private static final Logger log = LoggerFactory.getLogger(GatewayCache.class);
+
+  private static final int STRIPES = 64;
+
+  private final String name;
+
+  private final UnaryOperator<T> copy;
+
+  private final ToLongFunction<T> versionOf;
+
+  private final EventService invalidations;
+
+  private final Cache<String, T> entries;
+
+  private final Cache<String, Boolean> knownIds;
+
+  private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+  public GatewayCache(
+      final String name,
+      final Duration ttl,
+      final long maximumSize,
+      final UnaryOperator<T> copy,
+      final ToLongFunction<T> versionOf,
+      final EventService invalidations) {
+    this.name = Objects.requireNonNull(name);
+    this.copy = Objects.requireNonNull(copy);
+    this.versionOf = Objects.requireNonNull(versionOf);
+    this.invalidations = Objects.requireNonNull(invalidations);
+    this.entries =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    this.knownIds =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+  }
+
+  public Optional<T> get(final String anId, final Supplier<Optional<T>> loader) {
+    final var cached = this.entries.getIfPresent(anId);
+    if (cached != null) {
+      return Optional.of(this.copy.apply(cached));
+    }
+
+    final var stripe = stripe(anId);
+    final var generation = this.generations.get(stripe);
+
+    // A replica may miss the write that just dropped the entry, which would then live for the ttl
+    final var loaded = ReplicaRoutingDataSource.onPrimary(loader);
+    loaded.ifPresent(
+        value -> {
+          this.entries.put(anId, this.copy.apply(value));
+          this.knownIds.put(anId, Boolean.TRUE);
+
+          // An invalidation after this check drops the entry by itself
+          if (this.generations.get(stripe) != generation) {
+            this.entries.invalidate(anId);
+            this.knownIds.invalidate(anId);
+          }
+        });
+    return loaded;
+  }
+
+  /**
+   * Returns the distinct ids that exist, in the order given. The ids not known to exist are looked
+   * up together through {@code loader}, a single query however many of them there are.
+   */
+  public List<String> existing(
+      final Collection<String> ids, final Function<List<String>, List<String>> loader) {
+    final var distinct = new LinkedHashSet<>(ids);
+    final var unknown = new LinkedHashSet<String>();
+    for (final var anId : distinct) {
+      if (this.knownIds.getIfPresent(anId) == null) {
+        unknown.add(anId);
+      }
+    }
+
+    final Set<String> found =
+        unknown.isEmpty()
+            ? Set.of()
+            : new HashSet<>(
+                ReplicaRoutingDataSource.onPrimary(() -> loader.apply(new ArrayList<>(unknown))));
+    found.forEach(anId -> this.knownIds.put(anId, Boolean.TRUE));
+
+    return distinct.stream()
+        .filter(anId -> !unknown.contains(anId) || found.contains(anId))
+        .toList();
+  }
+
+  /** Remembers the id of an aggregate just created through this node. */
+  public void created(final String anId) {
+    this.knownIds.put(anId, Boolean.TRUE);
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Drops the aggregate written through this node and announces it. A write without a version, as
+   * a delete, also forgets that the id exists. A failed announcement is only logged, the write
+   * already happened and the other nodes catch up when their entry expires.
+   */
+  public void invalidate(final String anId, final Long aVersion) {
+    this.generations.incrementAndGet(stripe(anId));
+    this.entries.invalidate(anId);
+    if (aVersion == null) {
+      this.knownIds.invalidate(anId);
+    }
+    try {
+      this.invalidations.send(new CacheInvalidation(this.name, anId, aVersion));
+    } catch (final RuntimeException e) {
+      log.warn("[message:cache.invalidation] [status:not-sent] [{}:{}]", this.name, anId, e);
+    }
+  }
+
+  /**
+   * Drops the copy an update found outdated, as when an announcement was lost, so the client that
+   * got the conflict reads the current version next instead of the same copy until it expires.
+   */
+  public void discard(final String anId) {
+    this.generations.incrementAndGet(stripe(anId));
+    this.entries.invalidate(anId);
+  }
+
+  /** Applies a write announced by a node, keeping the cached copy if it is already that recent. */
+  public void evict(final String anId, final Long aVersion) {
+    this.generations.incrementAndGet(stripe(anId));
+    if (aVersion == null) {
+      this.knownIds.invalidate(anId);
+    }
+
+    final var cached = this.entries.asMap().get(anId);
+    if (cached == null) {
+      return;
+    }
+
+    if (aVersion == null || this.versionOf.applyAsLong(cached) < aVersion) {
+      this.entries.invalidate(anId);
+    }
+  }
+
+  @ManagedOperation(description = "Drops every cached aggregate and known id")
+  public void invalidateAll() {
+    for (int stripe = 0; stripe < STRIPES; stripe++) {
+      this.generations.incrementAndGet(stripe);
+    }
+    this.entries.invalidateAll();
+    this.knownIds.invalidateAll();
+  }
+
+  private static int stripe(final String anId) {
+    return Math.floorMod(anId.hashCode(), STRIPES);
+  }
+
+  @ManagedAttribute(description = "Reads answered from the cache")
+  public long getHitCount() {
+    return this.entries.stats().hitCount();
+  }
+
+  @ManagedAttribute(description = "Reads that went to the database")
+  public long getMissCount() {
+    return this.entries.stats().missCount();
+  }
+
+  @ManagedAttribute(description = "Entries dropped for size or age, not counting invalidations")
+  public long getEvictionCount() {
+    return this.entries.stats().evictionCount();
+  }
+
+  @ManagedAttribute(description = "Ratio of reads answered from the cache")
+  public double getHitRate() {
+    return this.entries.stats().hitRate();
+  }
+
+  @ManagedAttribute(description = "Existence checks answered without the database")
+  public long getKnownIdHitCount() {
+    return this.knownIds.stats().hitCount();
+  }
+
+  @ManagedAttribute(description = "Existence checks that went to the database")
+  public long getKnownIdMissCount() {
+    return this.knownIds.stats().missCount();
+  }
+
+  @ManagedAttribute(description = "Approximate number of cached aggregates")
+  public long getSize() {
+    return this.entries.size();
+  }
+
+  @Override
+  public ObjectName getObjectName() throws MalformedObjectNameException {
+    return new ObjectName(
+        "com.fullcycle.admin.catalogo:type=GatewayCache,name=%s".formatted(this.name));
+  }
+}
@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById} from a {@link GatewayCache}, dropping the entry on every write, and
+ * answers {@link #existsByIds} for the ids it knows to exist.
+ */
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+  private final CastMemberGateway castMemberGateway;
+
+  private final GatewayCache<CastMember> cache;
+
+  public CachedCastMemberGateway(
+      final CastMemberGateway castMemberGateway, final GatewayCache<CastMember> cache) {
+    this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public CastMember create(final CastMember aCastMember) {
+    final var result = this.castMemberGateway.create(aCastMember);
+    this.cache.created(result.getId().getValue());
+    return result;
+  }
+
+  @Override
+  public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+    final var results = this.castMemberGateway.createAll(aCastMembers);
+    results.forEach(result -> this.cache.created(result.getId().getValue()));
+    return results;
+  }
+
+  @Override
+  public void deleteById(final CastMemberID anId) {
+    this.castMemberGateway.deleteById(anId);
+    this.cache.invalidate(anId.getValue(), null);
+  }
+
+  @Override
+  public Optional<CastMember> findById(final CastMemberID anId) {
+    return this.cache.get(anId.getValue(), () -> this.castMemberGateway.findById(anId));
+  }
+
+  /**
+   * Read to be updated, so past the cache and on the primary: a copy behind the last write would
+   * fail the version check of a client holding the current one.
+   */
+  @Override
+  public Optional<CastMember> findLatestById(final CastMemberID anId) {
+    return ReplicaRoutingDataSource.onPrimary(() -> this.castMemberGateway.findById(anId));
+  }
+
+  @Override
+  public CastMember update(final CastMember aCastMember) {
+    final CastMember result;
+    try {
+      result = this.castMemberGateway.update(aCastMember);
+    } catch (final ConflictException e) {
+      this.cache.discard(aCastMember.getId().getValue());
+      throw e;
+    }
+    this.cache.invalidate(result.getId().getValue(), result.getVersion());
+    return result;
+  }
+
+  @Override
+  public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+    return this.castMemberGateway.findAll(aQuery);
+  }
+
+  @Override
+  public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+    final var values = new ArrayList<String>();
+    ids.forEach(anId -> values.add(anId.getValue()));
+
+    return this.cache.existing(values, this::existingValues).stream()
+        .map(CastMemberID::from)
+        .toList();
+  }
+
+  private List<String> existingValues(final List<String> values) {
+    final var ids = values.stream().map(CastMemberID::from).toList();
+    return this.castMemberGateway.existsByIds(ids).stream().map(CastMemberID::getValue).toList();
+  }
+}
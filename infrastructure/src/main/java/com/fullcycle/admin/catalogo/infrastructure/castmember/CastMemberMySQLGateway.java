@@ -6,27 +6,57 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneRepository;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.SearchSupport;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PageUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
   private final CastMemberRepository castMemberRepository;
 
-  public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+  private final TombstoneRepository tombstoneRepository;
+
+  private final CountCache counts;
+
+  private final SearchSupport search;
+
+  private final SearchSupport.Index index;
+
+  public CastMemberMySQLGateway(
+      final CastMemberRepository castMemberRepository,
+      final TombstoneRepository tombstoneRepository,
+      @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl,
+      final SearchSupport search) {
     this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+    this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+    this.counts = new CountCache(countCacheTtl);
+    this.search = Objects.requireNonNull(search);
+    this.index = search.index(this::documents);
   }
 
   @Override
@@ -35,10 +65,26 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
   }
 
   @Override
+  @Transactional
+  public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+    final var entities = aCastMembers.stream().map(CastMemberJpaEntity::from).toList();
+    this.castMemberRepository.insertAll(entities);
+    this.counts.invalidateAll();
+
+    final var results = entities.stream().map(CastMemberJpaEntity::toAggregate).toList();
+    results.forEach(result -> this.index.put(result.getId().getValue(), result.getName()));
+    return results;
+  }
+
+  @Override
+  @Transactional
   public void deleteById(final CastMemberID aMemberId) {
     final var anId = aMemberId.getValue();
     if (this.castMemberRepository.existsById(anId)) {
       this.castMemberRepository.deleteById(anId);
+      this.tombstoneRepository.save(TombstoneJpaEntity.of("cast_member", anId));
+      this.counts.invalidateAll();
+      this.index.remove(anId);
     }
   }
 
@@ -51,30 +97,50 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
   @Override
   public CastMember update(CastMember aCastMember) {
-    return save(aCastMember);
+    return VersionUtils.conditionally(aCastMember, () -> save(aCastMember));
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+    final var indexed = this.index.search(aQuery.terms());
+
     final var page =
         PageRequest.of(
             aQuery.page(),
             aQuery.perPage(),
-            Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
+            FullTextUtils.sort(
+                aQuery.sort(),
+                aQuery.direction(),
+                indexed.isEmpty() && this.search.fullTextQuery(aQuery.terms()).isPresent(),
+                "name"));
 
     final var where =
-        Optional.ofNullable(aQuery.terms())
-            .filter(str -> !str.isBlank())
-            .map(this::assembleSpecification)
+        indexed
+            .map(ids -> SpecificationUtils.<CastMemberJpaEntity>in("id", ids))
+            .or(
+                () ->
+                    Optional.ofNullable(aQuery.terms())
+                        .filter(str -> !str.isBlank())
+                        .map(this::assembleSpecification))
             .orElse(null);
 
-    final var pageResult = this.castMemberRepository.findAll(where, page);
+    if (aQuery.cursor() != null) {
+      return scroll(aQuery, where);
+    }
 
-    return new Pagination<>(
-        pageResult.getNumber(),
-        pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(CastMemberJpaEntity::toAggregate).toList());
+    final var pageResult =
+        aQuery.total() == TotalMode.EXACT
+            ? this.castMemberRepository.findAll(where, page)
+            : this.castMemberRepository.findSlice(where, page);
+
+    return PageUtils.paginate(
+        pageResult.map(CastMemberJpaEntity::toAggregate),
+        aQuery.total(),
+        () ->
+            this.counts.get(
+                where == null ? "" : SqlUtils.upper(aQuery.terms()),
+                () -> this.castMemberRepository.count(where)));
   }
 
   @Override
@@ -86,11 +152,48 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     return this.castMemberRepository.existsByIds(ids).stream().map(CastMemberID::from).toList();
   }
 
+  private Pagination<CastMember> scroll(
+      final SearchQuery aQuery, final Specification<CastMemberJpaEntity> where) {
+    FullTextUtils.requireNotRelevance(aQuery.sort());
+
+    final var direction = Sort.Direction.fromString(aQuery.direction());
+    final var after =
+        CursorUtils.decode(aQuery.cursor(), aQuery.sort(), direction)
+            .map(aCursor -> CursorUtils.<CastMemberJpaEntity>after(aCursor, direction))
+            .orElse(null);
+
+    final var rows =
+        this.castMemberRepository.findAll(
+            Specification.where(where).and(after),
+            CursorUtils.sort(aQuery.sort(), direction),
+            aQuery.perPage() + 1);
+
+    return CursorUtils.paginate(
+        rows,
+        aQuery.perPage(),
+        aQuery.sort(),
+        direction,
+        CastMemberJpaEntity::getId,
+        CastMemberJpaEntity::toAggregate);
+  }
+
   private CastMember save(final CastMember aCastMember) {
-    return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)).toAggregate();
+    final var result =
+        this.castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(aCastMember)).toAggregate();
+    this.counts.invalidateAll();
+    this.index.put(result.getId().getValue(), result.getName());
+    return result;
   }
 
   private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-    return SpecificationUtils.like("name", terms);
+    return this.search.fullTextQuery(terms)
+        .map(query -> FullTextUtils.<CastMemberJpaEntity>match(query, "name"))
+        .orElseGet(() -> SpecificationUtils.like("name", terms));
+  }
+
+  private List<InvertedIndex.Document> documents() {
+    return this.castMemberRepository.findAll().stream()
+        .map(it -> new InvertedIndex.Document(it.getId(), it.getName()))
+        .toList();
   }
 }
@@ -3,15 +3,19 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
 
 import javax.persistence.*;
+import org.hibernate.annotations.Type;
 import java.time.Instant;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
 public class CastMemberJpaEntity {
 
-  @Id private String id;
+  @Id
+  @Type(type = IdType.NAME)
+  private String id;
 
   @Column(name = "name", nullable = false)
   private String name;
@@ -26,6 +30,10 @@ public class CastMemberJpaEntity {
   @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
   private Instant updatedAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
   public CastMemberJpaEntity() {}
 
   public CastMemberJpaEntity(
@@ -43,16 +51,20 @@ public class CastMemberJpaEntity {
 
   public static CastMemberJpaEntity from(final CastMember aMember) {
     return new CastMemberJpaEntity(
-        aMember.getId().getValue(),
-        aMember.getName(),
-        aMember.getType(),
-        aMember.getCreatedAt(),
-        aMember.getUpdatedAt());
+            aMember.getId().getValue(),
+            aMember.getName(),
+            aMember.getType(),
+            aMember.getCreatedAt(),
+            aMember.getUpdatedAt())
+        .setVersion(aMember.getVersion());
   }
 
   public CastMember toAggregate() {
-    return CastMember.with(
-        CastMemberID.from(getId()), getName(), getType(), getCreatedAt(), getUpdatedAt());
+    final var aMember =
+        CastMember.with(
+            CastMemberID.from(getId()), getName(), getType(), getCreatedAt(), getUpdatedAt());
+    aMember.restoreVersion(getVersion());
+    return aMember;
   }
 
   public String getId() {
@@ -99,4 +111,13 @@ public class CastMemberJpaEntity {
     this.updatedAt = updatedAt;
     return this;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public CastMemberJpaEntity setVersion(final long version) {
+    this.version = version;
+    return this;
+  }
 }
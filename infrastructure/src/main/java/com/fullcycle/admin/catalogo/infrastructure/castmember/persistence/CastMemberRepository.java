@@ -1,5 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.InsertableRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollableRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -10,10 +12,15 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository
+    extends JpaRepository<CastMemberJpaEntity, String>,
+        ScrollableRepository<CastMemberJpaEntity>,
+        InsertableRepository<CastMemberJpaEntity> {
   Page<CastMemberJpaEntity> findAll(
       Specification<CastMemberJpaEntity> specification, Pageable page);
 
+  long count(Specification<CastMemberJpaEntity> specification);
+
   @Query(value = "select c.id from CastMember c where c.id in :ids")
   List<String> existsByIds(@Param("ids") List<String> ids);
 }
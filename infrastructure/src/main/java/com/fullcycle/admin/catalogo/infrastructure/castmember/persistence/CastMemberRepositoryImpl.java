@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollableRepositorySupport;
+import javax.persistence.EntityManager;
+
+class CastMemberRepositoryImpl extends ScrollableRepositorySupport<CastMemberJpaEntity> {
+
+  CastMemberRepositoryImpl(final EntityManager entityManager) {
+    super(CastMemberJpaEntity.class, entityManager);
+  }
+}
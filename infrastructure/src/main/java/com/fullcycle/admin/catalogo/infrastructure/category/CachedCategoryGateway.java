@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById} from a {@link GatewayCache}, dropping the entry on every write, and
+ * answers {@link #existsByIds} for the ids it knows to exist.
+ */
+public class CachedCategoryGateway implements CategoryGateway {
+
+  private final CategoryGateway categoryGateway;
+
+  private final GatewayCache<Category> cache;
+
+  public CachedCategoryGateway(
+      final CategoryGateway categoryGateway, final GatewayCache<Category> cache) {
+    this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public Category create(final Category aCategory) {
+    final var result = this.categoryGateway.create(aCategory);
+    this.cache.created(result.getId().getValue());
+    return result;
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> aCategories) {
+    final var results = this.categoryGateway.createAll(aCategories);
+    results.forEach(result -> this.cache.created(result.getId().getValue()));
+    return results;
+  }
+
+  @Override
+  public void deleteById(final CategoryID anId) {
+    this.categoryGateway.deleteById(anId);
+    this.cache.invalidate(anId.getValue(), null);
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryID anId) {
+    return this.cache.get(anId.getValue(), () -> this.categoryGateway.findById(anId));
+  }
+
+  /**
+   * Read to be updated, so past the cache and on the primary: a copy behind the last write would
+   * fail the version check of a client holding the current one.
+   */
+  @Override
+  public Optional<Category> findLatestById(final CategoryID anId) {
+    return ReplicaRoutingDataSource.onPrimary(() -> this.categoryGateway.findById(anId));
+  }
+
+  @Override
+  public Category update(final Category aCategory) {
+    final Category result;
+    try {
+      result = this.categoryGateway.update(aCategory);
+    } catch (final ConflictException e) {
+      this.cache.discard(aCategory.getId().getValue());
+      throw e;
+    }
+    this.cache.invalidate(result.getId().getValue(), result.getVersion());
+    return result;
+  }
+
+  @Override
+  public Pagination<Category> findAll(final SearchQuery aQuery) {
+    return this.categoryGateway.findAll(aQuery);
+  }
+
+  @Override
+  public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+    final var values = new ArrayList<String>();
+    ids.forEach(anId -> values.add(anId.getValue()));
+
+    return this.cache.existing(values, this::existingValues).stream()
+        .map(CategoryID::from)
+        .toList();
+  }
+
+  private List<String> existingValues(final List<String> values) {
+    final var ids = values.stream().map(CategoryID::from).toList();
+    return this.categoryGateway.existsByIds(ids).stream().map(CategoryID::getValue).toList();
+  }
+}
@@ -7,25 +7,56 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneRepository;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.SearchSupport;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PageUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
   private final CategoryRepository repository;
 
-  public CategoryMySQLGateway(final CategoryRepository repository) {
+  private final TombstoneRepository tombstoneRepository;
+
+  private final CountCache counts;
+
+  private final SearchSupport search;
+
+  private final SearchSupport.Index index;
+
+  public CategoryMySQLGateway(
+      final CategoryRepository repository,
+      final TombstoneRepository tombstoneRepository,
+      @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl,
+      final SearchSupport search) {
     this.repository = repository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.counts = new CountCache(countCacheTtl);
+    this.search = search;
+    this.index = search.index(this::documents);
   }
 
   @Override
@@ -34,10 +65,29 @@ public class CategoryMySQLGateway implements CategoryGateway {
   }
 
   @Override
+  @Transactional
+  public List<Category> createAll(final List<Category> aCategories) {
+    final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+    repository.insertAll(entities);
+    this.counts.invalidateAll();
+
+    final var results = entities.stream().map(CategoryJpaEntity::toAggregate).toList();
+    results.forEach(
+        result ->
+            this.index.put(
+                result.getId().getValue(), result.getName(), result.getDescription()));
+    return results;
+  }
+
+  @Override
+  @Transactional
   public void deleteById(final CategoryID anId) {
     final String anIdValue = anId.getValue();
     if (repository.existsById(anIdValue)) {
       repository.deleteById(anIdValue);
+      this.tombstoneRepository.save(TombstoneJpaEntity.of("category", anIdValue));
+      this.counts.invalidateAll();
+      this.index.remove(anIdValue);
     }
   }
 
@@ -48,33 +98,53 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
   @Override
   public Category update(final Category aCategory) {
-    return save(aCategory);
+    return VersionUtils.conditionally(aCategory, () -> save(aCategory));
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Pagination<Category> findAll(final SearchQuery aQuery) {
 
     // Paginação
+    final var indexed = this.index.search(aQuery.terms());
+
     final var page =
         PageRequest.of(
             aQuery.page(),
             aQuery.perPage(),
-            Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
+            FullTextUtils.sort(
+                aQuery.sort(),
+                aQuery.direction(),
+                indexed.isEmpty() && this.search.fullTextQuery(aQuery.terms()).isPresent(),
+                "name"));
 
     // Busca dinamica pelo criterio terms (name ou description)
     final var specifications =
-        Optional.ofNullable(aQuery.terms())
-            .filter(str -> !str.isBlank())
-            .map(this::assembleSpecification)
+        indexed
+            .map(ids -> SpecificationUtils.<CategoryJpaEntity>in("id", ids))
+            .or(
+                () ->
+                    Optional.ofNullable(aQuery.terms())
+                        .filter(str -> !str.isBlank())
+                        .map(this::assembleSpecification))
             .orElse(null);
 
-    final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+    if (aQuery.cursor() != null) {
+      return scroll(aQuery, specifications);
+    }
 
-    return new Pagination<>(
-        pageResult.getNumber(),
-        pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(CategoryJpaEntity::toAggregate).toList());
+    final var pageResult =
+        aQuery.total() == TotalMode.EXACT
+            ? this.repository.findAll(Specification.where(specifications), page)
+            : this.repository.findSlice(Specification.where(specifications), page);
+
+    return PageUtils.paginate(
+        pageResult.map(CategoryJpaEntity::toAggregate),
+        aQuery.total(),
+        () ->
+            this.counts.get(
+                specifications == null ? "" : SqlUtils.upper(aQuery.terms()),
+                () -> this.repository.count(Specification.where(specifications))));
   }
 
   @Override
@@ -84,13 +154,52 @@ public class CategoryMySQLGateway implements CategoryGateway {
     return this.repository.existsByIds(ids).stream().map(CategoryID::from).toList();
   }
 
+  private Pagination<Category> scroll(
+      final SearchQuery aQuery, final Specification<CategoryJpaEntity> where) {
+    FullTextUtils.requireNotRelevance(aQuery.sort());
+
+    final var direction = Sort.Direction.fromString(aQuery.direction());
+    final var after =
+        CursorUtils.decode(aQuery.cursor(), aQuery.sort(), direction)
+            .map(aCursor -> CursorUtils.<CategoryJpaEntity>after(aCursor, direction))
+            .orElse(null);
+
+    final var rows =
+        this.repository.findAll(
+            Specification.where(where).and(after),
+            CursorUtils.sort(aQuery.sort(), direction),
+            aQuery.perPage() + 1);
+
+    return CursorUtils.paginate(
+        rows,
+        aQuery.perPage(),
+        aQuery.sort(),
+        direction,
+        CategoryJpaEntity::getId,
+        CategoryJpaEntity::toAggregate);
+  }
+
   private Category save(final Category aCategory) {
-    return repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    final var result = repository.saveAndFlush(CategoryJpaEntity.from(aCategory)).toAggregate();
+    this.counts.invalidateAll();
+    this.index.put(result.getId().getValue(), result.getName(), result.getDescription());
+    return result;
+  }
+
+  private Specification<CategoryJpaEntity> assembleSpecification(final String terms) {
+    return this.search.fullTextQuery(terms)
+        .map(query -> FullTextUtils.<CategoryJpaEntity>match(query, "name", "description"))
+        .orElseGet(
+            () -> {
+              final Specification<CategoryJpaEntity> nameLike = like("name", terms);
+              final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
+              return nameLike.or(descriptionLike);
+            });
   }
 
-  private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-    final Specification<CategoryJpaEntity> nameLike = like("name", str);
-    final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-    return nameLike.or(descriptionLike);
+  private List<InvertedIndex.Document> documents() {
+    return this.repository.findAll().stream()
+        .map(it -> new InvertedIndex.Document(it.getId(), it.getName(), it.getDescription()))
+        .toList();
   }
 }
@@ -2,11 +2,14 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
 import javax.persistence.Id;
+import javax.persistence.Version;
+import org.hibernate.annotations.Type;
 import java.time.Instant;
 
 @Entity(name = "Category")
@@ -15,6 +18,7 @@ public class CategoryJpaEntity {
 
   @Id
   @Column(name = "id", nullable = false)
+  @Type(type = IdType.NAME)
   private String id;
 
   @Column(name = "name", nullable = false)
@@ -35,6 +39,10 @@ public class CategoryJpaEntity {
   @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
   private Instant deletedAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
   public CategoryJpaEntity() {}
 
   private CategoryJpaEntity(
@@ -55,25 +63,31 @@ public class CategoryJpaEntity {
   }
 
   public static CategoryJpaEntity from(final Category aCategory) {
-    return new CategoryJpaEntity(
-        aCategory.getId().getValue(),
-        aCategory.getName(),
-        aCategory.getDescription(),
-        aCategory.isActive(),
-        aCategory.getCreatedAt(),
-        aCategory.getUpdatedAt(),
-        aCategory.getDeletedAt());
+    final var anEntity =
+        new CategoryJpaEntity(
+            aCategory.getId().getValue(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.isActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt());
+    anEntity.setVersion(aCategory.getVersion());
+    return anEntity;
   }
 
   public Category toAggregate() {
-    return Category.with(
-        CategoryID.from(getId()),
-        getName(),
-        getDescription(),
-        isActive(),
-        getCreatedAt(),
-        getUpdatedAt(),
-        getDeletedAt());
+    final var aCategory =
+        Category.with(
+            CategoryID.from(getId()),
+            getName(),
+            getDescription(),
+            isActive(),
+            getCreatedAt(),
+            getUpdatedAt(),
+            getDeletedAt());
+    aCategory.restoreVersion(getVersion());
+    return aCategory;
   }
 
   public String getId() {
@@ -131,4 +145,12 @@ public class CategoryJpaEntity {
   public void setDeletedAt(Instant deletedAt) {
     this.deletedAt = deletedAt;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
 }
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import java.util.List;
+import com.fullcycle.admin.catalogo.infrastructure.utils.InsertableRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollableRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -8,9 +10,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository
+    extends JpaRepository<CategoryJpaEntity, String>,
+        ScrollableRepository<CategoryJpaEntity>,
+        InsertableRepository<CategoryJpaEntity> {
   Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+  long count(Specification<CategoryJpaEntity> whereClause);
+
   @Query(value = "select c.id from Category c where c.id in :ids")
   List<String> existsByIds(@Param("ids") List<String> ids);
 }
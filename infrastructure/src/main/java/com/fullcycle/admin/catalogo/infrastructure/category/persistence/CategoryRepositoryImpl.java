@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollableRepositorySupport;
+import javax.persistence.EntityManager;
+
+class CategoryRepositoryImpl extends ScrollableRepositorySupport<CategoryJpaEntity> {
+
+  CategoryRepositoryImpl(final EntityManager entityManager) {
+    super(CategoryJpaEntity.class, entityManager);
+  }
+}
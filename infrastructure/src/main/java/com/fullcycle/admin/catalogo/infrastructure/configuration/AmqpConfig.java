@@ -1,10 +1,15 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CacheInvalidationQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEvents;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +31,39 @@ public class AmqpConfig {
     return new QueueProperties();
   }
 
+  @Bean
+  @ConfigurationProperties("amqp.queues.cache-invalidation")
+  @CacheInvalidationQueue
+  public QueueProperties cacheInvalidationQueueProperties() {
+    return new QueueProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("amqp.listeners.video-encoded")
+  @VideoEncodedQueue
+  public ListenerProperties videoEncodedListenerProperties() {
+    return new ListenerProperties();
+  }
+
+  /**
+   * Delivers the encoder results in batches of up to {@code batch-size} messages, waiting at most
+   * {@code receive-timeout} milliseconds for a batch to fill.
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory videoEncodedListenerFactory(
+      final ObjectProvider<ConnectionFactory> connectionFactory,
+      @VideoEncodedQueue final ListenerProperties props) {
+    final var factory = new SimpleRabbitListenerContainerFactory();
+    connectionFactory.ifAvailable(factory::setConnectionFactory);
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(props.getBatchSize());
+    factory.setConcurrentConsumers(props.getConcurrency());
+    factory.setPrefetchCount(props.getPrefetch());
+    factory.setReceiveTimeout(props.getReceiveTimeout());
+    return factory;
+  }
+
   @Configuration
   static class Admin {
 
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.amqp.CacheInvalidationListener;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CacheInvalidationQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import java.util.List;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Spreads the gateway cache invalidations over a fanout exchange, each node consuming them from its
+ * own auto-delete queue. The node queue can not be provisioned beforehand, so it is declared by an
+ * admin of its own that declares nothing else, whatever {@code amqp.admin.auto-create} says.
+ */
+@Configuration
+@Profile({"!development & !test-integration & !test-e2e"})
+@ConditionalOnProperty(name = "cache.gateways.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+  /** Declaring an admin hides the one Spring Boot declares, so it is declared here instead. */
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "spring.rabbitmq.dynamic", matchIfMissing = true)
+  public RabbitAdmin amqpAdmin(final ConnectionFactory connectionFactory) {
+    return new RabbitAdmin(connectionFactory);
+  }
+
+  @Bean
+  @CacheInvalidationQueue
+  public RabbitAdmin cacheInvalidationAdmin(final ConnectionFactory connectionFactory) {
+    final var admin = new RabbitAdmin(connectionFactory);
+    admin.setExplicitDeclarationsOnly(true);
+    return admin;
+  }
+
+  @Bean
+  @CacheInvalidationQueue
+  public FanoutExchange cacheInvalidationExchange(
+      @CacheInvalidationQueue final QueueProperties props,
+      @CacheInvalidationQueue final RabbitAdmin admin) {
+    final var exchange = new FanoutExchange(props.getExchange());
+    exchange.setAdminsThatShouldDeclare(admin);
+    return exchange;
+  }
+
+  @Bean
+  @CacheInvalidationQueue
+  public AnonymousQueue cacheInvalidationQueue(
+      @CacheInvalidationQueue final QueueProperties props,
+      @CacheInvalidationQueue final RabbitAdmin admin) {
+    final var queue = new AnonymousQueue(new Base64UrlNamingStrategy(props.getQueue()));
+    queue.setAdminsThatShouldDeclare(admin);
+    return queue;
+  }
+
+  @Bean
+  @CacheInvalidationQueue
+  public Binding cacheInvalidationBinding(
+      @CacheInvalidationQueue final FanoutExchange exchange,
+      @CacheInvalidationQueue final AnonymousQueue queue,
+      @CacheInvalidationQueue final RabbitAdmin admin) {
+    final var binding = BindingBuilder.bind(queue).to(exchange);
+    binding.setAdminsThatShouldDeclare(admin);
+    return binding;
+  }
+
+  /** Hands the pending invalidations over in batches, so repeated ones are applied once. */
+  @Bean
+  public SimpleRabbitListenerContainerFactory cacheInvalidationListenerFactory(
+      final ConnectionFactory connectionFactory) {
+    final var factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(100);
+    factory.setReceiveTimeout(100L);
+    return factory;
+  }
+
+  @Bean
+  public CacheInvalidationListener cacheInvalidationListener(final List<GatewayCache<?>> caches) {
+    return new CacheInvalidationListener(caches);
+  }
+}
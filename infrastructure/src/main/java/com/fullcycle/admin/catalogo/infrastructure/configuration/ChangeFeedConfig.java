@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class ChangeFeedConfig {
+
+  @Bean
+  public ChangeFeed changeFeed(
+      final DataSource dataSource,
+      final PlatformTransactionManager transactionManager,
+      @Value("${persistence.binary-ids:false}") final boolean binaryIds,
+      @Value("${feed.settle-time:2s}") final Duration settleTime,
+      @Value("${feed.max-limit:1000}") final int maxLimit) {
+    return new ChangeFeed(
+        dataSource, transactionManager, IdStorage.of(binaryIds), settleTime, maxLimit);
+  }
+}
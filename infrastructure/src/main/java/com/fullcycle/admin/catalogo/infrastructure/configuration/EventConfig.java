@@ -1,8 +1,11 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CacheInvalidationQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.OutboxEventService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryEventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
@@ -25,7 +28,23 @@ public class EventConfig {
   @VideoCreatedQueue
   @ConditionalOnMissingBean
   EventService videoCreatedEventService(
-      @VideoCreatedQueue final QueueProperties props, final RabbitOperations ops) {
+      @VideoCreatedQueue final QueueProperties props, final OutboxEventRepository repository) {
+    return new OutboxEventService(props.getExchange(), props.getRoutingKey(), repository);
+  }
+
+  @Bean
+  @CacheInvalidationQueue
+  @Profile({"development", "test-integration", "test-e2e"})
+  EventService localCacheInvalidationEventService() {
+    return new InMemoryEventService();
+  }
+
+  /** Published straight away, an invalidation lost with a rolled back write only costs a reload. */
+  @Bean
+  @CacheInvalidationQueue
+  @Profile({"!development & !test-integration & !test-e2e"})
+  EventService cacheInvalidationEventService(
+      @CacheInvalidationQueue final QueueProperties props, final RabbitOperations ops) {
     return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
   }
 }
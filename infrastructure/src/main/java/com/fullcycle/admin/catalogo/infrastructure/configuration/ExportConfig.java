@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class ExportConfig {
+
+  @Bean
+  public JdbcExporter jdbcExporter(
+      final DataSource dataSource,
+      final PlatformTransactionManager transactionManager,
+      @Value("${persistence.binary-ids:false}") final boolean binaryIds,
+      @Value("${export.fetch-size:1000}") final int fetchSize) {
+    return new JdbcExporter(dataSource, transactionManager, IdStorage.of(binaryIds), fetchSize);
+  }
+}
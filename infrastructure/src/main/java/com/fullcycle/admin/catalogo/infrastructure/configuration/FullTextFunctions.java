@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes MySQL's {@code MATCH ... AGAINST} to JPQL and criteria queries. The functions return the
+ * relevance of the row, which is {@code 0} when it does not match.
+ */
+public class FullTextFunctions implements MetadataBuilderContributor {
+
+  @Override
+  public void contribute(final MetadataBuilder metadataBuilder) {
+    metadataBuilder.applySqlFunction(
+        "match_against",
+        new SQLFunctionTemplate(
+            StandardBasicTypes.DOUBLE, "match (?1) against (?2 in boolean mode)"));
+    metadataBuilder.applySqlFunction(
+        "match_against_2",
+        new SQLFunctionTemplate(
+            StandardBasicTypes.DOUBLE, "match (?1, ?2) against (?3 in boolean mode)"));
+  }
+}
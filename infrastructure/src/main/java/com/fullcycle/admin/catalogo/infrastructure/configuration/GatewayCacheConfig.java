@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.CachedCastMemberGateway;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CacheInvalidationQueue;
+import com.fullcycle.admin.catalogo.infrastructure.genre.CachedGenreGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.video.CachedVideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.video.DefaultVideoGateway;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Puts a read-through cache of the lookups by id in front of each gateway. The cached gateways are
+ * primary, so they are the ones injected wherever a domain gateway is asked for. Writes are
+ * announced to the other nodes on {@code amqp.queues.cache-invalidation}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.gateways.enabled", havingValue = "true", matchIfMissing = true)
+public class GatewayCacheConfig {
+
+  private final long maximumSize;
+
+  private final EventService invalidations;
+
+  public GatewayCacheConfig(
+      @Value("${cache.gateways.maximum-size:10000}") final long maximumSize,
+      @CacheInvalidationQueue final EventService invalidations) {
+    this.maximumSize = maximumSize;
+    this.invalidations = invalidations;
+  }
+
+  @Bean
+  public GatewayCache<Category> categoryCache(
+      @Value("${cache.gateways.ttl.category:10m}") final Duration ttl) {
+    return new GatewayCache<>(
+        "category",
+        ttl,
+        this.maximumSize,
+        Category::with,
+        Category::getVersion,
+        this.invalidations);
+  }
+
+  @Bean
+  public GatewayCache<Genre> genreCache(
+      @Value("${cache.gateways.ttl.genre:10m}") final Duration ttl) {
+    return new GatewayCache<>(
+        "genre", ttl, this.maximumSize, Genre::with, Genre::getVersion, this.invalidations);
+  }
+
+  @Bean
+  public GatewayCache<CastMember> castMemberCache(
+      @Value("${cache.gateways.ttl.cast-member:10m}") final Duration ttl) {
+    return new GatewayCache<>(
+        "castMember",
+        ttl,
+        this.maximumSize,
+        CastMember::with,
+        CastMember::getVersion,
+        this.invalidations);
+  }
+
+  @Bean
+  public GatewayCache<Video> videoCache(
+      @Value("${cache.gateways.ttl.video:1m}") final Duration ttl) {
+    return new GatewayCache<>(
+        "video", ttl, this.maximumSize, Video::with, Video::getVersion, this.invalidations);
+  }
+
+  @Bean
+  @Primary
+  public CategoryGateway cachedCategoryGateway(
+      final CategoryMySQLGateway categoryGateway, final GatewayCache<Category> categoryCache) {
+    return new CachedCategoryGateway(categoryGateway, categoryCache);
+  }
+
+  @Bean
+  @Primary
+  public GenreGateway cachedGenreGateway(
+      final GenreMySQLGateway genreGateway, final GatewayCache<Genre> genreCache) {
+    return new CachedGenreGateway(genreGateway, genreCache);
+  }
+
+  @Bean
+  @Primary
+  public CastMemberGateway cachedCastMemberGateway(
+      final CastMemberMySQLGateway castMemberGateway,
+      final GatewayCache<CastMember> castMemberCache) {
+    return new CachedCastMemberGateway(castMemberGateway, castMemberCache);
+  }
+
+  @Bean
+  @Primary
+  public VideoGateway cachedVideoGateway(
+      final DefaultVideoGateway videoGateway, final GatewayCache<Video> videoCache) {
+    return new CachedVideoGateway(videoGateway, videoCache);
+  }
+}
@@ -5,13 +5,17 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.goog
 import com.google.api.gax.retrying.RetrySettings;
 import com.google.auth.Credentials;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.NoCredentials;
 import com.google.cloud.http.HttpTransportOptions;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,7 +38,13 @@ public class GoogleCloudConfig {
   }
 
   @Bean
-  public Credentials credentials(final GoogleCloudProperties props) throws IOException {
+  public Credentials credentials(
+      final GoogleCloudProperties props, final GoogleStorageProperties storageConfig)
+      throws IOException {
+    if (storageConfig.getHost() != null) {
+      return NoCredentials.getInstance();
+    }
+
     final var jsonBin = Base64.getDecoder().decode(Objects.requireNonNull(props.getCredentials()));
 
     return GoogleCredentials.fromStream(new ByteArrayInputStream(jsonBin));
@@ -60,12 +70,24 @@ public class GoogleCloudConfig {
             .setRetryDelayMultiplier(storageConfig.getRetryMultiplier())
             .build();
 
-    return StorageOptions.newBuilder()
-        .setCredentials(credentials)
-        .setProjectId(cloudConfig.getProjectId())
-        .setTransportOptions(transportOptions)
-        .setRetrySettings(retry)
-        .build()
-        .getService();
+    final var options =
+        StorageOptions.newBuilder()
+            .setCredentials(credentials)
+            .setProjectId(cloudConfig.getProjectId())
+            .setTransportOptions(transportOptions)
+            .setRetrySettings(retry);
+
+    if (storageConfig.getHost() != null) {
+      options.setHost(storageConfig.getHost());
+    }
+
+    return options.build().getService();
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService storageUploadExecutor(final GoogleStorageProperties storageConfig) {
+    final var threads =
+        new ThreadFactoryBuilder().setNameFormat("gcs-upload-%d").setDaemon(true).build();
+    return Executors.newFixedThreadPool(storageConfig.getUploadParallelism(), threads);
   }
 }
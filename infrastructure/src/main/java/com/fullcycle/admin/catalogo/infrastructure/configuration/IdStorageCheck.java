@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails the startup when {@code persistence.binary-ids} does not match how the schema keeps the
+ * ids. The {@code BINARY(16)} columns come from {@code flywayMigrateBinaryIds}, a sequence apart
+ * from the main one, so one could be switched without the other, and the ids would then be bound
+ * as text to byte columns, or the other way round, matching nothing. A schema not migrated yet is
+ * not checked.
+ */
+@Component
+public class IdStorageCheck implements SmartInitializingSingleton {
+
+  private final DataSource dataSource;
+
+  private final boolean binaryIds;
+
+  public IdStorageCheck(
+      final DataSource dataSource,
+      @Value("${persistence.binary-ids:false}") final boolean binaryIds) {
+    this.dataSource = dataSource;
+    this.binaryIds = binaryIds;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    try (final var conn = this.dataSource.getConnection();
+        final var columns =
+            conn.getMetaData()
+                .getColumns(conn.getCatalog(), conn.getSchema(), "categories", "id")) {
+      if (!columns.next()) {
+        return;
+      }
+
+      final var type = columns.getInt("DATA_TYPE");
+      final var binary = type == Types.BINARY || type == Types.VARBINARY;
+      if (binary != this.binaryIds) {
+        throw new IllegalStateException(
+            "The ids are stored as %s but persistence.binary-ids is %s, %s"
+                .formatted(
+                    columns.getString("TYPE_NAME"),
+                    this.binaryIds,
+                    binary
+                        ? "set it to true"
+                        : "run flywayMigrateBinaryIds or set it to false"));
+      }
+    } catch (final SQLException e) {
+      throw new IllegalStateException("Could not read how the ids are stored", e);
+    }
+  }
+}
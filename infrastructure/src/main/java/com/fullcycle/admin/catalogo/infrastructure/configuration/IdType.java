@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.StringTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarcharTypeDescriptor;
+
+/**
+ * The Hibernate type of the id columns, {@code @Type(type = IdType.NAME)}. The ids are strings in
+ * the entities and are stored as they are, or as the bytes they encode when the {@value
+ * #BINARY_IDS} setting is {@code true}. It is contributed through {@code
+ * META-INF/services/org.hibernate.boot.model.TypeContributor}, so every persistence unit has it.
+ */
+public class IdType extends AbstractSingleColumnStandardBasicType<String> {
+
+  public static final String NAME = "id";
+
+  public static final String BINARY_IDS = "catalogo.binary-ids";
+
+  private IdType(final SqlTypeDescriptor sqlType, final JavaTypeDescriptor<String> javaType) {
+    super(sqlType, javaType);
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  public static class Contributor implements TypeContributor {
+
+    @Override
+    public void contribute(
+        final TypeContributions typeContributions, final ServiceRegistry serviceRegistry) {
+      final var binary =
+          serviceRegistry
+              .getService(ConfigurationService.class)
+              .getSetting(BINARY_IDS, StandardConverters.BOOLEAN, false);
+      typeContributions.contributeType(
+          binary
+              ? new IdType(BinaryTypeDescriptor.INSTANCE, HexTypeDescriptor.INSTANCE)
+              : new IdType(VarcharTypeDescriptor.INSTANCE, StringTypeDescriptor.INSTANCE));
+    }
+  }
+
+  /** Hex strings in the entities, their bytes in the statements. */
+  private static class HexTypeDescriptor extends AbstractTypeDescriptor<String> {
+
+    private static final HexTypeDescriptor INSTANCE = new HexTypeDescriptor();
+
+    private HexTypeDescriptor() {
+      super(String.class);
+    }
+
+    @Override
+    public String toString(final String value) {
+      return value;
+    }
+
+    @Override
+    public String fromString(final String string) {
+      return string;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+      if (value == null) {
+        return null;
+      }
+      if (byte[].class.isAssignableFrom(type)) {
+        return (X) IdStorage.toBytes(value);
+      }
+      if (String.class.isAssignableFrom(type)) {
+        return (X) value;
+      }
+      throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(final X value, final WrapperOptions options) {
+      if (value == null) {
+        return null;
+      }
+      if (value instanceof byte[] bytes) {
+        return IdStorage.toHex(bytes);
+      }
+      if (value instanceof String string) {
+        return string;
+      }
+      throw unknownWrap(value.getClass());
+    }
+  }
+}
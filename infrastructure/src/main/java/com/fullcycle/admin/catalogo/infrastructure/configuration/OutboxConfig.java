@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.outbox.OutboxRelayProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@Profile({"!development & !test-integration"})
+public class OutboxConfig {
+
+  @Bean
+  @ConfigurationProperties("outbox.relay")
+  public OutboxRelayProperties outboxRelayProperties() {
+    return new OutboxRelayProperties();
+  }
+
+  @Bean
+  public OutboxRelay outboxRelay(
+      final OutboxRelayProperties props,
+      final OutboxEventRepository repository,
+      final RabbitOperations ops,
+      final PlatformTransactionManager transactionManager) {
+    return new OutboxRelay(
+        repository,
+        ops,
+        new TransactionTemplate(transactionManager),
+        props.getBatchSize(),
+        props.getConfirmTimeout());
+  }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Replaces the single pool of {@code spring.datasource} by two: that one, for the primary, and
+ * the one of {@code persistence.replica}, which answers the read-only transactions while the
+ * replica keeps up. The primary data source is the routing one, so it is the one JPA, Flyway and
+ * the JDBC templates get.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "persistence.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("persistence.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      final DataSourceProperties properties,
+      @Value("${persistence.replica.url}") final String url,
+      @Value("${persistence.replica.username:${spring.datasource.username}}")
+          final String username,
+      @Value("${persistence.replica.password:${spring.datasource.password}}")
+          final String password) {
+    return DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .driverClassName(properties.determineDriverClassName())
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+      @Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+      @Value("${persistence.replica.lag-query:SHOW REPLICA STATUS}") final String lagQuery,
+      @Value("${persistence.replica.max-lag:5s}") final Duration maxLag) {
+    return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagQuery, maxLag);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+}
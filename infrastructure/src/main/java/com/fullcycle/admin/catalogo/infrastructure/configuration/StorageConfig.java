@@ -6,6 +6,8 @@ import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -29,7 +31,15 @@ public class StorageConfig {
 
   @Bean
   @ConditionalOnMissingBean
-  public StorageService gcStorageAPI(final GoogleStorageProperties props, final Storage storage) {
-    return new GCStorageService(props.getBucket(), storage);
+  public StorageService gcStorageAPI(
+      final GoogleStorageProperties props,
+      final Storage storage,
+      @Qualifier("storageUploadExecutor") final ExecutorService storageUploadExecutor) {
+    return new GCStorageService(
+        props.getBucket(),
+        storage,
+        props.getUploadPartSize(),
+        props.getUploadParallelism(),
+        storageUploadExecutor);
   }
 }
@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ListenerProperties implements InitializingBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+
+  private int batchSize;
+  private int concurrency;
+  private int prefetch;
+  private long receiveTimeout;
+
+  public ListenerProperties() {}
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public ListenerProperties setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public ListenerProperties setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  public int getPrefetch() {
+    return prefetch;
+  }
+
+  public ListenerProperties setPrefetch(int prefetch) {
+    this.prefetch = prefetch;
+    return this;
+  }
+
+  public long getReceiveTimeout() {
+    return receiveTimeout;
+  }
+
+  public ListenerProperties setReceiveTimeout(long receiveTimeout) {
+    this.receiveTimeout = receiveTimeout;
+    return this;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    if (prefetch < batchSize) {
+      log.warn("Prefetch {} is lower than batch size {}, batches won't fill", prefetch, batchSize);
+    }
+    log.info(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "ListenerProperties{"
+        + "batchSize="
+        + batchSize
+        + ", concurrency="
+        + concurrency
+        + ", prefetch="
+        + prefetch
+        + ", receiveTimeout="
+        + receiveTimeout
+        + '}';
+  }
+}
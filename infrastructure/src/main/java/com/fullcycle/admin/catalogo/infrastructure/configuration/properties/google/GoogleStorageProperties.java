@@ -9,12 +9,15 @@ public class GoogleStorageProperties implements InitializingBean {
   private static final Logger log = LoggerFactory.getLogger(GoogleStorageProperties.class);
 
   private String bucket;
+  private String host;
   private int connectTimeout;
   private int readTimeout;
   private int retryDelay;
   private int retryMaxDelay;
   private int retryMaxAttempts;
   private double retryMultiplier;
+  private int uploadPartSize;
+  private int uploadParallelism;
 
   public GoogleStorageProperties() {}
 
@@ -27,6 +30,15 @@ public class GoogleStorageProperties implements InitializingBean {
     return this;
   }
 
+  public String getHost() {
+    return host;
+  }
+
+  public GoogleStorageProperties setHost(String host) {
+    this.host = host;
+    return this;
+  }
+
   public int getConnectTimeout() {
     return connectTimeout;
   }
@@ -81,6 +93,24 @@ public class GoogleStorageProperties implements InitializingBean {
     return this;
   }
 
+  public int getUploadPartSize() {
+    return uploadPartSize;
+  }
+
+  public GoogleStorageProperties setUploadPartSize(int uploadPartSize) {
+    this.uploadPartSize = uploadPartSize;
+    return this;
+  }
+
+  public int getUploadParallelism() {
+    return uploadParallelism;
+  }
+
+  public GoogleStorageProperties setUploadParallelism(int uploadParallelism) {
+    this.uploadParallelism = uploadParallelism;
+    return this;
+  }
+
   @Override
   public void afterPropertiesSet() {
     log.debug(toString());
@@ -92,6 +122,9 @@ public class GoogleStorageProperties implements InitializingBean {
         + "bucket='"
         + bucket
         + '\''
+        + ", host='"
+        + host
+        + '\''
         + ", connectTimeout="
         + connectTimeout
         + ", readTimeout="
@@ -104,6 +137,10 @@ public class GoogleStorageProperties implements InitializingBean {
         + retryMaxAttempts
         + ", retryMultiplier="
         + retryMultiplier
+        + ", uploadPartSize="
+        + uploadPartSize
+        + ", uploadParallelism="
+        + uploadParallelism
         + '}';
   }
 }
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class OutboxRelayProperties implements InitializingBean {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelayProperties.class);
+
+  private long fixedDelay;
+  private int batchSize;
+  private long confirmTimeout;
+
+  public OutboxRelayProperties() {}
+
+  public long getFixedDelay() {
+    return fixedDelay;
+  }
+
+  public OutboxRelayProperties setFixedDelay(long fixedDelay) {
+    this.fixedDelay = fixedDelay;
+    return this;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public OutboxRelayProperties setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public long getConfirmTimeout() {
+    return confirmTimeout;
+  }
+
+  public OutboxRelayProperties setConfirmTimeout(long confirmTimeout) {
+    this.confirmTimeout = confirmTimeout;
+    return this;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    log.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "OutboxRelayProperties{"
+        + "fixedDelay="
+        + fixedDelay
+        + ", batchSize="
+        + batchSize
+        + ", confirmTimeout="
+        + confirmTimeout
+        + '}';
+  }
+}
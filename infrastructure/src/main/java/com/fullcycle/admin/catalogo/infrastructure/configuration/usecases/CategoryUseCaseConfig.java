@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 
+import com.fullcycle.admin.catalogo.application.category.create.DefaultBulkCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
@@ -29,6 +31,11 @@ public class CategoryUseCaseConfig {
     return new DefaultCreateCategoryUseCase(categoryGateway);
   }
 
+  @Bean
+  public BulkCreateCategoryUseCase bulkCreateCategoryUseCase() {
+    return new DefaultBulkCreateCategoryUseCase(categoryGateway);
+  }
+
   @Bean
   public UpdateCategoryUseCase updateCategoryUseCase() {
     return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.genre.create.BulkCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultBulkCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -34,6 +36,11 @@ public class GenreUseCaseConfig {
     return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
   }
 
+  @Bean
+  public BulkCreateGenreUseCase bulkCreateGenreUseCase() {
+    return new DefaultBulkCreateGenreUseCase(categoryGateway, genreGateway);
+  }
+
   @Bean
   public DeleteGenreUseCase deleteGenreUseCase() {
     return new DefaultDeleteGenreUseCase(genreGateway);
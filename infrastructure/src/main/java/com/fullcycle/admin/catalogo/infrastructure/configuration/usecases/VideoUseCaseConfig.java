@@ -1,11 +1,15 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.video.create.BulkCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.create.DefaultBulkCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.DefaultBatchUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
@@ -21,7 +25,14 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -48,9 +59,53 @@ public class VideoUseCaseConfig {
   }
 
   @Bean
-  public CreateVideoUseCase createVideoUseCase() {
+  public CreateVideoUseCase createVideoUseCase(final ExecutorService videoMediaExecutor) {
     return new DefaultCreateVideoUseCase(
-        categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+        categoryGateway,
+        castMemberGateway,
+        genreGateway,
+        mediaResourceGateway,
+        videoGateway,
+        videoMediaExecutor);
+  }
+
+  @Bean
+  public BulkCreateVideoUseCase bulkCreateVideoUseCase() {
+    return new DefaultBulkCreateVideoUseCase(
+        categoryGateway, castMemberGateway, genreGateway, videoGateway);
+  }
+
+  /**
+   * Stores the media of the videos being created. Once {@code queueCapacity} uploads are waiting,
+   * the request thread waits for room before queueing the next one, which holds back the requests
+   * while its uploads still run in parallel and can be cancelled.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService videoMediaExecutor(
+      @Value("${video.media-executor.threads:20}") final int threads,
+      @Value("${video.media-executor.queue-capacity:100}") final int queueCapacity) {
+    final var threadFactory =
+        new ThreadFactoryBuilder().setNameFormat("video-media-%d").setDaemon(true).build();
+    return new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        threadFactory,
+        VideoUseCaseConfig::awaitRoom);
+  }
+
+  private static void awaitRoom(final Runnable task, final ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("The video media executor is shut down");
+    }
+    try {
+      executor.getQueue().put(task);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting to store a media", e);
+    }
   }
 
   @Bean
@@ -88,4 +143,9 @@ public class VideoUseCaseConfig {
   public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
     return new DefaultUpdateMediaStatusUseCase(videoGateway);
   }
+
+  @Bean
+  public BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase() {
+    return new DefaultBatchUpdateMediaStatusUseCase(videoGateway);
+  }
 }
@@ -0,0 +1,252 @@
+package com.fullcycle.admin.catalogo.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.export.naming.SelfNaming;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands the connections of read-only transactions out of the replica pool, and every other one out
+ * of the primary pool. The replica is only used while the last {@link #checkReplicationLag} found
+ * it at most {@code maxLag} behind: until the first check, while the lag is unknown or above it,
+ * and once the replica refuses a connection, the reads go to the primary instead. The routing
+ * counts and the state of both pools are published over JMX as
+ * {@code com.fullcycle.admin.catalogo:type=ReplicaRoutingDataSource}.
+ *
+ * <p>The pool is picked when the connection is acquired, so this must sit behind a {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction managers ask
+ * for a connection before the transaction is marked read-only.
+ *
+ * <p>A replica may not have the writes of the last {@code maxLag} yet. Reads whose result outlives
+ * the request, or that a write relies on, run {@link #onPrimary}.
+ */
+@ManagedResource
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements SelfNaming {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+  private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+  private static final List<String> LAG_COLUMNS =
+      List.of("seconds_behind_source", "seconds_behind_master");
+
+  private enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private final HikariDataSource primary;
+
+  private final HikariDataSource replica;
+
+  private final String lagQuery;
+
+  private final Duration maxLag;
+
+  private final LongAdder primaryConnections = new LongAdder();
+
+  private final LongAdder replicaConnections = new LongAdder();
+
+  private final LongAdder fallbackConnections = new LongAdder();
+
+  private volatile boolean replicaAvailable;
+
+  private volatile long replicationLag = -1;
+
+  private boolean lagUnreadable;
+
+  public ReplicaRoutingDataSource(
+      final HikariDataSource primary,
+      final HikariDataSource replica,
+      final String lagQuery,
+      final Duration maxLag) {
+    this.primary = Objects.requireNonNull(primary);
+    this.replica = Objects.requireNonNull(replica);
+    this.lagQuery = Objects.requireNonNull(lagQuery);
+    this.maxLag = Objects.requireNonNull(maxLag);
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  /**
+   * Runs {@code action} with the read-only transactions it starts answered by the primary. It has
+   * no effect on a transaction that already holds a connection.
+   */
+  public static <T> T onPrimary(final Supplier<T> action) {
+    if (PINNED.get() != null) {
+      return action.get();
+    }
+
+    PINNED.set(Boolean.TRUE);
+    try {
+      return action.get();
+    } finally {
+      PINNED.remove();
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return this.replicaAvailable && replicaRead() ? Route.REPLICA : Route.PRIMARY;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (determineCurrentLookupKey() == Route.REPLICA) {
+      try {
+        final var connection = this.replica.getConnection();
+        this.replicaConnections.increment();
+        return connection;
+      } catch (final SQLException e) {
+        this.replicaAvailable = false;
+        log.warn("Replica refused a connection, reading from the primary until the next check", e);
+      }
+    }
+
+    final var connection = this.primary.getConnection();
+    if (replicaRead()) {
+      this.fallbackConnections.increment();
+    } else {
+      this.primaryConnections.increment();
+    }
+    return connection;
+  }
+
+  /**
+   * Reads how far behind the replica is with {@code lagQuery}, from its {@code
+   * Seconds_Behind_Source} or {@code Seconds_Behind_Master} column, or else its first one. No row,
+   * a null lag, as while replication is stopped, or a failure make the reads go to the primary.
+   * Only the first of a run of failures is logged as a warning, the rest at debug.
+   */
+  @Scheduled(fixedDelayString = "${persistence.replica.lag-check-interval:1000}")
+  public void checkReplicationLag() {
+    final var lag = readReplicationLag();
+    final var available = lag >= 0 && lag <= this.maxLag.toSeconds();
+    if (available != this.replicaAvailable) {
+      log.info(
+          "Replica lag is {} seconds, reading from the {}", lag, available ? "replica" : "primary");
+    }
+    this.replicationLag = lag;
+    this.replicaAvailable = available;
+  }
+
+  private long readReplicationLag() {
+    try (final var connection = this.replica.getConnection();
+        final var statement = connection.createStatement();
+        final var rs = statement.executeQuery(this.lagQuery)) {
+      this.lagUnreadable = false;
+      if (!rs.next()) {
+        return -1;
+      }
+      final var lag = rs.getLong(lagColumn(rs.getMetaData()));
+      return rs.wasNull() ? -1 : lag;
+    } catch (final SQLException e) {
+      if (this.lagUnreadable) {
+        log.debug("Could not read the replication lag: {}", e.getMessage());
+      } else {
+        log.warn("Could not read the replication lag, reading from the primary", e);
+      }
+      this.lagUnreadable = true;
+      return -1;
+    }
+  }
+
+  private static int lagColumn(final ResultSetMetaData metadata) throws SQLException {
+    for (int column = 1; column <= metadata.getColumnCount(); column++) {
+      if (LAG_COLUMNS.contains(metadata.getColumnLabel(column).toLowerCase(Locale.ROOT))) {
+        return column;
+      }
+    }
+    return 1;
+  }
+
+  private static boolean replicaRead() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && PINNED.get() == null;
+  }
+
+  @ManagedAttribute(description = "Whether read-only transactions are answered by the replica")
+  public boolean isReplicaAvailable() {
+    return this.replicaAvailable;
+  }
+
+  @ManagedAttribute(description = "Seconds the replica was behind at the last check, -1 if unknown")
+  public long getReplicationLag() {
+    return this.replicationLag;
+  }
+
+  @ManagedAttribute(description = "Connections of writes and reads pinned to the primary")
+  public long getPrimaryConnectionCount() {
+    return this.primaryConnections.sum();
+  }
+
+  @ManagedAttribute(description = "Connections of read-only transactions given by the replica")
+  public long getReplicaConnectionCount() {
+    return this.replicaConnections.sum();
+  }
+
+  @ManagedAttribute(description = "Connections of read-only transactions the primary stood in for")
+  public long getFallbackConnectionCount() {
+    return this.fallbackConnections.sum();
+  }
+
+  @ManagedAttribute(description = "Connections in use in the primary pool")
+  public int getPrimaryActiveConnections() {
+    return pool(this.primary, HikariPoolMXBean::getActiveConnections);
+  }
+
+  @ManagedAttribute(description = "Idle connections in the primary pool")
+  public int getPrimaryIdleConnections() {
+    return pool(this.primary, HikariPoolMXBean::getIdleConnections);
+  }
+
+  @ManagedAttribute(description = "Threads waiting for a connection of the primary pool")
+  public int getPrimaryThreadsAwaitingConnection() {
+    return pool(this.primary, HikariPoolMXBean::getThreadsAwaitingConnection);
+  }
+
+  @ManagedAttribute(description = "Connections in use in the replica pool")
+  public int getReplicaActiveConnections() {
+    return pool(this.replica, HikariPoolMXBean::getActiveConnections);
+  }
+
+  @ManagedAttribute(description = "Idle connections in the replica pool")
+  public int getReplicaIdleConnections() {
+    return pool(this.replica, HikariPoolMXBean::getIdleConnections);
+  }
+
+  @ManagedAttribute(description = "Threads waiting for a connection of the replica pool")
+  public int getReplicaThreadsAwaitingConnection() {
+    return pool(this.replica, HikariPoolMXBean::getThreadsAwaitingConnection);
+  }
+
+  private static int pool(
+      final HikariDataSource aPool, final ToIntFunction<HikariPoolMXBean> metric) {
+    // Null until the pool hands out its first connection
+    final var bean = aPool.getHikariPoolMXBean();
+    return bean == null ? 0 : metric.applyAsInt(bean);
+  }
+
+  @Override
+  public ObjectName getObjectName() throws MalformedObjectNameException {
+    return new ObjectName("com.fullcycle.admin.catalogo:type=ReplicaRoutingDataSource");
+  }
+}
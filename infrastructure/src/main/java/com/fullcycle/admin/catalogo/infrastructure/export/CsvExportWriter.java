@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Writes RFC 4180 records. The ids of a relation share one field, separated by {@code |}. */
+class CsvExportWriter implements ExportWriter {
+
+  private static final String LINE_BREAK = "\r\n";
+
+  private final BufferedWriter writer;
+
+  CsvExportWriter(final OutputStream output, final List<String> columns) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    this.writer.append(String.join(",", columns)).append(LINE_BREAK);
+  }
+
+  @Override
+  public void write(final Object[] row) throws IOException {
+    for (int i = 0; i < row.length; i++) {
+      if (i > 0) {
+        this.writer.write(',');
+      }
+      this.writer.write(field(row[i]));
+    }
+    this.writer.write(LINE_BREAK);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    this.writer.flush();
+  }
+
+  private static String field(final Object value) {
+    if (value == null) {
+      return "";
+    }
+
+    final String text;
+    if (value instanceof Collection<?> ids) {
+      text = ids.stream().map(String::valueOf).collect(Collectors.joining("|"));
+    } else if (value instanceof BigDecimal number) {
+      text = number.toPlainString();
+    } else {
+      text = value.toString();
+    }
+
+    if (text.chars().anyMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+      return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    return text;
+  }
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A column of an export. Plain columns are read from the row by their label, id columns as {@link
+ * IdStorage} keeps them; relation columns are filled afterwards with the ids returned by {@code
+ * relationQuery} for each fetch of rows.
+ */
+public record ExportColumn(String name, Reader reader, String relationQuery) {
+
+  @FunctionalInterface
+  public interface Reader {
+    Object read(ResultSet rs, String label) throws SQLException;
+  }
+
+  public static ExportColumn id(final String aName) {
+    return new ExportColumn(aName, null, null);
+  }
+
+  public static ExportColumn text(final String aName) {
+    return new ExportColumn(aName, ResultSet::getString, null);
+  }
+
+  public static ExportColumn bool(final String aName) {
+    return new ExportColumn(aName, ResultSet::getBoolean, null);
+  }
+
+  public static ExportColumn number(final String aName) {
+    return new ExportColumn(aName, ResultSet::getBigDecimal, null);
+  }
+
+  public static ExportColumn instant(final String aName) {
+    return new ExportColumn(
+        aName,
+        (rs, label) -> {
+          final var timestamp = rs.getTimestamp(label);
+          return timestamp != null ? timestamp.toInstant() : null;
+        },
+        null);
+  }
+
+  /**
+   * Ids related to each row. The query receives the ids of the rows as {@code :ids} and must
+   * select the row id followed by the related id.
+   */
+  public static ExportColumn ids(final String aName, final String aRelationQuery) {
+    return new ExportColumn(aName, null, aRelationQuery);
+  }
+
+  public boolean isId() {
+    return reader == null && relationQuery == null;
+  }
+
+  public boolean isRelation() {
+    return relationQuery != null;
+  }
+}
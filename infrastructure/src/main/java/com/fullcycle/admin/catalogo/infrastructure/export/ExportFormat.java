@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.http.MediaType;
+
+/** How the rows of an export are written to the response. */
+public enum ExportFormat {
+  /** One JSON object per row, keyed by column. */
+  NDJSON(MediaType.APPLICATION_NDJSON) {
+    @Override
+    ExportWriter writer(final OutputStream output, final List<String> columns)
+        throws IOException {
+      return new NdjsonExportWriter(output, columns);
+    }
+  },
+  /** A header line followed by one RFC 4180 record per row. */
+  CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+    @Override
+    ExportWriter writer(final OutputStream output, final List<String> columns)
+        throws IOException {
+      return new CsvExportWriter(output, columns);
+    }
+  };
+
+  private final MediaType mediaType;
+
+  ExportFormat(final MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  public static ExportFormat from(final String label) {
+    if (label == null || label.isBlank()) {
+      return NDJSON;
+    }
+    return Arrays.stream(ExportFormat.values())
+        .filter(it -> it.name().equalsIgnoreCase(label.trim()))
+        .findFirst()
+        .orElseThrow(
+            () -> DomainException.with(new Error("'format' must be one of ndjson or csv")));
+  }
+
+  public MediaType mediaType() {
+    return mediaType;
+  }
+
+  abstract ExportWriter writer(OutputStream output, List<String> columns) throws IOException;
+}
@@ -0,0 +1,169 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import static com.fullcycle.admin.catalogo.infrastructure.export.ExportColumn.bool;
+import static com.fullcycle.admin.catalogo.infrastructure.export.ExportColumn.id;
+import static com.fullcycle.admin.catalogo.infrastructure.export.ExportColumn.ids;
+import static com.fullcycle.admin.catalogo.infrastructure.export.ExportColumn.instant;
+import static com.fullcycle.admin.catalogo.infrastructure.export.ExportColumn.number;
+import static com.fullcycle.admin.catalogo.infrastructure.export.ExportColumn.text;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * The rows of an aggregate that are exported. The query must select the id first and a column for
+ * each plain {@link ExportColumn}, labelled by its name, and leave the row table under {@code
+ * alias} so it can be filtered. Column names follow the API responses.
+ */
+public record ExportTable(String name, String alias, String query, List<ExportColumn> columns) {
+
+  public static final ExportTable CATEGORIES =
+      new ExportTable(
+          "category",
+          "c",
+          """
+          SELECT c.id, c.name, c.description, c.active AS is_active, c.created_at, c.updated_at,
+                 c.deleted_at
+          FROM categories c
+          """,
+          List.of(
+              id("id"),
+              text("name"),
+              text("description"),
+              bool("is_active"),
+              instant("created_at"),
+              instant("updated_at"),
+              instant("deleted_at")));
+
+  public static final ExportTable GENRES =
+      new ExportTable(
+          "genre",
+          "g",
+          """
+          SELECT g.id, g.name, g.active AS is_active, g.created_at, g.updated_at, g.deleted_at
+          FROM genres g
+          """,
+          List.of(
+              id("id"),
+              text("name"),
+              ids(
+                  "categories_id",
+                  "SELECT genre_id, category_id FROM genres_categories WHERE genre_id IN (:ids)"),
+              bool("is_active"),
+              instant("created_at"),
+              instant("updated_at"),
+              instant("deleted_at")));
+
+  public static final ExportTable CAST_MEMBERS =
+      new ExportTable(
+          "cast_member",
+          "m",
+          "SELECT m.id, m.name, m.type, m.created_at, m.updated_at FROM cast_members m",
+          List.of(
+              id("id"),
+              text("name"),
+              text("type"),
+              instant("created_at"),
+              instant("updated_at")));
+
+  public static final ExportTable VIDEOS =
+      new ExportTable(
+          "video",
+          "v",
+          """
+          SELECT v.id, v.title, v.description, v.year_launched, v.duration, v.opened, v.published,
+                 v.rating, v.created_at, v.updated_at,
+                 vm.encoded_path AS video_location, vm.media_status AS video_status,
+                 tm.encoded_path AS trailer_location, tm.media_status AS trailer_status,
+                 bm.file_path AS banner_location, th.file_path AS thumbnail_location,
+                 hm.file_path AS thumbnail_half_location
+          FROM videos v
+          LEFT JOIN videos_video_media vm ON vm.id = v.video_id
+          LEFT JOIN videos_video_media tm ON tm.id = v.trailer_id
+          LEFT JOIN videos_image_media bm ON bm.id = v.banner_id
+          LEFT JOIN videos_image_media th ON th.id = v.thumbnail_id
+          LEFT JOIN videos_image_media hm ON hm.id = v.thumbnail_half_id
+          """,
+          List.of(
+              id("id"),
+              text("title"),
+              text("description"),
+              number("year_launched"),
+              number("duration"),
+              bool("opened"),
+              bool("published"),
+              text("rating"),
+              instant("created_at"),
+              instant("updated_at"),
+              text("video_location"),
+              text("video_status"),
+              text("trailer_location"),
+              text("trailer_status"),
+              text("banner_location"),
+              text("thumbnail_location"),
+              text("thumbnail_half_location"),
+              ids(
+                  "categories_id",
+                  "SELECT video_id, category_id FROM videos_categories WHERE video_id IN (:ids)"),
+              ids(
+                  "genres_id",
+                  "SELECT video_id, genre_id FROM videos_genres WHERE video_id IN (:ids)"),
+              ids(
+                  "cast_members_id",
+                  """
+                  SELECT video_id, cast_member_id FROM videos_cast_members
+                  WHERE video_id IN (:ids)
+                  """)));
+
+  public List<String> columnNames() {
+    return columns.stream().map(ExportColumn::name).toList();
+  }
+
+  /** Reads the plain columns of the current row, the relations are left to {@link #relate}. */
+  public Object[] read(final ResultSet rs, final IdStorage ids) throws SQLException {
+    final var row = new Object[columns.size()];
+    for (int i = 0; i < row.length; i++) {
+      final var aColumn = columns.get(i);
+      if (aColumn.isId()) {
+        row[i] = ids.read(rs, aColumn.name());
+      } else if (!aColumn.isRelation()) {
+        row[i] = aColumn.reader().read(rs, aColumn.name());
+      }
+    }
+    return row;
+  }
+
+  /** Fills the relation columns of the rows, with one query per relation. */
+  public void relate(
+      final NamedParameterJdbcOperations jdbc, final IdStorage ids, final List<Object[]> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    final var rowIds = ids.bind(rows.stream().map(row -> (String) row[0]).toList());
+    for (int i = 0; i < columns.size(); i++) {
+      if (columns.get(i).isRelation()) {
+        final var related = new HashMap<Object, List<String>>();
+        jdbc.query(
+            columns.get(i).relationQuery(),
+            Map.of("ids", rowIds),
+            (RowCallbackHandler)
+                rs ->
+                    related
+                        .computeIfAbsent(ids.read(rs, 1), id -> new ArrayList<>())
+                        .add(ids.read(rs, 2)));
+
+        for (final var row : rows) {
+          row[i] = related.getOrDefault(row[0], List.of());
+        }
+      }
+    }
+  }
+}
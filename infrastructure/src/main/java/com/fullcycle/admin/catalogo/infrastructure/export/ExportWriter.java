@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import java.io.IOException;
+
+/** Writes the rows of an export, buffering them until {@link #flush()}. */
+interface ExportWriter {
+
+  void write(Object[] row) throws IOException;
+
+  void flush() throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams a whole table into a response through a forward-only cursor. Rows are fetched {@code
+ * fetchSize} at a time inside a single read-only transaction, so the export is one consistent
+ * snapshot and only one fetch is held in memory, whatever the size of the catalog. The relations
+ * of each fetch are read with one query each and the response is flushed after every fetch.
+ */
+public class JdbcExporter {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate relations;
+  private final TransactionTemplate transactionTemplate;
+  private final IdStorage ids;
+  private final int fetchSize;
+
+  public JdbcExporter(
+      final DataSource dataSource,
+      final PlatformTransactionManager transactionManager,
+      final IdStorage ids,
+      final int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource));
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.relations = new NamedParameterJdbcTemplate(this.jdbcTemplate);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.ids = Objects.requireNonNull(ids);
+    this.fetchSize = fetchSize;
+  }
+
+  public StreamingResponseBody export(final ExportTable aTable, final ExportFormat aFormat) {
+    return output -> {
+      final var writer = aFormat.writer(output, aTable.columnNames());
+      try {
+        this.transactionTemplate.executeWithoutResult(status -> copy(aTable, writer));
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.flush();
+    };
+  }
+
+  private void copy(final ExportTable aTable, final ExportWriter writer) {
+    final var rows = new ArrayList<Object[]>(this.fetchSize);
+
+    this.jdbcTemplate.query(
+        aTable.query(),
+        (RowCallbackHandler)
+            rs -> {
+              rows.add(aTable.read(rs, this.ids));
+              if (rows.size() == this.fetchSize) {
+                write(aTable, rows, writer);
+              }
+            });
+    write(aTable, rows, writer);
+  }
+
+  private void write(
+      final ExportTable aTable, final List<Object[]> rows, final ExportWriter writer) {
+    aTable.relate(this.relations, this.ids, rows);
+    try {
+      for (final var row : rows) {
+        writer.write(row);
+      }
+      writer.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    rows.clear();
+  }
+}
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+class NdjsonExportWriter implements ExportWriter {
+
+  private final BufferedWriter writer;
+
+  private final List<String> columns;
+
+  NdjsonExportWriter(final OutputStream output, final List<String> columns) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    this.columns = columns;
+  }
+
+  @Override
+  public void write(final Object[] row) throws IOException {
+    final var document = new LinkedHashMap<String, Object>(row.length * 2);
+    for (int i = 0; i < row.length; i++) {
+      document.put(this.columns.get(i), row[i]);
+    }
+    this.writer.write(Json.writeValueAsString(document));
+    this.writer.write('\n');
+  }
+
+  @Override
+  public void flush() throws IOException {
+    this.writer.flush();
+  }
+}
@@ -0,0 +1,168 @@
+package com.fullcycle.admin.catalogo.infrastructure.feed;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Answers the changes of an aggregate after a cursor, ordered by {@code (updated_at, id)}, with
+ * the tombstones of the deleted ones merged in. A change is only answered once it is older than
+ * {@code settleTime}, so a transaction committing a little after it stamped its rows is not
+ * skipped by a consumer that already moved past them.
+ */
+public class ChangeFeed {
+
+  private static final String SORT = "updated_at";
+
+  private static final Comparator<Change> ORDER =
+      Comparator.comparing(Change::changedAt).thenComparing(Change::id);
+
+  private static final String TOMBSTONES =
+      """
+      SELECT t.id, t.deleted_at FROM tombstones t
+      WHERE t.aggregate = :aggregate
+        AND (t.deleted_at > :at OR (t.deleted_at = :at AND t.id > :id))
+        AND t.deleted_at <= :until
+      ORDER BY t.deleted_at, t.id
+      LIMIT :limit
+      """;
+
+  private final NamedParameterJdbcTemplate jdbc;
+  private final TransactionTemplate transactionTemplate;
+  private final IdStorage ids;
+  private final Duration settleTime;
+  private final int maxLimit;
+
+  public ChangeFeed(
+      final DataSource dataSource,
+      final PlatformTransactionManager transactionManager,
+      final IdStorage ids,
+      final Duration settleTime,
+      final int maxLimit) {
+    this.jdbc = new NamedParameterJdbcTemplate(Objects.requireNonNull(dataSource));
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.ids = Objects.requireNonNull(ids);
+    this.settleTime = Objects.requireNonNull(settleTime);
+    this.maxLimit = maxLimit;
+  }
+
+  public ChangeFeedResponse changes(
+      final ExportTable aTable, final String aCursor, final int aLimit) {
+    if (aLimit < 1) {
+      throw DomainException.with(new Error("'limit' must be greater than 0"));
+    }
+
+    final var limit = Math.min(aLimit, this.maxLimit);
+    final var after = CursorUtils.decode(aCursor, SORT, Sort.Direction.ASC);
+
+    final var params = new LinkedHashMap<String, Object>();
+    params.put("aggregate", aTable.name());
+    params.put("at", Timestamp.from(after.map(ChangeFeed::changedAt).orElse(Instant.EPOCH)));
+    params.put("id", this.ids.bind(after.map(Cursor::id).orElse("")));
+    params.put("until", Timestamp.from(InstantUtils.now().minus(this.settleTime)));
+    params.put("limit", limit + 1);
+
+    // From the primary, a replica could still miss changes older than the settle time
+    final var changes =
+        Objects.requireNonNull(
+            ReplicaRoutingDataSource.onPrimary(
+                () -> this.transactionTemplate.execute(status -> read(aTable, params))));
+
+    final var hasMore = changes.size() > limit;
+    final var items = hasMore ? changes.subList(0, limit) : changes;
+    final var next =
+        items.isEmpty()
+            ? aCursor
+            : CursorUtils.encode(
+                SORT, Sort.Direction.ASC, last(items).changedAt().toString(), last(items).id());
+
+    return new ChangeFeedResponse(
+        items.stream()
+            .map(it -> new ChangeResponse(it.id(), it.changedAt(), it.data() == null, it.data()))
+            .toList(),
+        next,
+        hasMore);
+  }
+
+  /** Reads up to {@code limit} rows and tombstones, which are merged in feed order. */
+  private List<Change> read(final ExportTable aTable, final Map<String, Object> params) {
+    final var columns = aTable.columnNames();
+    final var updatedAt = columns.indexOf(SORT);
+
+    final var rows = new ArrayList<Object[]>();
+    this.jdbc.query(
+        changedRows(aTable),
+        params,
+        (RowCallbackHandler) rs -> rows.add(aTable.read(rs, this.ids)));
+    aTable.relate(this.jdbc, this.ids, rows);
+
+    final var changes = new ArrayList<Change>(rows.size());
+    for (final var row : rows) {
+      final var data = new LinkedHashMap<String, Object>(row.length * 2);
+      for (int i = 0; i < row.length; i++) {
+        data.put(columns.get(i), row[i]);
+      }
+      changes.add(new Change((String) row[0], (Instant) row[updatedAt], data));
+    }
+
+    this.jdbc.query(
+        TOMBSTONES,
+        params,
+        (RowCallbackHandler)
+            rs ->
+                changes.add(
+                    new Change(this.ids.read(rs, 1), rs.getTimestamp(2).toInstant(), null)));
+
+    changes.sort(ORDER);
+    return changes;
+  }
+
+  private static String changedRows(final ExportTable aTable) {
+    return """
+        %1$s
+        WHERE (%2$s.updated_at > :at OR (%2$s.updated_at = :at AND %2$s.id > :id))
+          AND %2$s.updated_at <= :until
+        ORDER BY %2$s.updated_at, %2$s.id
+        LIMIT :limit
+        """
+        .formatted(aTable.query(), aTable.alias());
+  }
+
+  private static Instant changedAt(final Cursor aCursor) {
+    try {
+      return Instant.parse(aCursor.key());
+    } catch (final DateTimeParseException e) {
+      throw DomainException.with(new Error("'cursor' is invalid"));
+    }
+  }
+
+  private static Change last(final List<Change> changes) {
+    return changes.get(changes.size() - 1);
+  }
+
+  private record Change(String id, Instant changedAt, Map<String, Object> data) {}
+}
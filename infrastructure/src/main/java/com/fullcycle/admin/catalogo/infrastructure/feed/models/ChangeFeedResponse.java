@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.feed.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record ChangeFeedResponse(
+    @JsonProperty("items") List<ChangeResponse> items,
+    @JsonProperty("cursor") String cursor,
+    @JsonProperty("has_more") boolean hasMore) {}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.feed.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import java.util.Map;
+
+/** A change of one aggregate: its current state, or no data when it was deleted. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeResponse(
+    @JsonProperty("id") String id,
+    @JsonProperty("changed_at") Instant changedAt,
+    @JsonProperty("deleted") boolean deleted,
+    @JsonProperty("data") Map<String, Object> data) {}
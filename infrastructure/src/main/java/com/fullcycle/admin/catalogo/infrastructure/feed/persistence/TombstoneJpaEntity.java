@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.feed.persistence;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import org.hibernate.annotations.Type;
+
+/** Records that an aggregate was deleted, so the change feed can announce it. */
+@Entity(name = "Tombstone")
+@Table(name = "tombstones")
+public class TombstoneJpaEntity {
+
+  @Id
+  @Column(name = "id", nullable = false)
+  @Type(type = IdType.NAME)
+  private String id;
+
+  @Column(name = "aggregate", nullable = false)
+  private String aggregate;
+
+  @Column(name = "deleted_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant deletedAt;
+
+  public TombstoneJpaEntity() {}
+
+  private TombstoneJpaEntity(final String id, final String aggregate, final Instant deletedAt) {
+    this.id = id;
+    this.aggregate = aggregate;
+    this.deletedAt = deletedAt;
+  }
+
+  public static TombstoneJpaEntity of(final String aggregate, final String anId) {
+    return new TombstoneJpaEntity(anId, aggregate, InstantUtils.now());
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getAggregate() {
+    return aggregate;
+  }
+
+  public Instant getDeletedAt() {
+    return deletedAt;
+  }
+}
@@ -0,0 +1,5 @@
+package com.fullcycle.admin.catalogo.infrastructure.feed.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TombstoneRepository extends JpaRepository<TombstoneJpaEntity, String> {}
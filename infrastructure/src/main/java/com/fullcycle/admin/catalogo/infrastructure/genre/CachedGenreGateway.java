@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById} from a {@link GatewayCache}, dropping the entry on every write, and
+ * answers {@link #existsByIds} for the ids it knows to exist.
+ */
+public class CachedGenreGateway implements GenreGateway {
+
+  private final GenreGateway genreGateway;
+
+  private final GatewayCache<Genre> cache;
+
+  public CachedGenreGateway(final GenreGateway genreGateway, final GatewayCache<Genre> cache) {
+    this.genreGateway = Objects.requireNonNull(genreGateway);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public Genre create(final Genre aGenre) {
+    final var result = this.genreGateway.create(aGenre);
+    this.cache.created(result.getId().getValue());
+    return result;
+  }
+
+  @Override
+  public List<Genre> createAll(final List<Genre> aGenres) {
+    final var results = this.genreGateway.createAll(aGenres);
+    results.forEach(result -> this.cache.created(result.getId().getValue()));
+    return results;
+  }
+
+  @Override
+  public void deleteById(final GenreID anId) {
+    this.genreGateway.deleteById(anId);
+    this.cache.invalidate(anId.getValue(), null);
+  }
+
+  @Override
+  public Optional<Genre> findById(final GenreID anId) {
+    return this.cache.get(anId.getValue(), () -> this.genreGateway.findById(anId));
+  }
+
+  /**
+   * Read to be updated, so past the cache and on the primary: a copy behind the last write would
+   * fail the version check of a client holding the current one.
+   */
+  @Override
+  public Optional<Genre> findLatestById(final GenreID anId) {
+    return ReplicaRoutingDataSource.onPrimary(() -> this.genreGateway.findById(anId));
+  }
+
+  @Override
+  public Genre update(final Genre aGenre) {
+    final Genre result;
+    try {
+      result = this.genreGateway.update(aGenre);
+    } catch (final ConflictException e) {
+      this.cache.discard(aGenre.getId().getValue());
+      throw e;
+    }
+    this.cache.invalidate(result.getId().getValue(), result.getVersion());
+    return result;
+  }
+
+  @Override
+  public Pagination<Genre> findAll(final SearchQuery aQuery) {
+    return this.genreGateway.findAll(aQuery);
+  }
+
+  @Override
+  public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+    final var values = new ArrayList<String>();
+    ids.forEach(anId -> values.add(anId.getValue()));
+
+    return this.cache.existing(values, this::existingValues).stream().map(GenreID::from).toList();
+  }
+
+  private List<String> existingValues(final List<String> values) {
+    final var ids = values.stream().map(GenreID::from).toList();
+    return this.genreGateway.existsByIds(ids).stream().map(GenreID::getValue).toList();
+  }
+}
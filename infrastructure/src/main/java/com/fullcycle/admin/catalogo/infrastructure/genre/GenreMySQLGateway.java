@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
@@ -8,27 +11,60 @@ import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryID;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRow;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.SearchSupport;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PageUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
   private final GenreRepository genreRepository;
 
-  public GenreMySQLGateway(final GenreRepository genreRepository) {
+  private final TombstoneRepository tombstoneRepository;
+
+  private final CountCache counts;
+
+  private final SearchSupport search;
+
+  private final SearchSupport.Index index;
+
+  public GenreMySQLGateway(
+      final GenreRepository genreRepository,
+      final TombstoneRepository tombstoneRepository,
+      @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl,
+      final SearchSupport search) {
     this.genreRepository = Objects.requireNonNull(genreRepository);
+    this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+    this.counts = new CountCache(countCacheTtl);
+    this.search = Objects.requireNonNull(search);
+    this.index = search.index(this::documents);
   }
 
   @Override
@@ -37,10 +73,26 @@ public class GenreMySQLGateway implements GenreGateway {
   }
 
   @Override
+  @Transactional
+  public List<Genre> createAll(final List<Genre> aGenres) {
+    final var entities = aGenres.stream().map(GenreJpaEntity::from).toList();
+    this.genreRepository.insertAll(entities);
+    this.counts.invalidateAll();
+
+    final var results = entities.stream().map(GenreJpaEntity::toAggregate).toList();
+    results.forEach(result -> this.index.put(result.getId().getValue(), result.getName()));
+    return results;
+  }
+
+  @Override
+  @Transactional
   public void deleteById(GenreID anId) {
     final var aGenreId = anId.getValue();
     if (this.genreRepository.existsById(aGenreId)) {
       this.genreRepository.deleteById(aGenreId);
+      this.tombstoneRepository.save(TombstoneJpaEntity.of("genre", aGenreId));
+      this.counts.invalidateAll();
+      this.index.remove(aGenreId);
     }
   }
 
@@ -51,30 +103,52 @@ public class GenreMySQLGateway implements GenreGateway {
 
   @Override
   public Genre update(Genre aGenre) {
-    return save(aGenre);
+    return VersionUtils.conditionally(aGenre, () -> save(aGenre));
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Pagination<Genre> findAll(final SearchQuery aQuery) {
+    final var indexed = this.index.search(aQuery.terms());
+
     final var page =
         PageRequest.of(
             aQuery.page(),
             aQuery.perPage(),
-            Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
+            FullTextUtils.sort(
+                aQuery.sort(),
+                aQuery.direction(),
+                indexed.isEmpty() && this.search.fullTextQuery(aQuery.terms()).isPresent(),
+                "name"));
 
     final var where =
-        Optional.ofNullable(aQuery.terms())
-            .filter(str -> !str.isBlank())
-            .map(this::assembleSpecification)
+        indexed
+            .map(ids -> SpecificationUtils.<GenreJpaEntity>in("id", ids))
+            .or(
+                () ->
+                    Optional.ofNullable(aQuery.terms())
+                        .filter(str -> !str.isBlank())
+                        .map(this::assembleSpecification))
             .orElse(null);
 
-    final var pageResult = this.genreRepository.findAll(where(where), page);
+    if (aQuery.cursor() != null) {
+      return scroll(aQuery, where);
+    }
 
-    return new Pagination<>(
-        pageResult.getNumber(),
-        pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(GenreJpaEntity::toAggregate).toList());
+    final var pageResult =
+        aQuery.total() == TotalMode.EXACT
+            ? this.genreRepository.findPage(where(where), page, GenreRow.class, GenreRow.ATTRIBUTES)
+            : this.genreRepository.findSlice(
+                where(where), page, GenreRow.class, GenreRow.ATTRIBUTES);
+
+    final var categories = categoriesOf(pageResult.getContent());
+    return PageUtils.paginate(
+        pageResult.map(row -> row.toAggregate(categories.getOrDefault(row.id(), List.of()))),
+        aQuery.total(),
+        () ->
+            this.counts.get(
+                where == null ? "" : SqlUtils.upper(aQuery.terms()),
+                () -> this.genreRepository.count(where(where))));
   }
 
   @Override
@@ -84,11 +158,69 @@ public class GenreMySQLGateway implements GenreGateway {
     return this.genreRepository.existsByIds(ids).stream().map(GenreID::from).toList();
   }
 
+  private Pagination<Genre> scroll(
+      final SearchQuery aQuery, final Specification<GenreJpaEntity> where) {
+    FullTextUtils.requireNotRelevance(aQuery.sort());
+
+    final var direction = Sort.Direction.fromString(aQuery.direction());
+    final var after =
+        CursorUtils.decode(aQuery.cursor(), aQuery.sort(), direction)
+            .map(aCursor -> CursorUtils.<GenreJpaEntity>after(aCursor, direction))
+            .orElse(null);
+
+    final var rows =
+        this.genreRepository.findAll(
+            Specification.where(where).and(after),
+            CursorUtils.sort(aQuery.sort(), direction),
+            aQuery.perPage() + 1,
+            GenreRow.class,
+            GenreRow.ATTRIBUTES);
+
+    final var categories = categoriesOf(rows);
+    return CursorUtils.paginate(
+        rows,
+        aQuery.perPage(),
+        aQuery.sort(),
+        direction,
+        GenreRow::id,
+        row -> row.toAggregate(categories.getOrDefault(row.id(), List.of())));
+  }
+
+  /**
+   * The categories of every genre of a page, read in one query rather than one per genre as the
+   * {@code EAGER} association of {@link GenreJpaEntity} would.
+   */
+  private Map<String, List<CategoryID>> categoriesOf(final List<GenreRow> rows) {
+    if (rows.isEmpty()) {
+      return Map.of();
+    }
+
+    return this.genreRepository.findCategoryIds(rows.stream().map(GenreRow::id).toList()).stream()
+        .collect(
+            groupingBy(
+                GenreCategoryID::getGenreId,
+                mapping(it -> CategoryID.from(it.getCategoryId()), toList())));
+  }
+
   private Genre save(final Genre aGenre) {
-    return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+    final var result =
+        this.genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre)).toAggregate();
+    this.counts.invalidateAll();
+    this.index.put(result.getId().getValue(), result.getName());
+    return result;
   }
 
   private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-    return SpecificationUtils.like("name", terms);
+    return this.search.fullTextQuery(terms)
+        .map(query -> FullTextUtils.<GenreJpaEntity>match(query, "name"))
+        .orElseGet(() -> SpecificationUtils.like("name", terms));
+  }
+
+  private List<InvertedIndex.Document> documents() {
+    return this.genreRepository
+        .findAll(null, Sort.unsorted(), Integer.MAX_VALUE, GenreRow.class, GenreRow.ATTRIBUTES)
+        .stream()
+        .map(it -> new InvertedIndex.Document(it.id(), it.name()))
+        .toList();
   }
 }
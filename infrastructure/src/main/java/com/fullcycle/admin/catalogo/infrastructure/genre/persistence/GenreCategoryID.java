@@ -1,7 +1,10 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import org.hibernate.annotations.Type;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -9,9 +12,11 @@ import java.util.Objects;
 public class GenreCategoryID implements Serializable {
 
   @Column(name = "genre_id", nullable = false)
+  @Type(type = IdType.NAME)
   private String genreId;
 
   @Column(name = "category_id", nullable = false)
+  @Type(type = IdType.NAME)
   private String categoryId;
 
   public GenreCategoryID() {}
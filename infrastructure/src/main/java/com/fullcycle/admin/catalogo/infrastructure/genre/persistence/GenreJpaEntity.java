@@ -6,11 +6,13 @@ import static javax.persistence.FetchType.EAGER;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import javax.persistence.*;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
@@ -18,6 +20,7 @@ public class GenreJpaEntity {
 
   @Id
   @Column(name = "id", nullable = false)
+  @Type(type = IdType.NAME)
   private String id;
 
   @Column(name = "name", nullable = false)
@@ -38,6 +41,10 @@ public class GenreJpaEntity {
   @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
   private Instant deletedAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
   public GenreJpaEntity() {}
 
   private GenreJpaEntity(
@@ -67,19 +74,23 @@ public class GenreJpaEntity {
             aGenre.getDeletedAt());
 
     aGenre.getCategories().forEach(anEntity::addCategory);
+    anEntity.setVersion(aGenre.getVersion());
 
     return anEntity;
   }
 
   public Genre toAggregate() {
-    return Genre.with(
-        GenreID.from(getId()),
-        getName(),
-        isActive(),
-        getCategoryIDs(),
-        getCreatedAt(),
-        getUpdatedAt(),
-        getDeletedAt());
+    final var aGenre =
+        Genre.with(
+            GenreID.from(getId()),
+            getName(),
+            isActive(),
+            getCategoryIDs(),
+            getCreatedAt(),
+            getUpdatedAt(),
+            getDeletedAt());
+    aGenre.restoreVersion(getVersion());
+    return aGenre;
   }
 
   private void addCategory(final CategoryID anId) {
@@ -156,4 +167,13 @@ public class GenreJpaEntity {
     this.deletedAt = deletedAt;
     return this;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public GenreJpaEntity setVersion(long version) {
+    this.version = version;
+    return this;
+  }
 }
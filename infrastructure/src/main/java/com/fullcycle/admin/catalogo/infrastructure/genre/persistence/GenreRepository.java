@@ -1,5 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.InsertableRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollableRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -7,12 +9,24 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository
+    extends JpaRepository<GenreJpaEntity, String>,
+        ScrollableRepository<GenreJpaEntity>,
+        InsertableRepository<GenreJpaEntity> {
   Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+  long count(Specification<GenreJpaEntity> whereClause);
+
   @Query(value = "select g.id from Genre g where g.id in :ids")
   List<String> existsByIds(@Param("ids") List<String> ids);
+
+  @Query(
+      value =
+          "select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids"
+              + " order by gc.id.genreId, gc.id.categoryId")
+  List<GenreCategoryID> findCategoryIds(@Param("ids") Collection<String> ids);
 }
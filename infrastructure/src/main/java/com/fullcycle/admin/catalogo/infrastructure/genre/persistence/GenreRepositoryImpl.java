@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ScrollableRepositorySupport;
+import javax.persistence.EntityManager;
+
+class GenreRepositoryImpl extends ScrollableRepositorySupport<GenreJpaEntity> {
+
+  GenreRepositoryImpl(final EntityManager entityManager) {
+    super(GenreJpaEntity.class, entityManager);
+  }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The columns of a genre without its categories, which list pages read with {@link
+ * GenreRepository#findCategoryIds} for the whole page at once.
+ */
+public record GenreRow(
+    String id,
+    String name,
+    boolean active,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    long version) {
+
+  public static final String[] ATTRIBUTES = {
+    "id", "name", "active", "createdAt", "updatedAt", "deletedAt", "version"
+  };
+
+  public Genre toAggregate(final List<CategoryID> categories) {
+    final var aGenre =
+        Genre.with(
+            GenreID.from(id()),
+            name(),
+            active(),
+            categories,
+            createdAt(),
+            updatedAt(),
+            deletedAt());
+    aGenre.restoreVersion(version());
+    return aGenre;
+  }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox in batches. Each batch is published on a single channel and only removed from
+ * the table once the broker confirmed every message of it; otherwise the transaction rolls back and
+ * the batch is retried on the next run, so delivery is at-least-once.
+ */
+public class OutboxRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxEventRepository repository;
+  private final RabbitOperations ops;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long confirmTimeout;
+
+  public OutboxRelay(
+      final OutboxEventRepository repository,
+      final RabbitOperations ops,
+      final TransactionTemplate transactionTemplate,
+      final int batchSize,
+      final long confirmTimeout) {
+    this.repository = Objects.requireNonNull(repository);
+    this.ops = Objects.requireNonNull(ops);
+    this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    this.batchSize = batchSize;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay}")
+  public void relay() {
+    int relayed;
+    do {
+      relayed = Objects.requireNonNull(this.transactionTemplate.execute(status -> relayBatch()));
+    } while (relayed == this.batchSize);
+  }
+
+  private int relayBatch() {
+    final var batch = this.repository.findNextBatch(PageRequest.ofSize(this.batchSize));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    publish(batch);
+    this.repository.deleteAllInBatch(batch);
+
+    log.debug("Relayed {} outbox events", batch.size());
+    return batch.size();
+  }
+
+  private void publish(final List<OutboxEventJpaEntity> batch) {
+    this.ops.invoke(
+        channel -> {
+          batch.forEach(
+              event ->
+                  channel.convertAndSend(
+                      event.getExchange(), event.getRoutingKey(), event.getPayload()));
+          channel.waitForConfirmsOrDie(this.confirmTimeout);
+          return null;
+        });
+  }
+}
@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "event_outbox")
+public class OutboxEventJpaEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "exchange", nullable = false)
+  private String exchange;
+
+  @Column(name = "routing_key", nullable = false)
+  private String routingKey;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant createdAt;
+
+  public OutboxEventJpaEntity() {}
+
+  private OutboxEventJpaEntity(
+      final String exchange,
+      final String routingKey,
+      final String payload,
+      final Instant createdAt) {
+    this.exchange = exchange;
+    this.routingKey = routingKey;
+    this.payload = payload;
+    this.createdAt = createdAt;
+  }
+
+  public static OutboxEventJpaEntity with(
+      final String exchange, final String routingKey, final String payload) {
+    return new OutboxEventJpaEntity(exchange, routingKey, payload, Instant.now());
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public OutboxEventJpaEntity setId(final Long id) {
+    this.id = id;
+    return this;
+  }
+
+  public String getExchange() {
+    return exchange;
+  }
+
+  public OutboxEventJpaEntity setExchange(final String exchange) {
+    this.exchange = exchange;
+    return this;
+  }
+
+  public String getRoutingKey() {
+    return routingKey;
+  }
+
+  public OutboxEventJpaEntity setRoutingKey(final String routingKey) {
+    this.routingKey = routingKey;
+    return this;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public OutboxEventJpaEntity setPayload(final String payload) {
+    this.payload = payload;
+    return this;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public OutboxEventJpaEntity setCreatedAt(final Instant createdAt) {
+    this.createdAt = createdAt;
+    return this;
+  }
+}
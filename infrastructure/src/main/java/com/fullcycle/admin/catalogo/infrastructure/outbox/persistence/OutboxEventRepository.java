@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+  /**
+   * Locks the oldest pending events so concurrent relays never publish the same rows. Rows locked
+   * by another relay are skipped instead of waited for: the timeout of -2 renders {@code SKIP
+   * LOCKED}, which needs the MySQL 8 dialect.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+  @Query(value = "select e from OutboxEvent e order by e.id")
+  List<OutboxEventJpaEntity> findNextBatch(Pageable page);
+}
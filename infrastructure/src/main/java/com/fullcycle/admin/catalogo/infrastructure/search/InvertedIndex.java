@@ -0,0 +1,282 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index of the searchable text of an aggregate. Texts are split in words,
+ * lower-cased and stripped of accents, and every word points to the sorted {@code int} numbers of
+ * the documents holding it. A search requires every word of the terms to start a word of the
+ * document and only answers with ids, which the caller reads back by primary key.
+ *
+ * <p>The index is filled from {@code loader} on the first search and then kept up to date through
+ * {@link #put} and {@link #remove}, which only carry the writes of this instance. {@link #refresh}
+ * reloads it to pick up the writes of the others. Loads read outside the lock into a new snapshot,
+ * which is swapped in once complete, so searches keep being answered meanwhile.
+ */
+public class InvertedIndex {
+
+  /** Beyond this, reading the matches by id costs more than letting the database search. */
+  public static final int MAX_MATCHES = 1_000;
+
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+  private final Supplier<? extends Collection<Document>> loader;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** Taken by loads, so only one reads from {@code loader} at a time. */
+  private final Object loading = new Object();
+
+  private Snapshot snapshot;
+
+  /** The writes made while a load reads, replayed on its snapshot; {@code null} otherwise. */
+  private List<Consumer<Snapshot>> missed;
+
+  private volatile boolean loaded;
+
+  public InvertedIndex(final Supplier<? extends Collection<Document>> loader) {
+    this.loader = loader;
+  }
+
+  /** Indexes the fields of the document, replacing whatever was indexed for it before. */
+  public void put(final String id, final String... fields) {
+    final var aDocument = new Document(id, fields);
+    write(it -> it.index(aDocument));
+  }
+
+  public void remove(final String id) {
+    write(it -> it.unindex(id));
+  }
+
+  /** Reloads an index already searched, which keeps answering from what it had until done. */
+  public void refresh() {
+    if (!this.loaded) {
+      return;
+    }
+
+    synchronized (this.loading) {
+      load();
+    }
+  }
+
+  /**
+   * Returns the ids of the documents matching the terms, or empty when the index can not answer:
+   * the terms have no words or match more than {@link #MAX_MATCHES} documents.
+   */
+  public Optional<Set<String>> search(final String terms) {
+    final var queryWords = tokenize(terms);
+    if (queryWords.isEmpty()) {
+      return Optional.empty();
+    }
+
+    if (!this.loaded) {
+      synchronized (this.loading) {
+        if (!this.loaded) {
+          load();
+        }
+      }
+    }
+
+    this.lock.readLock().lock();
+    try {
+      return this.snapshot.search(queryWords);
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private void write(final Consumer<Snapshot> aWrite) {
+    this.lock.writeLock().lock();
+    try {
+      if (this.snapshot != null) {
+        aWrite.accept(this.snapshot);
+      }
+      if (this.missed != null) {
+        this.missed.add(aWrite);
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private void load() {
+    this.lock.writeLock().lock();
+    try {
+      this.missed = new ArrayList<>();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+
+    final var aSnapshot = new Snapshot();
+    var complete = false;
+    try {
+      this.loader.get().forEach(aSnapshot::index);
+      complete = true;
+    } finally {
+      this.lock.writeLock().lock();
+      try {
+        if (complete) {
+          this.missed.forEach(aWrite -> aWrite.accept(aSnapshot));
+          this.snapshot = aSnapshot;
+          this.loaded = true;
+        }
+        this.missed = null;
+      } finally {
+        this.lock.writeLock().unlock();
+      }
+    }
+  }
+
+  static List<String> tokenize(final String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+
+    final var normalized =
+        MARKS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+
+    return Arrays.stream(SEPARATORS.split(normalized))
+        .filter(word -> !word.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+  public record Document(String id, String... fields) {}
+
+  /** The documents and postings of one load, with the writes applied since. */
+  private static class Snapshot {
+
+    private final Map<String, Integer> numbers = new HashMap<>();
+    private final List<String> ids = new ArrayList<>();
+    private final List<String[]> words = new ArrayList<>();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+
+    Optional<Set<String>> search(final List<String> queryWords) {
+      BitSet matches = null;
+      for (final var word : queryWords) {
+        final var withPrefix = new BitSet();
+        for (final var posting : this.postings.subMap(word, word + Character.MAX_VALUE).values()) {
+          posting.addTo(withPrefix);
+        }
+        if (matches == null) {
+          matches = withPrefix;
+        } else {
+          matches.and(withPrefix);
+        }
+        if (matches.isEmpty()) {
+          return Optional.of(Set.of());
+        }
+      }
+
+      if (matches.cardinality() > MAX_MATCHES) {
+        return Optional.empty();
+      }
+
+      final var result = new HashSet<String>(matches.cardinality() * 2);
+      matches.stream().forEach(number -> result.add(this.ids.get(number)));
+      return Optional.of(result);
+    }
+
+    void index(final Document aDocument) {
+      unindex(aDocument.id());
+
+      final var documentWords = new HashSet<String>();
+      for (final var field : aDocument.fields()) {
+        documentWords.addAll(tokenize(field));
+      }
+
+      var number = this.numbers.get(aDocument.id());
+      if (number == null) {
+        number = this.ids.size();
+        this.numbers.put(aDocument.id(), number);
+        this.ids.add(aDocument.id());
+        this.words.add(null);
+      }
+
+      this.words.set(number, documentWords.toArray(String[]::new));
+      for (final var word : documentWords) {
+        this.postings.computeIfAbsent(word, w -> new Postings()).add(number);
+      }
+    }
+
+    /** Keeps the number of the document, so it is reused if the document is indexed again. */
+    void unindex(final String id) {
+      final var number = this.numbers.get(id);
+      if (number == null || this.words.get(number) == null) {
+        return;
+      }
+
+      for (final var word : this.words.get(number)) {
+        final var posting = this.postings.get(word);
+        posting.remove(number);
+        if (posting.isEmpty()) {
+          this.postings.remove(word);
+        }
+      }
+      this.words.set(number, null);
+    }
+  }
+
+  /** Sorted document numbers, grown by doubling. */
+  private static class Postings {
+
+    private int[] numbers = new int[4];
+    private int size;
+
+    void add(final int number) {
+      final var at = Arrays.binarySearch(this.numbers, 0, this.size, number);
+      if (at >= 0) {
+        return;
+      }
+
+      final var insertAt = -at - 1;
+      if (this.size == this.numbers.length) {
+        this.numbers = Arrays.copyOf(this.numbers, this.size * 2);
+      }
+      System.arraycopy(this.numbers, insertAt, this.numbers, insertAt + 1, this.size - insertAt);
+      this.numbers[insertAt] = number;
+      this.size++;
+    }
+
+    void remove(final int number) {
+      final var at = Arrays.binarySearch(this.numbers, 0, this.size, number);
+      if (at < 0) {
+        return;
+      }
+
+      System.arraycopy(this.numbers, at + 1, this.numbers, at, this.size - at - 1);
+      this.size--;
+    }
+
+    boolean isEmpty() {
+      return this.size == 0;
+    }
+
+    void addTo(final BitSet aBitSet) {
+      for (int i = 0; i < this.size; i++) {
+        aBitSet.set(this.numbers[i]);
+      }
+    }
+  }
+}
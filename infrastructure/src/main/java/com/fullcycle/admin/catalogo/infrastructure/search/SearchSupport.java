@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.FullTextUtils;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * How the gateways answer search terms: {@code search.engine} tells whether an in-process {@link
+ * InvertedIndex} per aggregate answers them, and {@code search.full-text.enabled} whether the
+ * database does it through its {@code FULLTEXT} indexes rather than {@code LIKE}.
+ *
+ * <p>An inverted index only sees the writes of this instance, so every {@code
+ * search.inverted-index.refresh-interval} the indexes are reloaded to pick up the others'.
+ */
+@Component
+public class SearchSupport {
+
+  private static final String INVERTED_INDEX = "inverted-index";
+
+  private final boolean invertedIndexEnabled;
+
+  private final boolean fullTextEnabled;
+
+  private final List<InvertedIndex> indexes = new CopyOnWriteArrayList<>();
+
+  public SearchSupport(
+      @Value("${search.engine:database}") final String searchEngine,
+      @Value("${search.full-text.enabled:false}") final boolean fullTextEnabled) {
+    this.invertedIndexEnabled = INVERTED_INDEX.equals(searchEngine);
+    this.fullTextEnabled = fullTextEnabled;
+  }
+
+  /** The index of an aggregate, filled from {@code loader} when the inverted index is enabled. */
+  public Index index(final Supplier<? extends Collection<InvertedIndex.Document>> loader) {
+    if (!this.invertedIndexEnabled) {
+      return new Index(null);
+    }
+
+    final var anIndex = new InvertedIndex(loader);
+    this.indexes.add(anIndex);
+    return new Index(anIndex);
+  }
+
+  @Scheduled(fixedDelayString = "${search.inverted-index.refresh-interval:300000}")
+  public void refreshIndexes() {
+    this.indexes.forEach(InvertedIndex::refresh);
+  }
+
+  /** The boolean mode query when the {@code FULLTEXT} index is enabled and can answer the terms. */
+  public Optional<String> fullTextQuery(final String terms) {
+    return this.fullTextEnabled ? FullTextUtils.booleanQuery(terms) : Optional.empty();
+  }
+
+  /**
+   * The inverted index of an aggregate, or nothing when it is disabled. Writes reach it once their
+   * transaction commits, so one rolled back leaves it as it was.
+   */
+  public static class Index {
+
+    private final InvertedIndex index;
+
+    private Index(final InvertedIndex index) {
+      this.index = index;
+    }
+
+    /** The ids matching the terms when the inverted index is enabled and can answer them. */
+    public Optional<Set<String>> search(final String terms) {
+      return this.index == null ? Optional.empty() : this.index.search(terms);
+    }
+
+    public void put(final String id, final String... fields) {
+      if (this.index != null) {
+        afterCommit(() -> this.index.put(id, fields));
+      }
+    }
+
+    public void remove(final String id) {
+      if (this.index != null) {
+        afterCommit(() -> this.index.remove(id));
+      }
+    }
+
+    private static void afterCommit(final Runnable action) {
+      if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+        action.run();
+        return;
+      }
+
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.services;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +9,16 @@ public interface StorageService {
 
   void store(String id, Resource resource);
 
+  /**
+   * Stores the content as it is read, without buffering it in memory.
+   *
+   * @return the CRC32C checksum computed while the content was written
+   */
+  String store(String id, String contentType, InputStream content);
+
+  /**
+   * Retrieves the stored resource. Its content is only fetched when the resource stream is opened.
+   */
   Optional<Resource> get(String id);
 
   List<String> list(String prefix);
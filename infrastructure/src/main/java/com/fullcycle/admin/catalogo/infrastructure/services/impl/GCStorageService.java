@@ -2,21 +2,66 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.StreamSupport;
 
+/**
+ * Streamed uploads are split in parts of {@code partSize} bytes. Content that fits in a single part
+ * is written through one resumable upload; bigger content has its parts uploaded as temporary
+ * objects, at most {@code parallelism} at a time, and composed server-side into the final object.
+ * A part whose write fails with a retryable error is written again, up to {@code PART_ATTEMPTS}
+ * times, so such a failure only costs that part instead of the whole upload.
+ */
 public class GCStorageService implements StorageService {
 
+  private static final int DEFAULT_PART_SIZE = 16 * 1024 * 1024;
+  private static final int MAX_COMPOSE_SOURCES = 32;
+  private static final int PART_ATTEMPTS = 3;
+
   private final String bucket;
   private final Storage storage;
+  private final int partSize;
+  private final int parallelism;
+  private final ExecutorService executor;
 
   public GCStorageService(final String bucket, final Storage storage) {
+    this(bucket, storage, DEFAULT_PART_SIZE, 1, MoreExecutors.newDirectExecutorService());
+  }
+
+  public GCStorageService(
+      final String bucket,
+      final Storage storage,
+      final int partSize,
+      final int parallelism,
+      final ExecutorService executor) {
+    if (partSize <= 0) {
+      throw new IllegalArgumentException("'partSize' must be greater than zero");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("'parallelism' must be greater than zero");
+    }
     this.bucket = bucket;
     this.storage = storage;
+    this.partSize = partSize;
+    this.parallelism = parallelism;
+    this.executor = executor;
   }
 
   @Override
@@ -29,16 +74,105 @@ public class GCStorageService implements StorageService {
     this.storage.create(info, resource.content());
   }
 
+  @Override
+  public String store(final String id, final String contentType, final InputStream content) {
+    final var info = BlobInfo.newBuilder(this.bucket, id).setContentType(contentType).build();
+    final var temporaries = new ArrayList<BlobId>();
+
+    final String checksum;
+    try {
+      checksum = upload(info, content, temporaries);
+    } catch (final RuntimeException e) {
+      try {
+        deleteTemporaries(temporaries);
+      } catch (final RuntimeException cleanup) {
+        e.addSuppressed(cleanup);
+      }
+      throw e;
+    }
+
+    deleteTemporaries(temporaries);
+    return checksum;
+  }
+
+  private String upload(
+      final BlobInfo info, final InputStream content, final List<BlobId> temporaries) {
+    final var id = info.getName();
+    final var hashingContent = HashingUtils.checksumming(content);
+    final var uploads = new ArrayList<Future<?>>();
+    final var permits = new Semaphore(this.parallelism);
+
+    try {
+      var chunk = hashingContent.readNBytes(this.partSize);
+
+      if (chunk.length < this.partSize) {
+        write(info, chunk);
+        return hashingContent.hash().toString();
+      }
+
+      while (chunk.length > 0) {
+        final var part = BlobId.of(this.bucket, "%s.part-%05d".formatted(id, temporaries.size()));
+        final var data = chunk;
+        temporaries.add(part);
+
+        permits.acquire();
+        for (final var upload : uploads) {
+          if (upload.isDone()) {
+            upload.get();
+          }
+        }
+        uploads.add(
+            this.executor.submit(
+                () -> {
+                  try {
+                    writePart(BlobInfo.newBuilder(part).build(), data);
+                    return null;
+                  } finally {
+                    permits.release();
+                  }
+                }));
+
+        chunk = hashingContent.readNBytes(this.partSize);
+      }
+
+      for (final var upload : uploads) {
+        upload.get();
+      }
+
+      compose(info, temporaries);
+      return hashingContent.hash().toString();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while uploading %s".formatted(id), e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException ex) {
+        throw ex;
+      }
+      throw new IllegalStateException("Failed to upload %s".formatted(id), e.getCause());
+    } finally {
+      uploads.forEach(upload -> upload.cancel(true));
+    }
+  }
+
+  private void deleteTemporaries(final List<BlobId> temporaries) {
+    if (!temporaries.isEmpty()) {
+      this.storage.delete(temporaries);
+    }
+  }
+
   @Override
   public Optional<Resource> get(final String id) {
     return Optional.ofNullable(this.storage.get(this.bucket, id))
         .map(
             blob ->
-                Resource.with(
+                Resource.stream(
+                    new BlobSource(blob.getBlobId()),
                     blob.getCrc32cToHexString(),
-                    blob.getContent(),
                     blob.getContentType(),
-                    blob.getName()));
+                    blob.getName(),
+                    blob.getSize()));
   }
 
   @Override
@@ -55,4 +189,79 @@ public class GCStorageService implements StorageService {
     final var blobs = ids.stream().map(id -> BlobId.of(this.bucket, id)).toList();
     this.storage.delete(blobs);
   }
+
+  private ReadChannel reader(final BlobId blobId, final long offset) {
+    final var reader = this.storage.reader(blobId);
+    try {
+      reader.seek(offset);
+    } catch (final IOException e) {
+      reader.close();
+      throw new UncheckedIOException(e);
+    }
+    return reader;
+  }
+
+  private void write(final BlobInfo info, final byte[] data) throws IOException {
+    try (final var out = Channels.newOutputStream(this.storage.writer(info))) {
+      out.write(data);
+    }
+  }
+
+  private void writePart(final BlobInfo info, final byte[] data) throws IOException {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        write(info, data);
+        return;
+      } catch (final StorageException | IOException e) {
+        if (attempt == PART_ATTEMPTS || e instanceof StorageException se && !se.isRetryable()) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void compose(final BlobInfo target, final List<BlobId> temporaries) {
+    var sources = temporaries.stream().map(BlobId::getName).toList();
+
+    for (int level = 0; sources.size() > MAX_COMPOSE_SOURCES; level++) {
+      final var next = new ArrayList<String>();
+      for (int i = 0; i < sources.size(); i += MAX_COMPOSE_SOURCES) {
+        final var name = "%s.compose-%d-%05d".formatted(target.getName(), level, next.size());
+        final var intermediate = BlobId.of(this.bucket, name);
+        temporaries.add(intermediate);
+        composeInto(
+            BlobInfo.newBuilder(intermediate).build(),
+            sources.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, sources.size())));
+        next.add(name);
+      }
+      sources = next;
+    }
+
+    composeInto(target, sources);
+  }
+
+  private void composeInto(final BlobInfo target, final List<String> sources) {
+    this.storage.compose(
+        Storage.ComposeRequest.newBuilder().addSource(sources).setTarget(target).build());
+  }
+
+  /** Reads the exact generation that was looked up, even if the object is replaced meanwhile. */
+  private class BlobSource implements Resource.Source {
+
+    private final BlobId blobId;
+
+    private BlobSource(final BlobId blobId) {
+      this.blobId = blobId;
+    }
+
+    @Override
+    public InputStream open() {
+      return open(0);
+    }
+
+    @Override
+    public InputStream open(final long offset) {
+      return Channels.newInputStream(reader(this.blobId, offset));
+    }
+  }
 }
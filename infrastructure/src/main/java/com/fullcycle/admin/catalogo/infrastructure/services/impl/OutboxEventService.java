@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import java.util.Objects;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records the event in the outbox table as part of the caller's transaction, so it is only
+ * published once that transaction commits. The {@link
+ * com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay} delivers it to the broker.
+ */
+public class OutboxEventService implements EventService {
+
+  private final String exchange;
+  private final String routingKey;
+  private final OutboxEventRepository repository;
+
+  public OutboxEventService(
+      final String exchange, final String routingKey, final OutboxEventRepository repository) {
+    this.exchange = Objects.requireNonNull(exchange);
+    this.routingKey = Objects.requireNonNull(routingKey);
+    this.repository = Objects.requireNonNull(repository);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void send(final Object event) {
+    this.repository.save(
+        OutboxEventJpaEntity.with(this.exchange, this.routingKey, Json.writeValueAsString(event)));
+  }
+}
@@ -2,6 +2,10 @@ package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +32,18 @@ public class InMemoryStorageService implements StorageService {
     this.storage.put(id, resource);
   }
 
+  @Override
+  public String store(final String id, final String contentType, final InputStream content) {
+    try {
+      final var bytes = content.readAllBytes();
+      final var checksum = HashingUtils.checksum(bytes);
+      this.storage.put(id, Resource.with(checksum, bytes, contentType, id));
+      return checksum;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public Optional<Resource> get(final String id) {
     return Optional.ofNullable(this.storage.get(id));
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers how many rows matched a search for a short time, so browsing the pages of the same
+ * search counts them once. A cached count misses whatever changed since it was taken, which is why
+ * it only backs {@code ESTIMATED} totals.
+ */
+public class CountCache {
+
+  private static final int MAX_SEARCHES = 1_000;
+
+  private final Cache<String, Long> counts;
+
+  public CountCache(final Duration ttl) {
+    this.counts = CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(MAX_SEARCHES).build();
+  }
+
+  public long get(final String aKey, final LongSupplier count) {
+    final var cached = this.counts.getIfPresent(aKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    final var actual = count.getAsLong();
+    this.counts.put(aKey, actual);
+    return actual;
+  }
+
+  public void invalidateAll() {
+    this.counts.invalidateAll();
+  }
+}
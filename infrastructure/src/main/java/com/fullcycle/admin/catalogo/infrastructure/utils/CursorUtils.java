@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.persistence.criteria.Path;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset pagination helpers: rows are ordered by the sort property and then by id, and the next
+ * page starts right after the last row returned, so no offset is scanned and nothing is counted.
+ */
+public final class CursorUtils {
+
+  private static final String ID = "id";
+
+  private CursorUtils() {}
+
+  public static Optional<Cursor> decode(
+      final String aToken, final String aSort, final Sort.Direction aDirection) {
+    if (aToken == null || aToken.isBlank()) {
+      return Optional.empty();
+    }
+
+    final var aCursor = Cursor.decode(aToken);
+    if (!aCursor.sort().equals(aSort)) {
+      throw DomainException.with(new Error("'cursor' was created for another 'sort'"));
+    }
+    if (!aCursor.direction().equals(nameOf(aDirection))) {
+      throw DomainException.with(new Error("'cursor' was created for another 'dir'"));
+    }
+    return Optional.of(aCursor);
+  }
+
+  /** The token of the position at {@code aKey} and {@code anId} when reading in that order. */
+  public static String encode(
+      final String aSort, final Sort.Direction aDirection, final String aKey, final String anId) {
+    return new Cursor(aSort, nameOf(aDirection), aKey, anId).encode();
+  }
+
+  public static Sort sort(final String aSort, final Sort.Direction aDirection) {
+    return Sort.by(aDirection, aSort).and(Sort.by(aDirection, ID));
+  }
+
+  /**
+   * Matches the rows placed after the cursor: {@code (sort, id) > (key, id)} in sort order. MySQL
+   * sorts nulls before any value, so they come first ascending and last descending, and a cursor
+   * without a key sits among them.
+   */
+  public static <T> Specification<T> after(final Cursor aCursor, final Sort.Direction aDirection) {
+    return (root, query, cb) -> {
+      final Path<Comparable<Object>> sortPath = root.get(aCursor.sort());
+      final Path<String> idPath = root.get(ID);
+
+      if (aCursor.key() == null) {
+        final var sameKey = cb.isNull(sortPath);
+        return aDirection.isAscending()
+            ? cb.or(cb.and(sameKey, cb.greaterThan(idPath, aCursor.id())), cb.isNotNull(sortPath))
+            : cb.and(sameKey, cb.lessThan(idPath, aCursor.id()));
+      }
+
+      final var key = keyOf(aCursor.key(), sortPath.getJavaType());
+      if (aDirection.isAscending()) {
+        return cb.or(
+            cb.greaterThan(sortPath, key),
+            cb.and(cb.equal(sortPath, key), cb.greaterThan(idPath, aCursor.id())));
+      }
+      return cb.or(
+          cb.lessThan(sortPath, key),
+          cb.and(cb.equal(sortPath, key), cb.lessThan(idPath, aCursor.id())),
+          cb.isNull(sortPath));
+    };
+  }
+
+  /**
+   * Builds the page out of {@code perPage + 1} rows: the extra row only tells there is a next page,
+   * whose cursor points at the last row kept.
+   */
+  public static <T, R> Pagination<R> paginate(
+      final List<T> rows,
+      final int perPage,
+      final String aSort,
+      final Sort.Direction aDirection,
+      final Function<T, String> anId,
+      final Function<T, R> mapper) {
+    if (rows.size() <= perPage) {
+      return Pagination.cursor(perPage, rows.stream().map(mapper).toList(), null);
+    }
+
+    final var items = rows.subList(0, perPage);
+    final var last = items.get(perPage - 1);
+    final var key = PropertyAccessorFactory.forDirectFieldAccess(last).getPropertyValue(aSort);
+    final var next =
+        encode(aSort, aDirection, key == null ? null : key.toString(), anId.apply(last));
+    return Pagination.cursor(perPage, items.stream().map(mapper).toList(), next);
+  }
+
+  private static String nameOf(final Sort.Direction aDirection) {
+    return aDirection.name().toLowerCase(Locale.ROOT);
+  }
+
+  /** Converts the key stored in a cursor back to the type of the sort property. */
+  public static Comparable<Object> keyOf(final String aKey, final Class<?> aType) {
+    final Object key =
+        Instant.class.equals(aType)
+            ? Instant.parse(aKey)
+            : DefaultConversionService.getSharedInstance().convert(aKey, aType);
+    @SuppressWarnings("unchecked")
+    final var comparable = (Comparable<Object>) key;
+    return comparable;
+  }
+}
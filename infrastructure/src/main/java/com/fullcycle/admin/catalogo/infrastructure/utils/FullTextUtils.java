@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.persistence.criteria.Expression;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * MySQL {@code FULLTEXT} search through the {@code match_against} functions registered by {@code
+ * FullTextFunctions}. Every word of the terms is required and matched as a prefix, and results
+ * sorted by {@link #RELEVANCE} come best match first.
+ *
+ * <p>This is not the {@code LIKE} search with an index: a word only matches from its start, so
+ * "ilm" finds "Filmes" through {@code LIKE} but not here.
+ */
+public final class FullTextUtils {
+
+  public static final String RELEVANCE = "relevance";
+
+  /** InnoDB ignores shorter words ({@code innodb_ft_min_token_size}), LIKE must handle them. */
+  private static final int MIN_WORD_LENGTH = 3;
+
+  /**
+   * InnoDB's default stopwords ({@code INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD}) of at least
+   * {@link #MIN_WORD_LENGTH} letters. They are never indexed, so a required one matches nothing.
+   */
+  private static final Set<String> STOPWORDS =
+      Set.of(
+          "about", "are", "com", "for", "from", "how", "that", "the", "this", "was", "what", "when",
+          "where", "who", "will", "with", "und", "www");
+
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private FullTextUtils() {}
+
+  /**
+   * Turns the terms into a boolean mode query, or returns empty when there is nothing the index can
+   * answer, so the caller keeps the {@code LIKE} search: no words, or a word too short or too
+   * common to be indexed.
+   */
+  public static Optional<String> booleanQuery(final String terms) {
+    if (terms == null || terms.isBlank()) {
+      return Optional.empty();
+    }
+
+    final var words =
+        Arrays.stream(SEPARATORS.split(terms)).filter(word -> !word.isEmpty()).toList();
+    if (words.isEmpty() || words.stream().anyMatch(FullTextUtils::unindexed)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        words.stream().map(word -> "+" + word + "*").collect(Collectors.joining(" ")));
+  }
+
+  private static boolean unindexed(final String word) {
+    return word.length() < MIN_WORD_LENGTH || STOPWORDS.contains(word.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Matches the rows whose columns contain the query and, unless the page has its own sort, orders
+   * them by relevance. The columns must be exactly the ones of a {@code FULLTEXT} index.
+   */
+  public static <T> Specification<T> match(final String aQuery, final String... columns) {
+    if (columns.length < 1 || columns.length > 2) {
+      throw new IllegalArgumentException("'columns' must have one or two columns");
+    }
+
+    return (root, query, cb) -> {
+      final var arguments = new Expression<?>[columns.length + 1];
+      for (int i = 0; i < columns.length; i++) {
+        arguments[i] = root.get(columns[i]);
+      }
+      arguments[columns.length] = cb.literal(aQuery);
+
+      final var function = columns.length == 1 ? "match_against" : "match_against_2";
+      final var relevance = cb.function(function, Double.class, arguments);
+
+      if (!Long.class.equals(query.getResultType())) {
+        query.orderBy(cb.desc(relevance), cb.asc(root.get("id")));
+      }
+      return cb.greaterThan(relevance, 0.0);
+    };
+  }
+
+  /**
+   * The sort of an offset page. Relevance is left to {@link #match} when the index is used and
+   * falls back to {@code fallback} otherwise, since {@code LIKE} can not rank.
+   */
+  public static Sort sort(
+      final String aSort,
+      final String aDirection,
+      final boolean fullText,
+      final String fallback) {
+    if (!RELEVANCE.equals(aSort)) {
+      return Sort.by(Sort.Direction.fromString(aDirection), aSort);
+    }
+    return fullText ? Sort.unsorted() : Sort.by(Sort.Direction.ASC, fallback);
+  }
+
+  /** Cursors need a property to seek on, which relevance is not. */
+  public static void requireNotRelevance(final String aSort) {
+    if (RELEVANCE.equals(aSort)) {
+      throw DomainException.with(new Error("'cursor' can not be used with 'relevance' sort"));
+    }
+  }
+}
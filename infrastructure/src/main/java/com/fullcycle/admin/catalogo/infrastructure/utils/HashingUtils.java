@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalogo.infrastructure.utils;
 
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import java.io.InputStream;
 
 public final class HashingUtils {
 
@@ -12,4 +14,8 @@ public final class HashingUtils {
   public static String checksum(final byte[] content) {
     return CHECKSUM.hashBytes(content).toString();
   }
+
+  public static HashingInputStream checksumming(final InputStream content) {
+    return new HashingInputStream(CHECKSUM, content);
+  }
 }
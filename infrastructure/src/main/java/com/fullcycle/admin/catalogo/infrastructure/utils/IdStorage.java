@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * How the ids are kept in the database: as their 32 hex digits in {@code CHAR(32)} columns, or as
+ * the 16 bytes they encode in {@code BINARY(16)} ones when {@code persistence.binary-ids} is set.
+ * Outside the database the ids are always the hex strings, so SQL written by hand binds and reads
+ * them through here.
+ */
+public enum IdStorage {
+  CHAR {
+    @Override
+    public Object bind(final String anId) {
+      return anId;
+    }
+
+    @Override
+    public String read(final ResultSet rs, final String label) throws SQLException {
+      return rs.getString(label);
+    }
+
+    @Override
+    public String read(final ResultSet rs, final int column) throws SQLException {
+      return rs.getString(column);
+    }
+  },
+
+  BINARY {
+    @Override
+    public Object bind(final String anId) {
+      return toBytes(anId);
+    }
+
+    @Override
+    public String read(final ResultSet rs, final String label) throws SQLException {
+      return toHex(rs.getBytes(label));
+    }
+
+    @Override
+    public String read(final ResultSet rs, final int column) throws SQLException {
+      return toHex(rs.getBytes(column));
+    }
+  };
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  public static IdStorage of(final boolean binary) {
+    return binary ? BINARY : CHAR;
+  }
+
+  public abstract Object bind(String anId);
+
+  public abstract String read(ResultSet rs, String label) throws SQLException;
+
+  public abstract String read(ResultSet rs, int column) throws SQLException;
+
+  public List<Object> bind(final Collection<String> ids) {
+    return ids.stream().map(this::bind).toList();
+  }
+
+  /**
+   * The bytes of a hex id. Anything else, like a malformed id sent by a client, is kept as its
+   * UTF-8 bytes instead of failing, so it matches no stored id, just as it would not as text.
+   */
+  public static byte[] toBytes(final String anId) {
+    if (anId == null) {
+      return null;
+    }
+    try {
+      return HEX.parseHex(anId);
+    } catch (final IllegalArgumentException e) {
+      return anId.getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  public static String toHex(final byte[] bytes) {
+    return bytes != null ? HEX.formatHex(bytes) : null;
+  }
+}
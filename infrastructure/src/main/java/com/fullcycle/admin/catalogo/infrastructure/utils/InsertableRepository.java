@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+
+/**
+ * Inserts rows known to be new. {@code save} merges entities with an assigned id, reading each one
+ * before writing it, while these are persisted and flushed together, so Hibernate sends the
+ * inserts in batches of {@code hibernate.jdbc.batch_size}.
+ */
+public interface InsertableRepository<T> {
+
+  void insertAll(List<T> entities);
+}
@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+public final class PageUtils {
+
+  private PageUtils() {}
+
+  /**
+   * Builds the page with the total asked for. The last page of a search already tells its total
+   * for free, so {@code count} is only called when an estimate is asked for a page followed by
+   * others.
+   */
+  public static <T> Pagination<T> paginate(
+      final Slice<T> aSlice, final TotalMode aMode, final LongSupplier count) {
+    final long total;
+    if (aSlice instanceof Page<T> aPage) {
+      total = aPage.getTotalElements();
+    } else if (!aSlice.hasNext() && (aSlice.hasContent() || aSlice.isFirst())) {
+      total = aSlice.getPageable().getOffset() + aSlice.getNumberOfElements();
+    } else if (aMode == TotalMode.ESTIMATED) {
+      total = count.getAsLong();
+    } else {
+      total = -1;
+    }
+
+    return new Pagination<>(
+        aSlice.getNumber(), aSlice.getSize(), total, aSlice.getContent(), null, aSlice.hasNext());
+  }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Reads rows without the count query a {@code Page} would issue. */
+public interface ScrollableRepository<T> {
+
+  List<T> findAll(Specification<T> whereClause, Sort sort, int limit);
+
+  /** Reads one row past the page to tell whether another page follows. */
+  Slice<T> findSlice(Specification<T> whereClause, Pageable page);
+
+  /**
+   * The projection variants below read only the {@code attributes}, passed in this order to the
+   * constructor of {@code aType}, so no association of the entity is loaded along with the rows.
+   */
+  <R> List<R> findAll(
+      Specification<T> whereClause, Sort sort, int limit, Class<R> aType, String... attributes);
+
+  <R> Slice<R> findSlice(
+      Specification<T> whereClause, Pageable page, Class<R> aType, String... attributes);
+
+  /** Counts the rows only when the page alone can not tell the total. */
+  <R> Page<R> findPage(
+      Specification<T> whereClause, Pageable page, Class<R> aType, String... attributes);
+}
@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public abstract class ScrollableRepositorySupport<T>
+    implements ScrollableRepository<T>, InsertableRepository<T> {
+
+  private final Class<T> type;
+  private final EntityManager entityManager;
+
+  protected ScrollableRepositorySupport(final Class<T> type, final EntityManager entityManager) {
+    this.type = type;
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public void insertAll(final List<T> entities) {
+    entities.forEach(this.entityManager::persist);
+    this.entityManager.flush();
+  }
+
+  @Override
+  public List<T> findAll(final Specification<T> whereClause, final Sort sort, final int limit) {
+    return query(whereClause, sort, this.type, root -> root).setMaxResults(limit).getResultList();
+  }
+
+  @Override
+  public Slice<T> findSlice(final Specification<T> whereClause, final Pageable page) {
+    return slice(query(whereClause, page.getSort(), this.type, root -> root), page);
+  }
+
+  @Override
+  public <R> List<R> findAll(
+      final Specification<T> whereClause,
+      final Sort sort,
+      final int limit,
+      final Class<R> aType,
+      final String... attributes) {
+    return query(whereClause, sort, aType, projection(aType, attributes))
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  public <R> Slice<R> findSlice(
+      final Specification<T> whereClause,
+      final Pageable page,
+      final Class<R> aType,
+      final String... attributes) {
+    return slice(query(whereClause, page.getSort(), aType, projection(aType, attributes)), page);
+  }
+
+  @Override
+  public <R> Page<R> findPage(
+      final Specification<T> whereClause,
+      final Pageable page,
+      final Class<R> aType,
+      final String... attributes) {
+    final var rows =
+        query(whereClause, page.getSort(), aType, projection(aType, attributes))
+            .setFirstResult((int) page.getOffset())
+            .setMaxResults(page.getPageSize())
+            .getResultList();
+
+    return PageableExecutionUtils.getPage(
+        rows,
+        page,
+        () -> query(whereClause, Sort.unsorted(), Long.class, rowCount()).getSingleResult());
+  }
+
+  private static <R> Slice<R> slice(final TypedQuery<R> query, final Pageable page) {
+    final var rows =
+        query
+            .setFirstResult((int) page.getOffset())
+            .setMaxResults(page.getPageSize() + 1)
+            .getResultList();
+
+    final var hasNext = rows.size() > page.getPageSize();
+    return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+  }
+
+  private <R> Function<Root<T>, Selection<? extends R>> projection(
+      final Class<R> aType, final String... attributes) {
+    final var cb = this.entityManager.getCriteriaBuilder();
+    return root ->
+        cb.construct(aType, Arrays.stream(attributes).map(root::get).toArray(Selection<?>[]::new));
+  }
+
+  private Function<Root<T>, Selection<? extends Long>> rowCount() {
+    final var cb = this.entityManager.getCriteriaBuilder();
+    return cb::count;
+  }
+
+  private <R> TypedQuery<R> query(
+      final Specification<T> whereClause,
+      final Sort sort,
+      final Class<R> aResultType,
+      final Function<Root<T>, Selection<? extends R>> selection) {
+    final var cb = this.entityManager.getCriteriaBuilder();
+    final CriteriaQuery<R> query = cb.createQuery(aResultType);
+    final var root = query.from(this.type);
+
+    if (whereClause != null) {
+      final var predicate = whereClause.toPredicate(root, query, cb);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+
+    query.select(selection.apply(root));
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+
+    return this.entityManager.createQuery(query);
+  }
+}
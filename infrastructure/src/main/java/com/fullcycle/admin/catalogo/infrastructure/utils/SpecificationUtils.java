@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import java.util.Collection;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class SpecificationUtils {
@@ -10,4 +11,9 @@ public final class SpecificationUtils {
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
     }
+
+    /** Matches nothing when {@code values} is empty, instead of rendering an empty {@code in}. */
+    public static <T> Specification<T> in(final String prop, final Collection<?> values) {
+        return (root, query, cb) -> values.isEmpty() ? cb.disjunction() : root.get(prop).in(values);
+    }
 }
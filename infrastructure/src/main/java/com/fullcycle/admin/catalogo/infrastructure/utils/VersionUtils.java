@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+public final class VersionUtils {
+  private static final Pattern STRONG_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
+  private VersionUtils() {}
+
+  /**
+   * Runs a write that only applies while the row is still at the version of the aggregate, as the
+   * {@code @Version} of the entities makes every update, and reports a lost race as a conflict.
+   */
+  public static <T> T conditionally(
+      final AggregateRoot<?> anAggregate, final Supplier<T> aWrite) {
+    try {
+      return aWrite.get();
+    } catch (final OptimisticLockingFailureException ex) {
+      throw ConflictException.with(anAggregate);
+    }
+  }
+
+  /** The entity tag of a version, as sent in {@code ETag} and expected in {@code If-Match}. */
+  public static String eTag(final long aVersion) {
+    return "\"" + aVersion + "\"";
+  }
+
+  /**
+   * The version of an {@code If-Match} header, or {@code null} when there is none or it is {@code
+   * *}, which any version matches. Only a single strong tag, as sent in {@code ETag}, is taken: a
+   * weak one never matches under the strong comparison of {@code If-Match}, and a list is refused
+   * rather than checked against the first of its tags.
+   */
+  public static Long version(final String anIfMatch) {
+    if (anIfMatch == null || anIfMatch.isBlank() || "*".equals(anIfMatch.trim())) {
+      return null;
+    }
+    final var aTag = anIfMatch.trim();
+    if (aTag.startsWith("W/")) {
+      throw InvalidIfMatchException.with("If-Match takes a strong entity tag, not %s", aTag);
+    }
+    if (aTag.contains(",")) {
+      throw InvalidIfMatchException.with("If-Match takes a single entity tag, not %s", aTag);
+    }
+    final var aMatcher = STRONG_TAG.matcher(aTag);
+    if (!aMatcher.matches()) {
+      throw InvalidIfMatchException.with("If-Match is not a version: %s", aTag);
+    }
+    return Long.parseLong(aMatcher.group(1));
+  }
+
+  /** An {@code If-Match} that could not be read as a version, a bad request rather than a miss. */
+  public static class InvalidIfMatchException extends DomainException {
+
+    private InvalidIfMatchException(final Error anError) {
+      super(anError.message(), List.of(anError));
+    }
+
+    static InvalidIfMatchException with(final String aTemplate, final String anIfMatch) {
+      return new InvalidIfMatchException(new Error(aTemplate.formatted(anIfMatch)));
+    }
+  }
+}
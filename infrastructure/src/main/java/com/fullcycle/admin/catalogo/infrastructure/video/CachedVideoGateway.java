@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFetchPlan;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.datasource.ReplicaRoutingDataSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById} from a {@link GatewayCache}, dropping the entry on every write, media
+ * status changes included.
+ */
+public class CachedVideoGateway implements VideoGateway {
+
+  private final VideoGateway videoGateway;
+
+  private final GatewayCache<Video> cache;
+
+  public CachedVideoGateway(final VideoGateway videoGateway, final GatewayCache<Video> cache) {
+    this.videoGateway = Objects.requireNonNull(videoGateway);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public Video create(final Video aVideo) {
+    return this.videoGateway.create(aVideo);
+  }
+
+  @Override
+  public List<Video> createAll(final List<Video> aVideos) {
+    return this.videoGateway.createAll(aVideos);
+  }
+
+  @Override
+  public void deleteById(final VideoID anId) {
+    this.videoGateway.deleteById(anId);
+    this.cache.invalidate(anId.getValue(), null);
+  }
+
+  @Override
+  public Optional<Video> findById(final VideoID anId) {
+    return this.cache.get(anId.getValue(), () -> this.videoGateway.findById(anId));
+  }
+
+  /**
+   * Only whole videos are cached, the other plans are always read from the primary: they are read
+   * to be updated, which a replica behind the last write would only turn into a conflict.
+   */
+  @Override
+  public Optional<Video> findById(final VideoID anId, final VideoFetchPlan aPlan) {
+    return aPlan == VideoFetchPlan.ALL
+        ? findById(anId)
+        : ReplicaRoutingDataSource.onPrimary(() -> this.videoGateway.findById(anId, aPlan));
+  }
+
+  @Override
+  public Video update(final Video aVideo) {
+    final Video result;
+    try {
+      result = this.videoGateway.update(aVideo);
+    } catch (final ConflictException e) {
+      this.cache.discard(aVideo.getId().getValue());
+      throw e;
+    }
+    this.cache.invalidate(result.getId().getValue(), result.getVersion());
+    return result;
+  }
+
+  @Override
+  public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+    return this.videoGateway.findAll(aQuery);
+  }
+
+  @Override
+  public boolean updateMediaStatus(final MediaStatusChange change) {
+    final var updated = this.videoGateway.updateMediaStatus(change);
+    this.cache.invalidate(change.videoId().getValue(), null);
+    return updated;
+  }
+
+  @Override
+  public int updateMediaStatus(final List<MediaStatusChange> changes) {
+    final var updated = this.videoGateway.updateMediaStatus(changes);
+    changes.stream()
+        .map(change -> change.videoId().getValue())
+        .distinct()
+        .forEach(anId -> this.cache.invalidate(anId, null));
+    return updated;
+  }
+}
@@ -6,6 +6,8 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.stor
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 
 @Component
@@ -25,16 +27,14 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
   @Override
   public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
     final var filepath = filepath(anId, videoResource.type());
-    final var aResource = videoResource.resource();
-    store(filepath, aResource);
+    final var aResource = store(filepath, videoResource.resource());
     return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
   }
 
   @Override
   public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
     final var filepath = filepath(anId, videoResource.type());
-    final var aResource = videoResource.resource();
-    store(filepath, aResource);
+    final var aResource = store(filepath, videoResource.resource());
     return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
   }
 
@@ -61,7 +61,17 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
     return folder(anId).concat("/").concat(filename(aType));
   }
 
-  private void store(final String filepath, final Resource aResource) {
-    this.storageService.store(filepath, aResource);
+  private Resource store(final String filepath, final Resource aResource) {
+    if (!aResource.isStreamed()) {
+      this.storageService.store(filepath, aResource);
+      return aResource;
+    }
+
+    try (final var content = aResource.openStream()) {
+      final var checksum = this.storageService.store(filepath, aResource.contentType(), content);
+      return aResource.withChecksum(checksum);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 }
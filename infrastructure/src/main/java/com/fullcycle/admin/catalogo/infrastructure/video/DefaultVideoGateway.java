@@ -5,14 +5,32 @@ import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEm
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneRepository;
+import com.fullcycle.admin.catalogo.infrastructure.search.InvertedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.search.SearchSupport;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import com.fullcycle.admin.catalogo.infrastructure.utils.PageUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.VersionUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.AudioVideoMediaRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
@@ -25,10 +43,31 @@ public class DefaultVideoGateway implements VideoGateway {
 
   private final VideoRepository videoRepository;
 
+  private final AudioVideoMediaRepository audioVideoMediaRepository;
+
+  private final TombstoneRepository tombstoneRepository;
+
+  private final CountCache counts;
+
+  private final SearchSupport.Index index;
+
+  private final IdStorage ids;
+
   public DefaultVideoGateway(
-      @VideoCreatedQueue final EventService eventService, final VideoRepository videoRepository) {
+      @VideoCreatedQueue final EventService eventService,
+      final VideoRepository videoRepository,
+      final AudioVideoMediaRepository audioVideoMediaRepository,
+      final TombstoneRepository tombstoneRepository,
+      @Value("${pagination.count-cache.ttl:5s}") final Duration countCacheTtl,
+      final SearchSupport search,
+      @Value("${persistence.binary-ids:false}") final boolean binaryIds) {
     this.eventService = Objects.requireNonNull(eventService);
     this.videoRepository = Objects.requireNonNull(videoRepository);
+    this.audioVideoMediaRepository = Objects.requireNonNull(audioVideoMediaRepository);
+    this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+    this.counts = new CountCache(countCacheTtl);
+    this.index = search.index(this::documents);
+    this.ids = IdStorage.of(binaryIds);
   }
 
   @Override
@@ -38,54 +77,165 @@ public class DefaultVideoGateway implements VideoGateway {
   }
 
   @Override
+  @Transactional
+  public List<Video> createAll(final List<Video> aVideos) {
+    final var entities = aVideos.stream().map(VideoJpaEntity::from).toList();
+    this.videoRepository.insertAll(entities);
+    aVideos.forEach(aVideo -> aVideo.publishDomainEvents(this.eventService::send));
+    this.counts.invalidateAll();
+
+    final var results = entities.stream().map(VideoJpaEntity::toAggregate).toList();
+    results.forEach(
+        result ->
+            this.index.put(
+                result.getId().getValue(), result.getTitle(), result.getDescription()));
+    return results;
+  }
+
+  @Override
+  @Transactional
   public void deleteById(final VideoID anId) {
     final var aVideoId = anId.getValue();
     if (this.videoRepository.existsById(aVideoId)) {
       this.videoRepository.deleteById(aVideoId);
+      this.tombstoneRepository.save(TombstoneJpaEntity.of("video", aVideoId));
+      this.counts.invalidateAll();
+      this.index.remove(aVideoId);
     }
   }
 
   @Override
   @Transactional(readOnly = true)
   public Optional<Video> findById(final VideoID anId) {
-    return this.videoRepository.findById(anId.getValue()).map(VideoJpaEntity::toAggregate);
+    return findById(anId, VideoFetchPlan.ALL);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Video> findById(final VideoID anId, final VideoFetchPlan aPlan) {
+    final var entity =
+        switch (aPlan) {
+          case ALL -> this.videoRepository.findWithAllById(anId.getValue());
+          case RELATIONS -> this.videoRepository.findWithRelationsById(anId.getValue());
+        };
+    return entity.map(it -> it.toAggregate(aPlan));
   }
 
   @Override
   @Transactional
   public Video update(final Video aVideo) {
-    return save(aVideo);
+    final var anEntity = VideoJpaEntity.from(aVideo);
+    if (!VersionUtils.conditionally(aVideo, () -> this.videoRepository.update(anEntity))) {
+      return save(aVideo);
+    }
+    return saved(aVideo, anEntity.toAggregate());
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Pagination<VideoPreview> findAll(VideoSearchQuery aQuery) {
+    if (aQuery.cursor() != null) {
+      return scroll(aQuery);
+    }
+
     final var page =
         PageRequest.of(
             aQuery.page(),
             aQuery.perPage(),
             Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
 
+    final var ids = this.index.search(aQuery.terms()).orElse(null);
+    final var terms = ids == null ? aQuery.terms() : null;
+    final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+    final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+    final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
     final var actualPage =
+        aQuery.total() == TotalMode.EXACT
+            ? this.videoRepository.findAll(terms, ids, castMembers, categories, genres, page)
+            : this.videoRepository.findSlice(terms, ids, castMembers, categories, genres, page);
+
+    return PageUtils.paginate(
+        actualPage,
+        aQuery.total(),
+        () ->
+            this.counts.get(
+                String.join(
+                    "|",
+                    SqlUtils.upper(aQuery.terms()),
+                    key(castMembers),
+                    key(categories),
+                    key(genres)),
+                () -> this.videoRepository.count(terms, ids, castMembers, categories, genres)));
+  }
+
+  @Override
+  @Transactional
+  public boolean updateMediaStatus(final MediaStatusChange aChange) {
+    final var updated =
+        this.audioVideoMediaRepository.updateStatus(
+                this.ids.bind(aChange.videoId().getValue()),
+                this.ids.bind(aChange.resourceId()),
+                aChange.status().name(),
+                aChange.encodedPath(),
+                mapTo(aChange.expectedCurrentStatuses(), MediaStatus::name))
+            > 0;
+    // An update read before the encoder wrote must not put the previous media back
+    if (updated) {
+      this.videoRepository.incrementVersion(aChange.videoId().getValue(), InstantUtils.now());
+    }
+    return updated;
+  }
+
+  @Override
+  @Transactional
+  public int updateMediaStatus(final List<MediaStatusChange> changes) {
+    var updated = 0;
+    for (final var aChange : changes) {
+      if (updateMediaStatus(aChange)) {
+        updated++;
+      }
+    }
+    return updated;
+  }
+
+  private Pagination<VideoPreview> scroll(final VideoSearchQuery aQuery) {
+    final var direction = Sort.Direction.fromString(aQuery.direction());
+    final var ids = this.index.search(aQuery.terms()).orElse(null);
+    final var rows =
         this.videoRepository.findAll(
-            SqlUtils.like(SqlUtils.upper(aQuery.terms())),
+            ids == null ? aQuery.terms() : null,
+            ids,
             nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
             nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
             nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-            page);
+            CursorUtils.decode(aQuery.cursor(), aQuery.sort(), direction).orElse(null),
+            aQuery.sort(),
+            direction,
+            aQuery.perPage() + 1);
 
-    return new Pagination<>(
-        actualPage.getNumber(),
-        actualPage.getSize(),
-        actualPage.getTotalElements(),
-        actualPage.toList());
+    return CursorUtils.paginate(
+        rows, aQuery.perPage(), aQuery.sort(), direction, VideoPreview::id, Function.identity());
+  }
+
+  private List<InvertedIndex.Document> documents() {
+    return this.videoRepository.findAllPreviews().stream()
+        .map(it -> new InvertedIndex.Document(it.id(), it.title(), it.description()))
+        .toList();
+  }
+
+  private static String key(final Set<String> ids) {
+    return ids == null ? "" : String.join(",", new TreeSet<>(ids));
   }
 
   private Video save(final Video aVideo) {
-    //return this.videoRepository.save(VideoJpaEntity.from(aVideo)).toAggregate();
-    final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
-            .toAggregate();
+    return saved(aVideo, this.videoRepository.save(VideoJpaEntity.from(aVideo)).toAggregate());
+  }
 
+  private Video saved(final Video aVideo, final Video result) {
     aVideo.publishDomainEvents(this.eventService::send);
+    this.counts.invalidateAll();
+    this.index.put(result.getId().getValue(), result.getTitle(), result.getDescription());
 
     return result;
   }
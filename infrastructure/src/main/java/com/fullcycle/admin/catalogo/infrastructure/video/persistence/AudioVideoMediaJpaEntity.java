@@ -2,14 +2,18 @@ package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
 
 import javax.persistence.*;
+import org.hibernate.annotations.Type;
 
 @Entity(name = "AudioVideoMedia")
 @Table(name = "videos_video_media")
 public class AudioVideoMediaJpaEntity {
 
-  @Id private String id;
+  @Id
+  @Type(type = IdType.NAME)
+  private String id;
 
   @Column(name = "checksum", nullable = false)
   private String checksum;
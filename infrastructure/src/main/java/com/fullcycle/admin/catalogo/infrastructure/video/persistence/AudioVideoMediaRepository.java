@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AudioVideoMediaRepository
+    extends JpaRepository<AudioVideoMediaJpaEntity, String> {
+
+  /** Being native, the ids are bound as {@link IdStorage} keeps them. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          UPDATE videos_video_media
+          SET
+              media_status = :status,
+              encoded_path =
+                  CASE WHEN :status = 'COMPLETED' THEN :encodedPath ELSE encoded_path END
+          WHERE
+              id = :resourceId
+          AND
+              media_status IN (:currentStatuses)
+          AND
+              EXISTS (
+                  SELECT 1 FROM videos v
+                  WHERE v.id = :videoId AND :resourceId IN (v.video_id, v.trailer_id)
+              )
+          """)
+  int updateStatus(
+      @Param("videoId") Object videoId,
+      @Param("resourceId") Object resourceId,
+      @Param("status") String status,
+      @Param("encodedPath") String encodedPath,
+      @Param("currentStatuses") Collection<String> currentStatuses);
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+/**
+ * Updates a video without merging it. {@code save} would read the video with its three join
+ * collections and rewrite every entry that differs from the detached entity; here the row and its
+ * media are copied onto the managed video, and only the relations added or removed are written.
+ */
+public interface UpdatableVideoRepository {
+
+  /**
+   * Returns {@code false}, writing nothing, when the video does not exist. The update is flushed
+   * only while the row is still at the version of the given video, which then gets the new one.
+   */
+  boolean update(VideoJpaEntity aVideo);
+}
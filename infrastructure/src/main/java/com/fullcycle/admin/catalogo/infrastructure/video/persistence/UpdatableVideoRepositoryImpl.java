@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+import org.hibernate.Hibernate;
+
+/**
+ * The ids of each relation are read as scalars and compared with the ones of the entity: removed
+ * ids are deleted with a single statement per join table and added ones are persisted, which
+ * Hibernate sends in batches of {@code hibernate.jdbc.batch_size} on flush.
+ */
+class UpdatableVideoRepositoryImpl implements UpdatableVideoRepository {
+
+  private final EntityManager entityManager;
+
+  UpdatableVideoRepositoryImpl(final EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public boolean update(final VideoJpaEntity aVideo) {
+    final var current = this.entityManager.find(VideoJpaEntity.class, aVideo.getId());
+    if (current == null) {
+      return false;
+    }
+    if (current.getVersion() != aVideo.getVersion()) {
+      throw new OptimisticLockException(current);
+    }
+
+    current
+        .setTitle(aVideo.getTitle())
+        .setDescription(aVideo.getDescription())
+        .setYearLaunched(aVideo.getYearLaunched())
+        .setOpened(aVideo.isOpened())
+        .setPublished(aVideo.isPublished())
+        .setRating(aVideo.getRating())
+        .setDuration(aVideo.getDuration())
+        .setUpdatedAt(aVideo.getUpdatedAt())
+        .setVideo(managed(aVideo.getVideo()))
+        .setTrailer(managed(aVideo.getTrailer()))
+        .setBanner(managed(aVideo.getBanner()))
+        .setThumbnail(managed(aVideo.getThumbnail()))
+        .setThumbnailHalf(managed(aVideo.getThumbnailHalf()));
+
+    syncRelation(
+        "VideoCategory",
+        "categoryId",
+        current.getId(),
+        current.getCategories(),
+        it -> it.getId().getCategoryId(),
+        ids(aVideo.getCategories(), it -> it.getId().getCategoryId()),
+        anId -> VideoCategoryJpaEntity.from(current, CategoryID.from(anId)));
+    syncRelation(
+        "VideoGenre",
+        "genreId",
+        current.getId(),
+        current.getGenres(),
+        it -> it.getId().getGenreId(),
+        ids(aVideo.getGenres(), it -> it.getId().getGenreId()),
+        anId -> VideoGenreJpaEntity.from(current, GenreID.from(anId)));
+    syncRelation(
+        "VideoCastMember",
+        "castMemberId",
+        current.getId(),
+        current.getCastMembers(),
+        it -> it.getId().getCastMemberId(),
+        ids(aVideo.getCastMembers(), it -> it.getId().getCastMemberId()),
+        anId -> VideoCastMemberJpaEntity.from(current, CastMemberID.from(anId)));
+
+    this.entityManager.flush();
+    aVideo.setVersion(current.getVersion());
+    return true;
+  }
+
+  /** Copies a media onto the row with its id, or schedules its insert when it is a new one. */
+  private <T> T managed(final T aMedia) {
+    return aMedia == null ? null : this.entityManager.merge(aMedia);
+  }
+
+  /**
+   * When the persistence context already holds the relations of the video, they are edited in
+   * place and orphan removal and cascading write the same delta, so the context stays consistent.
+   */
+  private <T> void syncRelation(
+      final String anEntity,
+      final String anAttribute,
+      final String aVideoId,
+      final Set<T> relations,
+      final Function<T, String> anIdOf,
+      final Set<String> expectedIds,
+      final Function<String, T> aFactory) {
+    if (Hibernate.isInitialized(relations)) {
+      relations.removeIf(it -> !expectedIds.contains(anIdOf.apply(it)));
+      final var persistedIds = ids(relations, anIdOf);
+      expectedIds.stream()
+          .filter(it -> !persistedIds.contains(it))
+          .map(aFactory)
+          .forEach(relations::add);
+      return;
+    }
+
+    final var persistedIds =
+        new HashSet<>(
+            this.entityManager
+                .createQuery(
+                    "select r.id.%s from %s r where r.id.videoId = :videoId"
+                        .formatted(anAttribute, anEntity),
+                    String.class)
+                .setParameter("videoId", aVideoId)
+                .getResultList());
+
+    final var removedIds =
+        persistedIds.stream().filter(anId -> !expectedIds.contains(anId)).toList();
+    if (!removedIds.isEmpty()) {
+      this.entityManager
+          .createQuery(
+              "delete from %s r where r.id.videoId = :videoId and r.id.%s in :ids"
+                  .formatted(anEntity, anAttribute))
+          .setParameter("videoId", aVideoId)
+          .setParameter("ids", removedIds)
+          .executeUpdate();
+    }
+
+    expectedIds.stream()
+        .filter(anId -> !persistedIds.contains(anId))
+        .map(aFactory)
+        .forEach(this.entityManager::persist);
+  }
+
+  private static <T> Set<String> ids(final Set<T> relations, final Function<T, String> anId) {
+    return relations.stream().map(anId).collect(Collectors.toSet());
+  }
+}
@@ -1,7 +1,10 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import org.hibernate.annotations.Type;
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.UUID;
@@ -10,9 +13,11 @@ import java.util.UUID;
 public class VideoCategoryID implements Serializable {
 
     @Column(name = "video_id", nullable = false)
+    @Type(type = IdType.NAME)
     private String videoId;
 
     @Column(name = "category_id", nullable = false)
+    @Type(type = IdType.NAME)
     private String categoryId;
 
     public VideoCategoryID() {
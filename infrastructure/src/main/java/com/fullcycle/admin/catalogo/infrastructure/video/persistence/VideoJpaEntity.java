@@ -4,9 +4,13 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFetchPlan;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.IdType;
 import java.time.Instant;
 import java.time.Year;
 import java.util.HashSet;
@@ -14,13 +18,42 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.*;
+import org.hibernate.annotations.Type;
 
 @Table(name = "videos")
 @Entity(name = "Video")
+@NamedEntityGraphs({
+  @NamedEntityGraph(
+      name = VideoJpaEntity.ALL,
+      attributeNodes = {
+        @NamedAttributeNode("video"),
+        @NamedAttributeNode("trailer"),
+        @NamedAttributeNode("banner"),
+        @NamedAttributeNode("thumbnail"),
+        @NamedAttributeNode("thumbnailHalf"),
+        @NamedAttributeNode("categories"),
+        @NamedAttributeNode("genres"),
+        @NamedAttributeNode("castMembers")
+      }),
+  @NamedEntityGraph(
+      name = VideoJpaEntity.RELATIONS,
+      attributeNodes = {
+        @NamedAttributeNode("categories"),
+        @NamedAttributeNode("genres"),
+        @NamedAttributeNode("castMembers")
+      })
+})
 public class VideoJpaEntity {
 
+  /** The fetch plan of {@link VideoFetchPlan#ALL}: the media and relations in one query. */
+  public static final String ALL = "Video.all";
+
+  /** The fetch plan of {@link VideoFetchPlan#RELATIONS}: the media stay unloaded proxies. */
+  public static final String RELATIONS = "Video.relations";
+
   @Id
   @Column(name = "id", nullable = false)
+  @Type(type = IdType.NAME)
   private String id;
 
   @Column(name = "title", nullable = false)
@@ -50,23 +83,27 @@ public class VideoJpaEntity {
   @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
   private Instant updatedAt;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "video_id")
   private AudioVideoMediaJpaEntity video;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "trailer_id")
   private AudioVideoMediaJpaEntity trailer;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "banner_id")
   private ImageMediaJpaEntity banner;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "thumbnail_id")
   private ImageMediaJpaEntity thumbnail;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "thumbnail_half_id")
   private ImageMediaJpaEntity thumbnailHalf;
 
@@ -142,35 +179,52 @@ public class VideoJpaEntity {
 
     aVideo.getCastMembers().forEach(entity::addCastMember);
 
-    return entity;
+    return entity.setVersion(aVideo.getVersion());
   }
 
   public Video toAggregate() {
-    return Video.with(
-        VideoID.from(getId()),
-        getTitle(),
-        getDescription(),
-        Year.of(getYearLaunched()),
-        getDuration(),
-        isOpened(),
-        isPublished(),
-        getRating(),
-        getCreatedAt(),
-        getUpdatedAt(),
-        Optional.ofNullable(getBanner()).map(ImageMediaJpaEntity::toDomain).orElse(null),
-        Optional.ofNullable(getThumbnail()).map(ImageMediaJpaEntity::toDomain).orElse(null),
-        Optional.ofNullable(getThumbnailHalf()).map(ImageMediaJpaEntity::toDomain).orElse(null),
-        Optional.ofNullable(getTrailer()).map(AudioVideoMediaJpaEntity::toDomain).orElse(null),
-        Optional.ofNullable(getVideo()).map(AudioVideoMediaJpaEntity::toDomain).orElse(null),
-        getCategories().stream()
-            .map(it -> CategoryID.from(it.getId().getCategoryId()))
-            .collect(Collectors.toSet()),
-        getGenres().stream()
-            .map(it -> GenreID.from(it.getId().getGenreId()))
-            .collect(Collectors.toSet()),
-        getCastMembers().stream()
-            .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
-            .collect(Collectors.toSet()));
+    return toAggregate(VideoFetchPlan.ALL);
+  }
+
+  /** Maps the media only when the plan read them, so their lazy proxies are never loaded. */
+  public Video toAggregate(final VideoFetchPlan aPlan) {
+    final var withMedia = aPlan == VideoFetchPlan.ALL;
+    final var aVideo =
+        Video.with(
+            VideoID.from(getId()),
+            getTitle(),
+            getDescription(),
+            Year.of(getYearLaunched()),
+            getDuration(),
+            isOpened(),
+            isPublished(),
+            getRating(),
+            getCreatedAt(),
+            getUpdatedAt(),
+            withMedia ? image(getBanner()) : null,
+            withMedia ? image(getThumbnail()) : null,
+            withMedia ? image(getThumbnailHalf()) : null,
+            withMedia ? audioVideo(getTrailer()) : null,
+            withMedia ? audioVideo(getVideo()) : null,
+            getCategories().stream()
+                .map(it -> CategoryID.from(it.getId().getCategoryId()))
+                .collect(Collectors.toSet()),
+            getGenres().stream()
+                .map(it -> GenreID.from(it.getId().getGenreId()))
+                .collect(Collectors.toSet()),
+            getCastMembers().stream()
+                .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
+                .collect(Collectors.toSet()));
+    aVideo.restoreVersion(getVersion());
+    return aVideo;
+  }
+
+  private static ImageMedia image(final ImageMediaJpaEntity aMedia) {
+    return Optional.ofNullable(aMedia).map(ImageMediaJpaEntity::toDomain).orElse(null);
+  }
+
+  private static AudioVideoMedia audioVideo(final AudioVideoMediaJpaEntity aMedia) {
+    return Optional.ofNullable(aMedia).map(AudioVideoMediaJpaEntity::toDomain).orElse(null);
   }
 
   public void addCategory(final CategoryID anId) {
@@ -275,6 +329,15 @@ public class VideoJpaEntity {
     return this;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
+  public VideoJpaEntity setVersion(long version) {
+    this.version = version;
+    return this;
+  }
+
   public AudioVideoMediaJpaEntity getVideo() {
     return video;
   }
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Searches video previews. A {@code null} argument disables its filter; {@code terms} is matched
+ * against the title, {@code ids} keeps only the given videos and the relation sets match videos
+ * related to any of the given ids. Pages may also be sorted by {@code relevance} to the terms.
+ */
+public interface VideoPreviewRepository {
+
+  Page<VideoPreview> findAll(
+      String terms,
+      Set<String> ids,
+      Set<String> castMembers,
+      Set<String> categories,
+      Set<String> genres,
+      Pageable page);
+
+  /**
+   * Reads at most {@code limit} previews placed after {@code after} (or from the start when it is
+   * {@code null}) without counting them.
+   */
+  List<VideoPreview> findAll(
+      String terms,
+      Set<String> ids,
+      Set<String> castMembers,
+      Set<String> categories,
+      Set<String> genres,
+      Cursor after,
+      String sort,
+      Sort.Direction direction,
+      int limit);
+
+  /** Reads one preview past the page to tell whether another page follows instead of counting. */
+  Slice<VideoPreview> findSlice(
+      String terms,
+      Set<String> ids,
+      Set<String> castMembers,
+      Set<String> categories,
+      Set<String> genres,
+      Pageable page);
+
+  long count(
+      String terms,
+      Set<String> ids,
+      Set<String> castMembers,
+      Set<String> categories,
+      Set<String> genres);
+
+  /** Reads every preview, unsorted, to build a search index. */
+  List<VideoPreview> findAllPreviews();
+}
@@ -1,42 +1,33 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
-import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.fullcycle.admin.catalogo.infrastructure.utils.InsertableRepository;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+public interface VideoRepository
+        extends JpaRepository<VideoJpaEntity, String>,
+        VideoPreviewRepository,
+        UpdatableVideoRepository,
+        InsertableRepository<VideoJpaEntity> {
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+  @EntityGraph(VideoJpaEntity.ALL)
+  Optional<VideoJpaEntity> findWithAllById(String anId);
 
-    @Query("""
-            select distinct new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page
-    );
+  @EntityGraph(VideoJpaEntity.RELATIONS)
+  Optional<VideoJpaEntity> findWithRelationsById(String anId);
+
+  /**
+   * Moves a video to its next version when one of its media is written on its own, and stamps the
+   * write, which is what the change feed follows.
+   */
+  @Modifying
+  @Query(
+      value =
+          "update Video v set v.version = v.version + 1, v.updatedAt = :updatedAt where v.id = :id")
+  int incrementVersion(@Param("id") String anId, @Param("updatedAt") Instant anUpdatedAt);
 }
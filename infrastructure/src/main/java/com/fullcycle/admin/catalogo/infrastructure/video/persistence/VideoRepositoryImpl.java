@@ -0,0 +1,270 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Cursor;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.InsertableRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Relations are filtered through {@code exists} sub-selects instead of joins, so each video is
+ * read once and no {@code distinct} is needed, and filters left {@code null} are not rendered at
+ * all. The sub-selects are served by the {@code (relation_id, video_id)} indexes. With {@code
+ * search.full-text.enabled} the terms go through the {@code FULLTEXT} index of the title, which
+ * also ranks the {@code relevance} sort, otherwise they are matched with {@code LIKE}.
+ */
+class VideoRepositoryImpl
+    implements VideoPreviewRepository, InsertableRepository<VideoJpaEntity> {
+
+  private static final Set<String> SORTABLE = Set.of("title", "createdAt", "updatedAt");
+
+  private static final String SELECT_PREVIEW =
+      """
+      select new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
+          v.id as id,
+          v.title as title,
+          v.description as description,
+          v.createdAt as createdAt,
+          v.updatedAt as updatedAt
+      )
+      from Video v
+      """;
+
+  private static final String COUNT = "select count(v.id) from Video v\n";
+
+  private final EntityManager entityManager;
+
+  private final boolean fullTextEnabled;
+
+  VideoRepositoryImpl(
+      final EntityManager entityManager,
+      @Value("${search.full-text.enabled:false}") final boolean fullTextEnabled) {
+    this.entityManager = entityManager;
+    this.fullTextEnabled = fullTextEnabled;
+  }
+
+  @Override
+  public void insertAll(final List<VideoJpaEntity> entities) {
+    entities.forEach(this.entityManager::persist);
+    this.entityManager.flush();
+  }
+
+  @Override
+  public Page<VideoPreview> findAll(
+      final String terms,
+      final Set<String> ids,
+      final Set<String> castMembers,
+      final Set<String> categories,
+      final Set<String> genres,
+      final Pageable page) {
+    final var search = search(terms, ids, castMembers, categories, genres);
+    final var jpql = select(search, page.getSort());
+
+    final var content =
+        search
+            .bind(this.entityManager.createQuery(jpql, VideoPreview.class))
+            .setFirstResult((int) page.getOffset())
+            .setMaxResults(page.getPageSize())
+            .getResultList();
+
+    return PageableExecutionUtils.getPage(content, page, () -> count(search));
+  }
+
+  @Override
+  public List<VideoPreview> findAll(
+      final String terms,
+      final Set<String> ids,
+      final Set<String> castMembers,
+      final Set<String> categories,
+      final Set<String> genres,
+      final Cursor after,
+      final String sort,
+      final Sort.Direction direction,
+      final int limit) {
+    FullTextUtils.requireNotRelevance(sort);
+    if (!SORTABLE.contains(sort)) {
+      throw DomainException.with(new Error("'sort' must be one of %s".formatted(SORTABLE)));
+    }
+
+    final var search = search(terms, ids, castMembers, categories, genres);
+    final var comparison = direction.isAscending() ? ">" : "<";
+    final var keyset =
+        after == null
+            ? null
+            : "( v.%1$s %2$s :key or ( v.%1$s = :key and v.id %2$s :id ) )"
+                .formatted(sort, comparison);
+
+    final var jpql =
+        SELECT_PREVIEW
+            + search.where(keyset)
+            + "order by v.%s %s, v.id %s".formatted(sort, direction.name(), direction.name());
+
+    final var query =
+        search
+            .bind(this.entityManager.createQuery(jpql, VideoPreview.class))
+            .setMaxResults(limit);
+
+    if (after != null) {
+      final var sortType =
+          this.entityManager.getMetamodel().entity(VideoJpaEntity.class).getAttribute(sort);
+      query
+          .setParameter("key", CursorUtils.keyOf(after.key(), sortType.getJavaType()))
+          .setParameter("id", after.id());
+    }
+
+    return query.getResultList();
+  }
+
+  @Override
+  public Slice<VideoPreview> findSlice(
+      final String terms,
+      final Set<String> ids,
+      final Set<String> castMembers,
+      final Set<String> categories,
+      final Set<String> genres,
+      final Pageable page) {
+    final var search = search(terms, ids, castMembers, categories, genres);
+    final var jpql = select(search, page.getSort());
+
+    final var rows =
+        search
+            .bind(this.entityManager.createQuery(jpql, VideoPreview.class))
+            .setFirstResult((int) page.getOffset())
+            .setMaxResults(page.getPageSize() + 1)
+            .getResultList();
+
+    final var hasNext = rows.size() > page.getPageSize();
+    return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+  }
+
+  @Override
+  public long count(
+      final String terms,
+      final Set<String> ids,
+      final Set<String> castMembers,
+      final Set<String> categories,
+      final Set<String> genres) {
+    return count(search(terms, ids, castMembers, categories, genres));
+  }
+
+  @Override
+  public List<VideoPreview> findAllPreviews() {
+    return this.entityManager.createQuery(SELECT_PREVIEW, VideoPreview.class).getResultList();
+  }
+
+  private Search search(
+      final String terms,
+      final Set<String> ids,
+      final Set<String> castMembers,
+      final Set<String> categories,
+      final Set<String> genres) {
+    final var match = this.fullTextEnabled ? FullTextUtils.booleanQuery(terms).orElse(null) : null;
+    final var like = match == null ? SqlUtils.like(SqlUtils.upper(terms)) : null;
+    return new Search(like, match, ids, castMembers, categories, genres);
+  }
+
+  /** {@code LIKE} can not rank, so the relevance sort falls back to the title without the index. */
+  private static String select(final Search search, final Sort sort) {
+    final var jpql = SELECT_PREVIEW + search.where();
+    if (sort.getOrderFor(FullTextUtils.RELEVANCE) == null) {
+      return QueryUtils.applySorting(jpql, sort, "v");
+    }
+    if (search.match() == null) {
+      return QueryUtils.applySorting(jpql, Sort.by("title"), "v");
+    }
+    return jpql + "order by match_against(v.title, :match) desc, v.id asc";
+  }
+
+  private long count(final Search search) {
+    return search
+        .bind(this.entityManager.createQuery(COUNT + search.where(), Long.class))
+        .getSingleResult();
+  }
+
+  private record Search(
+      String terms,
+      String match,
+      Set<String> ids,
+      Set<String> castMembers,
+      Set<String> categories,
+      Set<String> genres) {
+
+    String where() {
+      return where(null);
+    }
+
+    /** Renders the where clause of the filters in use, followed by {@code extra} if given. */
+    String where(final String extra) {
+      final var clauses = new ArrayList<String>();
+      if (terms != null) {
+        clauses.add("UPPER(v.title) like :terms");
+      }
+      if (match != null) {
+        clauses.add("match_against(v.title, :match) > 0");
+      }
+      if (ids != null) {
+        clauses.add(ids.isEmpty() ? "1 = 0" : "v.id in :ids");
+      }
+      if (castMembers != null) {
+        clauses.add(
+            """
+            exists ( select m.id.videoId from VideoCastMember m
+                where m.id.videoId = v.id and m.id.castMemberId in :castMembers )""");
+      }
+      if (categories != null) {
+        clauses.add(
+            """
+            exists ( select c.id.videoId from VideoCategory c
+                where c.id.videoId = v.id and c.id.categoryId in :categories )""");
+      }
+      if (genres != null) {
+        clauses.add(
+            """
+            exists ( select g.id.videoId from VideoGenre g
+                where g.id.videoId = v.id and g.id.genreId in :genres )""");
+      }
+      if (extra != null) {
+        clauses.add(extra);
+      }
+      return clauses.isEmpty() ? "" : "where " + String.join("\nand ", clauses) + "\n";
+    }
+
+    <T> TypedQuery<T> bind(final TypedQuery<T> query) {
+      if (terms != null) {
+        query.setParameter("terms", terms);
+      }
+      if (match != null) {
+        query.setParameter("match", match);
+      }
+      if (ids != null && !ids.isEmpty()) {
+        query.setParameter("ids", ids);
+      }
+      if (castMembers != null) {
+        query.setParameter("castMembers", castMembers);
+      }
+      if (categories != null) {
+        query.setParameter("categories", categories);
+      }
+      if (genres != null) {
+        query.setParameter("genres", genres);
+      }
+      return query;
+    }
+  }
+}
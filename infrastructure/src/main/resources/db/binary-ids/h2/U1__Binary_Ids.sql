@@ -0,0 +1,91 @@
+-- Turns the ids back into their 32 hex digits.
+
+ALTER TABLE genres_categories DROP CONSTRAINT fk_genre_id;
+ALTER TABLE genres_categories DROP CONSTRAINT fk_category_id;
+ALTER TABLE videos DROP CONSTRAINT fk_v_video_id;
+ALTER TABLE videos DROP CONSTRAINT fk_v_trailer_id;
+ALTER TABLE videos DROP CONSTRAINT fk_v_banner_id;
+ALTER TABLE videos DROP CONSTRAINT fk_v_thumb_id;
+ALTER TABLE videos DROP CONSTRAINT fk_v_thumb_half_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_vcs_video_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_vcs_category_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_vgs_video_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_vgs_genre_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_vcms_video_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_vcms_genre_id;
+
+ALTER TABLE categories ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+UPDATE categories SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id)));
+ALTER TABLE categories ALTER COLUMN id SET DATA TYPE CHAR(32);
+
+ALTER TABLE genres ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+UPDATE genres SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id)));
+ALTER TABLE genres ALTER COLUMN id SET DATA TYPE CHAR(32);
+
+ALTER TABLE genres_categories ALTER COLUMN genre_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE genres_categories ALTER COLUMN category_id SET DATA TYPE VARBINARY(32);
+UPDATE genres_categories SET genre_id = STRINGTOUTF8(LOWER(RAWTOHEX(genre_id))), category_id = STRINGTOUTF8(LOWER(RAWTOHEX(category_id)));
+ALTER TABLE genres_categories ALTER COLUMN genre_id SET DATA TYPE CHAR(32);
+ALTER TABLE genres_categories ALTER COLUMN category_id SET DATA TYPE CHAR(32);
+
+ALTER TABLE cast_members ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+UPDATE cast_members SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id)));
+ALTER TABLE cast_members ALTER COLUMN id SET DATA TYPE CHAR(32);
+
+ALTER TABLE videos_video_media ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+UPDATE videos_video_media SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id)));
+ALTER TABLE videos_video_media ALTER COLUMN id SET DATA TYPE CHAR(32);
+
+ALTER TABLE videos_image_media ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+UPDATE videos_image_media SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id)));
+ALTER TABLE videos_image_media ALTER COLUMN id SET DATA TYPE CHAR(32);
+
+ALTER TABLE videos ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos ALTER COLUMN video_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos ALTER COLUMN trailer_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos ALTER COLUMN banner_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos ALTER COLUMN thumbnail_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos ALTER COLUMN thumbnail_half_id SET DATA TYPE VARBINARY(32);
+UPDATE videos SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id))), video_id = STRINGTOUTF8(LOWER(RAWTOHEX(video_id))), trailer_id = STRINGTOUTF8(LOWER(RAWTOHEX(trailer_id))), banner_id = STRINGTOUTF8(LOWER(RAWTOHEX(banner_id))), thumbnail_id = STRINGTOUTF8(LOWER(RAWTOHEX(thumbnail_id))), thumbnail_half_id = STRINGTOUTF8(LOWER(RAWTOHEX(thumbnail_half_id)));
+ALTER TABLE videos ALTER COLUMN id SET DATA TYPE CHAR(32);
+ALTER TABLE videos ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos ALTER COLUMN trailer_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos ALTER COLUMN banner_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos ALTER COLUMN thumbnail_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos ALTER COLUMN thumbnail_half_id SET DATA TYPE CHAR(32);
+
+ALTER TABLE videos_categories ALTER COLUMN video_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos_categories ALTER COLUMN category_id SET DATA TYPE VARBINARY(32);
+UPDATE videos_categories SET video_id = STRINGTOUTF8(LOWER(RAWTOHEX(video_id))), category_id = STRINGTOUTF8(LOWER(RAWTOHEX(category_id)));
+ALTER TABLE videos_categories ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos_categories ALTER COLUMN category_id SET DATA TYPE CHAR(32);
+
+ALTER TABLE videos_genres ALTER COLUMN video_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos_genres ALTER COLUMN genre_id SET DATA TYPE VARBINARY(32);
+UPDATE videos_genres SET video_id = STRINGTOUTF8(LOWER(RAWTOHEX(video_id))), genre_id = STRINGTOUTF8(LOWER(RAWTOHEX(genre_id)));
+ALTER TABLE videos_genres ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos_genres ALTER COLUMN genre_id SET DATA TYPE CHAR(32);
+
+ALTER TABLE videos_cast_members ALTER COLUMN video_id SET DATA TYPE VARBINARY(32);
+ALTER TABLE videos_cast_members ALTER COLUMN cast_member_id SET DATA TYPE VARBINARY(32);
+UPDATE videos_cast_members SET video_id = STRINGTOUTF8(LOWER(RAWTOHEX(video_id))), cast_member_id = STRINGTOUTF8(LOWER(RAWTOHEX(cast_member_id)));
+ALTER TABLE videos_cast_members ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+ALTER TABLE videos_cast_members ALTER COLUMN cast_member_id SET DATA TYPE CHAR(32);
+
+ALTER TABLE tombstones ALTER COLUMN id SET DATA TYPE VARBINARY(32);
+UPDATE tombstones SET id = STRINGTOUTF8(LOWER(RAWTOHEX(id)));
+ALTER TABLE tombstones ALTER COLUMN id SET DATA TYPE CHAR(32);
+
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_genre_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
@@ -0,0 +1,111 @@
+-- Turns the ids back into their 32 hex digits.
+
+ALTER TABLE genres_categories
+    DROP FOREIGN KEY fk_genre_id,
+    DROP FOREIGN KEY fk_category_id;
+ALTER TABLE videos
+    DROP FOREIGN KEY fk_v_video_id,
+    DROP FOREIGN KEY fk_v_trailer_id,
+    DROP FOREIGN KEY fk_v_banner_id,
+    DROP FOREIGN KEY fk_v_thumb_id,
+    DROP FOREIGN KEY fk_v_thumb_half_id;
+ALTER TABLE videos_categories
+    DROP FOREIGN KEY fk_vcs_video_id,
+    DROP FOREIGN KEY fk_vcs_category_id;
+ALTER TABLE videos_genres
+    DROP FOREIGN KEY fk_vgs_video_id,
+    DROP FOREIGN KEY fk_vgs_genre_id;
+ALTER TABLE videos_cast_members
+    DROP FOREIGN KEY fk_vcms_video_id,
+    DROP FOREIGN KEY fk_vcms_genre_id;
+
+ALTER TABLE categories MODIFY id VARBINARY(32) NOT NULL;
+UPDATE categories SET id = LOWER(HEX(id));
+ALTER TABLE categories MODIFY id CHAR(32) NOT NULL;
+
+ALTER TABLE genres MODIFY id VARBINARY(32) NOT NULL;
+UPDATE genres SET id = LOWER(HEX(id));
+ALTER TABLE genres MODIFY id CHAR(32) NOT NULL;
+
+ALTER TABLE genres_categories
+    MODIFY genre_id VARBINARY(32) NOT NULL,
+    MODIFY category_id VARBINARY(32) NOT NULL;
+UPDATE genres_categories SET genre_id = LOWER(HEX(genre_id)), category_id = LOWER(HEX(category_id));
+ALTER TABLE genres_categories
+    MODIFY genre_id CHAR(32) NOT NULL,
+    MODIFY category_id CHAR(32) NOT NULL;
+
+ALTER TABLE cast_members MODIFY id VARBINARY(32) NOT NULL;
+UPDATE cast_members SET id = LOWER(HEX(id));
+ALTER TABLE cast_members MODIFY id CHAR(32) NOT NULL;
+
+ALTER TABLE videos_video_media MODIFY id VARBINARY(32) NOT NULL;
+UPDATE videos_video_media SET id = LOWER(HEX(id));
+ALTER TABLE videos_video_media MODIFY id CHAR(32) NOT NULL;
+
+ALTER TABLE videos_image_media MODIFY id VARBINARY(32) NOT NULL;
+UPDATE videos_image_media SET id = LOWER(HEX(id));
+ALTER TABLE videos_image_media MODIFY id CHAR(32) NOT NULL;
+
+ALTER TABLE videos
+    MODIFY id VARBINARY(32) NOT NULL,
+    MODIFY video_id VARBINARY(32) NULL,
+    MODIFY trailer_id VARBINARY(32) NULL,
+    MODIFY banner_id VARBINARY(32) NULL,
+    MODIFY thumbnail_id VARBINARY(32) NULL,
+    MODIFY thumbnail_half_id VARBINARY(32) NULL;
+UPDATE videos SET id = LOWER(HEX(id)), video_id = LOWER(HEX(video_id)), trailer_id = LOWER(HEX(trailer_id)), banner_id = LOWER(HEX(banner_id)), thumbnail_id = LOWER(HEX(thumbnail_id)), thumbnail_half_id = LOWER(HEX(thumbnail_half_id));
+ALTER TABLE videos
+    MODIFY id CHAR(32) NOT NULL,
+    MODIFY video_id CHAR(32) NULL,
+    MODIFY trailer_id CHAR(32) NULL,
+    MODIFY banner_id CHAR(32) NULL,
+    MODIFY thumbnail_id CHAR(32) NULL,
+    MODIFY thumbnail_half_id CHAR(32) NULL;
+
+ALTER TABLE videos_categories
+    MODIFY video_id VARBINARY(32) NOT NULL,
+    MODIFY category_id VARBINARY(32) NOT NULL;
+UPDATE videos_categories SET video_id = LOWER(HEX(video_id)), category_id = LOWER(HEX(category_id));
+ALTER TABLE videos_categories
+    MODIFY video_id CHAR(32) NOT NULL,
+    MODIFY category_id CHAR(32) NOT NULL;
+
+ALTER TABLE videos_genres
+    MODIFY video_id VARBINARY(32) NOT NULL,
+    MODIFY genre_id VARBINARY(32) NOT NULL;
+UPDATE videos_genres SET video_id = LOWER(HEX(video_id)), genre_id = LOWER(HEX(genre_id));
+ALTER TABLE videos_genres
+    MODIFY video_id CHAR(32) NOT NULL,
+    MODIFY genre_id CHAR(32) NOT NULL;
+
+ALTER TABLE videos_cast_members
+    MODIFY video_id VARBINARY(32) NOT NULL,
+    MODIFY cast_member_id VARBINARY(32) NOT NULL;
+UPDATE videos_cast_members SET video_id = LOWER(HEX(video_id)), cast_member_id = LOWER(HEX(cast_member_id));
+ALTER TABLE videos_cast_members
+    MODIFY video_id CHAR(32) NOT NULL,
+    MODIFY cast_member_id CHAR(32) NOT NULL;
+
+ALTER TABLE tombstones MODIFY id VARBINARY(32) NOT NULL;
+UPDATE tombstones SET id = LOWER(HEX(id));
+ALTER TABLE tombstones MODIFY id CHAR(32) NOT NULL;
+
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+ALTER TABLE videos
+    ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos_categories
+    ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id),
+    ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE videos_genres
+    ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id),
+    ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+ALTER TABLE videos_cast_members
+    ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id),
+    ADD CONSTRAINT fk_vcms_genre_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
@@ -0,0 +1 @@
+DROP TABLE event_outbox;
\ No newline at end of file
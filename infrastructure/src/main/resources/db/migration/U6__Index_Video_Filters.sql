@@ -0,0 +1,4 @@
+DROP INDEX idx_v_title ON videos;
+DROP INDEX idx_vcms_member_video ON videos_cast_members;
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+DROP INDEX idx_vcs_category_video ON videos_categories;
@@ -0,0 +1,4 @@
+ALTER TABLE videos DROP COLUMN version;
+ALTER TABLE cast_members DROP COLUMN version;
+ALTER TABLE genres DROP COLUMN version;
+ALTER TABLE categories DROP COLUMN version;
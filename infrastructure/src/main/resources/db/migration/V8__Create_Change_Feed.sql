@@ -0,0 +1,12 @@
+CREATE INDEX idx_c_updated_at_id ON categories (updated_at, id);
+CREATE INDEX idx_g_updated_at_id ON genres (updated_at, id);
+CREATE INDEX idx_cm_updated_at_id ON cast_members (updated_at, id);
+CREATE INDEX idx_v_updated_at_id ON videos (updated_at, id);
+
+CREATE TABLE tombstones (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    aggregate VARCHAR(32) NOT NULL,
+    deleted_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_t_aggregate_deleted_at_id ON tombstones (aggregate, deleted_at, id);
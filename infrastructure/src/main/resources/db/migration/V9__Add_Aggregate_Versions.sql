@@ -0,0 +1,6 @@
+-- The version an update expects to find; a write that finds another one is rejected, so
+-- concurrent writers fail fast instead of overwriting each other or locking the rows.
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE cast_members ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE videos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
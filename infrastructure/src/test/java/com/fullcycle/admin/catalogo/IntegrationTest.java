@@ -12,7 +12,12 @@ import org.springframework.test.context.ActiveProfiles;
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
 @ActiveProfiles("test-integration")
-@SpringBootTest(classes = WebServerConfig.class)
+@SpringBootTest(
+        classes = WebServerConfig.class,
+        properties =
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                        + "com.fullcycle.admin.catalogo.QueryCounter"
+)
 @ExtendWith(MySQLCleanUpExtension.class)
 @Tag("integrationTest")
 public @interface IntegrationTest {}
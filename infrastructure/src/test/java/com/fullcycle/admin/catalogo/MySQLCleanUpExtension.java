@@ -2,7 +2,9 @@ package com.fullcycle.admin.catalogo;
 
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.feed.persistence.TombstoneRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -21,6 +23,8 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
 
     cleanUp(
         List.of(
+            appContext.getBean(OutboxEventRepository.class),
+            appContext.getBean(TombstoneRepository.class),
             appContext.getBean(VideoRepository.class),
             appContext.getBean(CastMemberRepository.class),
             appContext.getBean(GenreRepository.class),
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.search.SearchSupport;
 import java.lang.annotation.*;
 
 import org.junit.jupiter.api.Tag;
@@ -17,10 +18,17 @@ import org.springframework.test.context.ActiveProfiles;
         basePackages = "com.fullcycle.admin.catalogo",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(
+                        type = FilterType.ASSIGNABLE_TYPE,
+                        classes = SearchSupport.class)
         }
 )
-@DataJpaTest
+@DataJpaTest(
+        properties =
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                        + "com.fullcycle.admin.catalogo.QueryCounter"
+)
 @ExtendWith(MySQLCleanUpExtension.class)
 @Tag("integrationTest")
 public @interface MySQLGatewayTest {}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Counts the statements Hibernate prepares on the calling thread, so a test can pin how many
+ * queries a read costs and fail when an association starts being loaded row by row.
+ */
+public class QueryCounter implements StatementInspector {
+
+  private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+  @Override
+  public String inspect(final String sql) {
+    final var statements = STATEMENTS.get();
+    if (statements != null) {
+      statements.add(sql);
+    }
+    return sql;
+  }
+
+  public static <T> T assertQueries(final int expected, final Supplier<T> anAction) {
+    final var statements = new ArrayList<String>();
+    final var result = record(statements, anAction);
+    Assertions.assertEquals(
+        expected, statements.size(), () -> "Statements run:\n" + String.join("\n", statements));
+    return result;
+  }
+
+  /** The statements run by the action, in order. */
+  public static List<String> statementsOf(final Runnable anAction) {
+    final var statements = new ArrayList<String>();
+    record(
+        statements,
+        () -> {
+          anAction.run();
+          return null;
+        });
+    return statements;
+  }
+
+  private static <T> T record(final List<String> statements, final Supplier<T> anAction) {
+    STATEMENTS.set(statements);
+    try {
+      return anAction.get();
+    } finally {
+      STATEMENTS.remove();
+    }
+  }
+}
@@ -58,7 +58,7 @@ public class UpdateCastMemberUseCaseIT {
     Assertions.assertEquals(aMember.getCreatedAt(), actualPersistedMember.getCreatedAt());
     Assertions.assertTrue(aMember.getUpdatedAt().isBefore(actualPersistedMember.getUpdatedAt()));
 
-    verify(castMemberGateway).findById(any());
+    verify(castMemberGateway).findLatestById(any());
     verify(castMemberGateway).update(any());
   }
 
@@ -93,7 +93,7 @@ public class UpdateCastMemberUseCaseIT {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(castMemberGateway).findById(any());
+    verify(castMemberGateway).findLatestById(any());
     verify(castMemberGateway, never()).update(any());
   }
 
@@ -128,7 +128,7 @@ public class UpdateCastMemberUseCaseIT {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    verify(castMemberGateway).findById(any());
+    verify(castMemberGateway).findLatestById(any());
     verify(castMemberGateway, never()).update(any());
   }
 
@@ -157,7 +157,7 @@ public class UpdateCastMemberUseCaseIT {
 
     Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-    verify(castMemberGateway).findById(any());
+    verify(castMemberGateway).findLatestById(any());
     verify(castMemberGateway, never()).update(any());
   }
 }
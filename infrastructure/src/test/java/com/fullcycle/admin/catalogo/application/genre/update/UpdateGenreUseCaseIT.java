@@ -165,7 +165,7 @@ public class UpdateGenreUseCaseIT {
     Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(categoryGateway, times(0)).existsByIds(any());
 
@@ -208,7 +208,7 @@ public class UpdateGenreUseCaseIT {
     Assertions.assertEquals(expectedErrorMessageOne, actualException.getErrors().get(0).message());
     Assertions.assertEquals(expectedErrorMessageTwo, actualException.getErrors().get(1).message());
 
-    Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+    Mockito.verify(genreGateway, times(1)).findLatestById(eq(expectedId));
 
     Mockito.verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
 
@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalogo.e2e.outbox;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@E2ETest
+@Testcontainers
+public class OutboxE2ETest {
+
+  private static final int BATCH_SIZE = 5;
+
+  @Container
+  private static final MySQLContainer MYSQL_CONTAINER =
+      new MySQLContainer("mysql:latest")
+          .withPassword("123456")
+          .withUsername("root")
+          .withDatabaseName("adm_videos");
+
+  @DynamicPropertySource
+  public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+    registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+  }
+
+  // keeps the scheduled relay from claiming the events this test claims
+  @MockBean private OutboxRelay outboxRelay;
+
+  @Autowired private OutboxEventRepository outboxEventRepository;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Test
+  public void givenPendingEvents_whenTwoRelaysClaimAtOnce_shouldGetDisjointBatches()
+      throws Exception {
+    Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+
+    outboxEventRepository.saveAll(
+        IntStream.range(0, BATCH_SIZE * 2)
+            .mapToObj(i -> OutboxEventJpaEntity.with("video.events", "video.created", "{}"))
+            .toList());
+
+    // both hold their locks until the other claimed, so waiting on a lock would time out
+    final var claimed = new CyclicBarrier(2);
+    final var executor = Executors.newFixedThreadPool(2);
+    try {
+      final Callable<List<Long>> claim = () -> claim(claimed);
+      final var claims = executor.invokeAll(List.of(claim, claim), 30, TimeUnit.SECONDS);
+
+      final var first = claims.get(0).get();
+      final var second = claims.get(1).get();
+
+      Assertions.assertEquals(BATCH_SIZE, first.size());
+      Assertions.assertEquals(BATCH_SIZE, second.size());
+
+      final var all = new HashSet<>(first);
+      all.addAll(second);
+      Assertions.assertEquals(BATCH_SIZE * 2, all.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private List<Long> claim(final CyclicBarrier claimed) {
+    return transactionTemplate.execute(
+        status -> {
+          final var ids =
+              outboxEventRepository.findNextBatch(PageRequest.ofSize(BATCH_SIZE)).stream()
+                  .map(OutboxEventJpaEntity::getId)
+                  .toList();
+          try {
+            claimed.await(10, TimeUnit.SECONDS);
+          } catch (final Exception e) {
+            throw new IllegalStateException("The other relay did not claim its batch", e);
+          }
+          return ids;
+        });
+  }
+}
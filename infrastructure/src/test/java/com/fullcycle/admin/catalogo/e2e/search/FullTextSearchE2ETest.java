@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.e2e.search;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.e2e.MockDsl;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/** Searches through the {@code FULLTEXT} indexes, which only MySQL has. */
+@E2ETest
+@Testcontainers
+@TestPropertySource(properties = "search.full-text.enabled=true")
+public class FullTextSearchE2ETest implements MockDsl {
+
+  @Autowired private MockMvc mvc;
+
+  @Autowired private VideoGateway videoGateway;
+
+  @Container
+  private static final MySQLContainer MYSQL_CONTAINER =
+      new MySQLContainer("mysql:latest")
+          .withPassword("123456")
+          .withUsername("root")
+          .withDatabaseName("adm_videos");
+
+  @DynamicPropertySource
+  public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+    registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+  }
+
+  @Override
+  public MockMvc mvc() {
+    return this.mvc;
+  }
+
+  @Test
+  public void asACatalogAdminIShouldBeAbleToSearchCategoriesByRelevance() throws Exception {
+    Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+
+    givenACategory("Séries", "Filmes em capítulos", true);
+    givenACategory("Filmes", "Filmes e mais filmes", true);
+    givenACategory("Documentários", null, true);
+
+    listCategories(0, 10, "filmes", "relevance", "desc")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total", equalTo(2)))
+        .andExpect(jsonPath("$.items", hasSize(2)))
+        .andExpect(jsonPath("$.items[0].name", equalTo("Filmes")))
+        .andExpect(jsonPath("$.items[1].name", equalTo("Séries")));
+  }
+
+  @Test
+  public void asACatalogAdminIShouldOnlyFindCategoriesByTheStartOfTheirWords() throws Exception {
+    Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+
+    givenACategory("Filmes", null, true);
+
+    // LIKE would find it, the index only matches prefixes
+    listCategories(0, 10, "ilm")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total", equalTo(0)));
+
+    listCategories(0, 10, "fil")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total", equalTo(1)))
+        .andExpect(jsonPath("$.items[0].name", equalTo("Filmes")));
+  }
+
+  @Test
+  public void asACatalogAdminIShouldBeAbleToSearchVideosByRelevance() {
+    Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+
+    givenAVideo("System Design no Mercado Livre na prática");
+    givenAVideo("Design de APIs: design first ou code first?");
+    givenAVideo("Não cometa esses erros ao trabalhar com Microsserviços");
+
+    final var aQuery =
+        new VideoSearchQuery(0, 10, "design", "relevance", "desc", Set.of(), Set.of(), Set.of());
+
+    final var actualPage = videoGateway.findAll(aQuery);
+
+    Assertions.assertEquals(2, actualPage.total());
+    Assertions.assertEquals(
+        List.of(
+            "Design de APIs: design first ou code first?",
+            "System Design no Mercado Livre na prática"),
+        actualPage.items().stream().map(VideoPreview::title).toList());
+  }
+
+  private void givenAVideo(final String aTitle) {
+    videoGateway.create(
+        Video.newVideo(
+            aTitle,
+            "Um vídeo",
+            Year.of(2022),
+            120.0,
+            true,
+            true,
+            Rating.L,
+            Set.of(),
+            Set.of(),
+            Set.of()));
+  }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheInvalidation;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CacheInvalidationListenerTest {
+
+  @Test
+  public void givenABatchOfInvalidations_whenReceived_shouldEvictOnlyOutdatedCopies() {
+    // given
+    final var cache =
+        new GatewayCache<Category>(
+            "category",
+            Duration.ofMinutes(1),
+            10,
+            Category::with,
+            Category::getVersion,
+            event -> {});
+    final var target = new CacheInvalidationListener(List.of(cache));
+
+    final var outdated = Category.newCategory("Filmes", null, true);
+    final var current = Category.newCategory("Séries", null, true);
+    cache.get(outdated.getId().getValue(), () -> Optional.of(outdated));
+    cache.get(current.getId().getValue(), () -> Optional.of(current));
+
+    final var outdatedId = outdated.getId().getValue();
+    final var currentId = current.getId().getValue();
+
+    final var messages =
+        List.of(
+            Json.writeValueAsString(
+                new CacheInvalidation("category", outdatedId, outdated.getVersion())),
+            Json.writeValueAsString(
+                new CacheInvalidation("category", outdatedId, outdated.getVersion() + 1)),
+            Json.writeValueAsString(
+                new CacheInvalidation("category", currentId, current.getVersion())),
+            Json.writeValueAsString(new CacheInvalidation("unknown", currentId, null)),
+            "not a json");
+
+    // when
+    target.onInvalidationMessages(messages);
+
+    // then
+    Assertions.assertEquals(1, cache.getSize());
+    Assertions.assertEquals(
+        currentId, cache.get(currentId, Optional::empty).orElseThrow().getId().getValue());
+  }
+}
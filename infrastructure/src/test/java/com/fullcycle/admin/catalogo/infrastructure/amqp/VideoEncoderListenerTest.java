@@ -6,21 +6,26 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.fullcycle.admin.catalogo.AmqpTest;
+import com.fullcycle.admin.catalogo.application.video.media.update.BatchUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
-import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
-import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,9 +38,9 @@ public class VideoEncoderListenerTest {
 
   @Autowired private RabbitListenerTestHarness harness;
 
-  @MockBean private UpdateMediaStatusUseCase updateMediaStatusUseCase;
+  @MockBean private BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
 
-  @Autowired @VideoEncodedQueue private QueueProperties queueProperties;
+  @Autowired private RabbitListenerEndpointRegistry listenerRegistry;
 
   @Test
   public void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
@@ -46,7 +51,7 @@ public class VideoEncoderListenerTest {
     final var expectedMessage = Json.writeValueAsString(expectedError);
 
     // when
-    this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+    deliverBatch(expectedMessage);
 
     // then
     final var invocationData =
@@ -55,8 +60,11 @@ public class VideoEncoderListenerTest {
     assertNotNull(invocationData);
     assertNotNull(invocationData.getArguments());
 
-    final var actualMessage = (String) invocationData.getArguments()[0];
-    assertEquals(expectedMessage, actualMessage);
+    final var actualMessages = (List<?>) invocationData.getArguments()[0];
+    assertEquals(1, actualMessages.size());
+    assertEquals(expectedMessage, actualMessages.get(0));
+
+    verifyNoInteractions(batchUpdateMediaStatusUseCase);
   }
 
   @Test
@@ -77,10 +85,10 @@ public class VideoEncoderListenerTest {
 
     final var expectedMessage = Json.writeValueAsString(aResult);
 
-    doNothing().when(updateMediaStatusUseCase).execute(any());
+    doNothing().when(batchUpdateMediaStatusUseCase).execute(any());
 
     // when
-    this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+    deliverBatch(expectedMessage);
 
     // then
     final var invocationData =
@@ -89,17 +97,76 @@ public class VideoEncoderListenerTest {
     assertNotNull(invocationData);
     assertNotNull(invocationData.getArguments());
 
-    final var actualMessage = (String) invocationData.getArguments()[0];
-    assertEquals(expectedMessage, actualMessage);
+    final var actualMessages = (List<?>) invocationData.getArguments()[0];
+    assertEquals(1, actualMessages.size());
+    assertEquals(expectedMessage, actualMessages.get(0));
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<UpdateMediaStatusCommand>> cmdCaptor =
+        ArgumentCaptor.forClass(List.class);
+    verify(batchUpdateMediaStatusUseCase).execute(cmdCaptor.capture());
 
-    final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
-    verify(updateMediaStatusUseCase).execute(cmdCaptor.capture());
+    assertEquals(1, cmdCaptor.getValue().size());
 
-    final var actualCommand = cmdCaptor.getValue();
+    final var actualCommand = cmdCaptor.getValue().get(0);
     assertEquals(expectedStatus, actualCommand.status());
     assertEquals(expectedId, actualCommand.videoId());
     assertEquals(expectedResourceId, actualCommand.resourceId());
     assertEquals(expectedEncoderVideoFolder, actualCommand.folder());
     assertEquals(expectedFilePath, actualCommand.filename());
   }
+
+  @Test
+  public void givenBatchOfResults_whenCallsListener_shouldCallUseCaseOnceWithCompletedOnes()
+      throws InterruptedException {
+    // given
+    final var aMetadata = new VideoMetadata("anyfolder", uuid(), "any.mp4");
+    final var anotherMetadata = new VideoMetadata("otherfolder", uuid(), "other.mp4");
+
+    final var messages =
+        new String[] {
+          Json.writeValueAsString(new VideoEncoderCompleted(uuid(), "bucket", aMetadata)),
+          Json.writeValueAsString(
+              new VideoEncoderError(new VideoMessage("123", "abc"), "Video not found")),
+          "not a json",
+          Json.writeValueAsString(new VideoEncoderCompleted(uuid(), "bucket", anotherMetadata))
+        };
+
+    doNothing().when(batchUpdateMediaStatusUseCase).execute(any());
+
+    // when
+    deliverBatch(messages);
+
+    // then
+    final var invocationData =
+        harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+    assertNotNull(invocationData);
+    assertEquals(messages.length, ((List<?>) invocationData.getArguments()[0]).size());
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<UpdateMediaStatusCommand>> cmdCaptor =
+        ArgumentCaptor.forClass(List.class);
+    verify(batchUpdateMediaStatusUseCase).execute(cmdCaptor.capture());
+
+    final var actualResourceIds =
+        cmdCaptor.getValue().stream().map(UpdateMediaStatusCommand::resourceId).toList();
+    assertEquals(
+        List.of(aMetadata.resourceId(), anotherMetadata.resourceId()), actualResourceIds);
+  }
+
+  /** Delivers the messages the way a consumer batching container does, as a single batch. */
+  private void deliverBatch(final String... messages) {
+    final var container =
+        (AbstractMessageListenerContainer)
+            listenerRegistry.getListenerContainer(VideoEncoderListener.LISTENER_ID);
+    final var listener = (ChannelAwareBatchMessageListener) container.getMessageListener();
+    final var converter = rabbitTemplate.getMessageConverter();
+
+    listener.onMessageBatch(
+        Arrays.stream(messages)
+            .map(message -> converter.toMessage(message, new MessageProperties()))
+            .toList(),
+        null);
+  }
 }
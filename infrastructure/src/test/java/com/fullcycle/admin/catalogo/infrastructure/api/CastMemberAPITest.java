@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.castmember.create.BulkCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
@@ -24,12 +25,16 @@ import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
 import java.util.List;
 import java.util.Objects;
 import org.junit.jupiter.api.Test;
@@ -47,6 +52,8 @@ public class CastMemberAPITest {
 
   @MockBean private DefaultCreateCastMemberUseCase createCastMemberUseCase;
 
+  @MockBean private BulkCreateCastMemberUseCase bulkCreateCastMemberUseCase;
+
   @MockBean private DefaultDeleteCastMemberUseCase deleteCastMemberUseCase;
 
   @MockBean private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
@@ -55,6 +62,10 @@ public class CastMemberAPITest {
 
   @MockBean private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+  @MockBean private JdbcExporter jdbcExporter;
+
+  @MockBean private ChangeFeed changeFeed;
+
   @Test
   public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier()
       throws Exception {
@@ -229,6 +240,99 @@ public class CastMemberAPITest {
                         && Objects.equals(expectedType, actualCmd.type())));
   }
 
+  @Test
+  public void givenAStaleIfMatch_whenCallsUpdateCastMember_shouldReturnPreconditionFailed()
+      throws Exception {
+    // given
+    final var anAggregate = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+    anAggregate.restoreVersion(3);
+
+    final var expectedId = anAggregate.getId().getValue();
+    final var expectedVersion = 2L;
+    final var expectedErrorMessage =
+        "CastMember with ID %s is at version 3, not 2".formatted(expectedId);
+
+    when(updateCastMemberUseCase.execute(any()))
+        .thenThrow(VersionMismatchException.with(anAggregate, expectedVersion));
+
+    final var aCommand = new UpdateCastMemberRequest("Vin Diesel", CastMemberType.ACTOR);
+
+    // when
+    final var aRequest =
+        put("/cast_members/{id}", expectedId)
+            .with(ApiTest.CAST_MEMBERS_JWT)
+            .header("If-Match", "\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(aRequest).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateCastMemberUseCase)
+        .execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateCastMember_shouldReturnConflict()
+      throws Exception {
+    // given
+    final var anAggregate = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+
+    final var expectedId = anAggregate.getId().getValue();
+    final var expectedErrorMessage =
+        "CastMember with ID %s was changed by another request".formatted(expectedId);
+
+    when(updateCastMemberUseCase.execute(any())).thenThrow(ConflictException.with(anAggregate));
+
+    final var aCommand = new UpdateCastMemberRequest("Vin Diesel", CastMemberType.ACTOR);
+
+    // when
+    final var aRequest =
+        put("/cast_members/{id}", expectedId)
+            .with(ApiTest.CAST_MEMBERS_JWT)
+            .header("If-Match", "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(aRequest).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+  }
+
+  @Test
+  public void givenAWeakIfMatch_whenCallsUpdateCastMember_shouldReturnBadRequest()
+      throws Exception {
+    // given
+    final var expectedId = "123";
+    final var expectedErrorMessage = "If-Match takes a strong entity tag, not W/\"2\"";
+
+    final var aCommand = new UpdateCastMemberRequest("Vin Diesel", CastMemberType.ACTOR);
+
+    // when
+    final var aRequest =
+        put("/cast_members/{id}", expectedId)
+            .with(ApiTest.CAST_MEMBERS_JWT)
+            .header("If-Match", "W/\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(aRequest).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateCastMemberUseCase, never()).execute(any());
+  }
+
   @Test
   public void givenAnInvalidName_whenCallsUpdateCastMember_shouldReturnNotification()
       throws Exception {
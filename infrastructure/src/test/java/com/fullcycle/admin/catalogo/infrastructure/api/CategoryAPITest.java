@@ -12,6 +12,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
@@ -23,16 +25,27 @@ import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOu
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeFeedResponse;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeResponse;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -43,10 +56,13 @@ public class CategoryAPITest {
   @Autowired private MockMvc mvc;
   @Autowired private ObjectMapper mapper;
   @MockBean private CreateCategoryUseCase createCategoryUseCase;
+  @MockBean private BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
   @MockBean private GetCategoryByIdUseCase getCategoryByIdUseCase;
   @MockBean private UpdateCategoryUseCase updateCategoryUseCase;
   @MockBean private DeleteCategoryUseCase deleteCategoryUseCase;
   @MockBean private ListCategoriesUseCase listCategoriesUseCase;
+  @MockBean private JdbcExporter jdbcExporter;
+  @MockBean private ChangeFeed changeFeed;
 
   @Test
   public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
@@ -194,6 +210,7 @@ public class CategoryAPITest {
     response
         .andExpect(status().isOk())
         .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+        .andExpect(header().string("ETag", "\"0\""))
         .andExpect(jsonPath("$.id", equalTo(expectedId)))
         .andExpect(jsonPath("$.name", equalTo(expectedName)))
         .andExpect(jsonPath("$.description", equalTo(expectedDescription)))
@@ -257,6 +274,7 @@ public class CategoryAPITest {
     response
         .andExpect(status().isOk())
         .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+        .andExpect(header().string("ETag", "\"0\""))
         .andExpect(jsonPath("$.id", equalTo(expectedId)));
 
     verify(updateCategoryUseCase, times(1))
@@ -265,7 +283,102 @@ public class CategoryAPITest {
                 cmd ->
                     Objects.equals(expectedName, cmd.name())
                         && Objects.equals(expectedDescription, cmd.description())
-                        && Objects.equals(expectedIsActive, cmd.isActive())));
+                        && Objects.equals(expectedIsActive, cmd.isActive())
+                        && cmd.version() == null));
+  }
+
+  @Test
+  public void givenAStaleIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailed()
+      throws Exception {
+    // given
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    aCategory.restoreVersion(3);
+
+    final var expectedId = aCategory.getId().getValue();
+    final var expectedVersion = 2L;
+    final var expectedErrorMessage =
+        "Category with ID %s is at version 3, not 2".formatted(expectedId);
+
+    when(updateCategoryUseCase.execute(any()))
+        .thenThrow(VersionMismatchException.with(aCategory, expectedVersion));
+
+    final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+    // when
+    final var request =
+        put("/categories/{id}", expectedId)
+            .with(ApiTest.CATEGORIES_JWT)
+            .header("If-Match", "\"2\"")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateCategoryUseCase, times(1))
+        .execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateCategory_shouldReturnConflict()
+      throws Exception {
+    // given
+    final var aCategory = Category.newCategory("Filmes", null, true);
+
+    final var expectedId = aCategory.getId().getValue();
+    final var expectedErrorMessage =
+        "Category with ID %s was changed by another request".formatted(expectedId);
+
+    when(updateCategoryUseCase.execute(any())).thenThrow(ConflictException.with(aCategory));
+
+    final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+    // when
+    final var request =
+        put("/categories/{id}", expectedId)
+            .with(ApiTest.CATEGORIES_JWT)
+            .header("If-Match", "\"0\"")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"W/\"2\"", "\"1\", \"2\"", "2", "\"two\""})
+  public void givenAnInvalidIfMatch_whenCallsUpdateCategory_shouldReturnBadRequest(
+      final String anIfMatch) throws Exception {
+    // given
+    final var expectedId = "123";
+
+    final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+    // when
+    final var request =
+        put("/categories/{id}", expectedId)
+            .with(ApiTest.CATEGORIES_JWT)
+            .header("If-Match", anIfMatch)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response.andExpect(status().isBadRequest()).andExpect(jsonPath("$.errors", hasSize(1)));
+
+    verify(updateCategoryUseCase, never()).execute(any());
   }
 
   @Test
@@ -432,4 +545,170 @@ public class CategoryAPITest {
                         && Objects.equals(expectedSort, query.sort())
                         && Objects.equals(expectedTerms, query.terms())));
   }
+
+  @Test
+  public void givenTotalNone_whenCallsListCategories_shouldSkipTheTotal() throws Exception {
+    // given
+    final var aCategory = Category.newCategory("Movies", null, true);
+
+    final var expectedPage = 0;
+    final var expectedPerPage = 1;
+    final var expectedTotal = -1;
+    final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+    when(listCategoriesUseCase.execute(any()))
+        .thenReturn(
+            new Pagination<>(
+                expectedPage, expectedPerPage, expectedTotal, expectedItems, null, true));
+
+    // when
+    final var request =
+        get("/categories")
+            .with(ApiTest.CATEGORIES_JWT)
+            .queryParam("perPage", String.valueOf(expectedPerPage))
+            .queryParam("total", "none")
+            .accept(MediaType.APPLICATION_JSON);
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+        .andExpect(jsonPath("$.has_next", equalTo(true)))
+        .andExpect(jsonPath("$.items", hasSize(1)));
+
+    verify(listCategoriesUseCase, times(1))
+        .execute(argThat(query -> TotalMode.NONE == query.total()));
+  }
+
+  @Test
+  public void givenAnUnknownTotal_whenCallsListCategories_shouldReturnUnprocessableEntity()
+      throws Exception {
+    // given
+    final var expectedErrorMessage = "'total' must be one of exact, estimated or none";
+
+    // when
+    final var request =
+        get("/categories")
+            .with(ApiTest.CATEGORIES_JWT)
+            .queryParam("total", "maybe")
+            .accept(MediaType.APPLICATION_JSON);
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+    verify(listCategoriesUseCase, times(0)).execute(any());
+  }
+
+  @Test
+  public void givenAStreamOfRequests_whenCallsBulkCreate_shouldStreamOneResultPerLine()
+      throws Exception {
+    // given
+    final var expectedErrorMessage = "'name' should not be null";
+    final var ndjson =
+        """
+        {"name":"Filmes","description":"A mais assistida","is_active":true}
+
+        not a json
+        {"description":"Sem nome"}
+        """;
+
+    when(bulkCreateCategoryUseCase.execute(any()))
+        .thenReturn(
+            List.of(
+                BulkCreateOutput.created("123"),
+                BulkCreateOutput.rejected(Notification.create(new Error(expectedErrorMessage)))));
+
+    // when
+    final var request =
+        post("/categories/bulk")
+            .with(ApiTest.CATEGORIES_JWT)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(ndjson);
+
+    final var started =
+        this.mvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+
+    final var response = this.mvc.perform(asyncDispatch(started)).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+        .andExpect(
+            content()
+                .string(
+                    """
+                    {"line":1,"id":"123"}
+                    {"line":3,"errors":[{"message":"Line 3 is not a valid request"}]}
+                    {"line":4,"errors":[{"message":"'name' should not be null"}]}
+                    """));
+
+    verify(bulkCreateCategoryUseCase, times(1))
+        .execute(
+            argThat(
+                cmds ->
+                    cmds.size() == 2
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && cmds.get(0).isActive()
+                        && Objects.isNull(cmds.get(1).name())
+                        && cmds.get(1).isActive()));
+  }
+
+  @Test
+  public void givenAnUnknownFormat_whenCallsExportCategories_shouldReturnUnprocessableEntity()
+      throws Exception {
+    // given
+    final var expectedErrorMessage = "'format' must be one of ndjson or csv";
+
+    // when
+    final var request =
+        get("/categories/export").with(ApiTest.CATEGORIES_JWT).queryParam("format", "xml");
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+    verify(jdbcExporter, times(0)).export(any(), any());
+  }
+
+  @Test
+  public void givenACursor_whenCallsListChanges_shouldReturnTheCategoryChanges() throws Exception {
+    // given
+    final var expectedChangedAt = Instant.parse("2023-01-01T10:00:00Z");
+
+    when(changeFeed.changes(ExportTable.CATEGORIES, "abc", 50))
+        .thenReturn(
+            new ChangeFeedResponse(
+                List.of(new ChangeResponse("123", expectedChangedAt, true, null)), "def", false));
+
+    // when
+    final var request =
+        get("/categories/changes")
+            .with(ApiTest.CATEGORIES_JWT)
+            .queryParam("cursor", "abc")
+            .queryParam("limit", "50")
+            .accept(MediaType.APPLICATION_JSON);
+
+    final var response = this.mvc.perform(request).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items", hasSize(1)))
+        .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+        .andExpect(jsonPath("$.items[0].changed_at", equalTo(expectedChangedAt.toString())))
+        .andExpect(jsonPath("$.items[0].deleted", equalTo(true)))
+        .andExpect(jsonPath("$.items[0].data").doesNotExist())
+        .andExpect(jsonPath("$.cursor", equalTo("def")))
+        .andExpect(jsonPath("$.has_more", equalTo(false)));
+  }
 }
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.genre.create.BulkCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -21,13 +22,17 @@ import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUse
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import java.util.List;
@@ -47,6 +52,8 @@ public class GenreAPITest {
 
   @MockBean private CreateGenreUseCase createGenreUseCase;
 
+  @MockBean private BulkCreateGenreUseCase bulkCreateGenreUseCase;
+
   @MockBean private GetGenreByIdUseCase getGenreByIdUseCase;
 
   @MockBean private UpdateGenreUseCase updateGenreUseCase;
@@ -55,6 +62,10 @@ public class GenreAPITest {
 
   @MockBean private ListGenreUseCase listGenreUseCase;
 
+  @MockBean private JdbcExporter jdbcExporter;
+
+  @MockBean private ChangeFeed changeFeed;
+
   @Test
   public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
     // given
@@ -237,6 +248,97 @@ public class GenreAPITest {
                         && Objects.equals(expectedIsActive, cmd.isActive())));
   }
 
+  @Test
+  public void givenAStaleIfMatch_whenCallsUpdateGenre_shouldReturnPreconditionFailed()
+      throws Exception {
+    // given
+    final var anAggregate = Genre.newGenre("Ação", true);
+    anAggregate.restoreVersion(3);
+
+    final var expectedId = anAggregate.getId().getValue();
+    final var expectedVersion = 2L;
+    final var expectedErrorMessage =
+        "Genre with ID %s is at version 3, not 2".formatted(expectedId);
+
+    when(updateGenreUseCase.execute(any()))
+        .thenThrow(VersionMismatchException.with(anAggregate, expectedVersion));
+
+    final var aCommand = new UpdateGenreRequest("Ação", List.of(), true);
+
+    // when
+    final var aRequest =
+        put("/genres/{id}", expectedId)
+            .with(ApiTest.GENRES_JWT)
+            .header("If-Match", "\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(aRequest).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateGenreUseCase)
+        .execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateGenre_shouldReturnConflict() throws Exception {
+    // given
+    final var anAggregate = Genre.newGenre("Ação", true);
+
+    final var expectedId = anAggregate.getId().getValue();
+    final var expectedErrorMessage =
+        "Genre with ID %s was changed by another request".formatted(expectedId);
+
+    when(updateGenreUseCase.execute(any())).thenThrow(ConflictException.with(anAggregate));
+
+    final var aCommand = new UpdateGenreRequest("Ação", List.of(), true);
+
+    // when
+    final var aRequest =
+        put("/genres/{id}", expectedId)
+            .with(ApiTest.GENRES_JWT)
+            .header("If-Match", "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(aRequest).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+  }
+
+  @Test
+  public void givenAWeakIfMatch_whenCallsUpdateGenre_shouldReturnBadRequest() throws Exception {
+    // given
+    final var expectedId = "123";
+    final var expectedErrorMessage = "If-Match takes a strong entity tag, not W/\"2\"";
+
+    final var aCommand = new UpdateGenreRequest("Ação", List.of(), true);
+
+    // when
+    final var aRequest =
+        put("/genres/{id}", expectedId)
+            .with(ApiTest.GENRES_JWT)
+            .header("If-Match", "W/\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCommand));
+
+    final var response = this.mvc.perform(aRequest).andDo(print());
+
+    // then
+    response
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateGenreUseCase, never()).execute(any());
+  }
+
   @Test
   public void givenAnInvalidName_whenCallsUpdateGenre_shouldReturnNotification() throws Exception {
     // given
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -14,6 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.create.BulkCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoOutput;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
@@ -34,17 +36,23 @@ import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionMismatchException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -60,12 +68,15 @@ public class VideoAPITest {
   @Autowired private MockMvc mvc;
   @Autowired private ObjectMapper mapper;
   @MockBean private CreateVideoUseCase createVideoUseCase;
+  @MockBean private BulkCreateVideoUseCase bulkCreateVideoUseCase;
   @MockBean private GetVideoByIdUseCase getVideoByIdUseCase;
   @MockBean private UpdateVideoUseCase updateVideoUseCase;
   @MockBean private DeleteVideoUseCase deleteVideoUseCase;
   @MockBean private ListVideosUseCase listVideosUseCase;
   @MockBean private GetMediaUseCase getMediaUseCase;
   @MockBean private UploadMediaUseCase uploadMediaUseCase;
+  @MockBean private JdbcExporter jdbcExporter;
+  @MockBean private ChangeFeed changeFeed;
 
   @Test
   public void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
@@ -454,7 +465,7 @@ public class VideoAPITest {
             expectedGenres);
 
     when(updateVideoUseCase.execute(any()))
-        .thenReturn(new UpdateVideoOutput(expectedId.getValue()));
+        .thenReturn(new UpdateVideoOutput(expectedId.getValue(), 1));
 
     // when
     final var aRequest =
@@ -495,6 +506,130 @@ public class VideoAPITest {
     assertTrue(actualCmd.getThumbnailHalf().isEmpty());
   }
 
+  @Test
+  public void givenAStaleIfMatch_whenCallsUpdateVideo_shouldReturnPreconditionFailed()
+      throws Exception {
+    // given
+    final var anAggregate = Fixture.Videos.systemDesign();
+    anAggregate.restoreVersion(3);
+
+    final var expectedId = anAggregate.getId().getValue();
+    final var expectedVersion = 2L;
+    final var expectedErrorMessage =
+        "Video with ID %s is at version 3, not 2".formatted(expectedId);
+
+    final var aCmd =
+        new UpdateVideoRequest(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.duration(),
+            Fixture.year(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            Set.of(),
+            Set.of(),
+            Set.of());
+
+    when(updateVideoUseCase.execute(any()))
+        .thenThrow(VersionMismatchException.with(anAggregate, expectedVersion));
+
+    // when
+    final var aRequest =
+        put("/videos/{id}", expectedId)
+            .with(ApiTest.VIDEOS_JWT)
+            .header("If-Match", "\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCmd));
+
+    final var response = this.mvc.perform(aRequest);
+
+    // then
+    response
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateVideoUseCase)
+        .execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+  }
+
+  @Test
+  public void givenAConcurrentWrite_whenCallsUpdateVideo_shouldReturnConflict() throws Exception {
+    // given
+    final var anAggregate = Fixture.Videos.systemDesign();
+
+    final var expectedId = anAggregate.getId().getValue();
+    final var expectedErrorMessage =
+        "Video with ID %s was changed by another request".formatted(expectedId);
+
+    final var aCmd =
+        new UpdateVideoRequest(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.duration(),
+            Fixture.year(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            Set.of(),
+            Set.of(),
+            Set.of());
+
+    when(updateVideoUseCase.execute(any())).thenThrow(ConflictException.with(anAggregate));
+
+    // when
+    final var aRequest =
+        put("/videos/{id}", expectedId)
+            .with(ApiTest.VIDEOS_JWT)
+            .header("If-Match", "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCmd));
+
+    final var response = this.mvc.perform(aRequest);
+
+    // then
+    response
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+  }
+
+  @Test
+  public void givenAWeakIfMatch_whenCallsUpdateVideo_shouldReturnBadRequest() throws Exception {
+    // given
+    final var expectedId = "123";
+    final var expectedErrorMessage = "If-Match takes a strong entity tag, not W/\"2\"";
+
+    final var aCmd =
+        new UpdateVideoRequest(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.duration(),
+            Fixture.year(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            Set.of(),
+            Set.of(),
+            Set.of());
+
+    // when
+    final var aRequest =
+        put("/videos/{id}", expectedId)
+            .with(ApiTest.VIDEOS_JWT)
+            .header("If-Match", "W/\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aCmd));
+
+    final var response = this.mvc.perform(aRequest);
+
+    // then
+    response
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+    verify(updateVideoUseCase, never()).execute(any());
+  }
+
   @Test
   public void givenAnInvalidCommand_whenCallsUpdateVideo_shouldReturnNotification()
       throws Exception {
@@ -702,9 +837,7 @@ public class VideoAPITest {
     final var expectedMediaType = VideoMediaType.VIDEO;
     final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-    final var expectedMedia =
-        new MediaOutput(
-            expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+    final var expectedMedia = MediaOutput.with(expectedResource);
 
     when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
@@ -713,18 +846,23 @@ public class VideoAPITest {
         get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
             .with(ApiTest.VIDEOS_JWT);
 
-    final var response = this.mvc.perform(aRequest);
+    final var started =
+        this.mvc.perform(aRequest).andExpect(request().asyncStarted()).andReturn();
+
+    final var response = this.mvc.perform(asyncDispatch(started));
 
     // then
     response
         .andExpect(status().isOk())
         .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-        .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+        .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.size())))
+        .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+        .andExpect(header().string(ACCEPT_RANGES, "bytes"))
         .andExpect(
             header()
                 .string(
                     CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-        .andExpect(content().bytes(expectedMedia.content()));
+        .andExpect(content().bytes(expectedResource.content()));
 
     final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -735,6 +873,122 @@ public class VideoAPITest {
     assertEquals(expectedMediaType.name(), actualCmd.mediaType());
   }
 
+  @Test
+  public void givenARange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedMediaType = VideoMediaType.TRAILER;
+    final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+    final var expectedSize = expectedResource.content().length;
+    final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 2, 6);
+
+    when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+    // when
+    final var aRequest =
+        get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+            .header(RANGE, "bytes=2-5")
+            .with(ApiTest.VIDEOS_JWT);
+
+    final var started =
+        this.mvc.perform(aRequest).andExpect(request().asyncStarted()).andReturn();
+
+    final var response = this.mvc.perform(asyncDispatch(started));
+
+    // then
+    response
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(CONTENT_LENGTH, "4"))
+        .andExpect(header().string(CONTENT_RANGE, "bytes 2-5/%d".formatted(expectedSize)))
+        .andExpect(content().bytes(expectedContent));
+  }
+
+  @Test
+  public void givenAMediaOfUnknownSize_whenCallsGetMediaByIdWithARange_shouldReturnItAll()
+      throws Exception {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedMediaType = VideoMediaType.TRAILER;
+    final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+    when(getMediaUseCase.execute(any()))
+        .thenReturn(
+            new MediaOutput(
+                expectedResource,
+                expectedResource.checksum(),
+                expectedResource.contentType(),
+                expectedResource.name(),
+                -1));
+
+    // when
+    final var aRequest =
+        get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+            .header(RANGE, "bytes=2-5")
+            .with(ApiTest.VIDEOS_JWT);
+
+    final var started =
+        this.mvc.perform(aRequest).andExpect(request().asyncStarted()).andReturn();
+
+    final var response = this.mvc.perform(asyncDispatch(started));
+
+    // then
+    response
+        .andExpect(status().isOk())
+        .andExpect(header().string(ACCEPT_RANGES, "none"))
+        .andExpect(header().doesNotExist(CONTENT_RANGE))
+        .andExpect(header().doesNotExist(CONTENT_LENGTH))
+        .andExpect(content().bytes(expectedResource.content()));
+  }
+
+  @Test
+  public void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturn416() throws Exception {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedMediaType = VideoMediaType.TRAILER;
+    final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+    final var expectedSize = expectedResource.content().length;
+
+    when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+    // when
+    final var aRequest =
+        get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+            .header(RANGE, "bytes=%d-".formatted(expectedSize))
+            .with(ApiTest.VIDEOS_JWT);
+
+    final var response = this.mvc.perform(aRequest);
+
+    // then
+    response
+        .andExpect(status().isRequestedRangeNotSatisfiable())
+        .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedSize)));
+  }
+
+  @Test
+  public void givenAMatchingETag_whenCallsGetMediaById_shouldReturnNotModified() throws Exception {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedMediaType = VideoMediaType.BANNER;
+    final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+    final var expectedETag = "\"%s\"".formatted(expectedResource.checksum());
+
+    when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+    // when
+    final var aRequest =
+        get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+            .header(IF_NONE_MATCH, expectedETag)
+            .with(ApiTest.VIDEOS_JWT);
+
+    final var response = this.mvc.perform(aRequest);
+
+    // then
+    response
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(ETAG, expectedETag))
+        .andExpect(content().bytes(new byte[0]));
+  }
+
   @Test
   public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
     // given
@@ -780,7 +1034,10 @@ public class VideoAPITest {
 
     final var actualCmd = captor.getValue();
     assertEquals(expectedId.getValue(), actualCmd.videoId());
-    assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+    assertTrue(actualCmd.videoResource().resource().isStreamed());
+    assertArrayEquals(
+        expectedResource.content(),
+        actualCmd.videoResource().resource().openStream().readAllBytes());
     assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
     assertEquals(
         expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
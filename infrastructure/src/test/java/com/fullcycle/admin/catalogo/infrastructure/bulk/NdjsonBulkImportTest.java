@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.bulk;
+
+import com.fullcycle.admin.catalogo.application.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NdjsonBulkImportTest {
+
+  @Test
+  public void givenMoreRequestsThanABatch_whenStreamed_shouldCreateThemBatchByBatchInOrder()
+      throws Exception {
+    // given
+    final var input =
+        """
+        {"name":"A"}
+        {"name":"B"}
+        {"name":
+        {"name":"C"}
+
+        {"name":"D"}
+        {"name":"E"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    final var batches = new ArrayList<List<String>>();
+    final var output = new ByteArrayOutputStream();
+
+    // when
+    NdjsonBulkImport.stream(
+            new ByteArrayInputStream(input),
+            CreateCategoryRequest.class,
+            2,
+            requests -> {
+              batches.add(requests.stream().map(CreateCategoryRequest::name).toList());
+              return requests.stream()
+                  .map(aRequest -> BulkCreateOutput.created("id-" + aRequest.name()))
+                  .toList();
+            })
+        .writeTo(output);
+
+    // then
+    Assertions.assertEquals(
+        List.of(List.of("A", "B"), List.of("C", "D"), List.of("E")), batches);
+    Assertions.assertEquals(
+        """
+        {"line":1,"id":"id-A"}
+        {"line":2,"id":"id-B"}
+        {"line":3,"errors":[{"message":"Line 3 is not a valid request"}]}
+        {"line":4,"id":"id-C"}
+        {"line":6,"id":"id-D"}
+        {"line":7,"id":"id-E"}
+        """,
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void givenABatchOfInvalidLines_whenStreamed_shouldAnswerThemWithoutWaitingForABatch()
+      throws Exception {
+    // given
+    final var input =
+        """
+        {"name":"A"}
+        {"name":
+        not json
+        {"name":"B"}
+        {"name":"C"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    final var batches = new ArrayList<List<String>>();
+    final var output = new ByteArrayOutputStream();
+
+    // when
+    NdjsonBulkImport.stream(
+            new ByteArrayInputStream(input),
+            CreateCategoryRequest.class,
+            2,
+            requests -> {
+              batches.add(requests.stream().map(CreateCategoryRequest::name).toList());
+              return requests.stream()
+                  .map(aRequest -> BulkCreateOutput.created("id-" + aRequest.name()))
+                  .toList();
+            })
+        .writeTo(output);
+
+    // then
+    Assertions.assertEquals(List.of(List.of("A"), List.of("B", "C")), batches);
+    Assertions.assertEquals(
+        """
+        {"line":1,"id":"id-A"}
+        {"line":2,"errors":[{"message":"Line 2 is not a valid request"}]}
+        {"line":3,"errors":[{"message":"Line 3 is not a valid request"}]}
+        {"line":4,"id":"id-B"}
+        {"line":5,"id":"id-C"}
+        """,
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void givenABatchThatFailed_whenStreamed_shouldAnswerItsErrorsWithoutTheCause()
+      throws Exception {
+    // given
+    final var input =
+        """
+        {"name":"A"}
+        {"name":"B"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    final var expectedCause = new IllegalStateException("Duplicate entry 'A' for key 'name'");
+    final var output = new ByteArrayOutputStream();
+
+    // when
+    NdjsonBulkImport.stream(
+            new ByteArrayInputStream(input),
+            CreateCategoryRequest.class,
+            2,
+            requests -> {
+              final var failed =
+                  BulkCreateOutput.failed(
+                      Notification.create(new Error("The batch could not be created")),
+                      expectedCause);
+              return List.of(failed, failed);
+            })
+        .writeTo(output);
+
+    // then
+    Assertions.assertEquals(
+        """
+        {"line":1,"errors":[{"message":"The batch could not be created"}]}
+        {"line":2,"errors":[{"message":"The batch could not be created"}]}
+        """,
+        output.toString(StandardCharsets.UTF_8));
+  }
+}
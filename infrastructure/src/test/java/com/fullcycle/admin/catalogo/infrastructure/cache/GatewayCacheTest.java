@@ -0,0 +1,227 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GatewayCacheTest {
+
+  private final List<Object> sentInvalidations = new ArrayList<>();
+
+  @Test
+  public void givenACachedAggregate_whenCallsGet_shouldReturnACopyWithoutLoading() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+    final var loads = new AtomicInteger();
+
+    final var firstRead =
+        target.get(
+            anId,
+            () -> {
+              loads.incrementAndGet();
+              return Optional.of(aCategory);
+            });
+    firstRead.get().update("Séries", null, true);
+
+    final var secondRead = target.get(anId, Optional::empty);
+
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals("Filmes", secondRead.get().getName());
+    Assertions.assertNotSame(firstRead.get(), secondRead.get());
+    Assertions.assertEquals(1, target.getHitCount());
+    Assertions.assertEquals(1, target.getMissCount());
+  }
+
+  @Test
+  public void givenAnAbsentAggregate_whenCallsGet_shouldNotCacheTheAbsence() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+
+    Assertions.assertTrue(target.get(anId, Optional::empty).isEmpty());
+    Assertions.assertTrue(target.get(anId, () -> Optional.of(aCategory)).isPresent());
+    Assertions.assertEquals(1, target.getSize());
+  }
+
+  @Test
+  public void givenAnInvalidatedAggregate_whenCallsGet_shouldLoadItAgain() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+
+    target.get(anId, () -> Optional.of(aCategory));
+    target.invalidate(anId, null);
+
+    Assertions.assertTrue(target.get(anId, Optional::empty).isEmpty());
+    Assertions.assertEquals(0, target.getEvictionCount());
+    Assertions.assertEquals(
+        List.of(new CacheInvalidation("category", anId, null)), sentInvalidations);
+  }
+
+  @Test
+  public void givenADiscardedAggregate_whenCallsGet_shouldLoadItAgainWithoutAnnouncing() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+
+    target.get(anId, () -> Optional.of(aCategory));
+    target.discard(anId);
+
+    Assertions.assertTrue(target.get(anId, Optional::empty).isEmpty());
+    Assertions.assertTrue(sentInvalidations.isEmpty());
+  }
+
+  @Test
+  public void givenAWriteWhileLoading_whenCallsGet_shouldNotCacheTheLoadedCopy() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+
+    final var actualRead =
+        target.get(
+            anId,
+            () -> {
+              target.invalidate(anId, aCategory.getVersion());
+              return Optional.of(aCategory);
+            });
+
+    Assertions.assertTrue(actualRead.isPresent());
+    Assertions.assertEquals(0, target.getSize());
+    Assertions.assertTrue(target.get(anId, Optional::empty).isEmpty());
+  }
+
+  @Test
+  public void givenAnAnnouncedWriteWhileLoading_whenCallsGet_shouldNotCacheTheLoadedCopy() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+
+    target.get(
+        anId,
+        () -> {
+          target.evict(anId, aCategory.getVersion() + 1);
+          return Optional.of(aCategory);
+        });
+
+    Assertions.assertEquals(0, target.getSize());
+  }
+
+  @Test
+  public void givenAnnouncedWrites_whenCallsEvict_shouldOnlyDropOlderCopies() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+    final var cachedVersion = aCategory.getVersion();
+
+    target.get(anId, () -> Optional.of(aCategory));
+
+    target.evict(anId, cachedVersion - 1);
+    target.evict(anId, cachedVersion);
+    Assertions.assertEquals(1, target.getSize());
+
+    target.evict(anId, cachedVersion + 1);
+    Assertions.assertEquals(0, target.getSize());
+
+    target.get(anId, () -> Optional.of(aCategory));
+    target.evict(anId, null);
+    Assertions.assertEquals(0, target.getSize());
+
+    Assertions.assertTrue(sentInvalidations.isEmpty());
+  }
+
+  @Test
+  public void givenAFailingAnnouncement_whenCallsInvalidate_shouldStillDropTheCopy() {
+    final EventService failing =
+        event -> {
+          throw new IllegalStateException("broker down");
+        };
+    final var target =
+        new GatewayCache<Category>(
+            "category",
+            Duration.ofMinutes(1),
+            10,
+            Category::with,
+            Category::getVersion,
+            failing);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var anId = aCategory.getId().getValue();
+
+    target.get(anId, () -> Optional.of(aCategory));
+    target.invalidate(anId, aCategory.getVersion());
+
+    Assertions.assertEquals(0, target.getSize());
+  }
+
+  @Test
+  public void givenAFullCache_whenCallsGet_shouldEvictAndCountIt() {
+    final var target = newCache(1);
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", null, true);
+
+    target.get(filmes.getId().getValue(), () -> Optional.of(filmes));
+    target.get(series.getId().getValue(), () -> Optional.of(series));
+
+    Assertions.assertEquals(1, target.getSize());
+    Assertions.assertEquals(1, target.getEvictionCount());
+  }
+
+  @Test
+  public void givenKnownIds_whenCallsExisting_shouldOnlyLookUpTheUnknownOnesAtOnce() {
+    final var target = newCache(10);
+    final var aCategory = Category.newCategory("Filmes", null, true);
+    final var loadedId = aCategory.getId().getValue();
+    final var createdId = "created";
+    final var unknownId = "unknown";
+    final var missingId = "missing";
+    final var lookups = new ArrayList<List<String>>();
+
+    target.get(loadedId, () -> Optional.of(aCategory));
+    target.created(createdId);
+
+    final var actualIds =
+        target.existing(
+            List.of(missingId, loadedId, unknownId, createdId, unknownId),
+            ids -> {
+              lookups.add(ids);
+              return List.of(unknownId);
+            });
+
+    Assertions.assertEquals(List.of(loadedId, unknownId, createdId), actualIds);
+    Assertions.assertEquals(List.of(List.of(missingId, unknownId)), lookups);
+
+    Assertions.assertEquals(
+        List.of(unknownId, loadedId),
+        target.existing(List.of(unknownId, loadedId), ids -> Assertions.fail("looked up " + ids)));
+
+    target.invalidate(loadedId, aCategory.getVersion());
+    target.evict(createdId, aCategory.getVersion());
+    target.invalidate(unknownId, null);
+
+    Assertions.assertEquals(
+        List.of(loadedId, createdId),
+        target.existing(
+            List.of(loadedId, createdId, unknownId),
+            ids -> {
+              lookups.add(ids);
+              return List.of();
+            }));
+    Assertions.assertEquals(List.of(unknownId), lookups.get(1));
+  }
+
+  private GatewayCache<Category> newCache(final long maximumSize) {
+    return new GatewayCache<>(
+        "category",
+        Duration.ofMinutes(1),
+        maximumSize,
+        Category::with,
+        Category::getVersion,
+        sentInvalidations::add);
+  }
+}
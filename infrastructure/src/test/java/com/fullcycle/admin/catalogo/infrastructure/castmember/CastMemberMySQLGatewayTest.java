@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember;
 
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.QueryCounter;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
@@ -222,6 +223,24 @@ public class CastMemberMySQLGatewayTest {
     Assertions.assertEquals(expectedTotal, actualPage.items().size());
   }
 
+  @Test
+  public void givenPrePersistedCastMembers_whenCallsFindAll_shouldRunASingleQuery() {
+    // given
+    castMemberRepository.saveAllAndFlush(
+        List.of(
+            CastMemberJpaEntity.from(CastMember.newMember("Vin Diesel", type())),
+            CastMemberJpaEntity.from(CastMember.newMember("Jason Momoa", type()))));
+
+    // when
+    final var actualPage =
+        QueryCounter.assertQueries(
+            1, () -> castMemberGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")));
+
+    // then
+    Assertions.assertEquals(2, actualPage.total());
+    Assertions.assertEquals(2, actualPage.items().size());
+  }
+
   @ParameterizedTest
   @CsvSource({
     "vin,0,10,1,1,Vin Diesel",
@@ -360,4 +379,36 @@ public class CastMemberMySQLGatewayTest {
     castMemberRepository.saveAllAndFlush(
         List.of(kitHarington, vinDiesel, quentinTarantino, jasonMomoa, martinScorsese));
   }
+
+  @Test
+  public void givenFilteredCastMembers_whenScrollsWithCursor_shouldOnlyReturnMatchingOnes() {
+    final var expectedPerPage = 1;
+
+    final var kit = CastMember.newMember("Kit Harington", CastMemberType.ACTOR);
+    final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+    final var martin = CastMember.newMember("Martin Scorsese", CastMemberType.DIRECTOR);
+    final var quentin = CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR);
+
+    castMemberRepository.saveAllAndFlush(
+        List.of(
+            CastMemberJpaEntity.from(kit),
+            CastMemberJpaEntity.from(vin),
+            CastMemberJpaEntity.from(martin),
+            CastMemberJpaEntity.from(quentin)));
+
+    final var firstPage =
+        castMemberGateway.findAll(new SearchQuery(0, expectedPerPage, "tin", "name", "asc", ""));
+
+    Assertions.assertEquals(1, firstPage.items().size());
+    Assertions.assertEquals(martin.getId(), firstPage.items().get(0).getId());
+    Assertions.assertNotNull(firstPage.next());
+
+    final var lastPage =
+        castMemberGateway.findAll(
+            new SearchQuery(0, expectedPerPage, "tin", "name", "asc", firstPage.next()));
+
+    Assertions.assertEquals(1, lastPage.items().size());
+    Assertions.assertEquals(quentin.getId(), lastPage.items().get(0).getId());
+    Assertions.assertNull(lastPage.next());
+  }
 }
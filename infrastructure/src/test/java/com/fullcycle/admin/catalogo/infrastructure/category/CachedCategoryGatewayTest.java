@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.infrastructure.cache.GatewayCache;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CachedCategoryGatewayTest {
+
+  @Test
+  public void givenAnOutdatedCopy_whenCallsUpdate_shouldReadTheCurrentVersionNext() {
+    // given
+    final var categoryGateway = mock(CategoryGateway.class);
+    final var target =
+        new CachedCategoryGateway(
+            categoryGateway,
+            new GatewayCache<>(
+                "category",
+                Duration.ofHours(1),
+                10,
+                Category::with,
+                Category::getVersion,
+                event -> {}));
+
+    final var outdated = Category.newCategory("Filmes", null, true);
+    final var current = Category.with(outdated);
+    current.restoreVersion(outdated.getVersion() + 1);
+
+    when(categoryGateway.findById(outdated.getId()))
+        .thenReturn(Optional.of(outdated))
+        .thenReturn(Optional.of(current));
+    when(categoryGateway.update(any())).thenThrow(ConflictException.with(outdated));
+
+    final var aCopy = target.findById(outdated.getId()).orElseThrow();
+
+    // when
+    Assertions.assertThrows(ConflictException.class, () -> target.update(aCopy));
+
+    // then
+    final var actualCategory = target.findById(outdated.getId()).orElseThrow();
+    Assertions.assertEquals(current.getVersion(), actualCategory.getVersion());
+    verify(categoryGateway, times(2)).findById(outdated.getId());
+  }
+
+  @Test
+  public void givenACachedCopy_whenCallsFindLatestById_shouldReadTheCurrentVersion() {
+    // given
+    final var categoryGateway = mock(CategoryGateway.class);
+    final var target =
+        new CachedCategoryGateway(
+            categoryGateway,
+            new GatewayCache<>(
+                "category",
+                Duration.ofHours(1),
+                10,
+                Category::with,
+                Category::getVersion,
+                event -> {}));
+
+    final var outdated = Category.newCategory("Filmes", null, true);
+    final var current = Category.with(outdated);
+    current.restoreVersion(outdated.getVersion() + 1);
+
+    when(categoryGateway.findById(outdated.getId()))
+        .thenReturn(Optional.of(outdated))
+        .thenReturn(Optional.of(current));
+
+    target.findById(outdated.getId());
+
+    // when
+    final var actualCategory = target.findLatestById(outdated.getId()).orElseThrow();
+
+    // then
+    Assertions.assertEquals(current.getVersion(), actualCategory.getVersion());
+    verify(categoryGateway, times(2)).findById(outdated.getId());
+  }
+}
@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.MethodMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "search.engine=inverted-index")
+public class CategoryMySQLGatewayInvertedIndexTest {
+
+  @Autowired private CategoryMySQLGateway categoryGateway;
+
+  @Autowired private CategoryRepository categoryRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Test
+  @DirtiesContext(methodMode = MethodMode.BEFORE_METHOD) // the index loads on the first search
+  public void givenPrePersistedCategories_whenCallsFindAllWithTerms_shouldLoadThemIntoTheIndex() {
+    categoryRepository.saveAllAndFlush(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", "Filmes em capítulos", true))));
+
+    categoryGateway.create(Category.newCategory("Documentários", "Filmes reais", true));
+
+    final var actualResult =
+        categoryGateway.findAll(new SearchQuery(0, 10, "filme", "name", "asc"));
+
+    Assertions.assertEquals(3, actualResult.total());
+    Assertions.assertEquals("Documentários", actualResult.items().get(0).getName());
+    Assertions.assertEquals("Filmes", actualResult.items().get(1).getName());
+    Assertions.assertEquals("Séries", actualResult.items().get(2).getName());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED) // the index only sees committed writes
+  public void givenALoadedIndex_whenCallsCreateUpdateAndDelete_shouldSearchTheLatestCategories() {
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+    Assertions.assertEquals(
+        1, categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc")).total());
+
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    categoryGateway.update(filmes.update("Animes", null, true));
+
+    Assertions.assertEquals(
+        0, categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc")).total());
+    Assertions.assertEquals(
+        1, categoryGateway.findAll(new SearchQuery(0, 10, "animes", "name", "asc")).total());
+
+    categoryGateway.deleteById(series.getId());
+
+    Assertions.assertEquals(
+        0, categoryGateway.findAll(new SearchQuery(0, 10, "series", "name", "asc")).total());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void givenALoadedIndex_whenAWriteIsRolledBack_shouldNotSearchIt() {
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+    Assertions.assertEquals(
+        1, categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc")).total());
+
+    new TransactionTemplate(this.transactionManager)
+        .executeWithoutResult(
+            status -> {
+              categoryGateway.update(filmes.update("Animes", null, true));
+              categoryGateway.create(Category.newCategory("Animações", null, true));
+              status.setRollbackOnly();
+            });
+
+    Assertions.assertEquals(
+        1, categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc")).total());
+    Assertions.assertEquals(
+        0, categoryGateway.findAll(new SearchQuery(0, 10, "anim", "name", "asc")).total());
+  }
+}
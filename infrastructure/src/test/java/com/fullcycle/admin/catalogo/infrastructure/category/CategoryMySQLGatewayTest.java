@@ -1,15 +1,22 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.QueryCounter;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @MySQLGatewayTest
@@ -54,6 +61,54 @@ public class CategoryMySQLGatewayTest {
     Assertions.assertNull(actualEntity.getDeletedAt());
   }
 
+  @Test
+  public void givenAStaleCategory_whenCallsUpdate_shouldThrowConflictAndKeepTheNewerOne() {
+    final var expectedName = "Filmes";
+    final var expectedErrorMessage = "Category with ID %s was changed by another request";
+
+    final var aCategory = categoryGateway.create(Category.newCategory("Film", null, true));
+    Assertions.assertEquals(0, aCategory.getVersion());
+
+    final var aFirstWrite = Category.with(aCategory).update(expectedName, null, true);
+    final var aStaleWrite = Category.with(aCategory).update("Series", null, true);
+
+    Assertions.assertEquals(1, categoryGateway.update(aFirstWrite).getVersion());
+
+    final var actualException =
+        Assertions.assertThrows(
+            ConflictException.class, () -> categoryGateway.update(aStaleWrite));
+
+    Assertions.assertEquals(
+        expectedErrorMessage.formatted(aCategory.getId().getValue()),
+        actualException.getMessage());
+
+    final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+    Assertions.assertEquals(expectedName, actualEntity.getName());
+    Assertions.assertEquals(1, actualEntity.getVersion());
+  }
+
+  @Test
+  public void givenValidCategories_whenCallsCreateAll_shouldPersistAll() {
+    final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    final var series = Category.newCategory("Séries", null, true);
+    final var documentarios = Category.newCategory("Documentários", null, false);
+
+    Assertions.assertEquals(0, categoryRepository.count());
+
+    final var actualCategories =
+        categoryGateway.createAll(List.of(filmes, series, documentarios));
+
+    Assertions.assertEquals(3, categoryRepository.count());
+    Assertions.assertEquals(
+        List.of(filmes.getId(), series.getId(), documentarios.getId()),
+        actualCategories.stream().map(Category::getId).toList());
+
+    final var actualEntity = categoryRepository.findById(documentarios.getId().getValue()).get();
+
+    Assertions.assertEquals("Documentários", actualEntity.getName());
+    Assertions.assertFalse(actualEntity.isActive());
+  }
+
   @Test
   public void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
     final var expectedName = "Filmes";
@@ -360,4 +415,210 @@ public class CategoryMySQLGatewayTest {
   private List<CategoryID> sorted(final List<CategoryID> expectedCategories) {
     return expectedCategories.stream().sorted(Comparator.comparing(CategoryID::getValue)).toList();
   }
+
+  @Test
+  public void givenPrePersistedCategories_whenScrollsWithCursor_shouldReturnEveryCategoryOnce() {
+    final var expectedPerPage = 2;
+
+    final var documentarios = Category.newCategory("Documentários", null, true);
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var outrosFilmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", null, true);
+
+    categoryRepository.saveAll(
+        List.of(
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(documentarios),
+            CategoryJpaEntity.from(outrosFilmes)));
+
+    final var sameName =
+        List.of(filmes, outrosFilmes).stream()
+            .sorted(Comparator.comparing(category -> category.getId().getValue()))
+            .toList();
+
+    final var expectedIds =
+        List.of(
+            documentarios.getId(),
+            sameName.get(0).getId(),
+            sameName.get(1).getId(),
+            series.getId());
+
+    final var firstPage =
+        categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", ""));
+
+    Assertions.assertEquals(expectedPerPage, firstPage.perPage());
+    Assertions.assertEquals(-1, firstPage.total());
+    Assertions.assertNotNull(firstPage.next());
+    Assertions.assertEquals(
+        expectedIds.subList(0, 2), firstPage.items().stream().map(Category::getId).toList());
+
+    final var lastPage =
+        categoryGateway.findAll(
+            new SearchQuery(0, expectedPerPage, "", "name", "asc", firstPage.next()));
+
+    Assertions.assertNull(lastPage.next());
+    Assertions.assertEquals(
+        expectedIds.subList(2, 4), lastPage.items().stream().map(Category::getId).toList());
+  }
+
+  @ParameterizedTest
+  @CsvSource({"asc", "desc"})
+  public void givenCategoriesWithoutDescription_whenScrollsByDescription_shouldReturnEachOnce(
+      final String direction) {
+    final var expectedPerPage = 2;
+
+    final var categories =
+        List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Séries", null, true),
+            Category.newCategory("Documentários", null, true),
+            Category.newCategory("Animes", "Desenhos japoneses", true),
+            Category.newCategory("Esportes", "Transmissões ao vivo", true));
+
+    categoryRepository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList());
+
+    final var actualIds = new ArrayList<CategoryID>();
+    var cursor = "";
+    do {
+      final var actualPage =
+          categoryGateway.findAll(
+              new SearchQuery(0, expectedPerPage, "", "description", direction, cursor));
+      actualPage.items().forEach(category -> actualIds.add(category.getId()));
+      cursor = actualPage.next();
+    } while (cursor != null);
+
+    Assertions.assertEquals(categories.size(), actualIds.size());
+    Assertions.assertEquals(
+        sorted(categories.stream().map(Category::getId).toList()), sorted(actualIds));
+  }
+
+  @Test
+  public void givenCursorOfAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+    categoryRepository.saveAll(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true))));
+
+    final var aCursor =
+        categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).next();
+
+    final var aQuery = new SearchQuery(0, 1, "", "createdAt", "asc", aCursor);
+
+    Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+  }
+
+  @Test
+  public void givenCursorOfAnotherDirection_whenCallsFindAll_shouldThrowDomainException() {
+    final var expectedErrorMessage = "'cursor' was created for another 'dir'";
+
+    categoryRepository.saveAll(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true))));
+
+    final var aCursor =
+        categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).next();
+
+    final var aQuery = new SearchQuery(0, 1, "", "name", "desc", aCursor);
+
+    final var actualException =
+        Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
+  @Test
+  public void givenTotalNone_whenCallsFindAll_shouldOnlyTellWhetherThereIsANextPage() {
+    final var expectedPerPage = 2;
+
+    categoryRepository.saveAllAndFlush(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))));
+
+    final var firstPage =
+        categoryGateway.findAll(
+            new SearchQuery(0, expectedPerPage, "", "name", "asc", null, TotalMode.NONE));
+
+    Assertions.assertEquals(-1, firstPage.total());
+    Assertions.assertTrue(firstPage.hasNext());
+    Assertions.assertEquals(expectedPerPage, firstPage.items().size());
+
+    final var lastPage =
+        categoryGateway.findAll(
+            new SearchQuery(1, expectedPerPage, "", "name", "asc", null, TotalMode.NONE));
+
+    Assertions.assertEquals(3, lastPage.total());
+    Assertions.assertFalse(lastPage.hasNext());
+    Assertions.assertEquals(1, lastPage.items().size());
+    Assertions.assertEquals("Séries", lastPage.items().get(0).getName());
+  }
+
+  @Test
+  public void givenPrePersistedCategories_whenCallsFindAll_shouldRunASingleQuery() {
+    categoryRepository.saveAllAndFlush(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))));
+
+    final var actualPage =
+        QueryCounter.assertQueries(
+            1, () -> categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")));
+
+    Assertions.assertEquals(3, actualPage.total());
+    Assertions.assertEquals(3, actualPage.items().size());
+  }
+
+  @Test
+  public void givenTotalEstimated_whenCallsFindAllAgain_shouldReuseTheCountUntilAWrite() {
+    final var aQuery = new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED);
+
+    categoryRepository.saveAllAndFlush(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))));
+
+    Assertions.assertEquals(3, categoryGateway.findAll(aQuery).total());
+
+    categoryRepository.saveAndFlush(
+        CategoryJpaEntity.from(Category.newCategory("Animes", null, true)));
+
+    Assertions.assertEquals(3, categoryGateway.findAll(aQuery).total());
+
+    categoryGateway.create(Category.newCategory("Kids", null, true));
+
+    Assertions.assertEquals(5, categoryGateway.findAll(aQuery).total());
+  }
+
+  @Test
+  public void givenFullTextDisabled_whenCallsFindAllSortedByRelevance_shouldSortByName() {
+    categoryRepository.saveAllAndFlush(
+        List.of(
+            CategoryJpaEntity.from(Category.newCategory("Séries", "Filmes em capítulos", true)),
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))));
+
+    final var actualResult =
+        categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "relevance", "desc"));
+
+    Assertions.assertEquals(2, actualResult.total());
+    Assertions.assertEquals("Filmes", actualResult.items().get(0).getName());
+    Assertions.assertEquals("Séries", actualResult.items().get(1).getName());
+  }
+
+  @Test
+  public void givenCursorAndRelevanceSort_whenCallsFindAll_shouldThrowDomainException() {
+    final var expectedErrorMessage = "'cursor' can not be used with 'relevance' sort";
+
+    final var aQuery = new SearchQuery(0, 1, "filmes", "relevance", "desc", "");
+
+    final var actualException =
+        Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
 }
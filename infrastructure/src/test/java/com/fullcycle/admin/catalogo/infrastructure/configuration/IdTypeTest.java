@@ -0,0 +1,210 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.export.JdbcExporter;
+import com.fullcycle.admin.catalogo.infrastructure.feed.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+      "persistence.binary-ids=true",
+      "feed.settle-time=0s",
+      "spring.datasource.url=jdbc:h2:mem:adm_videos_binary_ids;MODE=MYSQL;DATABASE_TO_LOWER=TRUE"
+    })
+@Import(IdTypeTest.BinaryIdsMigration.class)
+public class IdTypeTest {
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private CategoryGateway categoryGateway;
+
+  @Autowired private GenreGateway genreGateway;
+
+  @Autowired private CastMemberGateway castMemberGateway;
+
+  @Autowired private VideoGateway videoGateway;
+
+  @Autowired private JdbcExporter jdbcExporter;
+
+  @Autowired private ChangeFeed changeFeed;
+
+  @Test
+  public void givenBinaryIds_whenMigrates_shouldStoreTheIdsAsSixteenBytes() {
+    // given
+    final var expectedType = "BINARY";
+
+    // when
+    final var actualTypes =
+        jdbcTemplate.queryForList(
+            """
+            SELECT DISTINCT UPPER(data_type) FROM information_schema.columns
+            WHERE table_name IN ('categories', 'videos', 'videos_categories', 'tombstones')
+              AND column_name IN ('id', 'video_id', 'category_id')
+            """,
+            String.class);
+
+    // then
+    Assertions.assertEquals(List.of(expectedType), actualTypes);
+  }
+
+  @Test
+  public void givenBinaryIds_whenSavesAndReadsAVideo_shouldKeepTheHexIds() {
+    // given
+    final var aulas = categoryGateway.create(Fixture.Categories.aulas());
+    final var tech =
+        genreGateway.create(Genre.newGenre("Tech", true).addCategory(aulas.getId()));
+    final var wesley = castMemberGateway.create(Fixture.CastMembers.wesley());
+    final var aMedia = AudioVideoMedia.with("123", "video", "/media/video");
+
+    final var aVideo =
+        videoGateway.create(
+            Video.newVideo(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    Set.of(aulas.getId()),
+                    Set.of(tech.getId()),
+                    Set.of(wesley.getId()))
+                .updateVideoMedia(aMedia));
+
+    // when
+    final var actualVideo = videoGateway.findById(aVideo.getId()).orElseThrow();
+    final var actualGenre = genreGateway.findById(tech.getId()).orElseThrow();
+    final var actualExisting =
+        categoryGateway.existsByIds(List.of(aulas.getId(), CategoryID.from("123")));
+    final var actualPage =
+        videoGateway.findAll(
+            new VideoSearchQuery(
+                0, 10, "", "title", "asc", Set.of(), Set.of(aulas.getId()), Set.of()));
+    final var actualUpdated =
+        videoGateway.updateMediaStatus(
+            MediaStatusChange.processing(aVideo.getId(), aMedia.id()));
+
+    // then
+    Assertions.assertEquals(
+        16, jdbcTemplate.queryForObject("SELECT OCTET_LENGTH(id) FROM videos", Integer.class));
+
+    Assertions.assertEquals(aVideo.getId(), actualVideo.getId());
+    Assertions.assertEquals(Set.of(aulas.getId()), actualVideo.getCategories());
+    Assertions.assertEquals(Set.of(tech.getId()), actualVideo.getGenres());
+    Assertions.assertEquals(Set.of(wesley.getId()), actualVideo.getCastMembers());
+    Assertions.assertEquals(aMedia.id(), actualVideo.getVideo().orElseThrow().id());
+    Assertions.assertEquals(List.of(aulas.getId()), actualGenre.getCategories());
+    Assertions.assertEquals(List.of(aulas.getId()), actualExisting);
+    Assertions.assertEquals(aVideo.getId().getValue(), actualPage.items().get(0).id());
+    Assertions.assertTrue(actualUpdated);
+    Assertions.assertEquals(
+        MediaStatus.PROCESSING,
+        videoGateway.findById(aVideo.getId()).orElseThrow().getVideo().orElseThrow().status());
+  }
+
+  @Test
+  public void givenBinaryIds_whenExportsAndFollowsTheFeed_shouldAnswerTheHexIds()
+      throws Exception {
+    // given
+    final var aulas = categoryGateway.create(Fixture.Categories.aulas());
+    final var tech =
+        genreGateway.create(Genre.newGenre("Tech", true).addCategory(aulas.getId()));
+    final var lives = categoryGateway.create(Fixture.Categories.lives());
+    categoryGateway.deleteById(lives.getId());
+
+    // when
+    final var output = new ByteArrayOutputStream();
+    jdbcExporter.export(ExportTable.GENRES, ExportFormat.NDJSON).writeTo(output);
+    final var actualDocument = Json.mapper().readTree(output.toString(StandardCharsets.UTF_8));
+
+    final var firstPage = changeFeed.changes(ExportTable.CATEGORIES, null, 1);
+    final var secondPage = changeFeed.changes(ExportTable.CATEGORIES, firstPage.cursor(), 1);
+
+    // then
+    Assertions.assertEquals(tech.getId().getValue(), actualDocument.get("id").asText());
+    Assertions.assertEquals(
+        aulas.getId().getValue(), actualDocument.get("categories_id").get(0).asText());
+
+    final var actualChanges =
+        List.of(firstPage.items().get(0), secondPage.items().get(0)).stream()
+            .map(ChangeResponse::id)
+            .toList();
+    Assertions.assertEquals(
+        Set.of(aulas.getId().getValue(), lives.getId().getValue()), Set.copyOf(actualChanges));
+    Assertions.assertFalse(secondPage.hasMore());
+  }
+
+  @Test
+  public void givenBinaryIds_whenChecksTheSettingAgainstTheSchema_shouldTellWhenTheyDisagree() {
+    // given
+    final var expectedErrorMessage =
+        "The ids are stored as BINARY but persistence.binary-ids is false, set it to true";
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new IdStorageCheck(dataSource, false).afterSingletonsInstantiated());
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    Assertions.assertDoesNotThrow(
+        () -> new IdStorageCheck(dataSource, true).afterSingletonsInstantiated());
+  }
+
+  /**
+   * Runs the binary ids sequence after the main one, as {@code flywayMigrateBinaryIds} does. It is
+   * only imported, a {@code @TestConfiguration} would be picked by the component scan of the
+   * other tests too.
+   */
+  static class BinaryIdsMigration {
+
+    @Bean
+    FlywayMigrationStrategy binaryIdsMigrationStrategy() {
+      return flyway -> {
+        flyway.migrate();
+        Flyway.configure()
+            .configuration(flyway.getConfiguration())
+            .table("flyway_binary_ids_history")
+            .locations("classpath:db/binary-ids/h2")
+            .baselineOnMigrate(true)
+            .baselineVersion("0")
+            .load()
+            .migrate();
+      };
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.datasource;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+      "persistence.replica.enabled=true",
+      "persistence.replica.url=jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+      "persistence.replica.lag-query=SELECT seconds FROM replication_lag",
+      "persistence.replica.lag-check-interval=3600000",
+      "persistence.replica.max-lag=5s",
+      "spring.datasource.url=jdbc:h2:mem:adm_videos_primary;MODE=MYSQL;DATABASE_TO_LOWER=TRUE"
+    })
+public class ReplicaRoutingDataSourceTest {
+
+  @Autowired private ReplicaRoutingDataSource router;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @Autowired private CategoryGateway categoryGateway;
+
+  @BeforeEach
+  void setUp() {
+    Flyway.configure()
+        .dataSource(this.replicaDataSource)
+        .locations("classpath:db/migration", "classpath:db/vendor/h2")
+        .load()
+        .migrate();
+
+    onReplica(
+        "CREATE TABLE IF NOT EXISTS replication_lag (seconds BIGINT)",
+        "DELETE FROM replication_lag",
+        "DELETE FROM categories");
+  }
+
+  @Test
+  public void givenAReplicaWithinTheMaxLag_whenCallsFindAll_shouldReadFromTheReplica() {
+    // given
+    categoryGateway.create(Category.newCategory("Filmes", null, true));
+    onReplica("INSERT INTO replication_lag (seconds) VALUES (1)");
+    router.checkReplicationLag();
+
+    final var replicaConnections = router.getReplicaConnectionCount();
+
+    // when
+    final var actualPage = categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+    // then
+    Assertions.assertTrue(router.isReplicaAvailable());
+    Assertions.assertEquals(1, router.getReplicationLag());
+    Assertions.assertEquals(0, actualPage.total());
+    Assertions.assertTrue(router.getReplicaConnectionCount() > replicaConnections);
+  }
+
+  @Test
+  public void givenAReplicaBehindTheMaxLag_whenCallsFindAll_shouldReadFromThePrimary() {
+    // given
+    categoryGateway.create(Category.newCategory("Filmes", null, true));
+    onReplica("INSERT INTO replication_lag (seconds) VALUES (60)");
+    router.checkReplicationLag();
+
+    final var replicaConnections = router.getReplicaConnectionCount();
+    final var fallbackConnections = router.getFallbackConnectionCount();
+
+    // when
+    final var actualPage = categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+    // then
+    Assertions.assertFalse(router.isReplicaAvailable());
+    Assertions.assertEquals(1, actualPage.total());
+    Assertions.assertEquals(replicaConnections, router.getReplicaConnectionCount());
+    Assertions.assertTrue(router.getFallbackConnectionCount() > fallbackConnections);
+  }
+
+  @Test
+  public void givenAStoppedReplication_whenChecksTheLag_shouldReadFromThePrimary() {
+    // given
+    onReplica("INSERT INTO replication_lag (seconds) VALUES (NULL)");
+
+    // when
+    router.checkReplicationLag();
+
+    // then
+    Assertions.assertFalse(router.isReplicaAvailable());
+    Assertions.assertEquals(-1, router.getReplicationLag());
+  }
+
+  @Test
+  public void givenAReplicaWithinTheMaxLag_whenCallsFindById_shouldCacheTheCopyOfThePrimary() {
+    // given
+    final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    onReplica("INSERT INTO replication_lag (seconds) VALUES (0)");
+    router.checkReplicationLag();
+
+    // when
+    final var actualCategory = categoryGateway.findById(aCategory.getId());
+
+    // then
+    Assertions.assertTrue(router.isReplicaAvailable());
+    Assertions.assertTrue(actualCategory.isPresent());
+  }
+
+  private void onReplica(final String... statements) {
+    final var jdbcTemplate = new JdbcTemplate(this.replicaDataSource);
+    new TransactionTemplate(new DataSourceTransactionManager(this.replicaDataSource))
+        .executeWithoutResult(status -> jdbcTemplate.batchUpdate(statements));
+  }
+}
@@ -0,0 +1,183 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@IntegrationTest
+public class JdbcExporterTest {
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private CategoryGateway categoryGateway;
+
+  @Autowired private GenreGateway genreGateway;
+
+  @Autowired private CastMemberGateway castMemberGateway;
+
+  @Autowired private VideoGateway videoGateway;
+
+  private JdbcExporter exporter;
+
+  @BeforeEach
+  public void setUp() {
+    // A fetch smaller than the tables, so the relations are resolved across several fetches
+    exporter = new JdbcExporter(dataSource, transactionManager, IdStorage.CHAR, 2);
+  }
+
+  @Test
+  public void givenGenresWithCategories_whenExportsNdjson_shouldWriteOneDocumentPerGenre()
+      throws Exception {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+    final var acao =
+        genreGateway.create(
+            Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId())));
+    final var drama = genreGateway.create(Genre.newGenre("Drama", false));
+    final var terror =
+        genreGateway.create(Genre.newGenre("Terror", true).addCategory(series.getId()));
+
+    // when
+    final var actualLines = export(ExportTable.GENRES, ExportFormat.NDJSON).split("\n");
+
+    // then
+    Assertions.assertEquals(3, actualLines.length);
+
+    for (final var aGenre : List.of(acao, drama, terror)) {
+      final var actualDocument =
+          Json.mapper().readTree(lineOf(actualLines, aGenre.getId().getValue()));
+
+      Assertions.assertEquals(aGenre.getName(), actualDocument.get("name").asText());
+      Assertions.assertEquals(aGenre.isActive(), actualDocument.get("is_active").asBoolean());
+      Assertions.assertEquals(
+          aGenre.getCreatedAt().toString(), actualDocument.get("created_at").asText());
+
+      final var actualCategories = new HashSet<String>();
+      actualDocument.get("categories_id").forEach(id -> actualCategories.add(id.asText()));
+      Assertions.assertEquals(
+          Set.copyOf(aGenre.getCategories().stream().map(CategoryID::getValue).toList()),
+          actualCategories);
+    }
+  }
+
+  @Test
+  public void givenCategories_whenExportsCsv_shouldWriteAHeaderAndOneRecordPerCategory()
+      throws Exception {
+    // given
+    final var filmes =
+        categoryGateway.create(Category.newCategory("Filmes", "Longas, \"curtas\"", true));
+
+    // when
+    final var actualLines = export(ExportTable.CATEGORIES, ExportFormat.CSV).split("\r\n");
+
+    // then
+    Assertions.assertEquals(2, actualLines.length);
+    Assertions.assertEquals(
+        "id,name,description,is_active,created_at,updated_at,deleted_at", actualLines[0]);
+    Assertions.assertEquals(
+        "%s,Filmes,\"Longas, \"\"curtas\"\"\",true,%s,%s,"
+            .formatted(filmes.getId().getValue(), filmes.getCreatedAt(), filmes.getUpdatedAt()),
+        actualLines[1]);
+  }
+
+  @Test
+  public void givenVideosWithRelationsAndMedia_whenExportsNdjson_shouldWriteThemFlattened()
+      throws Exception {
+    // given
+    final var aulas = categoryGateway.create(Fixture.Categories.aulas());
+    final var tech = genreGateway.create(Fixture.Genres.tech());
+    final var wesley = castMemberGateway.create(Fixture.CastMembers.wesley());
+
+    final var expectedVideo = AudioVideoMedia.with("123", "video", "/media/video");
+
+    final var aVideo =
+        videoGateway.create(
+            Video.newVideo(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    Set.of(aulas.getId()),
+                    Set.of(tech.getId()),
+                    Set.of(wesley.getId()))
+                .updateVideoMedia(expectedVideo));
+    videoGateway.create(
+        Video.newVideo(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Year.of(Fixture.year()),
+            Fixture.duration(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating(),
+            Set.of(),
+            Set.of(),
+            Set.of()));
+
+    // when
+    final var actualLines = export(ExportTable.VIDEOS, ExportFormat.NDJSON).split("\n");
+
+    // then
+    Assertions.assertEquals(2, actualLines.length);
+
+    final var actualDocument =
+        Json.mapper().readTree(lineOf(actualLines, aVideo.getId().getValue()));
+
+    Assertions.assertEquals(aVideo.getTitle(), actualDocument.get("title").asText());
+    Assertions.assertEquals(
+        aVideo.getLaunchedAt().getValue(), actualDocument.get("year_launched").asInt());
+    Assertions.assertEquals(
+        expectedVideo.encodedLocation(), actualDocument.get("video_location").asText());
+    Assertions.assertEquals(
+        expectedVideo.status().name(), actualDocument.get("video_status").asText());
+    Assertions.assertTrue(actualDocument.get("trailer_location").isNull());
+    Assertions.assertEquals(
+        aulas.getId().getValue(), actualDocument.get("categories_id").get(0).asText());
+    Assertions.assertEquals(
+        tech.getId().getValue(), actualDocument.get("genres_id").get(0).asText());
+    Assertions.assertEquals(
+        wesley.getId().getValue(), actualDocument.get("cast_members_id").get(0).asText());
+  }
+
+  private String export(final ExportTable aTable, final ExportFormat aFormat) throws Exception {
+    final var output = new ByteArrayOutputStream();
+    exporter.export(aTable, aFormat).writeTo(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static String lineOf(final String[] lines, final String anId) {
+    return List.of(lines).stream()
+        .filter(line -> line.contains("\"id\":\"%s\"".formatted(anId)))
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,185 @@
+package com.fullcycle.admin.catalogo.infrastructure.feed;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusChange;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportTable;
+import com.fullcycle.admin.catalogo.infrastructure.feed.models.ChangeResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.IdStorage;
+import java.time.Duration;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@IntegrationTest
+public class ChangeFeedTest {
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private CategoryGateway categoryGateway;
+
+  @Autowired private GenreGateway genreGateway;
+
+  @Autowired private VideoGateway videoGateway;
+
+  @Test
+  public void givenChanges_whenCallsChangesPageByPage_shouldResumeFromTheCursor() {
+    // given
+    final var feed = newFeed(Duration.ZERO);
+
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var animes = categoryGateway.create(Category.newCategory("Animes", null, true));
+
+    // when
+    final var firstPage = feed.changes(ExportTable.CATEGORIES, null, 2);
+    final var secondPage = feed.changes(ExportTable.CATEGORIES, firstPage.cursor(), 2);
+    final var thirdPage = feed.changes(ExportTable.CATEGORIES, secondPage.cursor(), 2);
+
+    // then
+    Assertions.assertTrue(firstPage.hasMore());
+    Assertions.assertFalse(secondPage.hasMore());
+    Assertions.assertEquals(2, firstPage.items().size());
+    Assertions.assertEquals(1, secondPage.items().size());
+
+    final var actualIds = new HashSet<>(idsOf(firstPage.items()));
+    actualIds.addAll(idsOf(secondPage.items()));
+    Assertions.assertEquals(
+        Set.of(filmes.getId().getValue(), series.getId().getValue(), animes.getId().getValue()),
+        actualIds);
+
+    Assertions.assertTrue(thirdPage.items().isEmpty());
+    Assertions.assertFalse(thirdPage.hasMore());
+    Assertions.assertEquals(secondPage.cursor(), thirdPage.cursor());
+  }
+
+  @Test
+  public void givenUpdatesAndDeletions_whenCallsChanges_shouldAnswerStatesAndTombstones() {
+    // given
+    final var feed = newFeed(Duration.ZERO);
+
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var acao = genreGateway.create(Genre.newGenre("Ação", true));
+    final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+
+    final var aCursor = feed.changes(ExportTable.GENRES, null, 100).cursor();
+
+    genreGateway.update(Genre.with(acao).addCategory(filmes.getId()));
+    genreGateway.deleteById(drama.getId());
+
+    // when
+    final var actualFeed = feed.changes(ExportTable.GENRES, aCursor, 100);
+
+    // then
+    Assertions.assertEquals(2, actualFeed.items().size());
+
+    final var actualUpdate = actualFeed.items().get(0);
+    Assertions.assertEquals(acao.getId().getValue(), actualUpdate.id());
+    Assertions.assertFalse(actualUpdate.deleted());
+    Assertions.assertEquals(actualUpdate.changedAt(), actualUpdate.data().get("updated_at"));
+    Assertions.assertEquals(
+        List.of(filmes.getId().getValue()), actualUpdate.data().get("categories_id"));
+
+    final var actualDeletion = actualFeed.items().get(1);
+    Assertions.assertEquals(drama.getId().getValue(), actualDeletion.id());
+    Assertions.assertTrue(actualDeletion.deleted());
+    Assertions.assertNull(actualDeletion.data());
+
+    Assertions.assertTrue(
+        feed.changes(ExportTable.CATEGORIES, null, 100).items().stream()
+            .noneMatch(ChangeResponse::deleted));
+  }
+
+  @Test
+  public void givenAnEncodedMedia_whenCallsChanges_shouldAnswerTheVideoWithItsNewStatus() {
+    // given
+    final var feed = newFeed(Duration.ZERO);
+    final var expectedEncodedPath = "encoded/video.mp4";
+
+    final var aVideo =
+        videoGateway.create(
+            Video.newVideo(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    Set.of(),
+                    Set.of(),
+                    Set.of())
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video")));
+
+    final var aCursor = feed.changes(ExportTable.VIDEOS, null, 100).cursor();
+
+    videoGateway.updateMediaStatus(
+        MediaStatusChange.completed(
+            aVideo.getId(), aVideo.getVideo().get().id(), expectedEncodedPath));
+
+    // when
+    final var actualFeed = feed.changes(ExportTable.VIDEOS, aCursor, 100);
+
+    // then
+    Assertions.assertEquals(1, actualFeed.items().size());
+
+    final var actualChange = actualFeed.items().get(0);
+    Assertions.assertEquals(aVideo.getId().getValue(), actualChange.id());
+    Assertions.assertEquals(MediaStatus.COMPLETED.name(), actualChange.data().get("video_status"));
+    Assertions.assertEquals(expectedEncodedPath, actualChange.data().get("video_location"));
+  }
+
+  @Test
+  public void givenRecentChanges_whenCallsChanges_shouldHoldThemBackUntilTheySettle() {
+    // given
+    final var feed = newFeed(Duration.ofHours(1));
+    categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+    // when
+    final var actualFeed = feed.changes(ExportTable.CATEGORIES, null, 100);
+
+    // then
+    Assertions.assertTrue(actualFeed.items().isEmpty());
+    Assertions.assertNull(actualFeed.cursor());
+  }
+
+  @Test
+  public void givenAnInvalidLimit_whenCallsChanges_shouldThrowDomainException() {
+    // given
+    final var expectedErrorMessage = "'limit' must be greater than 0";
+
+    // when
+    final var actualException =
+        Assertions.assertThrows(
+            DomainException.class,
+            () -> newFeed(Duration.ZERO).changes(ExportTable.CATEGORIES, null, 0));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
+  private ChangeFeed newFeed(final Duration settleTime) {
+    return new ChangeFeed(dataSource, transactionManager, IdStorage.CHAR, settleTime, 1000);
+  }
+
+  private static List<String> idsOf(final List<ChangeResponse> items) {
+    return items.stream().map(ChangeResponse::id).toList();
+  }
+}
@@ -1,14 +1,17 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.QueryCounter;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 @MySQLGatewayTest
 public class GenreMySQLGatewayTest {
@@ -26,6 +30,8 @@ public class GenreMySQLGatewayTest {
 
   @Autowired private GenreRepository genreRepository;
 
+  @Autowired private TestEntityManager entityManager;
+
   @Test
   public void testDependenciesInjected() {
     Assertions.assertNotNull(categoryGateway);
@@ -557,4 +563,83 @@ public class GenreMySQLGatewayTest {
   private List<CategoryID> sorted(final List<CategoryID> expectedCategories) {
     return expectedCategories.stream().sorted(Comparator.comparing(CategoryID::getValue)).toList();
   }
+
+  @Test
+  public void givenPrePersistedGenres_whenScrollsByCreatedAtDesc_shouldReturnEveryGenreOnce() {
+    final var expectedPerPage = 2;
+
+    final var genres =
+        List.of(
+            Genre.newGenre("Ação", true),
+            Genre.newGenre("Drama", true),
+            Genre.newGenre("Comédia", true),
+            Genre.newGenre("Terror", true),
+            Genre.newGenre("Suspense", true));
+
+    genreRepository.saveAllAndFlush(genres.stream().map(GenreJpaEntity::from).toList());
+
+    final Comparator<Genre> byCreatedAt = Comparator.comparing(Genre::getCreatedAt);
+    final var expectedIds =
+        genres.stream()
+            .sorted(byCreatedAt.thenComparing(genre -> genre.getId().getValue()).reversed())
+            .map(Genre::getId)
+            .toList();
+
+    final var actualIds = new ArrayList<GenreID>();
+    var cursor = "";
+    var pages = 0;
+
+    do {
+      final var actualPage =
+          genreGateway.findAll(
+              new SearchQuery(0, expectedPerPage, "", "createdAt", "desc", cursor));
+      actualPage.items().forEach(genre -> actualIds.add(genre.getId()));
+      cursor = actualPage.next();
+      pages++;
+    } while (cursor != null);
+
+    Assertions.assertEquals(3, pages);
+    Assertions.assertEquals(expectedIds, actualIds);
+  }
+
+  @Test
+  public void givenGenresWithCategories_whenCallsFindAll_shouldReadCategoriesInOneQuery() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+    final var acao = Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId()));
+    final var drama =
+        Genre.newGenre("Drama", true).addCategories(List.of(filmes.getId(), series.getId()));
+    final var terror = Genre.newGenre("Terror", true);
+
+    genreRepository.saveAllAndFlush(
+        List.of(
+            GenreJpaEntity.from(acao), GenreJpaEntity.from(drama), GenreJpaEntity.from(terror)));
+    entityManager.clear();
+
+    // when
+    final var actualPage =
+        QueryCounter.assertQueries(
+            2, () -> genreGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")));
+    final var actualSlice =
+        QueryCounter.assertQueries(
+            2,
+            () ->
+                genreGateway.findAll(
+                    new SearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE)));
+    final var actualScroll =
+        QueryCounter.assertQueries(
+            2, () -> genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", "")));
+
+    // then
+    Assertions.assertEquals(3, actualPage.total());
+    Assertions.assertEquals(List.of(filmes.getId()), actualPage.items().get(0).getCategories());
+    Assertions.assertEquals(
+        sorted(List.of(filmes.getId(), series.getId())),
+        sorted(actualPage.items().get(1).getCategories()));
+    Assertions.assertEquals(List.of(), actualPage.items().get(2).getCategories());
+    Assertions.assertEquals(actualPage.items().subList(0, 2), actualSlice.items());
+    Assertions.assertEquals(actualPage.items().subList(0, 2), actualScroll.items());
+  }
 }
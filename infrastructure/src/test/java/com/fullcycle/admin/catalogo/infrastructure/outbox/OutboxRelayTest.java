@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class OutboxRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+  private static final long CONFIRM_TIMEOUT = 1000;
+
+  private OutboxRelay target;
+
+  private OutboxEventRepository repository;
+
+  private RabbitOperations ops;
+
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  public void setUp() {
+    this.repository = Mockito.mock(OutboxEventRepository.class);
+    this.ops = Mockito.mock(RabbitOperations.class);
+    this.transactionManager = Mockito.mock(PlatformTransactionManager.class);
+
+    when(transactionManager.getTransaction(any()))
+        .thenReturn(Mockito.mock(TransactionStatus.class));
+    when(ops.invoke(any()))
+        .thenAnswer(
+            call -> call.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(ops));
+
+    this.target =
+        new OutboxRelay(
+            repository,
+            ops,
+            new TransactionTemplate(transactionManager),
+            BATCH_SIZE,
+            CONFIRM_TIMEOUT);
+  }
+
+  @Test
+  public void givenPendingEvents_whenCallsRelay_shouldPublishConfirmAndDeleteInBatches() {
+    // given
+    final var firstBatch = events(0, 2);
+    final var secondBatch = events(2, 1);
+
+    when(repository.findNextBatch(any(Pageable.class)))
+        .thenReturn(firstBatch)
+        .thenReturn(secondBatch);
+
+    // when
+    this.target.relay();
+
+    // then
+    verify(repository, times(2)).findNextBatch(Pageable.ofSize(BATCH_SIZE));
+    verify(ops, times(3))
+        .convertAndSend(eq("video.events"), eq("video.created"), any(Object.class));
+    verify(ops, times(2)).waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+    verify(repository).deleteAllInBatch(firstBatch);
+    verify(repository).deleteAllInBatch(secondBatch);
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  public void givenNoPendingEvents_whenCallsRelay_shouldNotTouchTheBroker() {
+    // given
+    when(repository.findNextBatch(any(Pageable.class))).thenReturn(List.of());
+
+    // when
+    this.target.relay();
+
+    // then
+    verify(ops, never()).invoke(any());
+    verify(repository, never()).deleteAllInBatch(any());
+  }
+
+  @Test
+  public void givenUnconfirmedBatch_whenCallsRelay_shouldKeepEventsAndRollback() {
+    // given
+    final var batch = events(0, 2);
+
+    when(repository.findNextBatch(any(Pageable.class))).thenReturn(batch);
+    doThrow(new AmqpTimeoutException("nack")).when(ops).waitForConfirmsOrDie(anyLong());
+
+    // when
+    Assertions.assertThrows(AmqpTimeoutException.class, () -> this.target.relay());
+
+    // then
+    verify(repository, never()).deleteAllInBatch(any());
+    verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+  }
+
+  private static List<OutboxEventJpaEntity> events(final int from, final int count) {
+    return IntStream.range(from, from + count)
+        .mapToObj(
+            i ->
+                OutboxEventJpaEntity.with(
+                        "video.events", "video.created", "{\"id\":%d}".formatted(i))
+                    .setId((long) i))
+        .toList();
+  }
+}
@@ -0,0 +1,165 @@
+package com.fullcycle.admin.catalogo.infrastructure.search;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTest {
+
+  @Test
+  public void givenIndexedDocuments_whenSearchesWordPrefixes_shouldReturnMatchingIds() {
+    final var target =
+        new InvertedIndex(
+            () ->
+                List.of(
+                    new InvertedIndex.Document("1", "Filmes", "A categoria mais assistida"),
+                    new InvertedIndex.Document("2", "Séries", "Episódios semanais"),
+                    new InvertedIndex.Document("3", "Documentários", null)));
+
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("film"));
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("CATEGORIA assist"));
+    Assertions.assertEquals(Optional.of(Set.of("2")), target.search("series epis"));
+    Assertions.assertEquals(Optional.of(Set.of("3")), target.search("documentarios"));
+    Assertions.assertEquals(Optional.of(Set.of()), target.search("filmes semanais"));
+    Assertions.assertEquals(Optional.of(Set.of()), target.search("ssistida"));
+  }
+
+  @Test
+  public void givenTermsWithoutWords_whenSearches_shouldNotAnswer() {
+    final var loads = new AtomicInteger();
+    final var target =
+        new InvertedIndex(
+            () -> {
+              loads.incrementAndGet();
+              return List.of();
+            });
+
+    Assertions.assertTrue(target.search(null).isEmpty());
+    Assertions.assertTrue(target.search(" - ").isEmpty());
+    Assertions.assertEquals(0, loads.get());
+  }
+
+  @Test
+  public void givenALoadedIndex_whenPutsAndRemoves_shouldUpdateIncrementally() {
+    final var loads = new AtomicInteger();
+    final var target =
+        new InvertedIndex(
+            () -> {
+              loads.incrementAndGet();
+              return List.of(new InvertedIndex.Document("1", "Filmes"));
+            });
+
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("filmes"));
+
+    target.put("2", "Filmes de ação");
+    Assertions.assertEquals(Optional.of(Set.of("1", "2")), target.search("filmes"));
+
+    target.put("1", "Séries");
+    Assertions.assertEquals(Optional.of(Set.of("2")), target.search("filmes"));
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("series"));
+
+    target.remove("2");
+    Assertions.assertEquals(Optional.of(Set.of()), target.search("filmes"));
+    Assertions.assertEquals(Optional.of(Set.of()), target.search("acao"));
+
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void givenALoadedIndex_whenRefreshes_shouldSearchTheWritesOfOtherInstances() {
+    final var loads = new AtomicInteger();
+    final var target =
+        new InvertedIndex(
+            () ->
+                loads.incrementAndGet() == 1
+                    ? List.of(new InvertedIndex.Document("1", "Filmes"))
+                    : List.of(
+                        new InvertedIndex.Document("1", "Séries"),
+                        new InvertedIndex.Document("2", "Filmes de ação")));
+
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("filmes"));
+
+    target.refresh();
+
+    Assertions.assertEquals(Optional.of(Set.of("2")), target.search("filmes"));
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("series"));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void givenAnIndexNeverSearched_whenRefreshes_shouldNotLoad() {
+    final var loads = new AtomicInteger();
+    final var target =
+        new InvertedIndex(
+            () -> {
+              loads.incrementAndGet();
+              return List.of();
+            });
+
+    target.refresh();
+
+    Assertions.assertEquals(0, loads.get());
+  }
+
+  @Test
+  public void givenARefreshReading_whenSearchesAndWrites_shouldAnswerAndKeepTheWrites() {
+    final var loads = new AtomicInteger();
+    final var searchedWhileLoading = new AtomicReference<Optional<Set<String>>>();
+    final var target = new AtomicReference<InvertedIndex>();
+    target.set(
+        new InvertedIndex(
+            () -> {
+              if (loads.incrementAndGet() > 1) {
+                // the loader runs without the lock, so both would deadlock otherwise
+                searchedWhileLoading.set(target.get().search("filmes"));
+                target.get().put("2", "Filmes de ação");
+              }
+              return List.of(new InvertedIndex.Document("1", "Filmes"));
+            }));
+
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.get().search("filmes"));
+
+    target.get().refresh();
+
+    Assertions.assertEquals(Optional.of(Set.of("1")), searchedWhileLoading.get());
+    Assertions.assertEquals(Optional.of(Set.of("1", "2")), target.get().search("filmes"));
+  }
+
+  @Test
+  public void givenAFailingRefresh_whenSearches_shouldAnswerFromThePreviousLoad() {
+    final var loads = new AtomicInteger();
+    final var target =
+        new InvertedIndex(
+            () -> {
+              if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("database down");
+              }
+              return List.of(new InvertedIndex.Document("1", "Filmes"));
+            });
+
+    Assertions.assertEquals(Optional.of(Set.of("1")), target.search("filmes"));
+
+    Assertions.assertThrows(IllegalStateException.class, target::refresh);
+
+    target.put("2", "Filmes de ação");
+    Assertions.assertEquals(Optional.of(Set.of("1", "2")), target.search("filmes"));
+  }
+
+  @Test
+  public void givenTermsMatchingTooManyDocuments_whenSearches_shouldNotAnswer() {
+    final var target =
+        new InvertedIndex(
+            () ->
+                IntStream.rangeClosed(0, InvertedIndex.MAX_MATCHES)
+                    .mapToObj(i -> new InvertedIndex.Document(String.valueOf(i), "Vídeo " + i))
+                    .toList());
+
+    Assertions.assertTrue(target.search("video").isEmpty());
+    Assertions.assertEquals(Optional.of(Set.of("1000")), target.search("video 1000"));
+  }
+}
@@ -1,22 +1,42 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
 import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
 
 public class GCStorageServiceTest {
 
@@ -26,12 +46,22 @@ public class GCStorageServiceTest {
 
   private String bucket = "test";
 
+  @Captor private ArgumentCaptor<Iterable<BlobId>> deleteCapturer;
+
+  private AutoCloseable mocks;
+
   @BeforeEach
   public void setUp() {
+    this.mocks = MockitoAnnotations.openMocks(this);
     this.storage = Mockito.mock(Storage.class);
     this.target = new GCStorageService(bucket, storage);
   }
 
+  @AfterEach
+  public void tearDown() throws Exception {
+    this.mocks.close();
+  }
+
   @Test
   public void givenValidResource_whenCallsStore_shouldStoreIt() {
     final var expectedResource = Fixture.Videos.resource(THUMBNAIL);
@@ -53,6 +83,200 @@ public class GCStorageServiceTest {
     Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
   }
 
+  @Test
+  public void givenValidStream_whenCallsStore_shouldWriteItThroughChannel() throws Exception {
+    final var expectedResource = Fixture.Videos.resource(VIDEO);
+    final var expectedId = expectedResource.name();
+    final var expectedChecksum = HashingUtils.checksum(expectedResource.content());
+
+    final var written = new ByteArrayOutputStream();
+    final var channel = Mockito.mock(WriteChannel.class);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            call -> {
+              final ByteBuffer buffer = call.getArgument(0);
+              final var length = buffer.remaining();
+              final var chunk = new byte[length];
+              buffer.get(chunk);
+              written.write(chunk);
+              return length;
+            });
+    doReturn(channel).when(storage).writer(any(BlobInfo.class));
+
+    final var actualChecksum =
+        this.target.store(
+            expectedId,
+            expectedResource.contentType(),
+            new ByteArrayInputStream(expectedResource.content()));
+
+    final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+
+    verify(storage, times(1)).writer(capturer.capture());
+    verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+    verify(channel, times(1)).close();
+
+    final var actualBlob = capturer.getValue();
+    Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
+    Assertions.assertEquals(expectedId, actualBlob.getBlobId().getName());
+    Assertions.assertEquals(expectedResource.contentType(), actualBlob.getContentType());
+    Assertions.assertEquals(expectedChecksum, actualChecksum);
+    Assertions.assertArrayEquals(expectedResource.content(), written.toByteArray());
+  }
+
+  @Test
+  public void givenStreamBiggerThanPartSize_whenCallsStore_shouldUploadPartsAndCompose()
+      throws Exception {
+    final var expectedId = "video";
+    final var expectedContent = new byte[1000];
+    new Random(7).nextBytes(expectedContent);
+    final var expectedChecksum = HashingUtils.checksum(expectedContent);
+    final var expectedPartSize = 25;
+
+    final var written = new ConcurrentHashMap<String, ByteArrayOutputStream>();
+    doAnswer(call -> writeChannel(written, call.getArgument(0)))
+        .when(storage)
+        .writer(any(BlobInfo.class));
+
+    final var executor = Executors.newFixedThreadPool(4);
+    final var target = new GCStorageService(bucket, storage, expectedPartSize, 4, executor);
+
+    final var actualChecksum =
+        target.store(expectedId, "video/mp4", new ByteArrayInputStream(expectedContent));
+    executor.shutdown();
+
+    final var composeCapturer = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+    verify(storage, times(3)).compose(composeCapturer.capture());
+
+    final var requests = composeCapturer.getAllValues();
+    final var finalRequest = requests.get(2);
+    Assertions.assertEquals(expectedId, finalRequest.getTarget().getName());
+    Assertions.assertEquals("video/mp4", finalRequest.getTarget().getContentType());
+    Assertions.assertEquals(2, finalRequest.getSourceBlobs().size());
+
+    final var composed = new ByteArrayOutputStream();
+    requests.subList(0, 2).stream()
+        .flatMap(request -> request.getSourceBlobs().stream())
+        .forEach(source -> composed.writeBytes(written.get(source.getName()).toByteArray()));
+
+    Assertions.assertEquals(40, written.size());
+    Assertions.assertArrayEquals(expectedContent, composed.toByteArray());
+    Assertions.assertEquals(expectedChecksum, actualChecksum);
+
+    verify(storage, times(1)).delete(deleteCapturer.capture());
+    Assertions.assertEquals(42, names(deleteCapturer.getValue()).size());
+  }
+
+  @Test
+  public void givenFailingPart_whenCallsStore_shouldDeletePartsAndNotCompose() {
+    final var expectedContent = new byte[100];
+    final var expectedError = new StorageException(503, "unavailable");
+
+    final var written = new ConcurrentHashMap<String, ByteArrayOutputStream>();
+    doAnswer(
+            call -> {
+              final BlobInfo info = call.getArgument(0);
+              if (info.getName().endsWith("part-00002")) {
+                throw expectedError;
+              }
+              return writeChannel(written, info);
+            })
+        .when(storage)
+        .writer(any(BlobInfo.class));
+
+    final var target =
+        new GCStorageService(bucket, storage, 10, 1, MoreExecutors.newDirectExecutorService());
+
+    final var actualError =
+        Assertions.assertThrows(
+            StorageException.class,
+            () -> target.store("video", "video/mp4", new ByteArrayInputStream(expectedContent)));
+
+    Assertions.assertSame(expectedError, actualError);
+    verify(storage, never()).compose(any());
+
+    verify(storage, times(1)).delete(deleteCapturer.capture());
+    Assertions.assertTrue(
+        names(deleteCapturer.getValue()).containsAll(written.keySet()));
+  }
+
+  @Test
+  public void givenMorePartsThanACompose_whenCallsStore_shouldStoreTheWholeContent() {
+    final var expectedContent = new byte[1000];
+    new Random(7).nextBytes(expectedContent);
+
+    final var fake = new FakeStorage();
+    final var executor = Executors.newFixedThreadPool(4);
+    final var target = new GCStorageService(bucket, fake.storage, 10, 4, executor);
+
+    target.store("video", "video/mp4", new ByteArrayInputStream(expectedContent));
+    executor.shutdown();
+
+    Assertions.assertEquals(Set.of("video"), fake.blobs.keySet());
+    Assertions.assertArrayEquals(expectedContent, fake.blobs.get("video"));
+  }
+
+  @Test
+  public void givenAPartFailingOnce_whenCallsStore_shouldWriteItAgain() {
+    final var expectedContent = new byte[100];
+    new Random(7).nextBytes(expectedContent);
+
+    final var fake = new FakeStorage();
+    fake.failures.put("video.part-00002", new StorageException(503, "unavailable"));
+
+    final var target =
+        new GCStorageService(bucket, fake.storage, 10, 1, MoreExecutors.newDirectExecutorService());
+
+    target.store("video", "video/mp4", new ByteArrayInputStream(expectedContent));
+
+    Assertions.assertEquals(Set.of("video"), fake.blobs.keySet());
+    Assertions.assertArrayEquals(expectedContent, fake.blobs.get("video"));
+  }
+
+  @Test
+  public void givenAFailingCompose_whenCallsStore_shouldDeleteEveryTemporary() {
+    final var expectedError = new StorageException(503, "unavailable");
+
+    final var fake = new FakeStorage();
+    fake.failures.put("video", expectedError);
+
+    final var target =
+        new GCStorageService(bucket, fake.storage, 10, 1, MoreExecutors.newDirectExecutorService());
+
+    final var actualError =
+        Assertions.assertThrows(
+            StorageException.class,
+            () -> target.store("video", "video/mp4", new ByteArrayInputStream(new byte[1000])));
+
+    Assertions.assertSame(expectedError, actualError);
+    Assertions.assertTrue(fake.blobs.isEmpty());
+  }
+
+  @Test
+  public void givenAFailingCleanUp_whenAPartFails_shouldThrowThePartError() {
+    final var expectedError = new StorageException(403, "forbidden");
+    final var expectedCleanUpError = new StorageException(503, "unavailable");
+
+    final var fake = new FakeStorage();
+    fake.failures.put("video.part-00002", expectedError);
+    doThrow(expectedCleanUpError)
+        .when(fake.storage)
+        .delete(ArgumentMatchers.<Iterable<BlobId>>any());
+
+    final var target =
+        new GCStorageService(bucket, fake.storage, 10, 1, MoreExecutors.newDirectExecutorService());
+
+    final var actualError =
+        Assertions.assertThrows(
+            StorageException.class,
+            () -> target.store("video", "video/mp4", new ByteArrayInputStream(new byte[100])));
+
+    Assertions.assertSame(expectedError, actualError);
+    Assertions.assertArrayEquals(
+        new Throwable[] {expectedCleanUpError}, actualError.getSuppressed());
+    verify(fake.storage, times(1)).writer(BlobInfo.newBuilder(bucket, "video.part-00002").build());
+  }
+
   @Test
   public void givenResource_whenCallsGet_shouldRetrieveIt() {
     final var expectedResource = Fixture.Videos.resource(THUMBNAIL);
@@ -65,8 +289,51 @@ public class GCStorageServiceTest {
 
     Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
     Assertions.assertEquals(expectedResource.name(), actualContent.name());
-    Assertions.assertEquals(expectedResource.content(), actualContent.content());
     Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+    Assertions.assertEquals(expectedResource.content().length, actualContent.size());
+    Assertions.assertTrue(actualContent.isStreamed());
+    verify(blob, never()).getContent();
+  }
+
+  @Test
+  public void givenResource_whenOpensStreamAtOffset_shouldReadThroughSeekedChannel()
+      throws Exception {
+    final var expectedResource = Fixture.Videos.resource(VIDEO);
+    final var expectedId = expectedResource.name();
+    final var expectedOffset = 3L;
+    final var expectedContent = expectedResource.content();
+
+    final Blob blob = mockBlob(expectedResource);
+    doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+
+    final var channel = Mockito.mock(ReadChannel.class);
+    final var source =
+        new ByteArrayInputStream(
+            expectedContent, (int) expectedOffset, expectedContent.length - (int) expectedOffset);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            call -> {
+              final ByteBuffer buffer = call.getArgument(0);
+              final var chunk = source.readNBytes(buffer.remaining());
+              if (chunk.length == 0) {
+                return -1;
+              }
+              buffer.put(chunk);
+              return chunk.length;
+            });
+    doReturn(channel).when(storage).reader(eq(BlobId.of(bucket, expectedId)));
+
+    final var actualContent = target.get(expectedId).get();
+
+    try (final var in = actualContent.openStream(expectedOffset)) {
+      Assertions.assertArrayEquals(
+          Arrays.copyOfRange(expectedContent, (int) expectedOffset, expectedContent.length),
+          in.readAllBytes());
+    }
+
+    verify(channel, times(1)).seek(expectedOffset);
+    verify(blob, never()).getContent();
   }
 
   @Test
@@ -107,20 +374,104 @@ public class GCStorageServiceTest {
 
     target.deleteAll(expectedIds);
 
-    final var capturer = ArgumentCaptor.forClass(List.class);
-
-    verify(storage, times(1)).delete(capturer.capture());
+    verify(storage, times(1)).delete(deleteCapturer.capture());
 
-    final var actualIds =
-        ((List<BlobId>) capturer.getValue()).stream().map(BlobId::getName).toList();
+    final var actualIds = names(deleteCapturer.getValue());
 
     Assertions.assertTrue(
         expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
   }
 
+  private static List<String> names(final Iterable<BlobId> blobs) {
+    return StreamSupport.stream(blobs.spliterator(), false).map(BlobId::getName).toList();
+  }
+
+  private WriteChannel writeChannel(
+      final Map<String, ByteArrayOutputStream> written, final BlobInfo info) throws Exception {
+    final var out = new ByteArrayOutputStream();
+    written.put(info.getName(), out);
+
+    final var channel = Mockito.mock(WriteChannel.class);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            call -> {
+              final ByteBuffer buffer = call.getArgument(0);
+              final var length = buffer.remaining();
+              final var chunk = new byte[length];
+              buffer.get(chunk);
+              out.write(chunk);
+              return length;
+            });
+    return channel;
+  }
+
+  /**
+   * A bucket kept in memory: writers store their bytes once closed, compose concatenates them and
+   * delete drops them. A name in {@code failures} fails its next write or compose.
+   */
+  private static class FakeStorage {
+
+    private final Map<String, byte[]> blobs = new ConcurrentHashMap<>();
+
+    private final Map<String, StorageException> failures = new ConcurrentHashMap<>();
+
+    private final Storage storage = Mockito.mock(Storage.class);
+
+    private FakeStorage() {
+      doAnswer(call -> writer(call.getArgument(0))).when(storage).writer(any(BlobInfo.class));
+      doAnswer(call -> compose(call.getArgument(0))).when(storage).compose(any());
+      doAnswer(call -> delete(call.getArgument(0)))
+          .when(storage)
+          .delete(ArgumentMatchers.<Iterable<BlobId>>any());
+    }
+
+    private WriteChannel writer(final BlobInfo info) throws Exception {
+      fail(info.getName());
+
+      final var out = new ByteArrayOutputStream();
+      final var channel = Mockito.mock(WriteChannel.class);
+      when(channel.isOpen()).thenReturn(true);
+      when(channel.write(any(ByteBuffer.class)))
+          .thenAnswer(
+              call -> {
+                final ByteBuffer buffer = call.getArgument(0);
+                final var length = buffer.remaining();
+                final var chunk = new byte[length];
+                buffer.get(chunk);
+                out.write(chunk);
+                return length;
+              });
+      doAnswer(call -> this.blobs.put(info.getName(), out.toByteArray())).when(channel).close();
+      return channel;
+    }
+
+    private Blob compose(final Storage.ComposeRequest request) {
+      final var name = request.getTarget().getName();
+      fail(name);
+
+      final var out = new ByteArrayOutputStream();
+      request.getSourceBlobs().forEach(source -> out.writeBytes(this.blobs.get(source.getName())));
+      this.blobs.put(name, out.toByteArray());
+      return null;
+    }
+
+    private List<Boolean> delete(final Iterable<BlobId> ids) {
+      return names(ids).stream().map(name -> this.blobs.remove(name) != null).toList();
+    }
+
+    private void fail(final String name) {
+      final var failure = this.failures.remove(name);
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+
   private Blob mockBlob(final Resource resource) {
     final var blob1 = Mockito.mock(Blob.class);
     when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
+    when(blob1.getSize()).thenReturn((long) resource.content().length);
     when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
     when(blob1.getContent()).thenReturn(resource.content());
     when(blob1.getContentType()).thenReturn(resource.contentType());
@@ -7,10 +7,11 @@ import com.fullcycle.admin.catalogo.AmqpTest;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaCreated;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -21,7 +22,9 @@ public class RabbitEventServiceTest {
 
   private static final String LISTENER = "video.created";
 
-  @Autowired @VideoCreatedQueue private EventService publisher;
+  @Autowired @VideoCreatedQueue private QueueProperties props;
+
+  @Autowired private RabbitOperations ops;
 
   @Autowired private RabbitListenerTestHarness harness;
 
@@ -33,7 +36,7 @@ public class RabbitEventServiceTest {
     final var expectedMessage = Json.writeValueAsString(notification);
 
     // when
-    this.publisher.send(notification);
+    new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops).send(notification);
 
     // then
     final var invocationData = harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
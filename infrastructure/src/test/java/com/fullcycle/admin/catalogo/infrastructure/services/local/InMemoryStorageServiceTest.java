@@ -3,6 +3,9 @@ package com.fullcycle.admin.catalogo.infrastructure.services.local;
 import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.THUMBNAIL;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +32,26 @@ public class InMemoryStorageServiceTest {
     Assertions.assertEquals(expectedResource, actualContent);
   }
 
+  @Test
+  public void givenValidStream_whenCallsStore_shouldStoreItAndReturnChecksum() {
+    final var expectedResource = Fixture.Videos.resource(THUMBNAIL);
+    final var expectedId = "item";
+    final var expectedChecksum = HashingUtils.checksum(expectedResource.content());
+
+    final var actualChecksum =
+        target.store(
+            expectedId,
+            expectedResource.contentType(),
+            new ByteArrayInputStream(expectedResource.content()));
+
+    final var actualContent = this.target.storage().get(expectedId);
+
+    Assertions.assertEquals(expectedChecksum, actualChecksum);
+    Assertions.assertEquals(expectedChecksum, actualContent.checksum());
+    Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+    Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
+  }
+
   @Test
   public void givenResource_whenCallsGet_shouldRetrieveIt() {
     final var expectedResource = Fixture.Videos.resource(THUMBNAIL);
@@ -41,6 +64,20 @@ public class InMemoryStorageServiceTest {
     Assertions.assertEquals(expectedResource, actualContent);
   }
 
+  @Test
+  public void givenResource_whenOpensItsStreamWithOffset_shouldSkipTheOffset() throws Exception {
+    final var expectedResource = Fixture.Videos.resource(THUMBNAIL);
+    final var expectedContent = expectedResource.content();
+    final var expectedId = "item";
+
+    this.target.storage().put(expectedId, expectedResource);
+
+    try (final var in = target.get(expectedId).orElseThrow().openStream(2)) {
+      Assertions.assertArrayEquals(
+          Arrays.copyOfRange(expectedContent, 2, expectedContent.length), in.readAllBytes());
+    }
+  }
+
   @Test
   public void givenInValidResource_whenCallsGet_shouldRetrieveEmpty() {
     final var expectedResource = Fixture.Videos.resource(THUMBNAIL);
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FullTextUtilsTest {
+
+  @Test
+  public void givenIndexedWords_whenCallsBooleanQuery_shouldRequireEachPrefix() {
+    Assertions.assertEquals(
+        Optional.of("+filmes* +ação*"), FullTextUtils.booleanQuery("filmes ação"));
+    Assertions.assertEquals(Optional.of("+Séries*"), FullTextUtils.booleanQuery("  Séries! "));
+  }
+
+  @Test
+  public void givenTermsTheIndexCanNotAnswer_whenCallsBooleanQuery_shouldFallBackToLike() {
+    Assertions.assertEquals(Optional.empty(), FullTextUtils.booleanQuery(null));
+    Assertions.assertEquals(Optional.empty(), FullTextUtils.booleanQuery(" - "));
+    Assertions.assertEquals(Optional.empty(), FullTextUtils.booleanQuery("filmes de ação"));
+    Assertions.assertEquals(Optional.empty(), FullTextUtils.booleanQuery("The Office"));
+    Assertions.assertEquals(Optional.empty(), FullTextUtils.booleanQuery("filmes WITH legendas"));
+  }
+}
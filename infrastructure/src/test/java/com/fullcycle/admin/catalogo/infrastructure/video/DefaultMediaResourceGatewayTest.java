@@ -8,9 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,6 +70,37 @@ class DefaultMediaResourceGatewayTest {
     assertEquals(expectedResource, actualStored);
   }
 
+  @Test
+  public void givenStreamedResource_whenCallsStorageAudioVideo_shouldStoreItWithChecksum() {
+    // given
+    final var expectedVideoId = VideoID.unique();
+    final var expectedType = VIDEO;
+    final var aResource = resource(expectedType);
+    final var expectedChecksum = HashingUtils.checksum(aResource.content());
+    final var expectedResource =
+        Resource.stream(
+            () -> new ByteArrayInputStream(aResource.content()),
+            aResource.contentType(),
+            aResource.name());
+    final var expectedLocation =
+        "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+
+    // when
+    final var actualMedia =
+        this.mediaResourceGateway.storeAudioVideo(
+            expectedVideoId, VideoResource.with(expectedType, expectedResource));
+
+    // then
+    assertEquals(expectedLocation, actualMedia.rawLocation());
+    assertEquals(expectedResource.name(), actualMedia.name());
+    assertEquals(expectedChecksum, actualMedia.checksum());
+
+    final var actualStored = storageService().storage().get(expectedLocation);
+
+    assertEquals(expectedChecksum, actualStored.checksum());
+    Assertions.assertArrayEquals(aResource.content(), actualStored.content());
+  }
+
   @Test
   public void givenValidResource_whenCallsStorageImage_shouldStoreIt() {
     // given
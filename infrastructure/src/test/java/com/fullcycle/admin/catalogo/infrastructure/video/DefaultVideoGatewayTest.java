@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.QueryCounter;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
@@ -8,12 +9,20 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +30,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @IntegrationTest
 class DefaultVideoGatewayTest {
@@ -36,6 +47,12 @@ class DefaultVideoGatewayTest {
 
   @Autowired private VideoRepository videoRepository;
 
+  @Autowired private OutboxEventRepository outboxEventRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired @VideoCreatedQueue private QueueProperties videoCreatedQueue;
+
   private CastMember wesley;
   private CastMember gabriel;
 
@@ -152,6 +169,316 @@ class DefaultVideoGatewayTest {
     Assertions.assertEquals(expectedThumbHalf.name(), persistedVideo.getThumbnailHalf().getName());
   }
 
+  @Test
+  public void givenAVideoWithMedia_whenCallsCreate_shouldWriteEventsToOutbox() {
+    // given
+    final var expectedVideo = AudioVideoMedia.with("123", "video", "/media/video");
+    final var expectedTrailer = AudioVideoMedia.with("123", "trailer", "/media/trailer");
+
+    final var aVideo =
+        newVideoWithoutRelations()
+            .updateVideoMedia(expectedVideo)
+            .updateTrailerMedia(expectedTrailer);
+
+    // when
+    videoGateway.create(aVideo);
+
+    // then
+    final var actualEvents = outboxEventRepository.findAll();
+
+    Assertions.assertEquals(2, actualEvents.size());
+    actualEvents.forEach(
+        event -> {
+          Assertions.assertEquals(videoCreatedQueue.getExchange(), event.getExchange());
+          Assertions.assertEquals(videoCreatedQueue.getRoutingKey(), event.getRoutingKey());
+          Assertions.assertTrue(event.getPayload().contains(aVideo.getId().getValue()));
+        });
+  }
+
+  @Test
+  public void givenARolledBackTransaction_whenCallsCreate_shouldNotWriteEventsToOutbox() {
+    // given
+    final var aVideo =
+        newVideoWithoutRelations()
+            .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"));
+
+    // when
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              videoGateway.create(aVideo);
+              status.setRollbackOnly();
+            });
+
+    // then
+    Assertions.assertEquals(0, outboxEventRepository.count());
+    Assertions.assertEquals(0, videoRepository.count());
+  }
+
+  @Test
+  public void givenAVideoWithMediaAndRelations_whenCallsFindByIdWithAPlan_shouldReadItInOneQuery() {
+    // given
+    final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+    final var expectedGenres = Set.of(tech.getId(), business.getId());
+    final var expectedMembers = Set.of(wesley.getId(), gabriel.getId());
+    final var expectedVideo = AudioVideoMedia.with("123", "video", "/media/video");
+    final var expectedBanner = ImageMedia.with("456", "banner", "/media/banner");
+
+    final var aVideo =
+        videoGateway.create(
+            Video.newVideo(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    expectedCategories,
+                    expectedGenres,
+                    expectedMembers)
+                .updateVideoMedia(expectedVideo)
+                .updateBannerMedia(expectedBanner));
+
+    // when
+    final var actualAll =
+        QueryCounter.assertQueries(
+                1, () -> videoGateway.findById(aVideo.getId(), VideoFetchPlan.ALL))
+            .orElseThrow();
+    final var actualRelations =
+        QueryCounter.assertQueries(
+                1, () -> videoGateway.findById(aVideo.getId(), VideoFetchPlan.RELATIONS))
+            .orElseThrow();
+
+    // then
+    Assertions.assertEquals(expectedCategories, actualAll.getCategories());
+    Assertions.assertEquals(expectedGenres, actualAll.getGenres());
+    Assertions.assertEquals(expectedMembers, actualAll.getCastMembers());
+    Assertions.assertEquals(expectedVideo.id(), actualAll.getVideo().orElseThrow().id());
+    Assertions.assertEquals(expectedBanner.id(), actualAll.getBanner().orElseThrow().id());
+    Assertions.assertTrue(actualAll.getTrailer().isEmpty());
+
+    Assertions.assertEquals(expectedCategories, actualRelations.getCategories());
+    Assertions.assertEquals(expectedGenres, actualRelations.getGenres());
+    Assertions.assertEquals(expectedMembers, actualRelations.getCastMembers());
+    Assertions.assertTrue(actualRelations.getVideo().isEmpty());
+    Assertions.assertTrue(actualRelations.getBanner().isEmpty());
+  }
+
+  @Test
+  public void givenAVideoWithManyCastMembers_whenCallsUpdateChangingTheTitle_shouldNotWriteThem() {
+    // given
+    final var expectedMembers = new HashSet<CastMemberID>();
+    for (int i = 0; i < 40; i++) {
+      expectedMembers.add(
+          castMemberGateway
+              .create(CastMember.newMember(Fixture.name(), Fixture.CastMembers.type()))
+              .getId());
+    }
+    final var expectedTitle = "Updated title";
+    final var expectedVideo = AudioVideoMedia.with("123", "video", "/media/video");
+
+    final var aVideo =
+        videoGateway.create(
+            Video.newVideo(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    Set.of(aulas.getId()),
+                    Set.of(tech.getId()),
+                    expectedMembers)
+                .updateVideoMedia(expectedVideo));
+
+    final var anUpdate =
+        Video.with(aVideo)
+            .update(
+                expectedTitle,
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                aVideo.getCategories(),
+                aVideo.getGenres(),
+                aVideo.getCastMembers());
+
+    // when
+    final var actualStatements = QueryCounter.statementsOf(() -> videoGateway.update(anUpdate));
+
+    // then
+    Assertions.assertEquals(0, writes(actualStatements, "videos_cast_members"));
+    Assertions.assertEquals(0, writes(actualStatements, "videos_categories"));
+    Assertions.assertEquals(0, writes(actualStatements, "videos_genres"));
+    Assertions.assertEquals(0, writes(actualStatements, "videos_video_media"));
+
+    final var actualVideo = videoGateway.findById(aVideo.getId()).orElseThrow();
+    Assertions.assertEquals(expectedTitle, actualVideo.getTitle());
+    Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+    Assertions.assertEquals(expectedVideo.id(), actualVideo.getVideo().orElseThrow().id());
+  }
+
+  @Test
+  public void givenAVideo_whenCallsUpdateChangingRelationsAndMedia_shouldWriteOnlyTheChanges() {
+    // given
+    final var aVideo =
+        videoGateway.create(
+            Video.newVideo(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.duration(),
+                    Fixture.bool(),
+                    Fixture.bool(),
+                    Fixture.Videos.rating(),
+                    Set.of(aulas.getId()),
+                    Set.of(tech.getId()),
+                    Set.of(wesley.getId()))
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video")));
+
+    final var expectedCategories = Set.of(lives.getId());
+    final var expectedGenres = Set.of(tech.getId());
+    final var expectedMembers = Set.of(wesley.getId(), gabriel.getId());
+    final var expectedTrailer = AudioVideoMedia.with("456", "trailer", "/media/trailer");
+
+    final var anUpdate =
+        Video.with(aVideo)
+            .update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers)
+            .updateVideoMedia(null)
+            .updateTrailerMedia(expectedTrailer);
+
+    // when
+    final var actualStatements = QueryCounter.statementsOf(() -> videoGateway.update(anUpdate));
+
+    // then
+    Assertions.assertEquals(2, writes(actualStatements, "videos_categories"));
+    Assertions.assertEquals(0, writes(actualStatements, "videos_genres"));
+    Assertions.assertEquals(1, writes(actualStatements, "videos_cast_members"));
+
+    final var actualVideo = videoGateway.findById(aVideo.getId()).orElseThrow();
+    Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+    Assertions.assertEquals(expectedGenres, actualVideo.getGenres());
+    Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+    Assertions.assertTrue(actualVideo.getVideo().isEmpty());
+    Assertions.assertEquals(expectedTrailer.id(), actualVideo.getTrailer().orElseThrow().id());
+  }
+
+  @Test
+  public void givenMediaStatusChanges_whenCallsUpdateMediaStatus_shouldUpdateOnlyTheMediaRows() {
+    // given
+    final var aVideo =
+        videoGateway.create(
+            newVideoWithoutRelations()
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+                .updateTrailerMedia(AudioVideoMedia.with("456", "trailer", "/media/trailer")));
+
+    final var anotherVideo = videoGateway.create(newVideoWithoutRelations());
+
+    final var aVideoMedia = aVideo.getVideo().get();
+    final var aTrailerMedia = aVideo.getTrailer().get();
+
+    final var expectedEncodedPath = "encoded/video.mp4";
+
+    final var changes =
+        List.of(
+            MediaStatusChange.completed(aVideo.getId(), aVideoMedia.id(), expectedEncodedPath),
+            MediaStatusChange.processing(aVideo.getId(), aTrailerMedia.id()),
+            MediaStatusChange.processing(anotherVideo.getId(), aVideoMedia.id()));
+
+    // when
+    final var actualUpdated = videoGateway.updateMediaStatus(changes);
+
+    // then
+    Assertions.assertEquals(2, actualUpdated);
+
+    final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+    final var actualVideoMedia = actualVideo.getVideo().get();
+    Assertions.assertEquals(MediaStatus.COMPLETED, actualVideoMedia.status());
+    Assertions.assertEquals(expectedEncodedPath, actualVideoMedia.encodedLocation());
+    Assertions.assertEquals(aVideoMedia.rawLocation(), actualVideoMedia.rawLocation());
+
+    final var actualTrailerMedia = actualVideo.getTrailer().get();
+    Assertions.assertEquals(MediaStatus.PROCESSING, actualTrailerMedia.status());
+    Assertions.assertEquals(aTrailerMedia.encodedLocation(), actualTrailerMedia.encodedLocation());
+
+    // The change feed follows the update time of the video
+    Assertions.assertTrue(actualVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+  }
+
+  @Test
+  public void givenAVideoReadBeforeItsMediaStatusChanged_whenCallsUpdate_shouldThrowConflict() {
+    // given
+    final var aVideo =
+        videoGateway.create(
+            newVideoWithoutRelations()
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video")));
+
+    final var aStaleVideo = videoGateway.findById(aVideo.getId()).get();
+    Assertions.assertEquals(0, aStaleVideo.getVersion());
+
+    Assertions.assertTrue(
+        videoGateway.updateMediaStatus(
+            MediaStatusChange.processing(aVideo.getId(), aVideo.getVideo().get().id())));
+
+    // when
+    Assertions.assertThrows(ConflictException.class, () -> videoGateway.update(aStaleVideo));
+
+    // then
+    final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+    Assertions.assertEquals(1, actualVideo.getVersion());
+    Assertions.assertEquals(MediaStatus.PROCESSING, actualVideo.getVideo().get().status());
+  }
+
+  @Test
+  public void givenACompletedMedia_whenCallsUpdateMediaStatus_shouldNotMoveItBackwards() {
+    // given
+    final var aVideo =
+        videoGateway.create(
+            newVideoWithoutRelations()
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video")));
+
+    final var aVideoId = aVideo.getId();
+    final var aResourceId = aVideo.getVideo().get().id();
+    final var expectedEncodedPath = "encoded/video.mp4";
+
+    // when
+    final var processed =
+        videoGateway.updateMediaStatus(MediaStatusChange.processing(aVideoId, aResourceId));
+    final var completed =
+        videoGateway.updateMediaStatus(
+            MediaStatusChange.completed(aVideoId, aResourceId, expectedEncodedPath));
+    final var lateProcessing =
+        videoGateway.updateMediaStatus(MediaStatusChange.processing(aVideoId, aResourceId));
+    final var redelivered =
+        videoGateway.updateMediaStatus(
+            MediaStatusChange.completed(aVideoId, aResourceId, "encoded/other.mp4"));
+
+    // then
+    Assertions.assertTrue(processed);
+    Assertions.assertTrue(completed);
+    Assertions.assertFalse(lateProcessing);
+    Assertions.assertFalse(redelivered);
+
+    final var actualMedia = videoGateway.findById(aVideoId).get().getVideo().get();
+    Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+    Assertions.assertEquals(expectedEncodedPath, actualMedia.encodedLocation());
+  }
+
   @Test
   @Transactional
   public void givenAValidVideoWithoutRelations_whenCallsCreate_shouldPersistIt() {
@@ -814,6 +1141,113 @@ class DefaultVideoGatewayTest {
     Assertions.assertEquals(expectedVideo, actualPage.items().get(0).title());
   }
 
+  @Test
+  public void givenACursor_whenCallsFindAll_shouldScrollWithoutCounting() {
+    // given
+    mockVideos();
+
+    final var expectedPerPage = 3;
+    final var expectedTitles =
+        List.of(
+            "21.1 Implementação dos testes integrados do findAll",
+            "Aula de empreendedorismo",
+            "Não cometa esses erros ao trabalhar com Microsserviços",
+            "System Design no Mercado Livre na prática");
+
+    final var aQuery =
+        new VideoSearchQuery(
+            0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), "");
+
+    // when
+    final var firstPage = videoGateway.findAll(aQuery);
+    final var lastPage =
+        videoGateway.findAll(
+            new VideoSearchQuery(
+                0,
+                expectedPerPage,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                firstPage.next()));
+
+    // then
+    Assertions.assertEquals(-1, firstPage.total());
+    Assertions.assertEquals(expectedPerPage, firstPage.items().size());
+    Assertions.assertNotNull(firstPage.next());
+
+    Assertions.assertEquals(1, lastPage.items().size());
+    Assertions.assertNull(lastPage.next());
+
+    final var actualTitles = new ArrayList<String>();
+    firstPage.items().forEach(video -> actualTitles.add(video.title()));
+    lastPage.items().forEach(video -> actualTitles.add(video.title()));
+    Assertions.assertEquals(expectedTitles, actualTitles);
+  }
+
+  @Test
+  public void givenACursorAndAFilter_whenCallsFindAll_shouldScrollOnlyMatchingVideos() {
+    // given
+    mockVideos();
+
+    final var aQuery =
+        new VideoSearchQuery(
+            0, 1, "", "createdAt", "asc", Set.of(), Set.of(), Set.of(tech.getId()), "");
+
+    // when
+    final var firstPage = videoGateway.findAll(aQuery);
+    final var lastPage =
+        videoGateway.findAll(
+            new VideoSearchQuery(
+                0,
+                1,
+                "",
+                "createdAt",
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of(tech.getId()),
+                firstPage.next()));
+
+    // then
+    Assertions.assertEquals(
+        "System Design no Mercado Livre na prática", firstPage.items().get(0).title());
+    Assertions.assertEquals(
+        "21.1 Implementação dos testes integrados do findAll", lastPage.items().get(0).title());
+    Assertions.assertNull(lastPage.next());
+  }
+
+  @Test
+  public void givenSeveralIdsOfEachRelation_whenCallsFindAll_shouldReturnEachVideoOnce() {
+    // given
+    mockVideos();
+
+    final var aQuery =
+        new VideoSearchQuery(
+            0,
+            10,
+            "",
+            "title",
+            "asc",
+            Set.of(wesley.getId(), gabriel.getId()),
+            Set.of(aulas.getId(), lives.getId()),
+            Set.of(tech.getId(), business.getId()));
+
+    // when
+    final var actualPage = videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(3, actualPage.total());
+    Assertions.assertEquals(
+        List.of(
+            "21.1 Implementação dos testes integrados do findAll",
+            "Aula de empreendedorismo",
+            "System Design no Mercado Livre na prática"),
+        actualPage.items().stream().map(VideoPreview::title).toList());
+  }
+
   private void mockVideos() {
     try {
       videoGateway.create(
@@ -875,4 +1309,95 @@ class DefaultVideoGatewayTest {
       throw new RuntimeException(e);
     }
   }
+
+  private static long writes(final List<String> statements, final String aTable) {
+    return statements.stream()
+        .map(String::toLowerCase)
+        .filter(
+            sql ->
+                sql.startsWith("insert into " + aTable + " ")
+                    || sql.startsWith("delete from " + aTable + " "))
+        .count();
+  }
+
+  private Video newVideoWithoutRelations() {
+    return Video.newVideo(
+        Fixture.title(),
+        Fixture.Videos.description(),
+        Year.of(Fixture.year()),
+        Fixture.duration(),
+        Fixture.bool(),
+        Fixture.bool(),
+        Fixture.Videos.rating(),
+        Set.of(),
+        Set.of(),
+        Set.of());
+  }
+
+  @Test
+  public void givenTotalEstimated_whenCallsFindAll_shouldCountOnlyBeforeTheLastPage() {
+    // given
+    mockVideos();
+
+    final var firstQuery =
+        new VideoSearchQuery(
+            0,
+            1,
+            "",
+            "title",
+            "asc",
+            Set.of(),
+            Set.of(),
+            Set.of(tech.getId()),
+            null,
+            TotalMode.ESTIMATED);
+
+    final var lastQuery =
+        new VideoSearchQuery(
+            1,
+            1,
+            "",
+            "title",
+            "asc",
+            Set.of(),
+            Set.of(),
+            Set.of(tech.getId()),
+            null,
+            TotalMode.NONE);
+
+    // when
+    final var firstPage = videoGateway.findAll(firstQuery);
+    final var lastPage = videoGateway.findAll(lastQuery);
+
+    // then
+    Assertions.assertEquals(2, firstPage.total());
+    Assertions.assertTrue(firstPage.hasNext());
+    Assertions.assertEquals(
+        "21.1 Implementação dos testes integrados do findAll", firstPage.items().get(0).title());
+
+    Assertions.assertEquals(2, lastPage.total());
+    Assertions.assertFalse(lastPage.hasNext());
+    Assertions.assertEquals(
+        "System Design no Mercado Livre na prática", lastPage.items().get(0).title());
+  }
+
+  @Test
+  public void givenFullTextDisabled_whenCallsFindAllSortedByRelevance_shouldSortByTitle() {
+    // given
+    mockVideos();
+
+    final var aQuery =
+        new VideoSearchQuery(
+            0, 10, "", "relevance", "desc", Set.of(), Set.of(), Set.of(tech.getId()));
+
+    // when
+    final var actualPage = videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(
+        List.of(
+            "21.1 Implementação dos testes integrados do findAll",
+            "System Design no Mercado Livre na prática"),
+        actualPage.items().stream().map(VideoPreview::title).toList());
+  }
 }
@@ -0,0 +1,334 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.QueryCounter;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Times the filtered video page read by {@link VideoRepository} on a generated catalog, before
+ * and after the reverse indexes of V6, and checks on the plan that the relation filters are served
+ * by them. It needs Docker, runs with {@code ./gradlew :infrastructure:benchmarks} and logs the
+ * median and p95 latencies.
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test-e2e")
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.show-sql=false",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.fullcycle.admin.catalogo.QueryCounter"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class VideoFilterQueryBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(VideoFilterQueryBenchmarkTest.class);
+
+  private static final int VIDEOS = 20_000;
+  private static final int CATEGORIES = 50;
+  private static final int GENRES = 30;
+  private static final int CAST_MEMBERS = 500;
+  private static final int CATEGORIES_PER_VIDEO = 3;
+  private static final int GENRES_PER_VIDEO = 2;
+  private static final int CAST_MEMBERS_PER_VIDEO = 6;
+
+  private static final int BATCH_SIZE = 1_000;
+  private static final int WARM_UP = 20;
+  private static final int RUNS = 100;
+  private static final int PER_PAGE = 25;
+
+  private static final Set<String> V6_INDEXES =
+      Set.of("idx_vcs_category_video", "idx_vgs_genre_video");
+
+  @Container
+  private static final MySQLContainer<?> MYSQL_CONTAINER =
+      new MySQLContainer<>("mysql:latest")
+          .withPassword("123456")
+          .withUsername("root")
+          .withDatabaseName("adm_videos");
+
+  @DynamicPropertySource
+  public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+    registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+  }
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private VideoRepository videoRepository;
+
+  @Test
+  public void givenAGeneratedCatalog_whenFilteringVideos_shouldServeTheRelationsFromTheV6Indexes()
+      throws SQLException {
+    final var flyway =
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration", "classpath:db/vendor/mysql");
+
+    flyway.target("5").load().migrate();
+
+    try (final var conn = dataSource.getConnection()) {
+      final var filter = generateCatalog(conn);
+      final Supplier<List<Object>> page = () -> page(filter);
+
+      final var expected = page.get();
+      final var before = measure(page);
+
+      flyway.target("latest").load().migrate();
+      analyze(conn);
+
+      Assertions.assertEquals(expected, page.get());
+      final var after = measure(page);
+
+      report("V5", before);
+      report("V6", after);
+
+      final var statements = QueryCounter.statementsOf(page::get);
+      Assertions.assertEquals(2, statements.size(), () -> String.join("\n", statements));
+      for (final var sql : statements) {
+        final var keys = explain(conn, sql, filter);
+        Assertions.assertTrue(
+            keys.stream().anyMatch(V6_INDEXES::contains),
+            () -> "Expected one of %s in the plan of %s, got %s".formatted(V6_INDEXES, sql, keys));
+      }
+    }
+  }
+
+  /** Reads the first page the way the video gateway does, counting the matching videos too. */
+  private List<Object> page(final String[] filter) {
+    final var actualPage =
+        videoRepository.findAll(
+            null,
+            null,
+            null,
+            Set.of(filter[0]),
+            Set.of(filter[1]),
+            PageRequest.of(0, PER_PAGE, Sort.by("title")));
+
+    return List.of(
+        actualPage.getTotalElements(),
+        actualPage.getContent().stream().map(VideoPreview::id).toList());
+  }
+
+  /** Inserts the catalog and returns the category and genre ids to filter by. */
+  private static String[] generateCatalog(final Connection conn) throws SQLException {
+    final var random = new Random(42);
+    final var now = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+    final var categories = ids(CATEGORIES);
+    final var genres = ids(GENRES);
+    final var members = ids(CAST_MEMBERS);
+    final var videos = ids(VIDEOS);
+
+    conn.setAutoCommit(false);
+
+    insert(
+        conn,
+        "INSERT INTO categories (id, name, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+        categories,
+        stmt -> {
+          stmt.setString(2, "Category");
+          stmt.setBoolean(3, true);
+          stmt.setTimestamp(4, now);
+          stmt.setTimestamp(5, now);
+        });
+
+    insert(
+        conn,
+        "INSERT INTO genres (id, name, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+        genres,
+        stmt -> {
+          stmt.setString(2, "Genre");
+          stmt.setBoolean(3, true);
+          stmt.setTimestamp(4, now);
+          stmt.setTimestamp(5, now);
+        });
+
+    insert(
+        conn,
+        "INSERT INTO cast_members (id, name, type, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+        members,
+        stmt -> {
+          stmt.setString(2, "Member");
+          stmt.setString(3, "ACTOR");
+          stmt.setTimestamp(4, now);
+          stmt.setTimestamp(5, now);
+        });
+
+    insert(
+        conn,
+        """
+        INSERT INTO videos
+            (id, title, description, year_launched, opened, published, rating, duration,
+             created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """,
+        videos,
+        stmt -> {
+          stmt.setString(2, "Video " + Long.toHexString(random.nextLong()));
+          stmt.setString(3, "Generated for the video filter benchmark");
+          stmt.setInt(4, 2000 + random.nextInt(24));
+          stmt.setBoolean(5, random.nextBoolean());
+          stmt.setBoolean(6, random.nextBoolean());
+          stmt.setString(7, "L");
+          stmt.setDouble(8, 120.0);
+          stmt.setTimestamp(9, now);
+          stmt.setTimestamp(10, now);
+        });
+
+    relate(conn, "videos_categories", "category_id", videos, categories, CATEGORIES_PER_VIDEO);
+    relate(conn, "videos_genres", "genre_id", videos, genres, GENRES_PER_VIDEO);
+    relate(conn, "videos_cast_members", "cast_member_id", videos, members, CAST_MEMBERS_PER_VIDEO);
+
+    conn.commit();
+    conn.setAutoCommit(true);
+    analyze(conn);
+
+    return new String[] {categories.get(0), genres.get(0)};
+  }
+
+  private static void insert(
+      final Connection conn, final String sql, final List<String> ids, final Binder binder)
+      throws SQLException {
+    try (final var stmt = conn.prepareStatement(sql)) {
+      for (int i = 0; i < ids.size(); i++) {
+        stmt.setString(1, ids.get(i));
+        binder.bind(stmt);
+        stmt.addBatch();
+        if ((i + 1) % BATCH_SIZE == 0) {
+          stmt.executeBatch();
+        }
+      }
+      stmt.executeBatch();
+    }
+  }
+
+  /** Relates every video to {@code perVideo} distinct rows of {@code related}, spread evenly. */
+  private static void relate(
+      final Connection conn,
+      final String table,
+      final String column,
+      final List<String> videos,
+      final List<String> related,
+      final int perVideo)
+      throws SQLException {
+    final var sql = "INSERT INTO %s (video_id, %s) VALUES (?, ?)".formatted(table, column);
+    try (final var stmt = conn.prepareStatement(sql)) {
+      for (int i = 0; i < videos.size(); i++) {
+        for (int j = 0; j < perVideo; j++) {
+          stmt.setString(1, videos.get(i));
+          stmt.setString(2, related.get((i + j * 7) % related.size()));
+          stmt.addBatch();
+        }
+        if ((i + 1) % BATCH_SIZE == 0) {
+          stmt.executeBatch();
+        }
+      }
+      stmt.executeBatch();
+    }
+  }
+
+  private static void analyze(final Connection conn) throws SQLException {
+    try (final var stmt = conn.createStatement()) {
+      stmt.execute("ANALYZE TABLE videos, videos_categories, videos_genres, videos_cast_members");
+    }
+  }
+
+  private static long[] measure(final Supplier<?> anAction) {
+    for (int i = 0; i < WARM_UP; i++) {
+      anAction.get();
+    }
+
+    final var elapsed = new long[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      final var start = System.nanoTime();
+      anAction.get();
+      elapsed[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(elapsed);
+    return elapsed;
+  }
+
+  private static void report(final String phase, final long[] elapsed) {
+    log.info(
+        "{} | median {} ms | p95 {} ms",
+        phase,
+        "%.2f".formatted(elapsed[elapsed.length / 2] / 1_000_000.0),
+        "%.2f".formatted(elapsed[(int) (elapsed.length * 0.95)] / 1_000_000.0));
+  }
+
+  /**
+   * Explains a statement Hibernate generated and returns the indexes its plan reads. The filter
+   * ids are its first parameters, a limit follows them on the page read.
+   */
+  private static Set<String> explain(final Connection conn, final String sql, final String[] filter)
+      throws SQLException {
+    try (final var stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+      final var parameters = stmt.getParameterMetaData().getParameterCount();
+      for (int i = 1; i <= parameters; i++) {
+        if (i <= filter.length) {
+          stmt.setString(i, filter[i - 1]);
+        } else {
+          stmt.setInt(i, PER_PAGE);
+        }
+      }
+      try (final var rs = stmt.executeQuery()) {
+        final var keys = new HashSet<String>();
+        while (rs.next()) {
+          final var key = rs.getString("key");
+          if (key != null) {
+            keys.add(key);
+          }
+        }
+        return keys;
+      }
+    }
+  }
+
+  private static List<String> ids(final int size) {
+    final var ids = new ArrayList<String>(size);
+    for (int i = 0; i < size; i++) {
+      ids.add(IdUtils.uuid());
+    }
+    return ids;
+  }
+
+  @FunctionalInterface
+  private interface Binder {
+    void bind(PreparedStatement stmt) throws SQLException;
+  }
+}